@@ -0,0 +1,13 @@
+package com.resetrix.genesis.modules.company.constants;
+
+public enum CompanyArchiveStatus {
+    // Every company deleted before the cutoff has been archived
+    DRAINED,
+    // The run reached its batch limit; the rest is left to the next run
+    LIMITED,
+    // A batch gave up waiting for a lock, or the run was interrupted
+    STOPPED,
+    // The run was handed to the archive executor; its progress shows in the company.archive metrics
+    STARTED,
+    ALREADY_RUNNING
+}
@@ -0,0 +1,6 @@
+package com.resetrix.genesis.modules.company.constants;
+
+public enum CompanyBatchGetStatus {
+    FOUND,
+    NOT_FOUND
+}
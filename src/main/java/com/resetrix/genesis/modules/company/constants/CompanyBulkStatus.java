@@ -0,0 +1,7 @@
+package com.resetrix.genesis.modules.company.constants;
+
+public enum CompanyBulkStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID
+}
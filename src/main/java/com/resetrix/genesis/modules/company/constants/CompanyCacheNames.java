@@ -0,0 +1,9 @@
+package com.resetrix.genesis.modules.company.constants;
+
+public final class CompanyCacheNames {
+    public static final String BY_ID = "companies.by-id";
+
+    private CompanyCacheNames() {
+        throw new AssertionError("No instances.");
+    }
+}
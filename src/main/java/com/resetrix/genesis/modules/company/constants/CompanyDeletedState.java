@@ -0,0 +1,33 @@
+package com.resetrix.genesis.modules.company.constants;
+
+import java.util.Arrays;
+
+public enum CompanyDeletedState {
+    ACTIVE("active"),
+    DELETED("deleted"),
+    ALL("all");
+
+    private final String value;
+
+    CompanyDeletedState(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * @return {@code true} if the active filter has to be lifted to read companies in this state
+     */
+    public boolean includesDeleted() {
+        return this != ACTIVE;
+    }
+
+    public static CompanyDeletedState fromValue(String value) {
+        return Arrays.stream(values())
+            .filter(state -> state.value.equalsIgnoreCase(value))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Invalid state: must be 'active', 'deleted' or 'all'"));
+    }
+}
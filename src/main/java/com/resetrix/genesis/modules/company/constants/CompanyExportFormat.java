@@ -0,0 +1,33 @@
+package com.resetrix.genesis.modules.company.constants;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+public enum CompanyExportFormat {
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON_VALUE),
+    CSV("csv", "text/csv");
+
+    private final String value;
+    private final String mediaType;
+
+    CompanyExportFormat(String value, String mediaType) {
+        this.value = value;
+        this.mediaType = mediaType;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public static CompanyExportFormat fromValue(String value) {
+        return Arrays.stream(values())
+            .filter(format -> format.value.equalsIgnoreCase(value))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Invalid format: must be 'ndjson' or 'csv'"));
+    }
+}
@@ -0,0 +1,49 @@
+package com.resetrix.genesis.modules.company.constants;
+
+import java.util.Arrays;
+import java.util.List;
+
+public enum CompanyLogoSize {
+    SMALL("small", 32),
+    MEDIUM("medium", 64),
+    LARGE("large", 256),
+    // The uploaded image itself, re-encoded without its metadata
+    ORIGINAL("original", 0);
+
+    private final String value;
+    private final int pixels;
+
+    CompanyLogoSize(String value, int pixels) {
+        this.value = value;
+        this.pixels = pixels;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * @return the length of the longer edge of the thumbnail, {@code 0} for the original
+     */
+    public int getPixels() {
+        return pixels;
+    }
+
+    public boolean isThumbnail() {
+        return this != ORIGINAL;
+    }
+
+    public static List<CompanyLogoSize> thumbnails() {
+        return Arrays.stream(values())
+            .filter(CompanyLogoSize::isThumbnail)
+            .toList();
+    }
+
+    public static CompanyLogoSize fromValue(String value) {
+        return Arrays.stream(values())
+            .filter(size -> size.value.equalsIgnoreCase(value))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(
+                "Invalid size: must be 'small', 'medium', 'large' or 'original'"));
+    }
+}
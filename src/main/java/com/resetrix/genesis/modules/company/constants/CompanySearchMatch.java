@@ -0,0 +1,61 @@
+package com.resetrix.genesis.modules.company.constants;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+public enum CompanySearchMatch {
+    PREFIX("prefix", 1),
+    // The trigram index can only narrow a substring search down once it spans a whole trigram
+    CONTAINS("contains", 3);
+
+    private final String value;
+    private final int minLength;
+
+    CompanySearchMatch(String value, int minLength) {
+        this.value = value;
+        this.minLength = minLength;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public int getMinLength() {
+        return minLength;
+    }
+
+    /**
+     * Builds a pattern for {@code lower(name) LIKE ... ESCAPE '\'}. The term is matched literally:
+     * LIKE wildcards in it are escaped.
+     */
+    public String toLikePattern(String term) {
+        String escaped = term.toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        return this == PREFIX
+               ? escaped + "%"
+               : "%" + escaped + "%";
+    }
+
+    /**
+     * Trims the query and builds its pattern as {@link #toLikePattern(String)} does.
+     *
+     * @throws IllegalArgumentException if the trimmed query is shorter than this kind of match needs
+     */
+    public String requirePattern(String query) {
+        String term = query == null ? "" : query.trim();
+        if (term.length() < minLength) {
+            throw new IllegalArgumentException(String.format(
+                "Query must be at least %d characters for %s matching", minLength, value));
+        }
+        return toLikePattern(term);
+    }
+
+    public static CompanySearchMatch fromValue(String value) {
+        return Arrays.stream(values())
+            .filter(match -> match.value.equalsIgnoreCase(value))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Invalid match: must be 'prefix' or 'contains'"));
+    }
+}
@@ -0,0 +1,65 @@
+package com.resetrix.genesis.modules.company.constants;
+
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import org.springframework.data.domain.Sort;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Columns the company list may be ordered by. Each one is backed by a {@code (column, id)} index;
+ * any other sort is rejected before a query is built.
+ */
+public enum CompanySortField {
+    ID("id", Long.class, CompanyView::id),
+    NAME("name", String.class, CompanyView::name),
+    REGISTRATION_NUMBER("registrationNumber", String.class, CompanyView::registrationNumber),
+    CREATED_AT("createdAt", Timestamp.class, CompanyView::createdAt),
+    UPDATED_AT("updatedAt", Timestamp.class, CompanyView::updatedAt);
+
+    private static final String SUPPORTED = Arrays.stream(values())
+        .map(CompanySortField::getProperty)
+        .collect(Collectors.joining(", "));
+
+    private final String property;
+    private final Class<?> type;
+    private final Function<CompanyView, Object> accessor;
+
+    CompanySortField(String property, Class<?> type, Function<CompanyView, Object> accessor) {
+        this.property = property;
+        this.type = type;
+        this.accessor = accessor;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Object valueOf(CompanyView company) {
+        return accessor.apply(company);
+    }
+
+    /**
+     * The id tie-breaker uses the same direction so one {@code (column, id)} index serves both orders.
+     */
+    public Sort toSort(Sort.Direction direction) {
+        if (this == ID) {
+            return Sort.by(direction, property);
+        }
+        return Sort.by(direction, property, ID.property);
+    }
+
+    public static CompanySortField fromProperty(String property) {
+        return Arrays.stream(values())
+            .filter(field -> field.property.equals(property))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(
+                "Invalid sortBy: must be one of " + SUPPORTED));
+    }
+}
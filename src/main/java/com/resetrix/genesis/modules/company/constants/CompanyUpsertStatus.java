@@ -0,0 +1,10 @@
+package com.resetrix.genesis.modules.company.constants;
+
+public enum CompanyUpsertStatus {
+    CREATED,
+    UPDATED,
+    RESTORED,
+    UNCHANGED,
+    DUPLICATE,
+    INVALID
+}
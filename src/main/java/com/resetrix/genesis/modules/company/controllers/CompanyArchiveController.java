@@ -0,0 +1,30 @@
+package com.resetrix.genesis.modules.company.controllers;
+
+import com.resetrix.genesis.modules.company.constants.CompanyArchiveStatus;
+import com.resetrix.genesis.modules.company.responses.CompanyArchiveResponse;
+import com.resetrix.genesis.modules.company.services.ICompanyArchiveService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(value = "/api/v1/companies")
+public class CompanyArchiveController {
+
+    private final ICompanyArchiveService service;
+
+    public CompanyArchiveController(ICompanyArchiveService service) {
+        this.service = service;
+    }
+
+    // Starts the archive job in the background; 409 while a run, scheduled or triggered, is still in progress
+    @PostMapping("/archive")
+    public ResponseEntity<CompanyArchiveResponse> archiveDeleted() {
+        CompanyArchiveResponse response = service.archiveDeleted();
+        return ResponseEntity.status(
+                response.status() == CompanyArchiveStatus.ALREADY_RUNNING ? HttpStatus.CONFLICT : HttpStatus.ACCEPTED)
+            .body(response);
+    }
+}
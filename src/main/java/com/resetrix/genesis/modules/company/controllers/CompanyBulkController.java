@@ -0,0 +1,87 @@
+package com.resetrix.genesis.modules.company.controllers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.resetrix.genesis.modules.company.constants.CompanyUpsertStatus;
+import com.resetrix.genesis.modules.company.requests.CompanyBulkRequest;
+import com.resetrix.genesis.modules.company.requests.CompanyUpsertRequest;
+import com.resetrix.genesis.modules.company.responses.CompanyBulkResponse;
+import com.resetrix.genesis.modules.company.responses.CompanyUpsertResponse;
+import com.resetrix.genesis.modules.company.responses.CompanyUpsertResult;
+import com.resetrix.genesis.modules.company.services.ICompanyBulkService;
+import com.resetrix.genesis.shared.helpers.ETagHelper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/api/v1/companies")
+public class CompanyBulkController {
+
+    private final ICompanyBulkService service;
+    private final ObjectReader bulkRequestReader;
+
+    public CompanyBulkController(ICompanyBulkService service, ObjectMapper objectMapper) {
+        this.service = service;
+        this.bulkRequestReader = objectMapper.readerFor(CompanyBulkRequest.class);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public CompanyBulkResponse createAll(@RequestBody List<CompanyBulkRequest> requests) {
+        return service.saveAll(requests);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public CompanyBulkResponse createAllFromNdjson(InputStream body) throws IOException {
+        return service.saveAll(readNdjson(body));
+    }
+
+    // Create-or-rename keyed by the registration number; 201 when the company is new, 200 otherwise, including
+    // when a soft-deleted company is restored
+    @PutMapping(value = "/by-registration/{registrationNumber}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CompanyUpsertResult> upsertByRegistrationNumber(
+        @PathVariable String registrationNumber,
+        @RequestBody CompanyUpsertRequest request) {
+        CompanyUpsertResult result = service.upsert(registrationNumber, request);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(
+                result.status() == CompanyUpsertStatus.CREATED ? HttpStatus.CREATED : HttpStatus.OK);
+        if (result.company().version() != null) {
+            builder.header(HttpHeaders.ETAG, ETagHelper.strong(String.valueOf(result.company().version())));
+        }
+        return builder.body(result);
+    }
+
+    @PutMapping(value = "/by-registration", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public CompanyUpsertResponse upsertAllByRegistrationNumber(@RequestBody List<CompanyUpsertRequest> requests) {
+        return service.upsertAll(requests);
+    }
+
+    // The whole body is parsed before anything is inserted, so a malformed line rejects the request
+    private List<CompanyBulkRequest> readNdjson(InputStream body) throws IOException {
+        try (MappingIterator<CompanyBulkRequest> iterator = bulkRequestReader.readValues(body)) {
+            return iterator.readAll();
+        } catch (JsonProcessingException ex) {
+            String message = ex.getLocation() != null
+                             ? String.format("Malformed NDJSON at line %d", ex.getLocation().getLineNr())
+                             : "Malformed NDJSON";
+            throw new IllegalArgumentException(message, ex);
+        }
+    }
+}
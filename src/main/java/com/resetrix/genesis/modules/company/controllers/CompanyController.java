@@ -1,29 +1,57 @@
 package com.resetrix.genesis.modules.company.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.resetrix.genesis.modules.company.constants.CompanyExportFormat;
+import com.resetrix.genesis.modules.company.constants.CompanyLogoSize;
+import com.resetrix.genesis.modules.company.exceptions.CompanyVersionMismatchException;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoMetadata;
+import com.resetrix.genesis.modules.company.projections.CompanyVersion;
+import com.resetrix.genesis.modules.company.requests.CompanyBatchGetRequest;
+import com.resetrix.genesis.modules.company.requests.CompanyFilter;
 import com.resetrix.genesis.modules.company.requests.CompanyRequest;
+import com.resetrix.genesis.modules.company.responses.CompanyBatchGetResponse;
 import com.resetrix.genesis.modules.company.responses.CompanyResponse;
 import com.resetrix.genesis.modules.company.services.ICompanyService;
+import com.resetrix.genesis.shared.helpers.ETagHelper;
+import com.resetrix.genesis.shared.responses.CursorPage;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @RestController
 @RequestMapping(value = "/api/v1/companies")
 public class CompanyController {
 
+    private static final String INCLUDE_LOGO = "logo";
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final ICompanyService<CompanyRequest, CompanyResponse> service;
 
     public CompanyController(ICompanyService<CompanyRequest, CompanyResponse> service) {
@@ -36,20 +64,140 @@ public class CompanyController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "ASC") String sortDirection) {
-        return service.getAll(page, size, sortBy, sortDirection);
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false) List<String> include,
+            @RequestParam(defaultValue = "false") boolean includeDeleted,
+            @ModelAttribute CompanyFilter filter) {
+        return service.getAll(page, size, sortBy, sortDirection, isLogoIncluded(include), includeDeleted, filter);
     }
 
-    @GetMapping(value = "/{id:[0-9]+}")
+    // Skips the total for clients that only page forward
+    @GetMapping(params = {"withTotal=false", "!after"})
     @ResponseStatus(HttpStatus.OK)
-    public CompanyResponse findById(@PathVariable Long id) {
-        return service.getById(id);
+    public Slice<CompanyResponse> findAllWithoutTotal(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false) List<String> include,
+            @RequestParam(defaultValue = "false") boolean includeDeleted,
+            @ModelAttribute CompanyFilter filter) {
+        return service.getSlice(page, size, sortBy, sortDirection, isLogoIncluded(include), includeDeleted, filter);
     }
 
-    @GetMapping(value = "/{uuid:[0-9a-fA-F\\-]{36}}")
+    @GetMapping(params = "after")
     @ResponseStatus(HttpStatus.OK)
-    public CompanyResponse findByUuid(@PathVariable UUID uuid) {
-        return service.getByUuid(uuid);
+    public CursorPage<CompanyResponse> findAllAfter(
+            @RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            @RequestParam(defaultValue = "false") boolean includeDeleted,
+            @ModelAttribute CompanyFilter filter) {
+        return service.getAllAfter(after, size, sortBy, sortDirection, includeDeleted, filter);
+    }
+
+    @GetMapping("/export")
+    public void export(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        CompanyExportFormat exportFormat = CompanyExportFormat.fromValue(format);
+
+        response.setContentType(exportFormat.getMediaType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("companies." + exportFormat.getValue())
+                .build()
+                .toString());
+        service.exportAll(exportFormat, response.getOutputStream());
+    }
+
+    // A matching If-None-Match is answered from the version alone, without reading the row or its logo
+    @GetMapping(value = "/{id:[0-9]+}")
+    public ResponseEntity<CompanyResponse> findById(
+        @PathVariable Long id,
+        @RequestParam(required = false) List<String> include,
+        @RequestParam(defaultValue = "false") boolean includeDeleted,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        boolean includeLogo = isLogoIncluded(include);
+        if (ifNoneMatch != null) {
+            CompanyVersion current = service.getVersion(id, includeDeleted);
+            if (ETagHelper.matchesAny(ifNoneMatch, toETag(current.version()))) {
+                return toNotModifiedResponse(current);
+            }
+        }
+        return toVersionedResponse(service.getById(id, includeLogo, includeDeleted));
+    }
+
+    @GetMapping(value = "/{uuid:[0-9a-fA-F\\-]{36}}")
+    public ResponseEntity<CompanyResponse> findByUuid(
+        @PathVariable UUID uuid,
+        @RequestParam(required = false) List<String> include,
+        @RequestParam(defaultValue = "false") boolean includeDeleted,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        boolean includeLogo = isLogoIncluded(include);
+        if (ifNoneMatch != null) {
+            CompanyVersion current = service.getVersionByUuid(uuid, includeDeleted);
+            if (ETagHelper.matchesAny(ifNoneMatch, toETag(current.version()))) {
+                return toNotModifiedResponse(current);
+            }
+        }
+        return toVersionedResponse(service.getByUuid(uuid, includeLogo, includeDeleted));
+    }
+
+    @RequestMapping(value = "/{id:[0-9]+}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> existsById(@PathVariable Long id) {
+        return toExistsResponse(service.existsById(id));
+    }
+
+    @RequestMapping(value = "/{uuid:[0-9a-fA-F\\-]{36}}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> existsByUuid(@PathVariable UUID uuid) {
+        return toExistsResponse(service.existsByUuid(uuid));
+    }
+
+    // Thumbnails by default; the original has to be asked for explicitly
+    @GetMapping(value = "/{uuid:[0-9a-fA-F\\-]{36}}/logo")
+    public void findLogoByUuid(
+        @PathVariable UUID uuid,
+        @RequestParam(defaultValue = "medium") String size,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+        HttpServletResponse response) throws IOException {
+        CompanyLogoMetadata logo = service.getLogoMetadata(uuid, CompanyLogoSize.fromValue(size));
+        String etag = ETagHelper.strong(logo.checksum());
+        long contentLength = logo.contentLength();
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+
+        if (ETagHelper.matchesAny(ifNoneMatch, etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        HttpRange requestedRange = parseSingleRange(range);
+        long offset = 0;
+        long length = contentLength;
+
+        if (requestedRange != null) {
+            if (!isSatisfiable(requestedRange, contentLength)) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + contentLength);
+                return;
+            }
+
+            offset = requestedRange.getRangeStart(contentLength);
+            long end = requestedRange.getRangeEnd(contentLength);
+            length = end - offset + 1;
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + offset + "-" + end + "/" + contentLength);
+        }
+
+        response.setContentType(logo.contentType() != null
+                                ? logo.contentType()
+                                : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(length);
+        service.writeLogo(logo, offset, length, response.getOutputStream());
     }
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -58,32 +206,81 @@ public class CompanyController {
         return service.save(request);
     }
 
+    // A POST only because the keys do not fit a query string; nothing is written
+    @PostMapping(value = "/batch-get", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public CompanyBatchGetResponse findAllByKeys(
+            @RequestBody CompanyBatchGetRequest request,
+            @RequestParam(required = false) List<String> include,
+            @RequestParam(defaultValue = "false") boolean includeDeleted) {
+        return service.getBatch(request, isLogoIncluded(include), includeDeleted);
+    }
+
     @PutMapping(
         value = "/{id:[0-9]+}",
         consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @ResponseStatus(HttpStatus.OK)
-    public CompanyResponse updateById(
+    public ResponseEntity<CompanyResponse> updateById(
         @PathVariable Long id,
-        @Valid @ModelAttribute CompanyRequest request) {
-        return service.update(id, request);
+        @Valid @ModelAttribute CompanyRequest request,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = ifMatch != null
+                               ? requireMatch(ifMatch, () -> service.getVersion(id, false))
+                               : null;
+        return toVersionedResponse(service.update(id, request, expectedVersion));
     }
 
     @PutMapping(
         value = "/{uuid:[0-9a-fA-F\\-]{36}}",
         consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @ResponseStatus(HttpStatus.OK)
-    public CompanyResponse updateByUuid(
+    public ResponseEntity<CompanyResponse> updateByUuid(
+        @PathVariable UUID uuid,
+        @Valid @ModelAttribute CompanyRequest request,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = ifMatch != null
+                               ? requireMatch(ifMatch, () -> service.getVersionByUuid(uuid, false))
+                               : null;
+        return toVersionedResponse(service.updateByUuid(uuid, request, expectedVersion));
+    }
+
+    // JSON Merge Patch (RFC 7386): only the members sent are changed, and null removes one
+    @PatchMapping(value = "/{id:[0-9]+}", consumes = MERGE_PATCH_JSON_VALUE)
+    public ResponseEntity<CompanyResponse> patchById(
+        @PathVariable Long id,
+        @RequestBody JsonNode patch,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = ifMatch != null
+                               ? requireMatch(ifMatch, () -> service.getVersion(id, false))
+                               : null;
+        return toVersionedResponse(service.patch(id, patch, expectedVersion));
+    }
+
+    @PatchMapping(value = "/{uuid:[0-9a-fA-F\\-]{36}}", consumes = MERGE_PATCH_JSON_VALUE)
+    public ResponseEntity<CompanyResponse> patchByUuid(
         @PathVariable UUID uuid,
-        @Valid @ModelAttribute CompanyRequest request) {
-        return service.updateByUuid(uuid, request);
+        @RequestBody JsonNode patch,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = ifMatch != null
+                               ? requireMatch(ifMatch, () -> service.getVersionByUuid(uuid, false))
+                               : null;
+        return toVersionedResponse(service.patchByUuid(uuid, patch, expectedVersion));
     }
 
     @DeleteMapping("/{id:[0-9]+}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteById(
         @PathVariable Long id,
-        @RequestParam(defaultValue = "false") boolean soft) {
-        if (soft) {
+        @RequestParam(defaultValue = "false") boolean soft,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch != null) {
+            // Deleted companies are looked up too: a hard delete removes them, and soft-deleting one again
+            // succeeds whatever If-Match says, so that a retried request gets the same answer
+            CompanyVersion current = service.getVersion(id, true);
+            if (soft) {
+                service.softDelete(id, requireMatchUnlessSoftDeleted(ifMatch, current));
+            } else {
+                service.delete(id, requireMatch(ifMatch, current));
+            }
+        } else if (soft) {
             service.softDelete(id);
         } else {
             service.delete(id);
@@ -94,11 +291,110 @@ public class CompanyController {
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteByUuid(
         @PathVariable UUID uuid,
-        @RequestParam(defaultValue = "false") boolean soft) {
-        if (soft) {
+        @RequestParam(defaultValue = "false") boolean soft,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch != null) {
+            CompanyVersion current = service.getVersionByUuid(uuid, true);
+            if (soft) {
+                service.softDeleteByUuid(uuid, requireMatchUnlessSoftDeleted(ifMatch, current));
+            } else {
+                service.deleteByUuid(uuid, requireMatch(ifMatch, current));
+            }
+        } else if (soft) {
             service.softDeleteByUuid(uuid);
         } else {
             service.deleteByUuid(uuid);
         }
     }
+
+    /**
+     * Checks {@code If-Match} against the current version and returns that version, so the write itself
+     * can be made conditional on it.
+     */
+    private Long requireMatch(String ifMatch, Supplier<CompanyVersion> currentVersion) {
+        return requireMatch(ifMatch, currentVersion.get());
+    }
+
+    private Long requireMatch(String ifMatch, CompanyVersion current) {
+        if (!ETagHelper.matchesAnyStrongly(ifMatch, toETag(current.version()))) {
+            throw new CompanyVersionMismatchException(
+                    String.format("Company is at version %d, which does not match If-Match", current.version()));
+        }
+        return current.version();
+    }
+
+    // The soft delete of a deleted company touches nothing and is then reported as done by the service
+    private Long requireMatchUnlessSoftDeleted(String ifMatch, CompanyVersion current) {
+        return current.softDelete() ? current.version() : requireMatch(ifMatch, current);
+    }
+
+    private ResponseEntity<CompanyResponse> toVersionedResponse(CompanyResponse company) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (company.version() != null) {
+            builder.header(HttpHeaders.ETAG, toETag(company.version()));
+        }
+        if (company.updatedAt() != null) {
+            builder.lastModified(company.updatedAt().toInstant());
+        }
+        return builder.body(company);
+    }
+
+    private ResponseEntity<CompanyResponse> toNotModifiedResponse(CompanyVersion current) {
+        ResponseEntity.HeadersBuilder<?> builder = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .header(HttpHeaders.ETAG, toETag(current.version()));
+        if (current.updatedAt() != null) {
+            builder.lastModified(current.updatedAt().toInstant());
+        }
+        return builder.build();
+    }
+
+    private String toETag(Long version) {
+        return ETagHelper.strong(String.valueOf(version));
+    }
+
+    private ResponseEntity<Void> toExistsResponse(boolean exists) {
+        return exists
+               ? ResponseEntity.ok().build()
+               : ResponseEntity.notFound().build();
+    }
+
+    private boolean isLogoIncluded(List<String> include) {
+        if (include == null) {
+            return false;
+        }
+
+        boolean logoIncluded = false;
+        for (String value : include) {
+            if (value.isBlank()) {
+                continue;
+            }
+            if (!INCLUDE_LOGO.equalsIgnoreCase(value.trim())) {
+                throw new IllegalArgumentException("Invalid include: only 'logo' is supported");
+            }
+            logoIncluded = true;
+        }
+        return logoIncluded;
+    }
+
+    // Multi-range requests and malformed headers fall back to the full representation, as RFC 9110 allows
+    private HttpRange parseSingleRange(String range) {
+        if (range == null || range.isBlank()) {
+            return null;
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private boolean isSatisfiable(HttpRange range, long contentLength) {
+        try {
+            return range.getRangeStart(contentLength) <= range.getRangeEnd(contentLength);
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
 }
\ No newline at end of file
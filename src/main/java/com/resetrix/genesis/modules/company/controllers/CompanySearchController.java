@@ -0,0 +1,44 @@
+package com.resetrix.genesis.modules.company.controllers;
+
+import com.resetrix.genesis.modules.company.constants.CompanySearchMatch;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.modules.company.responses.CompanySuggestion;
+import com.resetrix.genesis.modules.company.services.ICompanySearchService;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/api/v1/companies")
+public class CompanySearchController {
+
+    private final ICompanySearchService service;
+
+    public CompanySearchController(ICompanySearchService service) {
+        this.service = service;
+    }
+
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    public Slice<CompanyResponse> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "contains") String match,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return service.search(q, CompanySearchMatch.fromValue(match), page, size);
+    }
+
+    @GetMapping("/autocomplete")
+    @ResponseStatus(HttpStatus.OK)
+    public List<CompanySuggestion> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return service.autocomplete(q, limit);
+    }
+}
@@ -1,15 +1,24 @@
 package com.resetrix.genesis.modules.company.entities;
 
+import com.resetrix.genesis.modules.company.repositories.CompanyNameIndexListener;
+import com.resetrix.genesis.modules.company.repositories.CompanyRegistrationNumberFilterListener;
+import com.resetrix.genesis.modules.company.repositories.CompanyUuidIndexListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.sql.Timestamp;
@@ -17,12 +26,27 @@ import java.util.UUID;
 
 @Getter
 @Setter
+// Queries only return live rows unless the filter is disabled; loads by primary key are not filtered
+@FilterDef(name = Company.ACTIVE_FILTER, defaultCondition = "soft_delete = false", autoEnabled = true)
+@Filter(name = Company.ACTIVE_FILTER)
+// Updates only write the columns that changed, so a rename does not rewrite the whole row
+@DynamicUpdate
 @Entity
+@EntityListeners({
+    CompanyUuidIndexListener.class,
+    CompanyNameIndexListener.class,
+    CompanyRegistrationNumberFilterListener.class
+})
 @Table(name = "companies")
 public class Company {
 
+    public static final String ACTIVE_FILTER = "activeCompanies";
+
+    // A pooled sequence lets Hibernate assign ids up front and batch the inserts;
+    // allocationSize must match the sequence increment
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "companies_id_seq")
+    @SequenceGenerator(name = "companies_id_seq", sequenceName = "companies_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "uuid",
@@ -40,9 +64,6 @@ public class Company {
             length = 20)
     private String registrationNumber;
 
-    @Column(name = "logo", columnDefinition = "BYTEA")
-    private byte[] logo;
-
     @Column(name = "soft_delete",
             nullable = false,
             columnDefinition = "BOOLEAN DEFAULT FALSE")
@@ -56,6 +77,15 @@ public class Company {
     @Column(name = "updated_at")
     private Timestamp updatedAt;
 
+    // Written only by the logo pipeline, so a stale entity can never point the company back at an older logo
+    @Column(name = "logo_checksum", length = 64, insertable = false, updatable = false)
+    private String logoChecksum;
+
+    // Left null on new entities so that save() persists them; Hibernate starts the count at 0
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     public void prePersist() {
         if (uuid == null) {
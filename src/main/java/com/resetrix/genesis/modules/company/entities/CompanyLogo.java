@@ -0,0 +1,43 @@
+package com.resetrix.genesis.modules.company.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.sql.Timestamp;
+
+/**
+ * Logo blob, stored once per distinct content and addressed by its SHA-256, which doubles as a
+ * strong ETag. Companies point at it through {@link Company#getLogoChecksum()}; database triggers
+ * keep {@code refCount} in step and drop the blob once nothing references it.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "logo_blobs")
+public class CompanyLogo {
+
+    @Id
+    @Column(name = "checksum", nullable = false, updatable = false, length = 64)
+    private String checksum;
+
+    @Column(name = "content", nullable = false, columnDefinition = "BYTEA")
+    private byte[] content;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "content_length", nullable = false)
+    private Long contentLength;
+
+    @Column(name = "ref_count", insertable = false, updatable = false)
+    private Long refCount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private Timestamp createdAt;
+}
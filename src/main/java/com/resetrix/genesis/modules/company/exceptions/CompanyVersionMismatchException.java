@@ -0,0 +1,7 @@
+package com.resetrix.genesis.modules.company.exceptions;
+
+public class CompanyVersionMismatchException extends RuntimeException {
+    public CompanyVersionMismatchException(String message) {
+        super(message);
+    }
+}
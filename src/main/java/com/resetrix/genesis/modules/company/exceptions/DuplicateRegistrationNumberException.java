@@ -0,0 +1,7 @@
+package com.resetrix.genesis.modules.company.exceptions;
+
+public class DuplicateRegistrationNumberException extends RuntimeException {
+    public DuplicateRegistrationNumberException(String message) {
+        super(message);
+    }
+}
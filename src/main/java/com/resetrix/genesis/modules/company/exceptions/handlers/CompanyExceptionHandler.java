@@ -1,5 +1,7 @@
 package com.resetrix.genesis.modules.company.exceptions.handlers;
 
+import com.resetrix.genesis.modules.company.exceptions.CompanyVersionMismatchException;
+import com.resetrix.genesis.modules.company.exceptions.DuplicateRegistrationNumberException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
@@ -7,6 +9,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -33,6 +36,52 @@ public class CompanyExceptionHandler {
         return problemDetail;
     }
 
+    @ExceptionHandler(CompanyVersionMismatchException.class)
+    public ProblemDetail handleCompanyVersionMismatchException(CompanyVersionMismatchException ex,
+                                                               HttpServletRequest request) {
+        LOGGER.warn("Precondition failed for request {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+            HttpStatus.PRECONDITION_FAILED,
+            ex.getMessage());
+
+        problemDetail.setTitle("Precondition Failed");
+        problemDetail.setInstance(URI.create(request.getRequestURI()));
+
+        return problemDetail;
+    }
+
+    // An expected client error, so it is logged without a stack trace
+    @ExceptionHandler(DuplicateRegistrationNumberException.class)
+    public ProblemDetail handleDuplicateRegistrationNumberException(DuplicateRegistrationNumberException ex,
+                                                                    HttpServletRequest request) {
+        LOGGER.warn("Duplicate registration number for request {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+            HttpStatus.CONFLICT,
+            ex.getMessage());
+
+        problemDetail.setTitle("Duplicate Registration Number");
+        problemDetail.setInstance(URI.create(request.getRequestURI()));
+
+        return problemDetail;
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail handleOptimisticLockingFailureException(OptimisticLockingFailureException ex,
+                                                                 HttpServletRequest request) {
+        LOGGER.warn("Concurrent modification for request {}", request.getRequestURI(), ex);
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+            HttpStatus.CONFLICT,
+            "The company was modified concurrently; reload it and try again");
+
+        problemDetail.setTitle("Concurrent Modification");
+        problemDetail.setInstance(URI.create(request.getRequestURI()));
+
+        return problemDetail;
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ProblemDetail handleDataIntegrityViolationException(DataIntegrityViolationException ex,
                                                                HttpServletRequest request) {
@@ -0,0 +1,19 @@
+package com.resetrix.genesis.modules.company.exporters;
+
+import com.resetrix.genesis.modules.company.constants.CompanyExportFormat;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes companies one row at a time, so an export never holds more than the current row.
+ */
+public interface CompanyExporter {
+
+    CompanyExportFormat format();
+
+    void writeHeader(Writer writer) throws IOException;
+
+    void writeRow(Writer writer, CompanyResponse company) throws IOException;
+}
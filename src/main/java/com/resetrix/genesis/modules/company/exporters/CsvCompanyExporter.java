@@ -0,0 +1,68 @@
+package com.resetrix.genesis.modules.company.exporters;
+
+import com.resetrix.genesis.modules.company.constants.CompanyExportFormat;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.Timestamp;
+
+@Component
+public class CsvCompanyExporter implements CompanyExporter {
+
+    private static final String HEADER = "id,uuid,name,registrationNumber,softDelete,createdAt,updatedAt,version";
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final String FORMULA_PREFIXES = "=+-@";
+
+    @Override
+    public CompanyExportFormat format() {
+        return CompanyExportFormat.CSV;
+    }
+
+    @Override
+    public void writeHeader(Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void writeRow(Writer writer, CompanyResponse company) throws IOException {
+        writer.write(String.valueOf(company.id()));
+        writer.write(',');
+        writer.write(String.valueOf(company.uuid()));
+        writer.write(',');
+        writer.write(escape(company.name()));
+        writer.write(',');
+        writer.write(escape(company.registrationNumber()));
+        writer.write(',');
+        writer.write(String.valueOf(Boolean.TRUE.equals(company.softDelete())));
+        writer.write(',');
+        writer.write(format(company.createdAt()));
+        writer.write(',');
+        writer.write(format(company.updatedAt()));
+        writer.write(',');
+        writer.write(company.version() != null ? String.valueOf(company.version()) : "");
+        writer.write(LINE_SEPARATOR);
+    }
+
+    // RFC 4180: fields with separators, quotes or line breaks are quoted and quotes are doubled. Text that a
+    // spreadsheet would evaluate as a formula is prefixed with an apostrophe so that it stays plain text.
+    private String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+            && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private String format(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant().toString() : "";
+    }
+}
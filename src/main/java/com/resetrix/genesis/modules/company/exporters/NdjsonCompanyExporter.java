@@ -0,0 +1,36 @@
+package com.resetrix.genesis.modules.company.exporters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.resetrix.genesis.modules.company.constants.CompanyExportFormat;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+
+@Component
+public class NdjsonCompanyExporter implements CompanyExporter {
+
+    private final ObjectWriter objectWriter;
+
+    public NdjsonCompanyExporter(ObjectMapper objectMapper) {
+        this.objectWriter = objectMapper.writerFor(CompanyResponse.class);
+    }
+
+    @Override
+    public CompanyExportFormat format() {
+        return CompanyExportFormat.NDJSON;
+    }
+
+    @Override
+    public void writeHeader(Writer writer) {
+        // NDJSON has no header line
+    }
+
+    @Override
+    public void writeRow(Writer writer, CompanyResponse company) throws IOException {
+        writer.write(objectWriter.writeValueAsString(company));
+        writer.write('\n');
+    }
+}
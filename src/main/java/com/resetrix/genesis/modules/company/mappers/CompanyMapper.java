@@ -1,46 +1,127 @@
 package com.resetrix.genesis.modules.company.mappers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.resetrix.genesis.modules.company.entities.Company;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoContentRepository;
+import com.resetrix.genesis.modules.company.requests.CompanyBulkRequest;
 import com.resetrix.genesis.modules.company.requests.CompanyRequest;
 import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.modules.company.responses.CompanySuggestion;
+import com.resetrix.genesis.shared.helpers.DigestHelper;
 import org.springframework.stereotype.Component;
 
 import java.util.Base64;
+import java.util.Map;
 
 @Component
 public class CompanyMapper {
 
+    private static final String NAME = "name";
+    private static final String REGISTRATION_NUMBER = "registrationNumber";
+    private static final String LOGO = "logo";
+
     public CompanyResponse toResponse(Company company) {
+        return toResponse(company, null);
+    }
+
+    public CompanyResponse toResponse(Company company, byte[] logo) {
         return new CompanyResponse(
             company.getId(),
             company.getUuid(),
             company.getName(),
             company.getRegistrationNumber(),
-            encodeLogoToBase64(company.getLogo()),
+            encodeLogoToBase64(logo),
             company.getSoftDelete(),
             company.getCreatedAt(),
-            company.getUpdatedAt()
+            company.getUpdatedAt(),
+            company.getVersion()
+        );
+    }
+
+    public CompanyResponse toResponse(CompanyView company) {
+        return toResponse(company, null);
+    }
+
+    public CompanyResponse toResponse(CompanyView company, byte[] logo) {
+        return new CompanyResponse(
+            company.id(),
+            company.uuid(),
+            company.name(),
+            company.registrationNumber(),
+            encodeLogoToBase64(logo),
+            company.softDelete(),
+            company.createdAt(),
+            company.updatedAt(),
+            company.version()
         );
     }
 
-    public Company toEntity(CompanyRequest request, byte[] logo) {
+    public CompanySuggestion toSuggestion(CompanyView company) {
+        return new CompanySuggestion(company.id(), company.uuid(), company.name());
+    }
+
+    public Company toEntity(CompanyRequest request) {
+        Company company = new Company();
+        mapRequestToEntity(company, request);
+        return company;
+    }
+
+    public Company toEntity(CompanyBulkRequest request) {
         Company company = new Company();
-        mapRequestToEntity(company, request, logo);
+        company.setName(request.name());
+        company.setRegistrationNumber(request.registrationNumber());
         return company;
     }
 
-    public Company updateEntity(Company company, CompanyRequest request, byte[] logo) {
-        mapRequestToEntity(company, request, logo);
+    public Company updateEntity(Company company, CompanyRequest request) {
+        mapRequestToEntity(company, request);
         return company;
     }
 
-    private void mapRequestToEntity(Company company, CompanyRequest request, byte[] logo) {
+    /**
+     * Applies a JSON Merge Patch (RFC 7386) to the company's current values: members present in the patch
+     * replace them and {@code null} members remove them. The result still has to pass request validation.
+     */
+    public CompanyRequest mergePatch(Company company, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+
+        String name = company.getName();
+        String registrationNumber = company.getRegistrationNumber();
+        for (Map.Entry<String, JsonNode> member : patch.properties()) {
+            switch (member.getKey()) {
+                case NAME -> name = toPatchedText(member);
+                case REGISTRATION_NUMBER -> registrationNumber = toPatchedText(member);
+                case LOGO -> throw new IllegalArgumentException("Company logo cannot be patched; replace it with PUT");
+                default -> throw new IllegalArgumentException(
+                    String.format("Unknown company field '%s'", member.getKey()));
+            }
+        }
+        return new CompanyRequest(name, registrationNumber, null);
+    }
+
+    public CompanyLogoContentRepository.LogoVariant toLogoVariant(byte[] content, String contentType,
+                                                                  int width, int height) {
+        return new CompanyLogoContentRepository.LogoVariant(
+            DigestHelper.sha256Hex(content), contentType, content, width, height);
+    }
+
+    private void mapRequestToEntity(Company company, CompanyRequest request) {
         company.setName(request.name());
         company.setRegistrationNumber(request.registrationNumber());
+    }
 
-        if (isLogoValid(logo)) {
-            company.setLogo(logo);
+    private static String toPatchedText(Map.Entry<String, JsonNode> member) {
+        JsonNode value = member.getValue();
+        if (value.isNull()) {
+            return null;
         }
+        if (!value.isTextual()) {
+            throw new IllegalArgumentException(String.format("Field '%s' must be a string or null", member.getKey()));
+        }
+        return value.textValue();
     }
 
     private String encodeLogoToBase64(byte[] logo) {
@@ -48,8 +129,4 @@ public class CompanyMapper {
                ? Base64.getEncoder().encodeToString(logo)
                : null;
     }
-
-    private boolean isLogoValid(byte[] logo) {
-        return logo != null && logo.length > 0;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.resetrix.genesis.modules.company.projections;
+
+import java.util.UUID;
+
+/**
+ * Keys of a company moved to the archive, enough to drop it from the in-memory index and the cache.
+ */
+public record CompanyArchiveEntry(
+    Long id,
+    UUID uuid
+) {
+}
@@ -0,0 +1,7 @@
+package com.resetrix.genesis.modules.company.projections;
+
+public record CompanyLogoContent(
+    String checksum,
+    byte[] content
+) {
+}
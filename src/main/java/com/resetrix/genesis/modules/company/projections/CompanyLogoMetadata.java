@@ -0,0 +1,19 @@
+package com.resetrix.genesis.modules.company.projections;
+
+import com.resetrix.genesis.modules.company.constants.CompanyLogoSize;
+
+/**
+ * Scalar description of a stored logo, enough to answer conditional and range requests
+ * without touching the blob itself.
+ */
+public record CompanyLogoMetadata(
+    Long companyId,
+    String contentType,
+    Long contentLength,
+    String checksum,
+    CompanyLogoSize size
+) {
+    public CompanyLogoMetadata(Long companyId, String contentType, Long contentLength, String checksum) {
+        this(companyId, contentType, contentLength, checksum, CompanyLogoSize.ORIGINAL);
+    }
+}
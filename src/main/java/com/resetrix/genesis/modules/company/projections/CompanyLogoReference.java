@@ -0,0 +1,11 @@
+package com.resetrix.genesis.modules.company.projections;
+
+/**
+ * Logo a company points at, resolved before the blobs so that a logo shared by several
+ * companies is read only once.
+ */
+public record CompanyLogoReference(
+    Long companyId,
+    String checksum
+) {
+}
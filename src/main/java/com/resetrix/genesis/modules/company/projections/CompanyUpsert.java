@@ -0,0 +1,12 @@
+package com.resetrix.genesis.modules.company.projections;
+
+import com.resetrix.genesis.modules.company.constants.CompanyUpsertStatus;
+
+/**
+ * The row an upsert left behind, and whether it was inserted, renamed or already up to date.
+ */
+public record CompanyUpsert(
+    CompanyView company,
+    CompanyUpsertStatus status
+) {
+}
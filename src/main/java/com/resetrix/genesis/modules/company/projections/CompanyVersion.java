@@ -0,0 +1,14 @@
+package com.resetrix.genesis.modules.company.projections;
+
+import java.sql.Timestamp;
+
+/**
+ * Just enough of a company to revalidate a cached copy, without reading the rest of the row or its logo.
+ * The soft-delete flag lets a conditional soft delete of an already deleted company succeed again.
+ */
+public record CompanyVersion(
+    Long version,
+    Timestamp updatedAt,
+    boolean softDelete
+) {
+}
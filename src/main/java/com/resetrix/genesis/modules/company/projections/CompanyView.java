@@ -0,0 +1,19 @@
+package com.resetrix.genesis.modules.company.projections;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Scalar columns of a company, loaded without a managed entity so nothing is dirty-tracked.
+ */
+public record CompanyView(
+    Long id,
+    UUID uuid,
+    String name,
+    String registrationNumber,
+    Boolean softDelete,
+    Timestamp createdAt,
+    Timestamp updatedAt,
+    Long version
+) {
+}
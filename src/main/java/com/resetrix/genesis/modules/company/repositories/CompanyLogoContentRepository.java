@@ -0,0 +1,61 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.constants.CompanyLogoSize;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoMetadata;
+import jakarta.transaction.Transactional;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Raw access to logo bytes that bypasses the persistence context, so large blobs are
+ * copied from the JDBC driver to the caller without an intermediate entity.
+ */
+public interface CompanyLogoContentRepository {
+
+    /**
+     * Encoded original waiting on disk, streamed to the database only if its checksum is not stored yet.
+     */
+    record LogoFile(Path file, String contentType, long contentLength, String checksum) {
+    }
+
+    /**
+     * Encoded thumbnail held in memory until it is written next to the original.
+     */
+    record LogoVariant(String checksum, String contentType, byte[] content, int width, int height) {
+    }
+
+    /**
+     * Copies {@code length} bytes of the logo with the given checksum, starting at {@code offset}, to the
+     * given stream. Logos are addressed by content, so the bytes always match the checksum read beforehand.
+     *
+     * @return {@code true} if all {@code length} bytes were copied, {@code false} if no logo in that size has
+     *         the checksum or it was released before the copy completed; part of the range may already have
+     *         been written to the stream then
+     */
+    boolean copyContent(String checksum, CompanyLogoSize size, long offset, long length, OutputStream outputStream);
+
+    /**
+     * @return the metadata of the thumbnail of an active company, empty if it has none in that size
+     */
+    Optional<CompanyLogoMetadata> findVariantMetadataByCompanyUuid(UUID uuid, CompanyLogoSize size);
+
+    /**
+     * Points the company at the processed logo. The original is streamed from its file and, together with
+     * the thumbnails keyed by size, only written if no company holds the same logo yet. A logo uploaded
+     * before the one already referenced is discarded, so processing that completes out of order cannot
+     * bring back an older logo.
+     *
+     * Runs in a transaction of its own, since it may be called once the upload's transaction has committed.
+     *
+     * @return {@code true} if the logo was stored, {@code false} if a newer one was already there or the
+     *         company no longer exists
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    boolean writeImages(Long companyId, LogoFile original, Map<CompanyLogoSize, LogoVariant> thumbnails,
+                        Instant uploadedAt);
+}
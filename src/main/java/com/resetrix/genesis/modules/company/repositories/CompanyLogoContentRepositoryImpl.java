@@ -0,0 +1,194 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.constants.CompanyCacheNames;
+import com.resetrix.genesis.modules.company.constants.CompanyLogoSize;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoMetadata;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public class CompanyLogoContentRepositoryImpl implements CompanyLogoContentRepository {
+
+    // SUBSTRING is 1-based and lets the database ship only the requested byte range
+    private static final String SELECT_CONTENT_RANGE =
+        "SELECT SUBSTRING(content FROM ? FOR ?) FROM logo_blobs WHERE checksum = ?";
+
+    // Identical thumbnails derived from different originals share a checksum and content, so any row will do
+    private static final String SELECT_VARIANT_CONTENT_RANGE = """
+        SELECT SUBSTRING(content FROM ? FOR ?)
+        FROM logo_blob_variants
+        WHERE checksum = ?
+          AND size = ?
+        LIMIT 1
+        """;
+
+    private static final String SELECT_VARIANT_METADATA = """
+        SELECT c.id, v.content_type, v.content_length, v.checksum
+        FROM logo_blob_variants v
+        JOIN companies c ON c.logo_checksum = v.logo_checksum
+        WHERE c.uuid = ?
+          AND c.soft_delete = false
+          AND v.size = ?
+        """;
+
+    private static final String LOCK_COMPANY = "SELECT logo_uploaded_at FROM companies WHERE id = ? FOR UPDATE";
+
+    // Keeps a concurrent release of the last reference from dropping the blob before the company points at it
+    private static final String LOCK_BLOB = "SELECT checksum FROM logo_blobs WHERE checksum = ? FOR KEY SHARE";
+
+    private static final String INSERT_BLOB = """
+        INSERT INTO logo_blobs (checksum, content, content_type, content_length)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (checksum) DO NOTHING
+        """;
+
+    private static final String INSERT_VARIANT = """
+        INSERT INTO logo_blob_variants (logo_checksum, size, content, content_type, content_length, checksum)
+        VALUES (?, ?, ?, ?, ?, ?)
+        ON CONFLICT (logo_checksum, size) DO NOTHING
+        """;
+
+    // The reference count follows through the trigger on companies.logo_checksum. A new logo is a new
+    // representation of the company, so it gets a new version and thereby a new ETag.
+    private static final String UPDATE_COMPANY =
+        "UPDATE companies SET logo_checksum = ?, logo_uploaded_at = ?, version = version + 1 WHERE id = ?";
+
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    // Largest slice of a logo held in memory while it is written to the client
+    private static final int COPY_CHUNK_SIZE = 256 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+
+    public CompanyLogoContentRepositoryImpl(JdbcTemplate jdbcTemplate, CacheManager cacheManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public boolean copyContent(String checksum, CompanyLogoSize size, long offset, long length,
+                               OutputStream outputStream) {
+        return size.isThumbnail()
+               ? copy(SELECT_VARIANT_CONTENT_RANGE, outputStream, offset, length, checksum, size.getValue())
+               : copy(SELECT_CONTENT_RANGE, outputStream, offset, length, checksum);
+    }
+
+    @Override
+    public Optional<CompanyLogoMetadata> findVariantMetadataByCompanyUuid(UUID uuid, CompanyLogoSize size) {
+        return jdbcTemplate.query(SELECT_VARIANT_METADATA, (resultSet, rowNum) -> new CompanyLogoMetadata(
+            resultSet.getLong(1),
+            resultSet.getString(2),
+            resultSet.getLong(3),
+            resultSet.getString(4),
+            size
+        ), uuid, size.getValue()).stream().findFirst();
+    }
+
+    @Override
+    public boolean writeImages(Long companyId, LogoFile original, Map<CompanyLogoSize, LogoVariant> thumbnails,
+                               Instant uploadedAt) {
+        Timestamp timestamp = Timestamp.from(uploadedAt);
+        List<Timestamp> stored = jdbcTemplate.queryForList(LOCK_COMPANY, Timestamp.class, companyId);
+        if (stored.isEmpty() || isSuperseded(stored.getFirst(), timestamp)) {
+            return false;
+        }
+
+        String checksum = original.checksum();
+        if (jdbcTemplate.queryForList(LOCK_BLOB, String.class, checksum).isEmpty()) {
+            insertBlob(original);
+        }
+
+        // Also fills in thumbnails for blobs stored before they existed
+        List<Object[]> variants = thumbnails.entrySet().stream()
+            .map(thumbnail -> new Object[]{
+                checksum,
+                thumbnail.getKey().getValue(),
+                thumbnail.getValue().content(),
+                thumbnail.getValue().contentType(),
+                (long) thumbnail.getValue().content().length,
+                thumbnail.getValue().checksum()
+            })
+            .toList();
+        jdbcTemplate.batchUpdate(INSERT_VARIANT, variants);
+        jdbcTemplate.update(UPDATE_COMPANY, checksum, timestamp, companyId);
+
+        // The statement bypasses the repository's cache evictions; the cache manager defers this until commit
+        Cache cache = cacheManager.getCache(CompanyCacheNames.BY_ID);
+        if (cache != null) {
+            cache.evict(companyId);
+        }
+        return true;
+    }
+
+    // The driver pulls the content from the file as it writes to the socket, so no copy is held in the heap
+    private void insertBlob(LogoFile original) {
+        try (InputStream content = new BufferedInputStream(Files.newInputStream(original.file()), STREAM_BUFFER_SIZE)) {
+            jdbcTemplate.update(INSERT_BLOB, statement -> {
+                statement.setString(1, original.checksum());
+                statement.setBinaryStream(2, content, original.contentLength());
+                statement.setString(3, original.contentType());
+                statement.setLong(4, original.contentLength());
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read company logo", e);
+        }
+    }
+
+    // Each chunk is read whole and the connection handed back to the pool before the chunk is written, so a
+    // slow client holds at most one chunk of memory rather than a pooled connection. Content is addressed by
+    // checksum, so it only disappears, or comes back shorter than the range taken from its metadata, if its
+    // last reference was released in between; the copy then reports failure rather than a complete logo.
+    private boolean copy(String sql, OutputStream outputStream, long offset, long length, Object... keys) {
+        long copied = 0;
+        do {
+            int chunkLength = (int) Math.min(length - copied, COPY_CHUNK_SIZE);
+            Optional<byte[]> chunk = readChunk(sql, offset + copied, chunkLength, keys);
+            if (chunk.isEmpty()) {
+                return false;
+            }
+
+            write(outputStream, chunk.get());
+            copied += chunk.get().length;
+            if (chunk.get().length < chunkLength) {
+                return false;
+            }
+        } while (copied < length);
+        return true;
+    }
+
+    private Optional<byte[]> readChunk(String sql, long offset, int length, Object... keys) {
+        Object[] args = Stream.concat(Stream.of(offset + 1, length), Arrays.stream(keys)).toArray();
+        return jdbcTemplate.query(sql, (resultSet, rowNum) -> {
+            byte[] content = resultSet.getBytes(1);
+            return content != null ? content : new byte[0];
+        }, args).stream().findFirst();
+    }
+
+    private static void write(OutputStream outputStream, byte[] chunk) {
+        try {
+            outputStream.write(chunk);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stream company logo", e);
+        }
+    }
+
+    private static boolean isSuperseded(Timestamp storedUpload, Timestamp upload) {
+        return storedUpload != null && !storedUpload.before(upload);
+    }
+}
@@ -0,0 +1,51 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.entities.CompanyLogo;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoContent;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoMetadata;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoReference;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CompanyLogoRepository
+    extends JpaRepository<CompanyLogo, String>, CompanyLogoContentRepository {
+
+    // Native so that the company is resolved by id whether or not it is soft-deleted
+    @Query(value = """
+        SELECT b.content
+        FROM logo_blobs b
+        JOIN companies c ON c.logo_checksum = b.checksum
+        WHERE c.id = :companyId
+        """, nativeQuery = true)
+    Optional<byte[]> findContentByCompanyId(@Param("companyId") Long companyId);
+
+    @Query("""
+        SELECT new com.resetrix.genesis.modules.company.projections.CompanyLogoReference(c.id, c.logoChecksum)
+        FROM Company c
+        WHERE c.id IN :companyIds
+          AND c.logoChecksum IS NOT NULL
+        """)
+    List<CompanyLogoReference> findReferencesByCompanyIdIn(@Param("companyIds") Collection<Long> companyIds);
+
+    @Query("""
+        SELECT new com.resetrix.genesis.modules.company.projections.CompanyLogoContent(l.checksum, l.content)
+        FROM CompanyLogo l
+        WHERE l.checksum IN :checksums
+        """)
+    List<CompanyLogoContent> findContentsByChecksumIn(@Param("checksums") Collection<String> checksums);
+
+    @Query("""
+        SELECT new com.resetrix.genesis.modules.company.projections.CompanyLogoMetadata(
+            c.id, l.contentType, l.contentLength, l.checksum)
+        FROM CompanyLogo l, Company c
+        WHERE c.logoChecksum = l.checksum
+          AND c.uuid = :uuid
+        """)
+    Optional<CompanyLogoMetadata> findMetadataByCompanyUuid(@Param("uuid") UUID uuid);
+}
@@ -0,0 +1,146 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.responses.CompanySuggestion;
+import com.resetrix.genesis.shared.helpers.TransactionHelper;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory index of live company names, ordered case-insensitively, for autocomplete.
+ * A prefix lookup seeks to the first name at or after the prefix and walks forward, so it costs
+ * O(log n) plus the suggestions returned, however many companies there are.
+ * <p>
+ * Only writes made through this instance are seen; writes from other instances show up after a restart.
+ */
+@Component
+public class CompanyNameIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompanyNameIndex.class);
+
+    private static final String SELECT_LIVE = "SELECT id, uuid, name FROM companies WHERE soft_delete = false";
+    private static final int FETCH_SIZE = 1000;
+
+    private static final Comparator<Entry> ORDER =
+        Comparator.comparing(Entry::key).thenComparingLong(Entry::id);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompanyProperty companyProperty;
+    private final NavigableSet<Entry> entries = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, Entry> entriesById = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+
+    public CompanyNameIndex(JdbcTemplate jdbcTemplate, CompanyProperty companyProperty) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.companyProperty = companyProperty;
+    }
+
+    /**
+     * @return {@code true} once the startup load has finished, so that suggestions cover every company
+     */
+    public boolean isReady() {
+        return loaded && companyProperty.getNameIndex().isEnabled();
+    }
+
+    /**
+     * Returns up to {@code limit} companies whose name starts with {@code prefix}, ignoring case,
+     * ordered by name and then id.
+     */
+    public List<CompanySuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        List<CompanySuggestion> suggestions = new ArrayList<>(limit);
+        for (Entry entry : entries.tailSet(new Entry(key, Long.MIN_VALUE, null, null))) {
+            if (suggestions.size() == limit || !entry.key().startsWith(key)) {
+                break;
+            }
+            suggestions.add(new CompanySuggestion(entry.id(), entry.uuid(), entry.name()));
+        }
+        return suggestions;
+    }
+
+    // Replacing under the id's map entry keeps concurrent writes to one company from leaving two names behind
+    public void put(long id, UUID uuid, String name) {
+        Entry entry = new Entry(normalize(name), id, uuid, name);
+        entriesById.compute(id, (key, previous) -> {
+            if (previous != null) {
+                entries.remove(previous);
+            }
+            entries.add(entry);
+            return entry;
+        });
+    }
+
+    public void remove(long id) {
+        entriesById.computeIfPresent(id, (key, previous) -> {
+            entries.remove(previous);
+            return null;
+        });
+    }
+
+    /**
+     * Applies the change once the current transaction commits, or right away outside a transaction,
+     * so that a rolled-back write never shows up in suggestions.
+     */
+    public void putAfterCommit(long id, UUID uuid, String name) {
+        if (!companyProperty.getNameIndex().isEnabled()) {
+            return;
+        }
+        TransactionHelper.afterCommit(() -> put(id, uuid, name));
+    }
+
+    public void removeAfterCommit(long id) {
+        TransactionHelper.afterCommit(() -> remove(id));
+    }
+
+    public int size() {
+        return entriesById.size();
+    }
+
+    /**
+     * Loads every live company through a forward-only cursor. Rows committed while the load runs are
+     * also added by the entity listener; a company deleted meanwhile may linger until the next restart.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!companyProperty.getNameIndex().isEnabled()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(SELECT_LIVE);
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, resultSet -> {
+                put(resultSet.getLong(1), resultSet.getObject(2, UUID.class), resultSet.getString(3));
+            });
+            loaded = true;
+            LOGGER.info("Company name index loaded with {} entries", size());
+        } catch (DataAccessException e) {
+            LOGGER.warn("Company name index not loaded, autocomplete falls back to the database", e);
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(String key, long id, UUID uuid, String name) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.entities.Company;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@link CompanyNameIndex} in step with entity inserts, renames and deletes.
+ * Bulk soft and hard deletes bypass entity callbacks, so {@link CompanyUuidLookupRepositoryImpl} removes those itself.
+ */
+@Component
+public class CompanyNameIndexListener {
+
+    private final CompanyNameIndex companyNameIndex;
+
+    public CompanyNameIndexListener(CompanyNameIndex companyNameIndex) {
+        this.companyNameIndex = companyNameIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void afterWrite(Company company) {
+        if (Boolean.TRUE.equals(company.getSoftDelete())) {
+            companyNameIndex.removeAfterCommit(company.getId());
+        } else {
+            companyNameIndex.putAfterCommit(company.getId(), company.getUuid(), company.getName());
+        }
+    }
+
+    @PostRemove
+    public void afterDelete(Company company) {
+        companyNameIndex.removeAfterCommit(company.getId());
+    }
+}
@@ -0,0 +1,94 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.shared.collections.StringBloomFilter;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bloom filter of every registration number in use, soft-deleted companies included, so a number it has
+ * never seen is known to be free without asking the database. Numbers are added on insert and on change
+ * but never removed; a number freed by a delete or rename stays a false positive until the next restart,
+ * which costs one index lookup. Until the startup load has finished, or while the filter is disabled,
+ * every number might exist. Rows inserted by another instance are not seen either, and are still caught
+ * by the unique constraint.
+ */
+@Component
+public class CompanyRegistrationNumberFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompanyRegistrationNumberFilter.class);
+
+    private static final String COUNT_ALL = "SELECT CAST(sum(live + deleted) AS BIGINT) FROM company_count_shards";
+    private static final String SELECT_ALL = "SELECT registration_number FROM companies";
+    private static final int FETCH_SIZE = 1000;
+
+    // Leaves room for the table to double before the false positive rate starts to climb
+    private static final int GROWTH_FACTOR = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompanyProperty companyProperty;
+
+    private volatile StringBloomFilter filter;
+    private volatile boolean loaded;
+
+    public CompanyRegistrationNumberFilter(JdbcTemplate jdbcTemplate, CompanyProperty companyProperty) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.companyProperty = companyProperty;
+    }
+
+    /**
+     * @return {@code false} only if no company can hold {@code registrationNumber}
+     */
+    public boolean mightContain(String registrationNumber) {
+        return !isReady() || filter.mightContain(registrationNumber);
+    }
+
+    public boolean isReady() {
+        return loaded && companyProperty.getRegistrationNumberFilter().isEnabled();
+    }
+
+    // Applied right away: a number added by a write that rolls back is merely a false positive
+    public void put(String registrationNumber) {
+        StringBloomFilter current = filter;
+        if (current != null) {
+            current.put(registrationNumber);
+        }
+    }
+
+    /**
+     * Sizes the filter from the row count and fills it through a forward-only cursor. It is published
+     * before the load starts, so numbers written meanwhile are added by the entity listener as well.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        CompanyProperty.RegistrationNumberFilterProperties properties = companyProperty.getRegistrationNumberFilter();
+        if (!properties.isEnabled()) {
+            LOGGER.info("Company registration number filter disabled");
+            return;
+        }
+
+        try {
+            Long rows = jdbcTemplate.queryForObject(COUNT_ALL, Long.class);
+            long capacity = Math.max(properties.getExpectedInsertions(), (rows == null ? 0 : rows) * GROWTH_FACTOR);
+            StringBloomFilter loading = new StringBloomFilter(capacity, properties.getFalsePositiveRate());
+            filter = loading;
+            jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(SELECT_ALL);
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, resultSet -> {
+                loading.put(resultSet.getString(1));
+            });
+            loaded = true;
+            LOGGER.info("Company registration number filter loaded with {} numbers in {} bits",
+                        rows, loading.bitSize());
+        } catch (DataAccessException e) {
+            LOGGER.warn("Company registration number filter not loaded, every number is looked up", e);
+        }
+    }
+}
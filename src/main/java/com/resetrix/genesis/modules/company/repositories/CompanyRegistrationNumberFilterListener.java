@@ -0,0 +1,26 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.entities.Company;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the registration number of every inserted or updated company to
+ * {@link CompanyRegistrationNumberFilter}.
+ */
+@Component
+public class CompanyRegistrationNumberFilterListener {
+
+    private final CompanyRegistrationNumberFilter companyRegistrationNumberFilter;
+
+    public CompanyRegistrationNumberFilterListener(CompanyRegistrationNumberFilter companyRegistrationNumberFilter) {
+        this.companyRegistrationNumberFilter = companyRegistrationNumberFilter;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void afterWrite(Company company) {
+        companyRegistrationNumberFilter.put(company.getRegistrationNumber());
+    }
+}
@@ -0,0 +1,15 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Registration number lookups that ask {@link CompanyRegistrationNumberFilter} first, so numbers it has
+ * never seen are answered without a query. Soft-deleted companies keep their number and count as holders.
+ */
+public interface CompanyRegistrationNumberLookupRepository {
+
+    boolean existsByRegistrationNumber(String registrationNumber);
+
+    List<String> findExistingRegistrationNumbers(Collection<String> registrationNumbers);
+}
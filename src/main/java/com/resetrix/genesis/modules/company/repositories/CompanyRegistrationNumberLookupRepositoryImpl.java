@@ -0,0 +1,35 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Collection;
+import java.util.List;
+
+public class CompanyRegistrationNumberLookupRepositoryImpl implements CompanyRegistrationNumberLookupRepository {
+
+    private final CompanyRegistrationNumberFilter companyRegistrationNumberFilter;
+    private final ObjectProvider<CompanyRepository> companyRepository;
+
+    public CompanyRegistrationNumberLookupRepositoryImpl(
+        CompanyRegistrationNumberFilter companyRegistrationNumberFilter,
+        ObjectProvider<CompanyRepository> companyRepository) {
+        this.companyRegistrationNumberFilter = companyRegistrationNumberFilter;
+        this.companyRepository = companyRepository;
+    }
+
+    @Override
+    public boolean existsByRegistrationNumber(String registrationNumber) {
+        return !findExistingRegistrationNumbers(List.of(registrationNumber)).isEmpty();
+    }
+
+    // Only the possible duplicates are confirmed against the unique index
+    @Override
+    public List<String> findExistingRegistrationNumbers(Collection<String> registrationNumbers) {
+        List<String> candidates = registrationNumbers.stream()
+            .filter(companyRegistrationNumberFilter::mightContain)
+            .toList();
+        return candidates.isEmpty()
+               ? List.of()
+               : companyRepository.getObject().findStoredRegistrationNumbers(candidates);
+    }
+}
@@ -1,8 +1,154 @@
 package com.resetrix.genesis.modules.company.repositories;
 
+import com.resetrix.genesis.modules.company.constants.CompanyCacheNames;
 import com.resetrix.genesis.modules.company.entities.Company;
+import com.resetrix.genesis.modules.company.projections.CompanyVersion;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.shared.datasources.DataSourceRouting;
 import com.resetrix.genesis.shared.repositories.UuidRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface CompanyRepository extends UuidRepository<Company> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
+public interface CompanyRepository
+    extends UuidRepository<Company>, JpaSpecificationExecutor<Company>, CompanyUuidLookupRepository,
+            CompanyRegistrationNumberLookupRepository, CompanyUpsertRepository {
+
+    String VIEW_TYPE = "#p1 == T(com.resetrix.genesis.modules.company.projections.CompanyView)";
+    // Empty results unwrap to null, which the cache rejects, so misses must never reach it
+    String MISSING_OR_DELETED = "#result == null || #result.softDelete()";
+    // A replica read may lag behind a write whose eviction already ran, and would put the stale row back
+    String READ_FROM_REPLICA = "@" + DataSourceRouting.BEAN_NAME + ".routesToReplica()";
+
+    /**
+     * Only {@link CompanyView} lookups are cached; managed entities are always read from the database.
+     * Soft-deleted rows, which are only visible with the active filter disabled, are never cached.
+     * Rows read from the replica are served but never cached, so only the primary fills the cache.
+     * UUID lookups resolve to the id first and share this cache.
+     */
+    @Override
+    @Cacheable(cacheNames = CompanyCacheNames.BY_ID, key = "#p0", condition = VIEW_TYPE,
+        unless = MISSING_OR_DELETED + " || " + READ_FROM_REPLICA)
+    <P> Optional<P> findById(Long id, Class<P> type);
+
+    // Every company write goes through one of the methods below, each evicting the row it touches
+    @Override
+    @CacheEvict(cacheNames = CompanyCacheNames.BY_ID, key = "#p0.id", condition = "#p0.id != null")
+    <S extends Company> S save(S entity);
+
+    @Override
+    @CacheEvict(cacheNames = CompanyCacheNames.BY_ID, key = "#p0.id", condition = "#p0.id != null")
+    <S extends Company> S saveAndFlush(S entity);
+
+    @Override
+    @CacheEvict(cacheNames = CompanyCacheNames.BY_ID, key = "#p0.id", condition = "#p0.id != null")
+    void delete(Company entity);
+
+    // Single-statement writes that skip loading the entity; the returned row count tells whether it existed.
+    // Implemented by CompanyUuidLookupRepositoryImpl, which also drops the index entries of the row.
+    @Override
+    @CacheEvict(cacheNames = CompanyCacheNames.BY_ID, key = "#p0")
+    int softDeleteById(Long id);
+
+    @Override
+    @CacheEvict(cacheNames = CompanyCacheNames.BY_ID, key = "#p0")
+    int softDeleteById(Long id, Long version);
+
+    @Override
+    @CacheEvict(cacheNames = CompanyCacheNames.BY_ID, key = "#p0")
+    int hardDeleteById(Long id);
+
+    @Override
+    @CacheEvict(cacheNames = CompanyCacheNames.BY_ID, key = "#p0")
+    int hardDeleteById(Long id, Long version);
+
+    // Three scalar columns, so a conditional request can be answered without loading the row or its logo
+    @Query("""
+        SELECT new com.resetrix.genesis.modules.company.projections.CompanyVersion(
+            c.version, c.updatedAt, c.softDelete)
+        FROM Company c
+        WHERE c.id = :id
+        """)
+    Optional<CompanyVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Streams every live company in id order through a server-side cursor. Rows are read as
+     * {@link CompanyView} records, so nothing accumulates in the persistence context.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT new com.resetrix.genesis.modules.company.projections.CompanyView(
+            c.id, c.uuid, c.name, c.registrationNumber, c.softDelete, c.createdAt, c.updatedAt, c.version)
+        FROM Company c
+        ORDER BY c.id
+        """)
+    Stream<CompanyView> streamAllViews();
+
+    // Batch lookups; callers chunk the keys so that each IN list stays bounded
+    @Query("""
+        SELECT new com.resetrix.genesis.modules.company.projections.CompanyView(
+            c.id, c.uuid, c.name, c.registrationNumber, c.softDelete, c.createdAt, c.updatedAt, c.version)
+        FROM Company c
+        WHERE c.id IN :ids
+        """)
+    List<CompanyView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+        SELECT new com.resetrix.genesis.modules.company.projections.CompanyView(
+            c.id, c.uuid, c.name, c.registrationNumber, c.softDelete, c.createdAt, c.updatedAt, c.version)
+        FROM Company c
+        WHERE c.uuid IN :uuids
+        """)
+    List<CompanyView> findViewsByUuidIn(@Param("uuids") Collection<UUID> uuids);
+
+    /**
+     * Matches {@code lower(name)} against a LIKE pattern whose wildcards in the search term are escaped
+     * with a backslash. Served by the trigram and {@code text_pattern_ops} indexes from V9.
+     */
+    @Query("""
+        SELECT new com.resetrix.genesis.modules.company.projections.CompanyView(
+            c.id, c.uuid, c.name, c.registrationNumber, c.softDelete, c.createdAt, c.updatedAt, c.version)
+        FROM Company c
+        WHERE lower(c.name) LIKE :pattern ESCAPE '\\'
+        ORDER BY lower(c.name), c.id
+        """)
+    Slice<CompanyView> searchByName(@Param("pattern") String pattern, Pageable pageable);
+
+    // Maintained by triggers on companies (see V8 and V14), so these sum a few rows instead of counting the table
+    @Query(value = "SELECT CAST(sum(live) AS BIGINT) FROM company_count_shards", nativeQuery = true)
+    long countLiveCompanies();
+
+    @Query(value = "SELECT CAST(sum(live + deleted) AS BIGINT) FROM company_count_shards", nativeQuery = true)
+    long countAllCompanies();
+
+    // Only asked after a soft delete touched nothing, to tell a repeated delete from a missing company
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM companies WHERE id = :id AND soft_delete)", nativeQuery = true)
+    boolean isSoftDeletedById(@Param("id") Long id);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM companies WHERE uuid = :uuid AND soft_delete)", nativeQuery = true)
+    boolean isSoftDeletedByUuid(@Param("uuid") UUID uuid);
+
+    // Fallback for UUIDs the index does not know about yet; native, so deleted rows resolve too
+    @Query(value = "SELECT id FROM companies WHERE uuid = :uuid", nativeQuery = true)
+    Optional<Long> findIdByUuid(@Param("uuid") UUID uuid);
+
+    // Native so that soft-deleted rows, which still hold their unique registration number, are included;
+    // callers go through findExistingRegistrationNumbers, which skips the numbers the filter has never seen
+    @Query(value = "SELECT registration_number FROM companies WHERE registration_number IN (:registrationNumbers)",
+           nativeQuery = true)
+    List<String> findStoredRegistrationNumbers(@Param("registrationNumbers") Collection<String> registrationNumbers);
 }
@@ -0,0 +1,24 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.projections.CompanyUpsert;
+import com.resetrix.genesis.modules.company.requests.CompanyUpsertRequest;
+import jakarta.transaction.Transactional;
+
+import java.util.List;
+
+/**
+ * Create-or-rename keyed by registration number, written as a single {@code INSERT ... ON CONFLICT} so
+ * that a feed resending every company needs neither a lookup first nor a unique violation to recover from.
+ */
+public interface CompanyUpsertRepository {
+
+    /**
+     * Inserts the companies whose registration number is new and renames the ones whose name changed;
+     * the rest are left untouched. Soft-deleted companies are renamed but stay deleted. The registration
+     * numbers must be distinct and the requests valid.
+     *
+     * @return the outcome for every company, in the order given
+     */
+    @Transactional
+    List<CompanyUpsert> upsertAll(List<CompanyUpsertRequest> companies);
+}
@@ -0,0 +1,156 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.constants.CompanyCacheNames;
+import com.resetrix.genesis.modules.company.constants.CompanyUpsertStatus;
+import com.resetrix.genesis.modules.company.projections.CompanyUpsert;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.modules.company.requests.CompanyUpsertRequest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class CompanyUpsertRepositoryImpl implements CompanyUpsertRepository {
+
+    // Rows the statement's snapshot already holds are rewritten in place, and only when their name differs
+    // or they were soft-deleted; a soft-deleted company is restored rather than renamed behind the filter,
+    // and the counter and deleted_at triggers follow the soft_delete flip. Unchanged rows create no new row
+    // version and are read back from the snapshot by the last SELECT.
+    // Only registration numbers missing from the snapshot reach the INSERT: its id default is evaluated before
+    // any conflict is detected, and each nextval reserves a whole block of the pooled sequence. ON CONFLICT catches
+    // rows committed concurrently after the snapshot was taken; xmax is 0 only on a row this INSERT created.
+    private static final String UPSERT = """
+        WITH input AS (
+            SELECT *
+            FROM unnest(CAST(? AS VARCHAR[]), CAST(? AS VARCHAR[])) AS input (name, registration_number)
+        ),
+        existing AS (
+            SELECT c.id, c.soft_delete, i.name
+            FROM companies c
+            JOIN input i ON i.registration_number = c.registration_number
+        ),
+        changed AS (
+            UPDATE companies c
+            SET name        = e.name,
+                soft_delete = FALSE,
+                updated_at  = CURRENT_TIMESTAMP,
+                version     = c.version + 1
+            FROM existing e
+            WHERE c.id = e.id
+              AND (c.name IS DISTINCT FROM e.name OR c.soft_delete)
+            RETURNING c.id, c.uuid, c.name, c.registration_number, c.soft_delete, c.created_at, c.updated_at,
+                      c.version, CASE WHEN e.soft_delete THEN 'RESTORED' ELSE 'UPDATED' END AS status
+        ),
+        inserted AS (
+            INSERT INTO companies (name, registration_number)
+            SELECT i.name, i.registration_number
+            FROM input i
+            WHERE NOT EXISTS (SELECT 1 FROM companies c WHERE c.registration_number = i.registration_number)
+            ON CONFLICT (registration_number) DO UPDATE
+            SET name        = EXCLUDED.name,
+                soft_delete = FALSE,
+                updated_at  = CURRENT_TIMESTAMP,
+                version     = companies.version + 1
+            WHERE companies.name IS DISTINCT FROM EXCLUDED.name OR companies.soft_delete
+            RETURNING id, uuid, name, registration_number, soft_delete, created_at, updated_at, version,
+                      CASE WHEN xmax = 0 THEN 'CREATED' ELSE 'UPDATED' END AS status
+        )
+        SELECT *
+        FROM changed
+        UNION ALL
+        SELECT *
+        FROM inserted
+        UNION ALL
+        SELECT c.id, c.uuid, c.name, c.registration_number, c.soft_delete, c.created_at, c.updated_at, c.version,
+               'UNCHANGED'
+        FROM companies c
+        JOIN existing e ON e.id = c.id
+        WHERE NOT EXISTS (SELECT 1 FROM changed u WHERE u.id = c.id)
+        """;
+
+    // Rows committed by a concurrent insert after the upsert took its snapshot conflict but are not visible to it
+    private static final String SELECT_UNCHANGED = """
+        SELECT id, uuid, name, registration_number, soft_delete, created_at, updated_at, version, 'UNCHANGED'
+        FROM companies
+        WHERE registration_number = ANY (CAST(? AS VARCHAR[]))
+        """;
+
+    private static final RowMapper<CompanyUpsert> ROW_MAPPER = (resultSet, rowNum) -> new CompanyUpsert(
+        new CompanyView(
+            resultSet.getLong(1),
+            resultSet.getObject(2, UUID.class),
+            resultSet.getString(3),
+            resultSet.getString(4),
+            resultSet.getBoolean(5),
+            resultSet.getTimestamp(6),
+            resultSet.getTimestamp(7),
+            resultSet.getLong(8)
+        ),
+        CompanyUpsertStatus.valueOf(resultSet.getString(9))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompanyUuidIndex companyUuidIndex;
+    private final CompanyNameIndex companyNameIndex;
+    private final CompanyRegistrationNumberFilter companyRegistrationNumberFilter;
+    private final CacheManager cacheManager;
+
+    public CompanyUpsertRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                       CompanyUuidIndex companyUuidIndex,
+                                       CompanyNameIndex companyNameIndex,
+                                       CompanyRegistrationNumberFilter companyRegistrationNumberFilter,
+                                       CacheManager cacheManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.companyUuidIndex = companyUuidIndex;
+        this.companyNameIndex = companyNameIndex;
+        this.companyRegistrationNumberFilter = companyRegistrationNumberFilter;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public List<CompanyUpsert> upsertAll(List<CompanyUpsertRequest> companies) {
+        String[] names = companies.stream().map(CompanyUpsertRequest::name).toArray(String[]::new);
+        String[] registrationNumbers = companies.stream()
+            .map(CompanyUpsertRequest::registrationNumber)
+            .toArray(String[]::new);
+
+        Map<String, CompanyUpsert> upserts = new HashMap<>();
+        jdbcTemplate.query(UPSERT, ROW_MAPPER, names, registrationNumbers)
+            .forEach(upsert -> upserts.put(upsert.company().registrationNumber(), upsert));
+        if (upserts.size() < registrationNumbers.length) {
+            String[] missing = Arrays.stream(registrationNumbers)
+                .filter(registrationNumber -> !upserts.containsKey(registrationNumber))
+                .toArray(String[]::new);
+            jdbcTemplate.query(SELECT_UNCHANGED, ROW_MAPPER, (Object) missing)
+                .forEach(upsert -> upserts.put(upsert.company().registrationNumber(), upsert));
+        }
+
+        upserts.values().forEach(this::afterWrite);
+        return Arrays.stream(registrationNumbers).map(upserts::get).toList();
+    }
+
+    // The statement bypasses the entity listeners and the repository's cache evictions, so both are done here
+    private void afterWrite(CompanyUpsert upsert) {
+        CompanyView company = upsert.company();
+        if (upsert.status() == CompanyUpsertStatus.CREATED) {
+            companyUuidIndex.putAfterCommit(company.uuid(), company.id());
+            companyRegistrationNumberFilter.put(company.registrationNumber());
+        }
+        // A restored row kept its uuid entry while soft-deleted, but its cached view still says deleted
+        if (upsert.status() == CompanyUpsertStatus.UPDATED || upsert.status() == CompanyUpsertStatus.RESTORED) {
+            Cache cache = cacheManager.getCache(CompanyCacheNames.BY_ID);
+            if (cache != null) {
+                cache.evict(company.id());
+            }
+        }
+        if (upsert.status() != CompanyUpsertStatus.UNCHANGED && !company.softDelete()) {
+            companyNameIndex.putAfterCommit(company.id(), company.uuid(), company.name());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.shared.collections.UuidLongMap;
+import com.resetrix.genesis.shared.helpers.TransactionHelper;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory map from company UUID to primary key, so UUID lookups skip the secondary index.
+ * Once the startup load has finished, and while the index is configured as authoritative,
+ * a UUID that is not in the index is known not to exist.
+ */
+@Component
+public class CompanyUuidIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompanyUuidIndex.class);
+
+    private static final String SELECT_ALL = "SELECT uuid, id FROM companies";
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompanyProperty companyProperty;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final UuidLongMap ids = new UuidLongMap();
+
+    private volatile boolean loaded;
+
+    public CompanyUuidIndex(JdbcTemplate jdbcTemplate, CompanyProperty companyProperty) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.companyProperty = companyProperty;
+    }
+
+    public Optional<Long> find(UUID uuid) {
+        lock.readLock().lock();
+        try {
+            long id = ids.get(uuid);
+            return id == UuidLongMap.NO_VALUE ? Optional.empty() : Optional.of(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return {@code true} if a UUID missing from the index can be reported as not found
+     *         without asking the database
+     */
+    public boolean isAuthoritative() {
+        return loaded && companyProperty.getUuidIndex().isAuthoritative();
+    }
+
+    public void put(UUID uuid, long id) {
+        lock.writeLock().lock();
+        try {
+            ids.put(uuid, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID uuid) {
+        lock.writeLock().lock();
+        try {
+            ids.remove(uuid);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies the change once the current transaction commits, or right away outside a transaction,
+     * so a rolled-back delete never hides a company that still exists.
+     */
+    public void putAfterCommit(UUID uuid, long id) {
+        TransactionHelper.afterCommit(() -> put(uuid, id));
+    }
+
+    public void removeAfterCommit(UUID uuid) {
+        TransactionHelper.afterCommit(() -> remove(uuid));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Loads every UUID through a forward-only cursor. Rows committed while the load runs are also
+     * added by the entity listener, and a row deleted meanwhile at worst leaves a stale entry,
+     * which resolves to an empty primary-key lookup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(SELECT_ALL);
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, resultSet -> {
+                put(resultSet.getObject(1, UUID.class), resultSet.getLong(2));
+            });
+            loaded = true;
+            LOGGER.info("Company UUID index loaded with {} entries", size());
+        } catch (DataAccessException e) {
+            LOGGER.warn("Company UUID index not loaded, UUID lookups fall back to the database", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.entities.Company;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@link CompanyUuidIndex} in step with entity inserts and deletes.
+ */
+@Component
+public class CompanyUuidIndexListener {
+
+    private final CompanyUuidIndex companyUuidIndex;
+
+    public CompanyUuidIndexListener(CompanyUuidIndex companyUuidIndex) {
+        this.companyUuidIndex = companyUuidIndex;
+    }
+
+    @PostPersist
+    public void afterInsert(Company company) {
+        companyUuidIndex.putAfterCommit(company.getUuid(), company.getId());
+    }
+
+    @PostRemove
+    public void afterDelete(Company company) {
+        companyUuidIndex.removeAfterCommit(company.getUuid());
+    }
+}
@@ -0,0 +1,39 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.entities.Company;
+import com.resetrix.genesis.modules.company.projections.CompanyVersion;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * UUID lookups and writes resolved through {@link CompanyUuidIndex} and then run by primary key,
+ * and the deletes by primary key, which drop the {@link CompanyNameIndex} entry of the row they touch
+ * and, for hard deletes, its UUID index entry.
+ */
+public interface CompanyUuidLookupRepository {
+
+    Optional<Company> findByUuid(UUID uuid);
+
+    <P> Optional<P> findByUuid(UUID uuid, Class<P> type);
+
+    boolean existsByUuid(UUID uuid);
+
+    Optional<CompanyVersion> findVersionByUuid(UUID uuid);
+
+    int softDeleteByUuid(UUID uuid);
+
+    int softDeleteByUuid(UUID uuid, Long version);
+
+    int hardDeleteByUuid(UUID uuid);
+
+    int hardDeleteByUuid(UUID uuid, Long version);
+
+    int softDeleteById(Long id);
+
+    int softDeleteById(Long id, Long version);
+
+    int hardDeleteById(Long id);
+
+    int hardDeleteById(Long id, Long version);
+}
@@ -0,0 +1,133 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.entities.Company;
+import com.resetrix.genesis.modules.company.projections.CompanyVersion;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public class CompanyUuidLookupRepositoryImpl implements CompanyUuidLookupRepository {
+
+    // Native statements run here, rather than as @Query methods, so that every delete by primary key also
+    // drops the name index entry of the row it touches
+    private static final String SOFT_DELETE_BY_ID = """
+        UPDATE companies
+        SET soft_delete = true, updated_at = CURRENT_TIMESTAMP, version = version + 1
+        WHERE id = ? AND soft_delete = false
+        """;
+
+    // Only touches the row while it still has the version the caller saw
+    private static final String SOFT_DELETE_BY_ID_AND_VERSION = """
+        UPDATE companies
+        SET soft_delete = true, updated_at = CURRENT_TIMESTAMP, version = version + 1
+        WHERE id = ? AND version = ? AND soft_delete = false
+        """;
+
+    // Native, so that the active filter cannot hide soft-deleted rows from a hard delete. The returned UUID
+    // is what lets a delete by primary key drop the UUID index entry.
+    private static final String DELETE_BY_ID = "DELETE FROM companies WHERE id = ? RETURNING uuid";
+
+    private static final String DELETE_BY_ID_AND_VERSION =
+        "DELETE FROM companies WHERE id = ? AND version = ? RETURNING uuid";
+
+    private final CompanyUuidIndex companyUuidIndex;
+    private final CompanyNameIndex companyNameIndex;
+    private final ObjectProvider<CompanyRepository> companyRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public CompanyUuidLookupRepositoryImpl(CompanyUuidIndex companyUuidIndex,
+                                           CompanyNameIndex companyNameIndex,
+                                           ObjectProvider<CompanyRepository> companyRepository,
+                                           JdbcTemplate jdbcTemplate) {
+        this.companyUuidIndex = companyUuidIndex;
+        this.companyNameIndex = companyNameIndex;
+        this.companyRepository = companyRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<Company> findByUuid(UUID uuid) {
+        return resolveId(uuid).flatMap(id -> companyRepository.getObject().findById(id));
+    }
+
+    @Override
+    public <P> Optional<P> findByUuid(UUID uuid, Class<P> type) {
+        return resolveId(uuid).flatMap(id -> companyRepository.getObject().findById(id, type));
+    }
+
+    @Override
+    public boolean existsByUuid(UUID uuid) {
+        return resolveId(uuid).map(id -> companyRepository.getObject().existsById(id)).orElse(false);
+    }
+
+    @Override
+    public Optional<CompanyVersion> findVersionByUuid(UUID uuid) {
+        return resolveId(uuid).flatMap(id -> companyRepository.getObject().findVersionById(id));
+    }
+
+    @Override
+    public int softDeleteByUuid(UUID uuid) {
+        return resolveId(uuid).map(id -> companyRepository.getObject().softDeleteById(id)).orElse(0);
+    }
+
+    @Override
+    public int softDeleteByUuid(UUID uuid, Long version) {
+        return resolveId(uuid).map(id -> companyRepository.getObject().softDeleteById(id, version)).orElse(0);
+    }
+
+    @Override
+    public int hardDeleteByUuid(UUID uuid) {
+        return resolveId(uuid).map(id -> companyRepository.getObject().hardDeleteById(id)).orElse(0);
+    }
+
+    @Override
+    public int hardDeleteByUuid(UUID uuid, Long version) {
+        return resolveId(uuid).map(id -> companyRepository.getObject().hardDeleteById(id, version)).orElse(0);
+    }
+
+    @Override
+    public int softDeleteById(Long id) {
+        return removeName(id, jdbcTemplate.update(SOFT_DELETE_BY_ID, id));
+    }
+
+    @Override
+    public int softDeleteById(Long id, Long version) {
+        return removeName(id, jdbcTemplate.update(SOFT_DELETE_BY_ID_AND_VERSION, id, version));
+    }
+
+    @Override
+    public int hardDeleteById(Long id) {
+        return removeFromIndexes(id, jdbcTemplate.queryForList(DELETE_BY_ID, UUID.class, id));
+    }
+
+    @Override
+    public int hardDeleteById(Long id, Long version) {
+        return removeFromIndexes(id, jdbcTemplate.queryForList(DELETE_BY_ID_AND_VERSION, UUID.class, id, version));
+    }
+
+    private int removeFromIndexes(Long id, List<UUID> deleted) {
+        deleted.forEach(companyUuidIndex::removeAfterCommit);
+        return removeName(id, deleted.size());
+    }
+
+    private int removeName(Long id, int affectedRows) {
+        if (affectedRows > 0) {
+            companyNameIndex.removeAfterCommit(id);
+        }
+        return affectedRows;
+    }
+
+    private Optional<Long> resolveId(UUID uuid) {
+        Optional<Long> id = companyUuidIndex.find(uuid);
+        if (id.isPresent() || companyUuidIndex.isAuthoritative()) {
+            return id;
+        }
+
+        Optional<Long> stored = companyRepository.getObject().findIdByUuid(uuid);
+        stored.ifPresent(found -> companyUuidIndex.put(uuid, found));
+        return stored;
+    }
+}
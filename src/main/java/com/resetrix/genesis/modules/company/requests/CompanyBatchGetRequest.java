@@ -0,0 +1,13 @@
+package com.resetrix.genesis.modules.company.requests;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Companies to look up in one call, either by id or by UUID; the two cannot be mixed.
+ */
+public record CompanyBatchGetRequest(
+    List<Long> ids,
+    List<UUID> uuids
+) {
+}
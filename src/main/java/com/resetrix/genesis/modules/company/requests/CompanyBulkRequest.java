@@ -0,0 +1,15 @@
+package com.resetrix.genesis.modules.company.requests;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record CompanyBulkRequest(
+    @NotBlank(message = "Company name is required")
+    @Size(max = 255, message = "Company name must not exceed 255 characters")
+    String name,
+
+    @NotBlank(message = "Registration number is required")
+    @Size(max = 20, message = "Registration number must not exceed 20 characters")
+    String registrationNumber
+) {
+}
@@ -0,0 +1,58 @@
+package com.resetrix.genesis.modules.company.requests;
+
+import com.resetrix.genesis.modules.company.constants.CompanySortField;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.shared.helpers.CursorHelper;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * Keyset position in the company list: the sort order plus the sort value and id of the last row
+ * returned. The sort order travels with the cursor so that follow-up pages cannot switch it.
+ */
+public record CompanyCursor(
+    CompanySortField sortField,
+    Sort.Direction direction,
+    Object lastValue,
+    Long lastId
+) {
+
+    public static CompanyCursor first(CompanySortField sortField, Sort.Direction direction) {
+        return new CompanyCursor(sortField, direction, null, null);
+    }
+
+    public static CompanyCursor after(CompanySortField sortField, Sort.Direction direction, CompanyView company) {
+        return new CompanyCursor(sortField, direction, sortField.valueOf(company), company.id());
+    }
+
+    public static CompanyCursor decode(String cursor) {
+        List<Object> values = CursorHelper.decode(cursor);
+        if (values.size() != 4
+            || !(values.get(0) instanceof String property)
+            || !(values.get(1) instanceof String direction)
+            || !(values.get(3) instanceof Long lastId)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        CompanySortField sortField = CompanySortField.fromProperty(property);
+        Object lastValue = values.get(2);
+        if (!sortField.getType().isInstance(lastValue)
+            || sortField == CompanySortField.ID && !lastId.equals(lastValue)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return new CompanyCursor(sortField, Sort.Direction.fromString(direction), lastValue, lastId);
+    }
+
+    public boolean isFirst() {
+        return lastId == null;
+    }
+
+    public String encode() {
+        return CursorHelper.encode(sortField.getProperty(), direction.name(), lastValue, lastId);
+    }
+
+    public Sort toSort() {
+        return sortField.toSort(direction);
+    }
+}
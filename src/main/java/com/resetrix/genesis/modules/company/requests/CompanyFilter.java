@@ -0,0 +1,50 @@
+package com.resetrix.genesis.modules.company.requests;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.Instant;
+
+/**
+ * Optional conditions on the company list; absent ones do not restrict it. Time ranges include
+ * their lower bound and exclude their upper bound. {@code state} is one of {@code active},
+ * {@code deleted} or {@code all}.
+ */
+public record CompanyFilter(
+    String name,
+
+    String registrationNumber,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    Instant createdFrom,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    Instant createdTo,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    Instant updatedFrom,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    Instant updatedTo,
+
+    String state
+) {
+    public static CompanyFilter none() {
+        return new CompanyFilter(null, null, null, null, null, null, null);
+    }
+
+    /**
+     * @return {@code true} if no condition other than the deleted state is set
+     */
+    public boolean hasNoConditions() {
+        return isBlank(name)
+            && isBlank(registrationNumber)
+            && createdFrom == null
+            && createdTo == null
+            && updatedFrom == null
+            && updatedTo == null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,17 @@
+package com.resetrix.genesis.modules.company.responses;
+
+import com.resetrix.genesis.modules.company.constants.CompanyArchiveStatus;
+
+public record CompanyArchiveResponse(
+    CompanyArchiveStatus status,
+    int batches,
+    long archived
+) {
+    public static CompanyArchiveResponse started() {
+        return new CompanyArchiveResponse(CompanyArchiveStatus.STARTED, 0, 0);
+    }
+
+    public static CompanyArchiveResponse alreadyRunning() {
+        return new CompanyArchiveResponse(CompanyArchiveStatus.ALREADY_RUNNING, 0, 0);
+    }
+}
@@ -0,0 +1,19 @@
+package com.resetrix.genesis.modules.company.responses;
+
+import com.resetrix.genesis.modules.company.constants.CompanyBatchGetStatus;
+
+import java.util.List;
+
+public record CompanyBatchGetResponse(
+    int total,
+    int found,
+    int notFound,
+    List<CompanyBatchGetResult> results
+) {
+    public static CompanyBatchGetResponse of(List<CompanyBatchGetResult> results) {
+        int found = (int) results.stream()
+            .filter(result -> result.status() == CompanyBatchGetStatus.FOUND)
+            .count();
+        return new CompanyBatchGetResponse(results.size(), found, results.size() - found, results);
+    }
+}
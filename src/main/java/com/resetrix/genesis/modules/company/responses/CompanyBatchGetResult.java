@@ -0,0 +1,27 @@
+package com.resetrix.genesis.modules.company.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.resetrix.genesis.modules.company.constants.CompanyBatchGetStatus;
+
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CompanyBatchGetResult(
+    int index,
+    CompanyBatchGetStatus status,
+    Long id,
+    UUID uuid,
+    CompanyResponse company
+) {
+    public static CompanyBatchGetResult found(int index, CompanyResponse company) {
+        return new CompanyBatchGetResult(index, CompanyBatchGetStatus.FOUND, null, null, company);
+    }
+
+    public static CompanyBatchGetResult notFound(int index, Long id) {
+        return new CompanyBatchGetResult(index, CompanyBatchGetStatus.NOT_FOUND, id, null, null);
+    }
+
+    public static CompanyBatchGetResult notFound(int index, UUID uuid) {
+        return new CompanyBatchGetResult(index, CompanyBatchGetStatus.NOT_FOUND, null, uuid, null);
+    }
+}
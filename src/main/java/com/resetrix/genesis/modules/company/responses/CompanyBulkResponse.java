@@ -0,0 +1,19 @@
+package com.resetrix.genesis.modules.company.responses;
+
+import com.resetrix.genesis.modules.company.constants.CompanyBulkStatus;
+
+import java.util.List;
+
+public record CompanyBulkResponse(
+    int total,
+    int created,
+    int failed,
+    List<CompanyBulkResult> results
+) {
+    public static CompanyBulkResponse of(List<CompanyBulkResult> results) {
+        int created = (int) results.stream()
+            .filter(result -> result.status() == CompanyBulkStatus.CREATED)
+            .count();
+        return new CompanyBulkResponse(results.size(), created, results.size() - created, results);
+    }
+}
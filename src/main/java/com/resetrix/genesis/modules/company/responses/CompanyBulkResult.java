@@ -0,0 +1,25 @@
+package com.resetrix.genesis.modules.company.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.resetrix.genesis.modules.company.constants.CompanyBulkStatus;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CompanyBulkResult(
+    int index,
+    CompanyBulkStatus status,
+    CompanyResponse company,
+    String error
+) {
+    public static CompanyBulkResult created(int index, CompanyResponse company) {
+        return new CompanyBulkResult(index, CompanyBulkStatus.CREATED, company, null);
+    }
+
+    public static CompanyBulkResult duplicate(int index, String registrationNumber) {
+        return new CompanyBulkResult(index, CompanyBulkStatus.DUPLICATE, null,
+            String.format("Registration number %s already exists", registrationNumber));
+    }
+
+    public static CompanyBulkResult invalid(int index, String error) {
+        return new CompanyBulkResult(index, CompanyBulkStatus.INVALID, null, error);
+    }
+}
@@ -11,6 +11,7 @@ public record CompanyResponse(
     String logo,
     Boolean softDelete,
     Timestamp createdAt,
-    Timestamp updatedAt
+    Timestamp updatedAt,
+    Long version
 ) {
 }
\ No newline at end of file
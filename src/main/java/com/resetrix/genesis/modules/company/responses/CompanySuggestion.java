@@ -0,0 +1,10 @@
+package com.resetrix.genesis.modules.company.responses;
+
+import java.util.UUID;
+
+public record CompanySuggestion(
+    Long id,
+    UUID uuid,
+    String name
+) {
+}
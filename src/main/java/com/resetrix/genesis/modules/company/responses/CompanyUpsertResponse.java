@@ -0,0 +1,30 @@
+package com.resetrix.genesis.modules.company.responses;
+
+import com.resetrix.genesis.modules.company.constants.CompanyUpsertStatus;
+
+import java.util.List;
+
+public record CompanyUpsertResponse(
+    int total,
+    int created,
+    int updated,
+    int restored,
+    int unchanged,
+    int failed,
+    List<CompanyUpsertResult> results
+) {
+    public static CompanyUpsertResponse of(List<CompanyUpsertResult> results) {
+        int created = count(results, CompanyUpsertStatus.CREATED);
+        int updated = count(results, CompanyUpsertStatus.UPDATED);
+        int restored = count(results, CompanyUpsertStatus.RESTORED);
+        int unchanged = count(results, CompanyUpsertStatus.UNCHANGED);
+        return new CompanyUpsertResponse(results.size(), created, updated, restored, unchanged,
+                                         results.size() - created - updated - restored - unchanged, results);
+    }
+
+    private static int count(List<CompanyUpsertResult> results, CompanyUpsertStatus status) {
+        return (int) results.stream()
+            .filter(result -> result.status() == status)
+            .count();
+    }
+}
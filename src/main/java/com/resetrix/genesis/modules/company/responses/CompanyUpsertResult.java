@@ -0,0 +1,29 @@
+package com.resetrix.genesis.modules.company.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.resetrix.genesis.modules.company.constants.CompanyUpsertStatus;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CompanyUpsertResult(
+    Integer index,
+    CompanyUpsertStatus status,
+    CompanyResponse company,
+    String error
+) {
+    public static CompanyUpsertResult of(CompanyUpsertStatus status, CompanyResponse company) {
+        return new CompanyUpsertResult(null, status, company, null);
+    }
+
+    public static CompanyUpsertResult of(int index, CompanyUpsertStatus status, CompanyResponse company) {
+        return new CompanyUpsertResult(index, status, company, null);
+    }
+
+    public static CompanyUpsertResult duplicate(int index, String registrationNumber) {
+        return new CompanyUpsertResult(index, CompanyUpsertStatus.DUPLICATE, null,
+            String.format("Registration number %s appears more than once in the request", registrationNumber));
+    }
+
+    public static CompanyUpsertResult invalid(int index, String error) {
+        return new CompanyUpsertResult(index, CompanyUpsertStatus.INVALID, null, error);
+    }
+}
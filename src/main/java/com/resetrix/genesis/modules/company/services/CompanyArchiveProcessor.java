@@ -0,0 +1,167 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.constants.CompanyArchiveStatus;
+import com.resetrix.genesis.modules.company.projections.CompanyArchiveEntry;
+import com.resetrix.genesis.modules.company.responses.CompanyArchiveResponse;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Archives companies that have been soft-deleted for longer than the configured retention, on a schedule
+ * or when triggered. Work is done in small batches with a pause in between, and a run ends after a fixed
+ * number of batches, so the job never competes with requests for long.
+ * <p>
+ * Triggered runs are handed to their own executor and report their progress through the metrics below.
+ * <p>
+ * Only one run at a time per instance; runs on several instances share the rows through SKIP LOCKED.
+ */
+@Component
+public class CompanyArchiveProcessor {
+
+    public static final String ARCHIVED_METRIC = "company.archive.rows";
+    public static final String BATCH_METRIC = "company.archive.batches";
+    public static final String RUN_METRIC = "company.archive.runs";
+    public static final String RUNNING_METRIC = "company.archive.running";
+    public static final String EXECUTOR = "companyArchiveExecutor";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompanyArchiveProcessor.class);
+
+    private final CompanyArchiver companyArchiver;
+    private final CompanyProperty companyProperty;
+    private final MeterRegistry meterRegistry;
+    private final Executor executor;
+    private final Counter archivedRows;
+    private final Timer batchTimer;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public CompanyArchiveProcessor(CompanyArchiver companyArchiver,
+                                   CompanyProperty companyProperty,
+                                   MeterRegistry meterRegistry,
+                                   @Qualifier(EXECUTOR) Executor executor) {
+        this.companyArchiver = companyArchiver;
+        this.companyProperty = companyProperty;
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+        this.archivedRows = Counter.builder(ARCHIVED_METRIC)
+            .description("Soft-deleted companies moved to the archive")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder(BATCH_METRIC)
+            .description("Time each archive batch held its transaction")
+            .register(meterRegistry);
+        Gauge.builder(RUNNING_METRIC, running, flag -> flag.get() ? 1 : 0)
+            .description("Whether an archive run is in progress on this instance")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "#{@companyProperty.archive.cron}")
+    public void archiveOnSchedule() {
+        if (companyProperty.getArchive().isEnabled()) {
+            archive();
+        }
+    }
+
+    /**
+     * Runs the archive now on the calling thread, unless a run is already in progress on this instance.
+     */
+    public CompanyArchiveResponse archive() {
+        if (!running.compareAndSet(false, true)) {
+            return CompanyArchiveResponse.alreadyRunning();
+        }
+        try {
+            return run();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Starts a run on the archive executor and returns without waiting for it, unless a run is already in
+     * progress on this instance. The run counts as in progress from the moment it is accepted.
+     */
+    public CompanyArchiveResponse start() {
+        if (!running.compareAndSet(false, true)) {
+            return CompanyArchiveResponse.alreadyRunning();
+        }
+        try {
+            executor.execute(this::runInBackground);
+        } catch (RejectedExecutionException e) {
+            // Only while the previous run's thread is still winding down
+            running.set(false);
+            return CompanyArchiveResponse.alreadyRunning();
+        }
+        return CompanyArchiveResponse.started();
+    }
+
+    private void runInBackground() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            LOGGER.error("Company archive run failed", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private CompanyArchiveResponse run() {
+        CompanyArchiveResponse response = archiveDue();
+        meterRegistry.counter(RUN_METRIC, "status", response.status().name()).increment();
+        LOGGER.info("Archived {} soft-deleted companies in {} batches, {}",
+                    response.archived(), response.batches(), response.status());
+        return response;
+    }
+
+    private CompanyArchiveResponse archiveDue() {
+        CompanyProperty.ArchiveProperties archive = companyProperty.getArchive();
+        // Fixed for the whole run, so companies deleted while it runs wait for the next one
+        Instant cutoff = Instant.now().minus(archive.getRetention());
+        int batches = 0;
+        long archived = 0;
+
+        while (batches < archive.getMaxBatchesPerRun()) {
+            List<CompanyArchiveEntry> entries;
+            try {
+                entries = batchTimer.record(
+                    () -> companyArchiver.archiveBatch(cutoff, archive.getBatchSize(), archive.getLockTimeout()));
+            } catch (PessimisticLockingFailureException e) {
+                LOGGER.warn("Company archive batch gave up waiting for a lock, stopping this run: {}", e.getMessage());
+                return new CompanyArchiveResponse(CompanyArchiveStatus.STOPPED, batches, archived);
+            }
+            batches++;
+            archived += entries.size();
+            archivedRows.increment(entries.size());
+
+            if (entries.size() < archive.getBatchSize()) {
+                return new CompanyArchiveResponse(CompanyArchiveStatus.DRAINED, batches, archived);
+            }
+            if (batches < archive.getMaxBatchesPerRun() && !pause(archive)) {
+                return new CompanyArchiveResponse(CompanyArchiveStatus.STOPPED, batches, archived);
+            }
+        }
+        return new CompanyArchiveResponse(CompanyArchiveStatus.LIMITED, batches, archived);
+    }
+
+    private static boolean pause(CompanyProperty.ArchiveProperties archive) {
+        try {
+            Thread.sleep(archive.getPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.exceptions.CompanyException;
+import com.resetrix.genesis.modules.company.responses.CompanyArchiveResponse;
+import com.resetrix.genesis.shared.helpers.ServiceOperationExecutor;
+import org.springframework.stereotype.Service;
+
+@Service
+public non-sealed class CompanyArchiveService implements ICompanyArchiveService {
+
+    private final CompanyArchiveProcessor companyArchiveProcessor;
+
+    public CompanyArchiveService(CompanyArchiveProcessor companyArchiveProcessor) {
+        this.companyArchiveProcessor = companyArchiveProcessor;
+    }
+
+    // Not transactional: the run happens on the archive executor, where every batch commits on its own
+    @Override
+    public CompanyArchiveResponse archiveDeleted() {
+        return ServiceOperationExecutor.execute(
+                companyArchiveProcessor::start,
+                "archiving deleted companies", CompanyException.class);
+    }
+}
@@ -0,0 +1,92 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.constants.CompanyCacheNames;
+import com.resetrix.genesis.modules.company.projections.CompanyArchiveEntry;
+import jakarta.transaction.Transactional;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves soft-deleted companies to {@code companies_archive}, one small batch per transaction, so that
+ * row locks on the live table last only as long as a single batch.
+ */
+@Component
+public class CompanyArchiver {
+
+    // SKIP LOCKED passes over rows another transaction holds, another instance's archiver included, so
+    // nothing waits on them. The delete fires the count and logo-reference triggers like any other delete.
+    private static final String ARCHIVE_BATCH = """
+        WITH batch AS (
+            SELECT id
+            FROM companies
+            WHERE soft_delete = true
+              AND deleted_at < ?
+            ORDER BY deleted_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        ),
+        moved AS (
+            DELETE FROM companies c
+            USING batch b
+            WHERE c.id = b.id
+            RETURNING c.id, c.uuid, c.name, c.registration_number, c.logo_checksum,
+                      c.created_at, c.updated_at, c.deleted_at, c.version
+        )
+        INSERT INTO companies_archive (id, uuid, name, registration_number, logo_checksum,
+                                       created_at, updated_at, deleted_at, version)
+        SELECT id, uuid, name, registration_number, logo_checksum, created_at, updated_at, deleted_at, version
+        FROM moved
+        RETURNING id, uuid
+        """;
+
+    // Bounds the waits SKIP LOCKED cannot avoid, such as the count row the delete trigger updates
+    private static final String SET_LOCK_TIMEOUT = "SELECT set_config('lock_timeout', ?, true)";
+
+    private static final RowMapper<CompanyArchiveEntry> ROW_MAPPER = (resultSet, rowNum) ->
+        new CompanyArchiveEntry(resultSet.getLong("id"), resultSet.getObject("uuid", UUID.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompanyUuidIndex companyUuidIndex;
+    private final CacheManager cacheManager;
+
+    public CompanyArchiver(JdbcTemplate jdbcTemplate,
+                           CompanyUuidIndex companyUuidIndex,
+                           CacheManager cacheManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.companyUuidIndex = companyUuidIndex;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Archives up to {@code batchSize} companies soft-deleted before {@code cutoff}, oldest deletion first.
+     *
+     * @return the companies archived; fewer than {@code batchSize} once none are left
+     * @throws org.springframework.dao.PessimisticLockingFailureException if a lock is not granted
+     *         within {@code lockTimeout}
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public List<CompanyArchiveEntry> archiveBatch(Instant cutoff, int batchSize, Duration lockTimeout) {
+        jdbcTemplate.queryForObject(SET_LOCK_TIMEOUT, String.class, lockTimeout.toMillis() + "ms");
+        List<CompanyArchiveEntry> archived =
+            jdbcTemplate.query(ARCHIVE_BATCH, ROW_MAPPER, Timestamp.from(cutoff), batchSize);
+
+        // The statement bypasses the entity listeners and the repository's cache evictions, so both are done here
+        Cache cache = cacheManager.getCache(CompanyCacheNames.BY_ID);
+        for (CompanyArchiveEntry company : archived) {
+            companyUuidIndex.removeAfterCommit(company.uuid());
+            if (cache != null) {
+                cache.evict(company.id());
+            }
+        }
+        return archived;
+    }
+}
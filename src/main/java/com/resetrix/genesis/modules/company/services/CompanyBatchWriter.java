@@ -0,0 +1,37 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.entities.Company;
+import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Inserts companies in their own transactions so that a failing chunk never rolls back
+ * rows that were already committed by earlier chunks.
+ */
+@Component
+public class CompanyBatchWriter {
+
+    private final CompanyRepository companyRepository;
+
+    public CompanyBatchWriter(CompanyRepository companyRepository) {
+        this.companyRepository = companyRepository;
+    }
+
+    /**
+     * Persists all companies and flushes once, so Hibernate sends the inserts as JDBC batches.
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public List<Company> insertAll(List<Company> companies) {
+        List<Company> saved = companyRepository.saveAll(companies);
+        companyRepository.flush();
+        return saved;
+    }
+
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public Company insert(Company company) {
+        return companyRepository.saveAndFlush(company);
+    }
+}
@@ -0,0 +1,230 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.entities.Company;
+import com.resetrix.genesis.modules.company.exceptions.CompanyException;
+import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.projections.CompanyUpsert;
+import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
+import com.resetrix.genesis.modules.company.requests.CompanyBulkRequest;
+import com.resetrix.genesis.modules.company.requests.CompanyUpsertRequest;
+import com.resetrix.genesis.modules.company.responses.CompanyBulkResponse;
+import com.resetrix.genesis.modules.company.responses.CompanyBulkResult;
+import com.resetrix.genesis.modules.company.responses.CompanyUpsertResponse;
+import com.resetrix.genesis.modules.company.responses.CompanyUpsertResult;
+import com.resetrix.genesis.shared.helpers.ServiceOperationExecutor;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Writes many companies per call. Not transactional: every chunk commits on its own, so a large
+ * request never holds its locks, or a connection, for longer than one chunk takes.
+ */
+@Service
+public non-sealed class CompanyBulkService implements ICompanyBulkService {
+
+    private final CompanyRepository companyRepository;
+    private final CompanyMapper companyMapper;
+    private final CompanyBatchWriter companyBatchWriter;
+    private final Validator validator;
+    private final CompanyProperty companyProperty;
+
+    public CompanyBulkService(CompanyRepository companyRepository,
+                              CompanyMapper companyMapper,
+                              CompanyBatchWriter companyBatchWriter,
+                              Validator validator,
+                              CompanyProperty companyProperty) {
+        this.companyRepository = companyRepository;
+        this.companyMapper = companyMapper;
+        this.companyBatchWriter = companyBatchWriter;
+        this.validator = validator;
+        this.companyProperty = companyProperty;
+    }
+
+    @Override
+    public CompanyBulkResponse saveAll(List<CompanyBulkRequest> requests) {
+        return ServiceOperationExecutor.execute(() -> {
+            validateBulkSize(requests);
+            CompanyBulkResult[] results = new CompanyBulkResult[requests.size()];
+            Set<String> registrationNumbers = new HashSet<>();
+            int chunkSize = companyProperty.getBulk().getChunkSize();
+
+            for (int from = 0; from < requests.size(); from += chunkSize) {
+                int to = Math.min(from + chunkSize, requests.size());
+                saveChunk(requests, from, to, registrationNumbers, results);
+            }
+            return CompanyBulkResponse.of(Arrays.asList(results));
+        }, "saving companies in bulk", CompanyException.class);
+    }
+
+    @Override
+    public CompanyUpsertResult upsert(String registrationNumber, CompanyUpsertRequest request) {
+        return ServiceOperationExecutor.execute(() -> {
+            if (request == null) {
+                throw new IllegalArgumentException("Company must not be null");
+            }
+            if (request.registrationNumber() != null && !request.registrationNumber().equals(registrationNumber)) {
+                throw new IllegalArgumentException("Registration number in the body does not match the path");
+            }
+
+            CompanyUpsertRequest company = new CompanyUpsertRequest(request.name(), registrationNumber);
+            String violations = joinViolations(company);
+            if (!violations.isEmpty()) {
+                throw new IllegalArgumentException(violations);
+            }
+
+            CompanyUpsert upsert = companyRepository.upsertAll(List.of(company)).getFirst();
+            return CompanyUpsertResult.of(upsert.status(), companyMapper.toResponse(upsert.company()));
+        }, "upserting the company", CompanyException.class);
+    }
+
+    @Override
+    public CompanyUpsertResponse upsertAll(List<CompanyUpsertRequest> requests) {
+        return ServiceOperationExecutor.execute(() -> {
+            validateBulkSize(requests);
+            CompanyUpsertResult[] results = new CompanyUpsertResult[requests.size()];
+            Set<String> registrationNumbers = new HashSet<>();
+            int chunkSize = companyProperty.getBulk().getChunkSize();
+
+            for (int from = 0; from < requests.size(); from += chunkSize) {
+                int to = Math.min(from + chunkSize, requests.size());
+                upsertChunk(requests, from, to, registrationNumbers, results);
+            }
+            return CompanyUpsertResponse.of(Arrays.asList(results));
+        }, "upserting companies in bulk", CompanyException.class);
+    }
+
+    private void validateBulkSize(List<?> requests) {
+        int maxItems = companyProperty.getBulk().getMaxItems();
+        if (requests == null || requests.isEmpty() || requests.size() > maxItems) {
+            throw new IllegalArgumentException(
+                    String.format("Bulk request must contain between 1 and %d companies", maxItems));
+        }
+    }
+
+    /**
+     * Rejects invalid rows and duplicates known up front, then inserts the rest as one batch.
+     * Should a concurrent insert still trip the unique constraint, the chunk is retried row by row
+     * so that only the offending rows are reported as duplicates.
+     */
+    private void saveChunk(List<CompanyBulkRequest> requests, int from, int to,
+                           Set<String> registrationNumbers, CompanyBulkResult[] results) {
+        List<Integer> candidates = new ArrayList<>();
+        for (int index = from; index < to; index++) {
+            CompanyBulkRequest request = requests.get(index);
+            String violation = findViolation(request);
+            if (violation != null) {
+                results[index] = CompanyBulkResult.invalid(index, violation);
+            } else if (!registrationNumbers.add(request.registrationNumber())) {
+                results[index] = CompanyBulkResult.duplicate(index, request.registrationNumber());
+            } else {
+                candidates.add(index);
+            }
+        }
+
+        List<String> candidateNumbers = candidates.stream()
+                .map(index -> requests.get(index).registrationNumber())
+                .toList();
+        Set<String> existing = candidateNumbers.isEmpty()
+                               ? Set.of()
+                               : new HashSet<>(companyRepository.findExistingRegistrationNumbers(candidateNumbers));
+        List<Integer> inserts = new ArrayList<>();
+        for (Integer index : candidates) {
+            String registrationNumber = requests.get(index).registrationNumber();
+            if (existing.contains(registrationNumber)) {
+                results[index] = CompanyBulkResult.duplicate(index, registrationNumber);
+            } else {
+                inserts.add(index);
+            }
+        }
+
+        insertChunk(requests, inserts, results);
+    }
+
+    private void insertChunk(List<CompanyBulkRequest> requests, List<Integer> inserts,
+                             CompanyBulkResult[] results) {
+        if (inserts.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Company> saved = companyBatchWriter.insertAll(
+                    inserts.stream().map(i -> companyMapper.toEntity(requests.get(i))).toList());
+            for (int i = 0; i < inserts.size(); i++) {
+                results[inserts.get(i)] = CompanyBulkResult.created(
+                        inserts.get(i), companyMapper.toResponse(saved.get(i)));
+            }
+        } catch (DataIntegrityViolationException ex) {
+            // The writer is a plain @Component outside the log aspect, so duplicates arrive here unwrapped.
+            // Fresh entities: the ones from the rolled back batch already carry assigned ids
+            for (Integer index : inserts) {
+                results[index] = insertOne(index, requests.get(index));
+            }
+        }
+    }
+
+    /**
+     * Rejects invalid rows and registration numbers already seen in the request, since one statement
+     * cannot upsert the same row twice, then upserts the rest of the chunk in a single statement.
+     */
+    private void upsertChunk(List<CompanyUpsertRequest> requests, int from, int to,
+                             Set<String> registrationNumbers, CompanyUpsertResult[] results) {
+        List<Integer> candidates = new ArrayList<>();
+        for (int index = from; index < to; index++) {
+            CompanyUpsertRequest request = requests.get(index);
+            String violation = findViolation(request);
+            if (violation != null) {
+                results[index] = CompanyUpsertResult.invalid(index, violation);
+            } else if (!registrationNumbers.add(request.registrationNumber())) {
+                results[index] = CompanyUpsertResult.duplicate(index, request.registrationNumber());
+            } else {
+                candidates.add(index);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<CompanyUpsert> upserts = companyRepository.upsertAll(candidates.stream().map(requests::get).toList());
+        for (int i = 0; i < candidates.size(); i++) {
+            CompanyUpsert upsert = upserts.get(i);
+            results[candidates.get(i)] = CompanyUpsertResult.of(
+                    candidates.get(i), upsert.status(), companyMapper.toResponse(upsert.company()));
+        }
+    }
+
+    private CompanyBulkResult insertOne(int index, CompanyBulkRequest request) {
+        try {
+            Company saved = companyBatchWriter.insert(companyMapper.toEntity(request));
+            return CompanyBulkResult.created(index, companyMapper.toResponse(saved));
+        } catch (DataIntegrityViolationException ex) {
+            return CompanyBulkResult.duplicate(index, request.registrationNumber());
+        }
+    }
+
+    private String findViolation(Object request) {
+        if (request == null) {
+            return "Company must not be null";
+        }
+
+        String violations = joinViolations(request);
+        return violations.isEmpty() ? null : violations;
+    }
+
+    private String joinViolations(Object request) {
+        return validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,223 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.constants.CompanyLogoSize;
+import com.resetrix.genesis.modules.company.exceptions.InvalidFileException;
+import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoContentRepository;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoRepository;
+import com.resetrix.genesis.shared.helpers.DigestHelper;
+import com.resetrix.genesis.shared.helpers.ImageHelper;
+import com.resetrix.genesis.shared.helpers.TransactionHelper;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Turns uploaded logos into the stored original and its thumbnails off the request thread.
+ * <p>
+ * The request only checks the image header and moves the upload aside; decoding, scaling and
+ * writing the blobs happen on a bounded executor once the company row has committed, so the
+ * write transaction never holds a connection while megabytes are copied. Only when that executor
+ * is saturated does the request thread do the work itself.
+ */
+@Component
+public class CompanyLogoProcessor {
+
+    public static final String EXECUTOR = "companyLogoExecutor";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompanyLogoProcessor.class);
+
+    private final CompanyLogoRepository companyLogoRepository;
+    private final CompanyMapper companyMapper;
+    private final CompanyProperty companyProperty;
+    private final Executor executor;
+
+    public CompanyLogoProcessor(CompanyLogoRepository companyLogoRepository,
+                                CompanyMapper companyMapper,
+                                CompanyProperty companyProperty,
+                                @Qualifier(EXECUTOR) Executor executor) {
+        this.companyLogoRepository = companyLogoRepository;
+        this.companyMapper = companyMapper;
+        this.companyProperty = companyProperty;
+        this.executor = executor;
+    }
+
+    /**
+     * An upload moved out of the request, waiting to be processed.
+     */
+    public record StagedLogo(Path file, String formatName, Instant uploadedAt) {
+    }
+
+    /**
+     * Checks that the upload is an image of acceptable dimensions and moves it out of the request,
+     * so that it outlives the multipart cleanup. The file is removed again if the surrounding
+     * transaction rolls back.
+     *
+     * @return the staged upload, {@code null} if no logo was uploaded
+     * @throws InvalidFileException if the upload is not a supported image or is too large
+     */
+    public StagedLogo stage(MultipartFile logo) {
+        if (logo == null || logo.isEmpty()) {
+            return null;
+        }
+
+        ImageHelper.ImageInfo info = probe(logo);
+        long maxPixels = companyProperty.getLogo().getMaxPixels();
+        if (info.pixels() > maxPixels) {
+            throw new InvalidFileException(
+                    String.format("Company logo must not exceed %d pixels", maxPixels), null);
+        }
+
+        Path file = moveAside(logo);
+        TransactionHelper.afterRollback(() -> delete(file));
+        return new StagedLogo(file, info.formatName(), Instant.now());
+    }
+
+    /**
+     * Queues the staged logo once the current transaction commits. When the queue is full the logo is
+     * processed on the calling thread instead, so an accepted upload is never silently dropped; the
+     * request then takes as long as the processing.
+     */
+    public void processAfterCommit(long companyId, StagedLogo logo) {
+        TransactionHelper.afterCommit(() -> submit(companyId, logo));
+    }
+
+    private void submit(long companyId, StagedLogo logo) {
+        try {
+            executor.execute(() -> process(companyId, logo));
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Logo of company {} processed on the request thread, the processing queue is full",
+                        companyId);
+            process(companyId, logo);
+        }
+    }
+
+    private void process(long companyId, StagedLogo logo) {
+        CompanyLogoContentRepository.LogoFile original = null;
+        try {
+            BufferedImage image = ImageHelper.read(logo.file(), companyProperty.getLogo().getMaxPixels());
+            original = encode(image, logo.formatName());
+
+            // Largest first, each thumbnail scaled from the previous one rather than from the original
+            Map<CompanyLogoSize, CompanyLogoContentRepository.LogoVariant> thumbnails =
+                    new EnumMap<>(CompanyLogoSize.class);
+            BufferedImage scaled = image;
+            for (CompanyLogoSize size : largestFirst(CompanyLogoSize.thumbnails())) {
+                scaled = ImageHelper.fit(scaled, size.getPixels());
+                thumbnails.put(size, toLogoVariant(scaled));
+            }
+
+            if (!companyLogoRepository.writeImages(companyId, original, thumbnails, logo.uploadedAt())) {
+                LOGGER.debug("Logo of company {} skipped, a newer upload is already stored or the company is gone",
+                             companyId);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.warn("Logo of company {} could not be processed: {}", companyId, e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            LOGGER.debug("Logo of company {} skipped, the company no longer exists", companyId);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to process logo of company {}", companyId, e);
+        } finally {
+            delete(logo.file());
+            if (original != null) {
+                delete(original.file());
+            }
+        }
+    }
+
+    /**
+     * Encodes the original to a file and hashes it on the way, so that the metadata-free copy is
+     * never held in memory as a whole. Hashing after metadata stripping lets re-uploads of the same
+     * image resolve to the stored blob.
+     */
+    private static CompanyLogoContentRepository.LogoFile encode(BufferedImage image, String formatName)
+            throws IOException {
+        Path file = Files.createTempFile("company-logo-", ".encoded");
+        try {
+            MessageDigest digest = DigestHelper.newSha256();
+            String contentType;
+            try (OutputStream output = new DigestOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(file)), digest)) {
+                contentType = ImageHelper.write(image, formatName, output);
+            }
+            return new CompanyLogoContentRepository.LogoFile(
+                    file, contentType, Files.size(file), DigestHelper.toHex(digest));
+        } catch (IOException | RuntimeException e) {
+            delete(file);
+            throw e;
+        }
+    }
+
+    private ImageHelper.ImageInfo probe(MultipartFile logo) {
+        ImageHelper.ImageInfo info;
+        try (InputStream content = logo.getInputStream()) {
+            info = ImageHelper.probe(content);
+        } catch (IOException e) {
+            throw new InvalidFileException("Failed to process company logo", e);
+        }
+
+        if (info == null) {
+            throw new InvalidFileException("Company logo must be an image", null);
+        }
+        return info;
+    }
+
+    private Path moveAside(MultipartFile logo) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("company-logo-", ".upload");
+            // The File variant lets the container move its spooled part instead of copying it
+            logo.transferTo(file.toFile());
+            return file;
+        } catch (IOException e) {
+            delete(file);
+            throw new InvalidFileException("Failed to process company logo", e);
+        }
+    }
+
+    private CompanyLogoContentRepository.LogoVariant toLogoVariant(BufferedImage image) throws IOException {
+        ImageHelper.EncodedImage encoded = ImageHelper.write(image, ImageHelper.PNG);
+        return companyMapper.toLogoVariant(encoded.content(), encoded.contentType(),
+                                           image.getWidth(), image.getHeight());
+    }
+
+    private static List<CompanyLogoSize> largestFirst(List<CompanyLogoSize> sizes) {
+        return sizes.stream()
+                .sorted(Comparator.comparingInt(CompanyLogoSize::getPixels).reversed())
+                .toList();
+    }
+
+    private static void delete(Path file) {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete staged logo {}", file, e);
+        }
+    }
+}
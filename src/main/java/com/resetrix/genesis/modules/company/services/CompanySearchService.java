@@ -0,0 +1,68 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.constants.CompanySearchMatch;
+import com.resetrix.genesis.modules.company.exceptions.CompanyException;
+import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.repositories.CompanyNameIndex;
+import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.modules.company.responses.CompanySuggestion;
+import com.resetrix.genesis.shared.helpers.PaginationHelper;
+import com.resetrix.genesis.shared.helpers.ServiceOperationExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public non-sealed class CompanySearchService implements ICompanySearchService {
+    private static final int MAX_SUGGESTIONS = 50;
+
+    private final CompanyRepository companyRepository;
+    private final CompanyMapper companyMapper;
+    private final CompanyNameIndex companyNameIndex;
+
+    public CompanySearchService(CompanyRepository companyRepository,
+                                CompanyMapper companyMapper,
+                                CompanyNameIndex companyNameIndex) {
+        this.companyRepository = companyRepository;
+        this.companyMapper = companyMapper;
+        this.companyNameIndex = companyNameIndex;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<CompanyResponse> search(String query, CompanySearchMatch match, int page, int size) {
+        return ServiceOperationExecutor.execute(() -> {
+            PaginationHelper.validate(page, size);
+            String pattern = match.requirePattern(query);
+            return companyRepository.searchByName(pattern, PageRequest.of(page, size))
+                    .map(companyMapper::toResponse);
+        }, "retrieving companies by name", CompanyException.class);
+    }
+
+    // Not transactional: suggestions are normally served from the in-memory index without a connection
+    @Override
+    public List<CompanySuggestion> autocomplete(String prefix, int limit) {
+        return ServiceOperationExecutor.execute(() -> {
+            validateSuggestionLimit(limit);
+            String pattern = CompanySearchMatch.PREFIX.requirePattern(prefix);
+            if (companyNameIndex.isReady()) {
+                return companyNameIndex.suggest(prefix.trim(), limit);
+            }
+
+            return companyRepository.searchByName(pattern, PageRequest.of(0, limit))
+                    .map(companyMapper::toSuggestion)
+                    .getContent();
+        }, "retrieving company suggestions", CompanyException.class);
+    }
+
+    private void validateSuggestionLimit(int limit) {
+        if (limit <= 0 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException(
+                    String.format("Limit must be > 0 and <= %d", MAX_SUGGESTIONS));
+        }
+    }
+}
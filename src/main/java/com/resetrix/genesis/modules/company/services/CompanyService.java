@@ -1,154 +1,451 @@
 package com.resetrix.genesis.modules.company.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.resetrix.genesis.modules.company.constants.CompanyDeletedState;
+import com.resetrix.genesis.modules.company.constants.CompanyExportFormat;
+import com.resetrix.genesis.modules.company.constants.CompanyLogoSize;
+import com.resetrix.genesis.modules.company.constants.CompanySearchMatch;
+import com.resetrix.genesis.modules.company.constants.CompanySortField;
 import com.resetrix.genesis.modules.company.entities.Company;
 import com.resetrix.genesis.modules.company.exceptions.CompanyException;
-import com.resetrix.genesis.modules.company.exceptions.InvalidFileException;
+import com.resetrix.genesis.modules.company.exceptions.CompanyVersionMismatchException;
+import com.resetrix.genesis.modules.company.exceptions.DuplicateRegistrationNumberException;
+import com.resetrix.genesis.modules.company.exporters.CompanyExporter;
 import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoContent;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoMetadata;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoReference;
+import com.resetrix.genesis.modules.company.projections.CompanyVersion;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoRepository;
 import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
+import com.resetrix.genesis.modules.company.requests.CompanyBatchGetRequest;
+import com.resetrix.genesis.modules.company.requests.CompanyCursor;
+import com.resetrix.genesis.modules.company.requests.CompanyFilter;
 import com.resetrix.genesis.modules.company.requests.CompanyRequest;
+import com.resetrix.genesis.modules.company.responses.CompanyBatchGetResponse;
+import com.resetrix.genesis.modules.company.responses.CompanyBatchGetResult;
 import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.modules.company.specifications.CompanySpecifications;
+import com.resetrix.genesis.shared.helpers.PaginationHelper;
 import com.resetrix.genesis.shared.helpers.ServiceOperationExecutor;
-import com.resetrix.genesis.shared.helpers.RepositoryHelper;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import com.resetrix.genesis.shared.repositories.HibernateFilterScope;
+import com.resetrix.genesis.shared.responses.CursorPage;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public non-sealed class CompanyService implements ICompanyService<CompanyRequest, CompanyResponse> {
     private final CompanyRepository companyRepository;
+    private final CompanyLogoRepository companyLogoRepository;
     private final CompanyMapper companyMapper;
+    private final Validator validator;
+    private final CompanyProperty companyProperty;
+    private final List<CompanyExporter> companyExporters;
+    private final HibernateFilterScope hibernateFilterScope;
+    private final CompanyLogoProcessor companyLogoProcessor;
 
     public CompanyService(CompanyRepository companyRepository,
-                          CompanyMapper companyMapper) {
+                          CompanyLogoRepository companyLogoRepository,
+                          CompanyMapper companyMapper,
+                          Validator validator,
+                          CompanyProperty companyProperty,
+                          List<CompanyExporter> companyExporters,
+                          HibernateFilterScope hibernateFilterScope,
+                          CompanyLogoProcessor companyLogoProcessor) {
         this.companyRepository = companyRepository;
+        this.companyLogoRepository = companyLogoRepository;
         this.companyMapper = companyMapper;
+        this.validator = validator;
+        this.companyProperty = companyProperty;
+        this.companyExporters = companyExporters;
+        this.hibernateFilterScope = hibernateFilterScope;
+        this.companyLogoProcessor = companyLogoProcessor;
     }
 
     @Override
-    public Page<CompanyResponse> getAll(int page, int size, String sortBy, String sortDirection) {
+    @Transactional(readOnly = true)
+    public Page<CompanyResponse> getAll(int page, int size, String sortBy, String sortDirection,
+                                        boolean includeLogo, boolean includeDeleted, CompanyFilter filter) {
         return ServiceOperationExecutor.execute(() -> {
-            validatePaginationParameters(page, size);
-            Sort.Direction direction = parseSortDirection(sortDirection);
-            PageRequest pageRequest = PageRequest.of(page, size, direction, sortBy);
+            PageRequest pageRequest = toPageRequest(page, size, sortBy, sortDirection);
+            validateFilter(filter);
+            CompanyDeletedState state = resolveState(filter, includeDeleted);
+            if (isCounted(filter, state)) {
+                Slice<CompanyResponse> companies = findSlice(pageRequest, includeLogo, state);
+                // The count is only read when the page alone cannot tell the total
+                return PageableExecutionUtils.getPage(companies.getContent(), companies.getPageable(),
+                                                      () -> countCompanies(state.includesDeleted()));
+            }
 
-            return companyRepository.findAll(pageRequest)
-                    .map(companyMapper::toResponse);
+            // Read as views, like the unfiltered lists, so no row becomes a managed entity
+            Page<CompanyView> companies = query(state.includesDeleted(), () -> companyRepository.findBy(
+                    CompanySpecifications.matching(filter, state),
+                    query -> query.as(CompanyView.class).page(pageRequest)));
+            Map<Long, byte[]> logos = findLogos(includeLogo, state.includesDeleted(),
+                                                companies.map(CompanyView::id).getContent());
+            return companies.map(company -> companyMapper.toResponse(company, logos.get(company.id())));
         }, "retrieving all companies", CompanyException.class);
     }
 
     @Override
-    public CompanyResponse getById(Long id) {
+    @Transactional(readOnly = true)
+    public Slice<CompanyResponse> getSlice(int page, int size, String sortBy, String sortDirection,
+                                           boolean includeLogo, boolean includeDeleted, CompanyFilter filter) {
+        return ServiceOperationExecutor.execute(() -> {
+            PageRequest pageRequest = toPageRequest(page, size, sortBy, sortDirection);
+            validateFilter(filter);
+            CompanyDeletedState state = resolveState(filter, includeDeleted);
+            if (isCounted(filter, state)) {
+                return findSlice(pageRequest, includeLogo, state);
+            }
+
+            Slice<CompanyView> companies = query(state.includesDeleted(), () -> companyRepository.findBy(
+                    CompanySpecifications.matching(filter, state),
+                    query -> query.as(CompanyView.class).slice(pageRequest)));
+            Map<Long, byte[]> logos = findLogos(includeLogo, state.includesDeleted(),
+                                                companies.map(CompanyView::id).getContent());
+            return companies.map(company -> companyMapper.toResponse(company, logos.get(company.id())));
+        }, "retrieving all companies", CompanyException.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<CompanyResponse> getAllAfter(String cursor, int size, String sortBy, String sortDirection,
+                                                   boolean includeDeleted, CompanyFilter filter) {
+        return ServiceOperationExecutor.execute(() -> {
+            PaginationHelper.validate(0, size);
+            CompanyCursor position = cursor == null || cursor.isBlank()
+                                     ? CompanyCursor.first(CompanySortField.fromProperty(sortBy),
+                                                           parseSortDirection(sortDirection))
+                                     : CompanyCursor.decode(cursor);
+            validateFilter(filter);
+            CompanyDeletedState state = resolveState(filter, includeDeleted);
+
+            // One extra row tells whether another page exists without a COUNT query
+            List<CompanyView> companies = query(state.includesDeleted(), () -> companyRepository.findBy(
+                    CompanySpecifications.seekAfter(position).and(CompanySpecifications.matching(filter, state)),
+                    query -> query.as(CompanyView.class).sortBy(position.toSort()).limit(size + 1).all()));
+
+            boolean hasNext = companies.size() > size;
+            List<CompanyView> content = hasNext ? companies.subList(0, size) : companies;
+            String nextCursor = hasNext
+                                ? CompanyCursor.after(position.sortField(), position.direction(),
+                                                      content.get(size - 1)).encode()
+                                : null;
+
+            return new CursorPage<>(
+                    content.stream().map(companyMapper::toResponse).toList(),
+                    size,
+                    nextCursor,
+                    hasNext);
+        }, "retrieving all companies", CompanyException.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CompanyResponse getById(Long id, boolean includeLogo, boolean includeDeleted) {
         return ServiceOperationExecutor.execute(() -> {
             validateId(id);
-            Company company = companyRepository.findById(id)
+            CompanyView company = query(includeDeleted, () -> companyRepository.findById(id, CompanyView.class))
                     .orElseThrow(() -> new EntityNotFoundException(
                             String.format("Company with id %d does not exist", id)
                     ));
-            return companyMapper.toResponse(company);
+            return toResponse(company, includeLogo);
         }, "retrieving company by ID", CompanyException.class);
     }
 
     @Override
-    public CompanyResponse getByUuid(UUID uuid) {
+    @Transactional(readOnly = true)
+    public CompanyResponse getByUuid(UUID uuid, boolean includeLogo, boolean includeDeleted) {
         return ServiceOperationExecutor.execute(() -> {
             validateUuid(uuid);
-            Company company = companyRepository.findByUuid(uuid)
+            CompanyView company = query(includeDeleted, () -> companyRepository.findByUuid(uuid, CompanyView.class))
+                    .orElseThrow(() -> new EntityNotFoundException(
+                            String.format("Company with uuid %s does not exist", uuid)
+                    ));
+            return toResponse(company, includeLogo);
+        }, "retrieving company by UUID", CompanyException.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CompanyBatchGetResponse getBatch(CompanyBatchGetRequest request, boolean includeLogo,
+                                            boolean includeDeleted) {
+        return ServiceOperationExecutor.execute(() -> {
+            validateBatchGet(request);
+            List<CompanyBatchGetResult> results = isPresent(request.uuids())
+                    ? findBatch(request.uuids(), CompanyView::uuid, companyRepository::findViewsByUuidIn,
+                                CompanyBatchGetResult::notFound, includeLogo, includeDeleted)
+                    : findBatch(request.ids(), CompanyView::id, companyRepository::findViewsByIdIn,
+                                CompanyBatchGetResult::notFound, includeLogo, includeDeleted);
+            return CompanyBatchGetResponse.of(results);
+        }, "retrieving companies in batch", CompanyException.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CompanyVersion getVersion(Long id, boolean includeDeleted) {
+        return ServiceOperationExecutor.execute(() -> {
+            validateId(id);
+            return query(includeDeleted, () -> companyRepository.findVersionById(id))
+                    .orElseThrow(() -> new EntityNotFoundException(
+                            String.format("Company with id %d does not exist", id)
+                    ));
+        }, "retrieving company by ID", CompanyException.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CompanyVersion getVersionByUuid(UUID uuid, boolean includeDeleted) {
+        return ServiceOperationExecutor.execute(() -> {
+            validateUuid(uuid);
+            return query(includeDeleted, () -> companyRepository.findVersionByUuid(uuid))
                     .orElseThrow(() -> new EntityNotFoundException(
                             String.format("Company with uuid %s does not exist", uuid)
                     ));
-            return companyMapper.toResponse(company);
         }, "retrieving company by UUID", CompanyException.class);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CompanyLogoMetadata getLogoMetadata(UUID uuid) {
+        return getLogoMetadata(uuid, CompanyLogoSize.ORIGINAL);
+    }
+
+    // Logos stored before thumbnails existed, or still being processed, are served in their original size
+    @Override
+    @Transactional(readOnly = true)
+    public CompanyLogoMetadata getLogoMetadata(UUID uuid, CompanyLogoSize size) {
+        return ServiceOperationExecutor.execute(() -> {
+            validateUuid(uuid);
+            return findVariantMetadata(uuid, size)
+                    .or(() -> companyLogoRepository.findMetadataByCompanyUuid(uuid))
+                    .orElseThrow(() -> new EntityNotFoundException(
+                            String.format("Company with uuid %s has no logo", uuid)
+                    ));
+        }, "retrieving company logo", CompanyException.class);
+    }
+
+    // Not transactional: the copy is paced by the client and must not hold a transaction open meanwhile
+    @Override
+    public void writeLogo(CompanyLogoMetadata logo, long offset, long length, OutputStream outputStream) {
+        ServiceOperationExecutor.executeVoid(() -> {
+            if (!companyLogoRepository.copyContent(logo.checksum(), logo.size(), offset, length, outputStream)) {
+                throw new EntityNotFoundException(
+                        String.format("Company with id %d has no logo", logo.companyId()));
+            }
+        }, "retrieving company logo", CompanyException.class);
+    }
+
     @Override
     @Transactional
     public CompanyResponse save(CompanyRequest request) {
         return ServiceOperationExecutor.execute(() -> {
-            byte[] logo = extractLogo(request);
-            Company company = companyMapper.toEntity(request, logo);
+            requireUnusedRegistrationNumber(request.registrationNumber());
+            CompanyLogoProcessor.StagedLogo logo = companyLogoProcessor.stage(request.logo());
+            Company company = companyMapper.toEntity(request);
             Company savedCompany = companyRepository.save(company);
+            if (logo != null) {
+                companyLogoProcessor.processAfterCommit(savedCompany.getId(), logo);
+            }
             return companyMapper.toResponse(savedCompany);
         }, "saving the company", CompanyException.class);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(CompanyExportFormat format, OutputStream outputStream) {
+        ServiceOperationExecutor.executeVoid(() -> {
+            CompanyExporter exporter = findExporter(format);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            try (Stream<CompanyView> companies = companyRepository.streamAllViews()) {
+                exporter.writeHeader(writer);
+                Iterator<CompanyView> iterator = companies.iterator();
+                while (iterator.hasNext()) {
+                    exporter.writeRow(writer, companyMapper.toResponse(iterator.next()));
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to export companies", e);
+            }
+        }, "exporting companies", CompanyException.class);
+    }
+
     @Override
     @Transactional
-    public CompanyResponse update(Long id, CompanyRequest request) {
-        return ServiceOperationExecutor.execute(() -> {
-            Company company = RepositoryHelper.findByIdOrThrow(companyRepository, id, Company.class);
-            byte[] logo = extractLogo(request);
-            Company savedCompany = companyMapper.updateEntity(company, request, logo);
-            savedCompany = companyRepository.save(savedCompany);
-            return companyMapper.toResponse(savedCompany);
-        }, "updating the company", CompanyException.class);
+    public CompanyResponse update(Long id, CompanyRequest request, Long expectedVersion) {
+        Company company = findForWrite(() -> companyRepository.findById(id, Company.class),
+                                       "id " + id, "updating the company");
+        requireVersion(company, expectedVersion, "id " + id);
+        return ServiceOperationExecutor.execute(
+                () -> applyUpdate(company, request),
+                "updating the company", CompanyException.class);
     }
 
     @Override
     @Transactional
-    public CompanyResponse updateByUuid(UUID uuid, CompanyRequest request) {
-        return ServiceOperationExecutor.execute(() -> {
-            Company company = RepositoryHelper.findByUuidOrThrow(companyRepository, uuid, Company.class);
-            byte[] logo = extractLogo(request);
-            Company savedCompany = companyMapper.updateEntity(company, request, logo);
-            savedCompany = companyRepository.save(savedCompany);
-            return companyMapper.toResponse(savedCompany);
-        }, "updating the company", CompanyException.class);
+    public CompanyResponse updateByUuid(UUID uuid, CompanyRequest request, Long expectedVersion) {
+        Company company = findForWrite(() -> companyRepository.findByUuid(uuid, Company.class),
+                                       "uuid " + uuid, "updating the company");
+        requireVersion(company, expectedVersion, "uuid " + uuid);
+        return ServiceOperationExecutor.execute(
+                () -> applyUpdate(company, request),
+                "updating the company", CompanyException.class);
+    }
+
+    @Override
+    @Transactional
+    public CompanyResponse patch(Long id, JsonNode patch, Long expectedVersion) {
+        Company company = findForWrite(() -> companyRepository.findById(id, Company.class),
+                                       "id " + id, "patching the company");
+        requireVersion(company, expectedVersion, "id " + id);
+        return ServiceOperationExecutor.execute(
+                () -> applyPatch(company, patch),
+                "patching the company", CompanyException.class);
+    }
+
+    @Override
+    @Transactional
+    public CompanyResponse patchByUuid(UUID uuid, JsonNode patch, Long expectedVersion) {
+        Company company = findForWrite(() -> companyRepository.findByUuid(uuid, Company.class),
+                                       "uuid " + uuid, "patching the company");
+        requireVersion(company, expectedVersion, "uuid " + uuid);
+        return ServiceOperationExecutor.execute(
+                () -> applyPatch(company, patch),
+                "patching the company", CompanyException.class);
     }
 
     @Override
     @Transactional
     public void softDelete(Long id) {
-        ServiceOperationExecutor.executeVoid(() -> {
-            Company company = RepositoryHelper.findByIdOrThrow(companyRepository, id, Company.class);
-            company.setSoftDelete(true);
-            companyRepository.save(company);
-        }, "soft-deleting the company", CompanyException.class);
+        int updated = ServiceOperationExecutor.execute(
+                () -> orAlreadySoftDeleted(companyRepository.softDeleteById(id),
+                                           () -> companyRepository.isSoftDeletedById(id)),
+                "soft-deleting the company", CompanyException.class);
+        requireAffected(updated, "id " + id);
+    }
+
+    @Override
+    @Transactional
+    public void softDelete(Long id, Long expectedVersion) {
+        int updated = ServiceOperationExecutor.execute(
+                () -> orAlreadySoftDeleted(companyRepository.softDeleteById(id, expectedVersion),
+                                           () -> companyRepository.isSoftDeletedById(id)),
+                "soft-deleting the company", CompanyException.class);
+        requireAffected(updated, expectedVersion, "id " + id);
     }
 
     @Override
     @Transactional
     public void softDeleteByUuid(UUID uuid) {
-        ServiceOperationExecutor.executeVoid(() -> {
-            Company company = RepositoryHelper.findByUuidOrThrow(companyRepository, uuid, Company.class);
-            company.setSoftDelete(true);
-            companyRepository.save(company);
-        }, "soft-deleting the company", CompanyException.class);
+        int updated = ServiceOperationExecutor.execute(
+                () -> orAlreadySoftDeleted(companyRepository.softDeleteByUuid(uuid),
+                                           () -> companyRepository.isSoftDeletedByUuid(uuid)),
+                "soft-deleting the company", CompanyException.class);
+        requireAffected(updated, "uuid " + uuid);
+    }
+
+    @Override
+    @Transactional
+    public void softDeleteByUuid(UUID uuid, Long expectedVersion) {
+        int updated = ServiceOperationExecutor.execute(
+                () -> orAlreadySoftDeleted(companyRepository.softDeleteByUuid(uuid, expectedVersion),
+                                           () -> companyRepository.isSoftDeletedByUuid(uuid)),
+                "soft-deleting the company", CompanyException.class);
+        requireAffected(updated, expectedVersion, "uuid " + uuid);
     }
 
     @Override
     @Transactional
     public void delete(Long id) {
-        ServiceOperationExecutor.executeVoid(() -> {
-            Company company = RepositoryHelper.findByIdOrThrow(companyRepository, id, Company.class);
-            companyRepository.delete(company);
-        }, "deleting the company", CompanyException.class);
+        int deleted = ServiceOperationExecutor.execute(
+                () -> companyRepository.hardDeleteById(id),
+                "deleting the company", CompanyException.class);
+        requireAffected(deleted, "id " + id);
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id, Long expectedVersion) {
+        int deleted = ServiceOperationExecutor.execute(
+                () -> companyRepository.hardDeleteById(id, expectedVersion),
+                "deleting the company", CompanyException.class);
+        requireAffected(deleted, expectedVersion, "id " + id);
     }
 
     @Override
     @Transactional
     public void deleteByUuid(UUID uuid) {
-        ServiceOperationExecutor.executeVoid(() -> {
-            Company company = RepositoryHelper.findByUuidOrThrow(companyRepository, uuid, Company.class);
-            companyRepository.delete(company);
-        }, "deleting the company", CompanyException.class);
+        int deleted = ServiceOperationExecutor.execute(
+                () -> companyRepository.hardDeleteByUuid(uuid),
+                "deleting the company", CompanyException.class);
+        requireAffected(deleted, "uuid " + uuid);
     }
 
-    // Private helper methods
-    private void validatePaginationParameters(int page, int size) {
-        if (page < 0) {
-            throw new IllegalArgumentException("Page must be >= 0");
-        }
-        if (size <= 0 || size > 1000) {
-            throw new IllegalArgumentException("Size must be > 0 and <= 1000");
-        }
+    @Override
+    @Transactional
+    public void deleteByUuid(UUID uuid, Long expectedVersion) {
+        int deleted = ServiceOperationExecutor.execute(
+                () -> companyRepository.hardDeleteByUuid(uuid, expectedVersion),
+                "deleting the company", CompanyException.class);
+        requireAffected(deleted, expectedVersion, "uuid " + uuid);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsById(Long id) {
+        return ServiceOperationExecutor.execute(() -> {
+            validateId(id);
+            return companyRepository.existsById(id);
+        }, "retrieving company by ID", CompanyException.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsByUuid(UUID uuid) {
+        return ServiceOperationExecutor.execute(() -> {
+            validateUuid(uuid);
+            return companyRepository.existsByUuid(uuid);
+        }, "retrieving company by UUID", CompanyException.class);
     }
 
+    // Private helper methods
     private Sort.Direction parseSortDirection(String sortDirection) {
         if (sortDirection == null || sortDirection.trim().isEmpty()) {
             return Sort.Direction.ASC;
@@ -164,6 +461,113 @@ public non-sealed class CompanyService implements ICompanyService<CompanyRequest
         }
     }
 
+    private void validateBatchGet(CompanyBatchGetRequest request) {
+        if (request == null || isPresent(request.ids()) == isPresent(request.uuids())) {
+            throw new IllegalArgumentException("Batch get must contain either ids or uuids");
+        }
+
+        List<?> keys = isPresent(request.ids()) ? request.ids() : request.uuids();
+        int maxItems = companyProperty.getBatchGet().getMaxItems();
+        if (keys.size() > maxItems) {
+            throw new IllegalArgumentException(
+                    String.format("Batch get must contain between 1 and %d companies", maxItems));
+        }
+        if (keys.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Batch get must not contain null ids or uuids");
+        }
+    }
+
+    private static boolean isPresent(List<?> keys) {
+        return keys != null && !keys.isEmpty();
+    }
+
+    /**
+     * Looks the distinct keys up in chunked IN queries, logos included, then answers every requested
+     * position in order, so a key asked for twice is read once and reported twice.
+     */
+    private <K> List<CompanyBatchGetResult> findBatch(List<K> keys, Function<CompanyView, K> keyOf,
+                                                      Function<List<K>, List<CompanyView>> finder,
+                                                      BiFunction<Integer, K, CompanyBatchGetResult> notFound,
+                                                      boolean includeLogo, boolean includeDeleted) {
+        List<K> distinctKeys = List.copyOf(new LinkedHashSet<>(keys));
+        int chunkSize = companyProperty.getBatchGet().getChunkSize();
+        Map<K, CompanyView> companies = new HashMap<>();
+        Map<Long, byte[]> logos = new HashMap<>();
+
+        for (int from = 0; from < distinctKeys.size(); from += chunkSize) {
+            List<K> chunk = distinctKeys.subList(from, Math.min(from + chunkSize, distinctKeys.size()));
+            List<CompanyView> found = query(includeDeleted, () -> finder.apply(chunk));
+            found.forEach(company -> companies.put(keyOf.apply(company), company));
+            logos.putAll(findLogos(includeLogo, includeDeleted, found.stream().map(CompanyView::id).toList()));
+        }
+
+        List<CompanyBatchGetResult> results = new ArrayList<>(keys.size());
+        for (int index = 0; index < keys.size(); index++) {
+            CompanyView company = companies.get(keys.get(index));
+            results.add(company != null
+                        ? CompanyBatchGetResult.found(index, companyMapper.toResponse(company, logos.get(company.id())))
+                        : notFound.apply(index, keys.get(index)));
+        }
+        return results;
+    }
+
+    // Thrown outside the executor so that it surfaces as a 404 instead of being wrapped
+    private void requireAffected(int affectedRows, String key) {
+        if (affectedRows == 0) {
+            throw new EntityNotFoundException(String.format("Company with %s does not exist", key));
+        }
+    }
+
+    // A company that is already soft-deleted counts as deleted again, so a retried DELETE gets the same answer
+    private static int orAlreadySoftDeleted(int updatedRows, BooleanSupplier softDeleted) {
+        return updatedRows == 0 && softDeleted.getAsBoolean() ? 1 : updatedRows;
+    }
+
+    // A versioned statement that touched nothing means the company changed or went away since it was read
+    private void requireAffected(int affectedRows, Long expectedVersion, String key) {
+        if (affectedRows == 0 && expectedVersion != null) {
+            throw new CompanyVersionMismatchException(
+                    String.format("Company with %s is no longer at version %d", key, expectedVersion));
+        }
+        requireAffected(affectedRows, key);
+    }
+
+    /**
+     * Loads the company to write through a query, which the active filter applies to, rather than by primary
+     * key, which it does not reach, so that a soft-deleted company answers 404 as it does on reads. Thrown
+     * outside the executor so that it surfaces as a 404 instead of being wrapped.
+     */
+    private Company findForWrite(Supplier<Optional<Company>> lookup, String key, String context) {
+        return ServiceOperationExecutor.execute(lookup, context, CompanyException.class)
+                .orElseThrow(() -> new EntityNotFoundException(String.format("Company with %s does not exist", key)));
+    }
+
+    // The @Version check at flush still catches a write that lands between this check and the update
+    private void requireVersion(Company company, Long expectedVersion, String key) {
+        if (expectedVersion != null && !Objects.equals(company.getVersion(), expectedVersion)) {
+            throw new CompanyVersionMismatchException(
+                    String.format("Company with %s is no longer at version %d", key, expectedVersion));
+        }
+    }
+
+    /**
+     * Rejects a registration number another company already holds before anything is written. Most numbers
+     * are new and are cleared by the filter alone; only possible duplicates cost an index lookup. A number
+     * taken concurrently after this check still fails on the unique constraint.
+     */
+    private void requireUnusedRegistrationNumber(String registrationNumber) {
+        if (companyRepository.existsByRegistrationNumber(registrationNumber)) {
+            throw new DuplicateRegistrationNumberException(
+                    String.format("Registration number %s already exists", registrationNumber));
+        }
+    }
+
+    private void requireUnusedRegistrationNumber(Company company, String registrationNumber) {
+        if (!Objects.equals(company.getRegistrationNumber(), registrationNumber)) {
+            requireUnusedRegistrationNumber(registrationNumber);
+        }
+    }
+
     private void validateId(Long id) {
         if (id == null || id <= 0) {
             throw new IllegalArgumentException("Company ID must be a positive number");
@@ -176,15 +580,147 @@ public non-sealed class CompanyService implements ICompanyService<CompanyRequest
         }
     }
 
-    private byte[] extractLogo(CompanyRequest request) {
-        if (request.logo() == null || request.logo().isEmpty()) {
-            return new byte[]{};
+    private CompanyExporter findExporter(CompanyExportFormat format) {
+        return companyExporters.stream()
+                .filter(exporter -> exporter.format() == format)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported export format: " + format));
+    }
+
+    // Only whitelisted columns get through, so no request can sort on an unindexed column
+    private PageRequest toPageRequest(int page, int size, String sortBy, String sortDirection) {
+        PaginationHelper.validate(page, size);
+        CompanySortField sortField = CompanySortField.fromProperty(sortBy);
+        return PageRequest.of(page, size, sortField.toSort(parseSortDirection(sortDirection)));
+    }
+
+    // The explicit state wins over the older includeDeleted flag
+    private CompanyDeletedState resolveState(CompanyFilter filter, boolean includeDeleted) {
+        if (filter.state() != null && !filter.state().isBlank()) {
+            return CompanyDeletedState.fromValue(filter.state().trim());
+        }
+        return includeDeleted ? CompanyDeletedState.ALL : CompanyDeletedState.ACTIVE;
+    }
+
+    // Unfiltered lists of live or all companies take their total from the maintained counts
+    private boolean isCounted(CompanyFilter filter, CompanyDeletedState state) {
+        return filter.hasNoConditions() && state != CompanyDeletedState.DELETED;
+    }
+
+    private void validateFilter(CompanyFilter filter) {
+        if (filter.name() != null && !filter.name().isBlank()) {
+            CompanySearchMatch.CONTAINS.requirePattern(filter.name());
+        }
+        validateRange("created", filter.createdFrom(), filter.createdTo());
+        validateRange("updated", filter.updatedFrom(), filter.updatedTo());
+    }
+
+    private void validateRange(String name, Instant from, Instant to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid %s range: %sFrom must be before %sTo", name, name, name));
         }
+    }
 
-        try {
-            return request.logo().getBytes();
-        } catch (IOException e) {
-            throw new InvalidFileException("Failed to process company logo", e);
+    private Slice<CompanyResponse> findSlice(PageRequest pageRequest, boolean includeLogo,
+                                             CompanyDeletedState state) {
+        Slice<CompanyView> companies = query(state.includesDeleted(),
+                () -> companyRepository.findSliceBy(pageRequest, CompanyView.class));
+        if (!includeLogo) {
+            return companies.map(companyMapper::toResponse);
         }
+
+        Map<Long, byte[]> logos = findLogos(true, state.includesDeleted(), companies.map(CompanyView::id).getContent());
+        return companies.map(company -> companyMapper.toResponse(company, logos.get(company.id())));
+    }
+
+    private long countCompanies(boolean includeDeleted) {
+        return includeDeleted
+               ? companyRepository.countAllCompanies()
+               : companyRepository.countLiveCompanies();
+    }
+
+    // Reads see live companies only, unless soft-deleted ones were explicitly asked for
+    private <R> R query(boolean includeDeleted, Supplier<R> query) {
+        return includeDeleted
+               ? hibernateFilterScope.withoutFilter(Company.ACTIVE_FILTER, query)
+               : query.get();
+    }
+
+    private CompanyResponse toResponse(CompanyView company, boolean includeLogo) {
+        if (!includeLogo) {
+            return companyMapper.toResponse(company);
+        }
+
+        return companyLogoRepository.findContentByCompanyId(company.id())
+                .map(logo -> companyMapper.toResponse(company, logo))
+                .orElseGet(() -> companyMapper.toResponse(company));
+    }
+
+    // Two IN queries for the whole page rather than one logo lookup per row; a shared logo is read once
+    private Map<Long, byte[]> findLogos(boolean includeLogo, boolean includeDeleted, List<Long> companyIds) {
+        if (!includeLogo || companyIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, String> checksums = query(includeDeleted,
+                () -> companyLogoRepository.findReferencesByCompanyIdIn(companyIds)).stream()
+                .collect(Collectors.toMap(CompanyLogoReference::companyId, CompanyLogoReference::checksum));
+        if (checksums.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, byte[]> contents = companyLogoRepository.findContentsByChecksumIn(Set.copyOf(checksums.values()))
+                .stream()
+                .collect(Collectors.toMap(CompanyLogoContent::checksum, CompanyLogoContent::content));
+        Map<Long, byte[]> logos = new HashMap<>();
+        checksums.forEach((companyId, checksum) -> {
+            byte[] content = contents.get(checksum);
+            if (content != null) {
+                logos.put(companyId, content);
+            }
+        });
+        return logos;
+    }
+
+    // Flushed so that the response carries the version the update produced
+    private CompanyResponse applyUpdate(Company company, CompanyRequest request) {
+        requireUnusedRegistrationNumber(company, request.registrationNumber());
+        CompanyLogoProcessor.StagedLogo logo = companyLogoProcessor.stage(request.logo());
+        Company updatedCompany = companyMapper.updateEntity(company, request);
+        if (logo != null) {
+            // The logo lives in its own table; touching the row makes a new logo bump the version too
+            updatedCompany.setUpdatedAt(Timestamp.from(Instant.now()));
+        }
+        updatedCompany = companyRepository.saveAndFlush(updatedCompany);
+        if (logo != null) {
+            companyLogoProcessor.processAfterCommit(updatedCompany.getId(), logo);
+        }
+        return companyMapper.toResponse(updatedCompany);
+    }
+
+    // Dirty checking with dynamic updates writes only the columns whose values the patch actually changed
+    private CompanyResponse applyPatch(Company company, JsonNode patch) {
+        CompanyRequest patched = companyMapper.mergePatch(company, patch);
+        String violations = joinViolations(patched);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations);
+        }
+        requireUnusedRegistrationNumber(company, patched.registrationNumber());
+        Company updatedCompany = companyRepository.saveAndFlush(companyMapper.updateEntity(company, patched));
+        return companyMapper.toResponse(updatedCompany);
+    }
+
+    private Optional<CompanyLogoMetadata> findVariantMetadata(UUID uuid, CompanyLogoSize size) {
+        return size.isThumbnail()
+               ? companyLogoRepository.findVariantMetadataByCompanyUuid(uuid, size)
+               : Optional.empty();
+    }
+
+    private String joinViolations(Object request) {
+        return validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.responses.CompanyArchiveResponse;
+
+public sealed interface ICompanyArchiveService permits CompanyArchiveService {
+
+    /**
+     * Starts moving companies soft-deleted for longer than the configured retention to the archive, in
+     * throttled batches, the same way the scheduled job does. Returns as soon as the run is started, or at
+     * once if a run is already in progress; the outcome is only reported through the archive metrics.
+     */
+    CompanyArchiveResponse archiveDeleted();
+}
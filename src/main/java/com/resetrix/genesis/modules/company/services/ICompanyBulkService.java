@@ -0,0 +1,31 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.requests.CompanyBulkRequest;
+import com.resetrix.genesis.modules.company.requests.CompanyUpsertRequest;
+import com.resetrix.genesis.modules.company.responses.CompanyBulkResponse;
+import com.resetrix.genesis.modules.company.responses.CompanyUpsertResponse;
+import com.resetrix.genesis.modules.company.responses.CompanyUpsertResult;
+
+import java.util.List;
+
+public sealed interface ICompanyBulkService permits CompanyBulkService {
+
+    /**
+     * Inserts the companies in chunks and reports the outcome of every item in request order.
+     * Invalid items and duplicate registration numbers are reported without failing the rest.
+     */
+    CompanyBulkResponse saveAll(List<CompanyBulkRequest> requests);
+
+    /**
+     * Creates the company with the given registration number or renames the existing one, in one statement.
+     * The result says whether it was created, updated or already unchanged.
+     */
+    CompanyUpsertResult upsert(String registrationNumber, CompanyUpsertRequest request);
+
+    /**
+     * Upserts the companies in chunks, one statement per chunk, and reports the outcome of every item in
+     * request order. Invalid items and registration numbers repeated within the request are reported
+     * without failing the rest.
+     */
+    CompanyUpsertResponse upsertAll(List<CompanyUpsertRequest> requests);
+}
@@ -0,0 +1,22 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.constants.CompanySearchMatch;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.modules.company.responses.CompanySuggestion;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public sealed interface ICompanySearchService permits CompanySearchService {
+
+    /**
+     * Live companies whose name starts with or contains {@code query}, ignoring case, ordered by name.
+     */
+    Slice<CompanyResponse> search(String query, CompanySearchMatch match, int page, int size);
+
+    /**
+     * Up to {@code limit} live companies whose name starts with {@code prefix}, served from memory
+     * once the name index has loaded.
+     */
+    List<CompanySuggestion> autocomplete(String prefix, int limit);
+}
@@ -1,9 +1,115 @@
 package com.resetrix.genesis.modules.company.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.resetrix.genesis.modules.company.constants.CompanyExportFormat;
+import com.resetrix.genesis.modules.company.constants.CompanyLogoSize;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoMetadata;
+import com.resetrix.genesis.modules.company.projections.CompanyVersion;
+import com.resetrix.genesis.modules.company.requests.CompanyBatchGetRequest;
+import com.resetrix.genesis.modules.company.requests.CompanyFilter;
+import com.resetrix.genesis.modules.company.responses.CompanyBatchGetResponse;
+import com.resetrix.genesis.shared.responses.CursorPage;
 import com.resetrix.genesis.shared.services.contracts.IGenericService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.io.OutputStream;
+import java.util.UUID;
 
 public sealed interface ICompanyService<T, K>
     extends IGenericService<T, K>
     permits CompanyService {
 
+    /**
+     * Lists only the companies matching {@code filter}; logos are only loaded and encoded when
+     * {@code includeLogo} is set. Soft-deleted companies are left out unless {@code includeDeleted} is set,
+     * and a state set on the filter takes precedence over it. Unfiltered pages take their total from a
+     * maintained row count; filtered pages count their matches, as the maintained totals cannot serve them.
+     */
+    Page<K> getAll(int page, int size, String sortBy, String sortDirection, boolean includeLogo,
+                   boolean includeDeleted, CompanyFilter filter);
+
+    /**
+     * Same page as {@link #getAll(int, int, String, String, boolean, boolean, CompanyFilter)} without a total;
+     * {@link Slice#hasNext()} is worked out from one extra row.
+     */
+    Slice<K> getSlice(int page, int size, String sortBy, String sortDirection, boolean includeLogo,
+                      boolean includeDeleted, CompanyFilter filter);
+
+    K getById(Long id, boolean includeLogo, boolean includeDeleted);
+
+    K getByUuid(UUID uuid, boolean includeLogo, boolean includeDeleted);
+
+    /**
+     * Resolves many companies by id or by UUID in chunked IN queries. Results follow the request order,
+     * one per requested key, with companies that do not exist reported as not found.
+     */
+    CompanyBatchGetResponse getBatch(CompanyBatchGetRequest request, boolean includeLogo, boolean includeDeleted);
+
+    /**
+     * Reads only the version and modification time, for conditional requests.
+     */
+    CompanyVersion getVersion(Long id, boolean includeDeleted);
+
+    CompanyVersion getVersionByUuid(UUID uuid, boolean includeDeleted);
+
+    /**
+     * Keyset pagination: returns the page that follows {@code cursor}, or the first page when it is blank.
+     * A non-blank cursor carries its own sort order, so {@code sortBy} and {@code sortDirection} only
+     * apply to the first page. The filter is not part of the cursor, so follow-up pages must send the same
+     * filter again.
+     */
+    CursorPage<K> getAllAfter(String cursor, int size, String sortBy, String sortDirection, boolean includeDeleted,
+                              CompanyFilter filter);
+
+    /**
+     * Conditional writes: they only apply while the company still has {@code expectedVersion} and fail with
+     * {@link com.resetrix.genesis.modules.company.exceptions.CompanyVersionMismatchException} otherwise.
+     * A {@code null} {@code expectedVersion} makes the write unconditional.
+     */
+    K update(Long id, T request, Long expectedVersion);
+
+    K updateByUuid(UUID uuid, T request, Long expectedVersion);
+
+    /**
+     * Applies a JSON Merge Patch to the name and registration number, writing only the columns that change.
+     * The logo is left as it is; a {@code null} {@code expectedVersion} makes the write unconditional.
+     */
+    K patch(Long id, JsonNode patch, Long expectedVersion);
+
+    K patchByUuid(UUID uuid, JsonNode patch, Long expectedVersion);
+
+    /**
+     * Soft-deleting a company that is already soft-deleted succeeds without writing anything, whatever
+     * {@code expectedVersion} says, so a retried request gets the same answer.
+     */
+    void softDelete(Long id, Long expectedVersion);
+
+    void softDeleteByUuid(UUID uuid, Long expectedVersion);
+
+    void delete(Long id, Long expectedVersion);
+
+    void deleteByUuid(UUID uuid, Long expectedVersion);
+
+    /**
+     * Writes every company to the stream in the given format, one row at a time.
+     */
+    void exportAll(CompanyExportFormat format, OutputStream outputStream);
+
+    /**
+     * Existence checks see live companies only, like the default reads.
+     */
+    boolean existsById(Long id);
+
+    boolean existsByUuid(UUID uuid);
+
+    CompanyLogoMetadata getLogoMetadata(UUID uuid);
+
+    /**
+     * Thumbnails are generated after the upload commits; until then, and for logos stored before
+     * thumbnails existed, the original is returned instead.
+     */
+    CompanyLogoMetadata getLogoMetadata(UUID uuid, CompanyLogoSize size);
+
+    void writeLogo(CompanyLogoMetadata logo, long offset, long length, OutputStream outputStream);
 }
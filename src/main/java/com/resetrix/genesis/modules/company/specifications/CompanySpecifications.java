@@ -0,0 +1,107 @@
+package com.resetrix.genesis.modules.company.specifications;
+
+import com.resetrix.genesis.modules.company.constants.CompanyDeletedState;
+import com.resetrix.genesis.modules.company.constants.CompanySearchMatch;
+import com.resetrix.genesis.modules.company.constants.CompanySortField;
+import com.resetrix.genesis.modules.company.entities.Company;
+import com.resetrix.genesis.modules.company.requests.CompanyCursor;
+import com.resetrix.genesis.modules.company.requests.CompanyFilter;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class CompanySpecifications {
+
+    private CompanySpecifications() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Rows strictly after the cursor in its sort order.
+     * <p>
+     * Besides the exact {@code col > v OR (col = v AND id > i)} condition, a redundant
+     * {@code col >= v} bound is added so the database can start a range scan on the
+     * {@code (col, id)} index at the cursor instead of filtering from the first row.
+     */
+    public static Specification<Company> seekAfter(CompanyCursor cursor) {
+        return (root, query, builder) -> {
+            if (cursor.isFirst()) {
+                return builder.conjunction();
+            }
+
+            boolean ascending = cursor.direction().isAscending();
+            Expression<Long> id = root.get(CompanySortField.ID.getProperty());
+            if (cursor.sortField() == CompanySortField.ID) {
+                return beyond(builder, id, cursor.lastId(), ascending);
+            }
+
+            Expression<Comparable<Object>> column = root.get(cursor.sortField().getProperty());
+            Comparable<Object> value = asComparable(cursor.lastValue());
+            Predicate bound = ascending
+                              ? builder.greaterThanOrEqualTo(column, value)
+                              : builder.lessThanOrEqualTo(column, value);
+            Predicate tieBreak = builder.and(
+                builder.equal(column, value),
+                beyond(builder, id, cursor.lastId(), ascending));
+
+            return builder.and(bound, builder.or(beyond(builder, column, value, ascending), tieBreak));
+        };
+    }
+
+    /**
+     * Rows matching every condition set on the filter. The name is matched as a case-insensitive
+     * substring, so the trigram index from V9 can serve it. Live rows are already selected by the
+     * active filter; only {@link CompanyDeletedState#DELETED} adds a condition here.
+     */
+    public static Specification<Company> matching(CompanyFilter filter, CompanyDeletedState state) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.name() != null && !filter.name().isBlank()) {
+                predicates.add(builder.like(
+                    builder.lower(root.get("name")),
+                    CompanySearchMatch.CONTAINS.toLikePattern(filter.name().trim()),
+                    '\\'));
+            }
+            if (filter.registrationNumber() != null && !filter.registrationNumber().isBlank()) {
+                predicates.add(builder.equal(root.get("registrationNumber"), filter.registrationNumber().trim()));
+            }
+            addRange(predicates, builder, root.get("createdAt"), filter.createdFrom(), filter.createdTo());
+            addRange(predicates, builder, root.get("updatedAt"), filter.updatedFrom(), filter.updatedTo());
+            if (state == CompanyDeletedState.DELETED) {
+                predicates.add(builder.isTrue(root.get("softDelete")));
+            }
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static void addRange(List<Predicate> predicates, CriteriaBuilder builder,
+                                 Expression<Timestamp> column, Instant from, Instant to) {
+        if (from != null) {
+            predicates.add(builder.greaterThanOrEqualTo(column, Timestamp.from(from)));
+        }
+        if (to != null) {
+            predicates.add(builder.lessThan(column, Timestamp.from(to)));
+        }
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate beyond(
+        CriteriaBuilder builder, Expression<? extends Y> expression, Y value, boolean ascending) {
+        return ascending
+               ? builder.greaterThan(expression, value)
+               : builder.lessThan(expression, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> asComparable(Object value) {
+        if (!(value instanceof Comparable<?>)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return (Comparable<Object>) value;
+    }
+}
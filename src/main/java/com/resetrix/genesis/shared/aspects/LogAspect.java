@@ -41,7 +41,12 @@ public class LogAspect {
         this.meterRegistry = meterRegistry;
     }
 
-    @Pointcut("execution(public * com.resetrix.genesis..services..*(..))")
+    /**
+     * The public methods of {@code @Service} beans only. The components those services call, such as
+     * processors and writers, are timed as part of their caller and hand their exceptions to it as they are.
+     */
+    @Pointcut("execution(public * com.resetrix.genesis..services..*(..)) "
+            + "&& @within(org.springframework.stereotype.Service)")
     public void serviceMethods() {
     }
 
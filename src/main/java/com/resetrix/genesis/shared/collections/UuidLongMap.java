@@ -0,0 +1,135 @@
+package com.resetrix.genesis.shared.collections;
+
+import java.util.UUID;
+
+/**
+ * Open-addressing hash map from a {@link UUID} to a positive {@code long}, stored in three parallel
+ * primitive arrays. An entry costs 24 bytes per slot instead of the UUID, Long and node objects a
+ * {@code HashMap<UUID, Long>} allocates. Not thread-safe.
+ */
+public final class UuidLongMap {
+
+    public static final long NO_VALUE = 0L;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    public UuidLongMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public UuidLongMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * @return the value mapped to {@code key}, or {@link #NO_VALUE} if there is none
+     */
+    public long get(UUID key) {
+        long most = key.getMostSignificantBits();
+        long least = key.getLeastSignificantBits();
+        for (int slot = slot(most, least); values[slot] != NO_VALUE; slot = (slot + 1) & mask) {
+            if (mostSignificantBits[slot] == most && leastSignificantBits[slot] == least) {
+                return values[slot];
+            }
+        }
+        return NO_VALUE;
+    }
+
+    public void put(UUID key, long value) {
+        if (value <= NO_VALUE) {
+            throw new IllegalArgumentException("Value must be a positive number");
+        }
+        if ((size + 1) * 2 > values.length) {
+            resize(values.length * 2);
+        }
+        if (insert(key.getMostSignificantBits(), key.getLeastSignificantBits(), value)) {
+            size++;
+        }
+    }
+
+    public void remove(UUID key) {
+        long most = key.getMostSignificantBits();
+        long least = key.getLeastSignificantBits();
+        for (int slot = slot(most, least); values[slot] != NO_VALUE; slot = (slot + 1) & mask) {
+            if (mostSignificantBits[slot] == most && leastSignificantBits[slot] == least) {
+                shiftBack(slot);
+                size--;
+                return;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private boolean insert(long most, long least, long value) {
+        int slot = slot(most, least);
+        while (values[slot] != NO_VALUE) {
+            if (mostSignificantBits[slot] == most && leastSignificantBits[slot] == least) {
+                values[slot] = value;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        mostSignificantBits[slot] = most;
+        leastSignificantBits[slot] = least;
+        values[slot] = value;
+        return true;
+    }
+
+    // Backward-shift deletion keeps every probe chain unbroken without tombstones
+    private void shiftBack(int gap) {
+        int slot = (gap + 1) & mask;
+        while (values[slot] != NO_VALUE) {
+            int home = slot(mostSignificantBits[slot], leastSignificantBits[slot]);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                mostSignificantBits[gap] = mostSignificantBits[slot];
+                leastSignificantBits[gap] = leastSignificantBits[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        values[gap] = NO_VALUE;
+    }
+
+    private void resize(int capacity) {
+        long[] oldMost = mostSignificantBits;
+        long[] oldLeast = leastSignificantBits;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int slot = 0; slot < oldValues.length; slot++) {
+            if (oldValues[slot] != NO_VALUE) {
+                insert(oldMost[slot], oldLeast[slot], oldValues[slot]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        mostSignificantBits = new long[capacity];
+        leastSignificantBits = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(long most, long least) {
+        long hash = most ^ Long.rotateLeft(least, 32);
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    // Power of two at least twice the expected size, so the load factor stays at or below one half
+    private static int capacityFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        return Math.max(MIN_CAPACITY, capacity);
+    }
+}
@@ -0,0 +1,45 @@
+package com.resetrix.genesis.shared.configurations;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resetrix.genesis.modules.company.constants.CompanyCacheNames;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheConfiguration.class);
+
+    /**
+     * Evictions are deferred until the surrounding transaction commits, so a concurrent read
+     * cannot put the pre-commit row back into the cache after the writer has evicted it.
+     * Hit, miss and eviction meters are bound to the registry by the actuator cache metrics.
+     */
+    @Bean
+    public CacheManager cacheManager(CompanyProperty companyProperty) {
+        CompanyProperty.CacheProperties cache = companyProperty.getCache();
+        if (!cache.isEnabled()) {
+            LOGGER.info("Company cache disabled");
+            return new NoOpCacheManager();
+        }
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CompanyCacheNames.BY_ID);
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+            .maximumSize(cache.getMaxSize())
+            .expireAfterWrite(cache.getTtl())
+            .recordStats());
+
+        LOGGER.info("Company cache enabled: maxSize={}, ttl={}", cache.getMaxSize(), cache.getTtl());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
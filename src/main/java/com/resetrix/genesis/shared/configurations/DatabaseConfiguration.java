@@ -1,12 +1,15 @@
 package com.resetrix.genesis.shared.configurations;
 
+import com.resetrix.genesis.shared.datasources.EndpointMetricsTrackerFactory;
+import com.resetrix.genesis.shared.datasources.ReadYourWritesTracker;
+import com.resetrix.genesis.shared.datasources.ReplicaRoutingDataSource;
 import com.resetrix.genesis.shared.properties.DatabaseProperty;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
-import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,6 +27,7 @@ import static com.resetrix.genesis.shared.constants.DatabaseConstants.DEFAULT_MA
 import static com.resetrix.genesis.shared.constants.DatabaseConstants.DEFAULT_MAXIMUM_POOL_SIZE;
 import static com.resetrix.genesis.shared.constants.DatabaseConstants.DEFAULT_MINIMUM_IDLE;
 import static com.resetrix.genesis.shared.constants.DatabaseConstants.DEFAULT_POOL_NAME;
+import static com.resetrix.genesis.shared.constants.DatabaseConstants.REPLICA_POOL_SUFFIX;
 import static com.resetrix.genesis.shared.constants.DatabaseConstants.JDBC_H2;
 import static com.resetrix.genesis.shared.constants.DatabaseConstants.JDBC_MYSQL;
 import static com.resetrix.genesis.shared.constants.DatabaseConstants.JDBC_POSTGRES;
@@ -48,25 +52,48 @@ public class DatabaseConfiguration {
     @Bean
     @Primary
     @ConditionalOnProperty(prefix = "app.database", name = "enabled", havingValue = "true", matchIfMissing = true)
-    public DataSource dataSource() {
-        String jdbcUrl = databaseProperty.getUrl();
+    public DataSource dataSource(ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        HikariDataSource primary = createDataSource(resolvePoolName(), databaseProperty.getUrl(),
+            databaseProperty.getUsername(), getResolvedPassword(), databaseProperty.getHikari(), false);
+
+        DatabaseProperty.ReplicaProperties replica = databaseProperty.getReplica();
+        if (!replica.isEnabled()) {
+            return primary;
+        }
+
+        if (!StringUtils.hasText(replica.getUrl())) {
+            primary.close();
+            throw new IllegalStateException("spring.datasource.replica.url must be set when the replica is enabled");
+        }
+
+        // A pool of its own, named apart so that its Hikari metrics are tagged separately from the primary's
+        HikariDataSource replicaPool = createDataSource(resolvePoolName() + REPLICA_POOL_SUFFIX, replica.getUrl(),
+            replica.getUsername(), replica.getPassword(), replica.getHikari(), true);
+
+        LOGGER.info("Routing read-only transactions to the replica, read-your-writes window {}",
+            replica.getReadYourWritesWindow());
+        return new ReplicaRoutingDataSource(primary, replicaPool, readYourWritesTracker.getObject());
+    }
+
+    private HikariDataSource createDataSource(String poolName, String jdbcUrl, String username, String password,
+                                              DatabaseProperty.HikariProperties hikari, boolean readOnly) {
         String driverClassName = getDriverClassName(jdbcUrl);
         String databaseType = getDatabaseType(jdbcUrl);
 
-        LOGGER.info("Initializing HikariCP DataSource for {}", databaseType);
+        LOGGER.info("Initializing HikariCP DataSource {} for {}", poolName, databaseType);
 
         HikariConfig config = new HikariConfig();
         config.setJdbcUrl(jdbcUrl);
-        config.setUsername(databaseProperty.getUsername());
-        config.setPassword(getResolvedPassword());
+        config.setUsername(username);
+        config.setPassword(password);
         config.setDriverClassName(driverClassName);
-        config.setPoolName(resolvePoolName());
+        config.setPoolName(poolName);
 
         config.setAutoCommit(false);
-        config.setReadOnly(false);
+        config.setReadOnly(readOnly);
 
-        applyPoolSizing(config);
-        applyTimeouts(config);
+        applyPoolSizing(config, hikari);
+        applyTimeouts(config, hikari);
 
         if (jdbcUrl.startsWith("jdbc:postgresql:")) {
             applyPostgreSQLOptimizations(config);
@@ -102,20 +129,20 @@ public class DatabaseConfiguration {
         return "Unknown";
     }
 
-    private void applyPoolSizing(HikariConfig config) {
-        config.setMaximumPoolSize(getMaximumPoolSize());
-        config.setMinimumIdle(getMinimumIdle());
+    private void applyPoolSizing(HikariConfig config, DatabaseProperty.HikariProperties hikari) {
+        config.setMaximumPoolSize(getMaximumPoolSize(hikari));
+        config.setMinimumIdle(getMinimumIdle(hikari));
     }
 
-    private void applyTimeouts(HikariConfig config) {
-        config.setConnectionTimeout(getConnectionTimeout());
-        config.setIdleTimeout(getIdleTimeout());
-        config.setMaxLifetime(getMaxLifetime());
+    private void applyTimeouts(HikariConfig config, DatabaseProperty.HikariProperties hikari) {
+        config.setConnectionTimeout(getConnectionTimeout(hikari));
+        config.setIdleTimeout(getIdleTimeout(hikari));
+        config.setMaxLifetime(getMaxLifetime(hikari));
 
-        if (databaseProperty.getHikari().getLeakDetectionThreshold() != null
-            && databaseProperty.getHikari().getLeakDetectionThreshold() > 0) {
+        if (hikari.getLeakDetectionThreshold() != null
+            && hikari.getLeakDetectionThreshold() > 0) {
             config.setLeakDetectionThreshold(
-                databaseProperty.getHikari().getLeakDetectionThreshold());
+                hikari.getLeakDetectionThreshold());
         }
 
         config.setInitializationFailTimeout(0);
@@ -148,7 +175,7 @@ public class DatabaseConfiguration {
         config.setRegisterMbeans(false);
 
         meterRegistry.ifPresent(reg -> {
-            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(reg));
+            config.setMetricsTrackerFactory(new EndpointMetricsTrackerFactory(reg));
             LOGGER.info("Metrics enabled with {}", reg.getClass().getSimpleName());
         });
     }
@@ -183,33 +210,33 @@ public class DatabaseConfiguration {
         return DEFAULT_APPLICATION_NAME;
     }
 
-    private int getMaximumPoolSize() {
-        return databaseProperty.getHikari().getMaximumPoolSize() != null
-            ? databaseProperty.getHikari().getMaximumPoolSize()
+    private int getMaximumPoolSize(DatabaseProperty.HikariProperties hikari) {
+        return hikari.getMaximumPoolSize() != null
+            ? hikari.getMaximumPoolSize()
             : DEFAULT_MAXIMUM_POOL_SIZE;
     }
 
-    private int getMinimumIdle() {
-        return databaseProperty.getHikari().getMinimumIdle() != null
-            ? databaseProperty.getHikari().getMinimumIdle()
+    private int getMinimumIdle(DatabaseProperty.HikariProperties hikari) {
+        return hikari.getMinimumIdle() != null
+            ? hikari.getMinimumIdle()
             : DEFAULT_MINIMUM_IDLE;
     }
 
-    private long getConnectionTimeout() {
-        return databaseProperty.getHikari().getConnectionTimeout() != null
-            ? databaseProperty.getHikari().getConnectionTimeout()
+    private long getConnectionTimeout(DatabaseProperty.HikariProperties hikari) {
+        return hikari.getConnectionTimeout() != null
+            ? hikari.getConnectionTimeout()
             : DEFAULT_CONNECTION_TIMEOUT;
     }
 
-    private long getIdleTimeout() {
-        return databaseProperty.getHikari().getIdleTimeout() != null
-            ? databaseProperty.getHikari().getIdleTimeout()
+    private long getIdleTimeout(DatabaseProperty.HikariProperties hikari) {
+        return hikari.getIdleTimeout() != null
+            ? hikari.getIdleTimeout()
             : DEFAULT_IDLE_TIMEOUT;
     }
 
-    private long getMaxLifetime() {
-        return databaseProperty.getHikari().getMaxLifetime() != null
-            ? databaseProperty.getHikari().getMaxLifetime()
+    private long getMaxLifetime(DatabaseProperty.HikariProperties hikari) {
+        return hikari.getMaxLifetime() != null
+            ? hikari.getMaxLifetime()
             : DEFAULT_MAX_LIFETIME;
     }
 
@@ -227,7 +254,7 @@ public class DatabaseConfiguration {
                     ? config.getLeakDetectionThreshold() + "ms"
                     : "disabled");
             LOGGER.info("  Database URL: {}",
-                maskSensitiveUrl(databaseProperty.getUrl()));
+                maskSensitiveUrl(config.getJdbcUrl()));
             LOGGER.info("  Driver: {}", driver);
             LOGGER.info("  Application Name: {}", resolveApplicationName());
         }
@@ -0,0 +1,43 @@
+package com.resetrix.genesis.shared.configurations;
+
+import com.resetrix.genesis.modules.company.services.CompanyArchiveProcessor;
+import com.resetrix.genesis.modules.company.services.CompanyLogoProcessor;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfiguration {
+
+    /**
+     * Fixed-size pool with a bounded queue: a burst of uploads can neither spawn threads nor pile
+     * decoded images up in memory. Queued logos are still processed on shutdown.
+     */
+    @Bean(name = CompanyLogoProcessor.EXECUTOR)
+    public ThreadPoolTaskExecutor companyLogoExecutor(CompanyProperty companyProperty) {
+        CompanyProperty.LogoProperties logo = companyProperty.getLogo();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(logo.getThreads());
+        executor.setMaxPoolSize(logo.getThreads());
+        executor.setQueueCapacity(logo.getQueueCapacity());
+        executor.setThreadNamePrefix("company-logo-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * A single thread and no queue, since only one archive run is allowed at a time. A run still in
+     * progress on shutdown is interrupted, which ends it after its current batch.
+     */
+    @Bean(name = CompanyArchiveProcessor.EXECUTOR)
+    public ThreadPoolTaskExecutor companyArchiveExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("company-archive-");
+        return executor;
+    }
+}
@@ -0,0 +1,12 @@
+package com.resetrix.genesis.shared.configurations;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Background jobs such as the company archive run on Spring Boot's single-threaded task scheduler.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
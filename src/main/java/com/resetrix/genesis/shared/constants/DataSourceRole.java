@@ -0,0 +1,6 @@
+package com.resetrix.genesis.shared.constants;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
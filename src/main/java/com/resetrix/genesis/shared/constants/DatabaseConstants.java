@@ -8,6 +8,7 @@ public final class DatabaseConstants {
     public static final String JDBC_MYSQL = "jdbc:mysql:";
 
     public static final String DEFAULT_POOL_NAME = "Genesis-HikariCP";
+    public static final String REPLICA_POOL_SUFFIX = "-replica";
     public static final String DEFAULT_APPLICATION_NAME = "Genesis-Application";
     public static final int DEFAULT_MAXIMUM_POOL_SIZE = 10;
     public static final int DEFAULT_MINIMUM_IDLE = 10;
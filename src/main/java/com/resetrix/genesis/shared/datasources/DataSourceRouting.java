@@ -0,0 +1,37 @@
+package com.resetrix.genesis.shared.datasources;
+
+import com.resetrix.genesis.shared.properties.DatabaseProperty;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Tells whether a read made now is served by the replica, so that values which must not lag behind the
+ * primary, such as cache entries, are kept from being filled from it. Follows the rules of
+ * {@link ReplicaRoutingDataSource}; a repository read outside any transaction opens a read-only one of its
+ * own and therefore counts as a replica read.
+ */
+@Component(DataSourceRouting.BEAN_NAME)
+public class DataSourceRouting {
+
+    public static final String BEAN_NAME = "dataSourceRouting";
+
+    private final DatabaseProperty databaseProperty;
+    private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
+
+    public DataSourceRouting(DatabaseProperty databaseProperty,
+                             ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        this.databaseProperty = databaseProperty;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    public boolean routesToReplica() {
+        if (!databaseProperty.getReplica().isEnabled()) {
+            return false;
+        }
+        boolean readOnly = !TransactionSynchronizationManager.isActualTransactionActive()
+            || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        return readOnly && (tracker == null || !tracker.hasRecentlyWritten());
+    }
+}
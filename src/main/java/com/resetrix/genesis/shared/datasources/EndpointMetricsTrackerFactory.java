@@ -0,0 +1,98 @@
+package com.resetrix.genesis.shared.datasources;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extends Hikari's Micrometer tracking with a histogram of how long each connection was held, tagged with
+ * the endpoint that borrowed it. The {@code method} and {@code uri} tags match {@code http.server.requests},
+ * so hold time can be read against request time per endpoint. Connections are returned on the borrowing
+ * thread, which is how the current request is found; work outside a request is tagged {@code none}.
+ */
+public class EndpointMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    public static final String CONNECTION_HOLD_METRIC = "hikaricp.connections.hold";
+
+    private static final String NO_ENDPOINT = "none";
+
+    private final MicrometerMetricsTrackerFactory delegate;
+    private final MeterRegistry meterRegistry;
+
+    public EndpointMetricsTrackerFactory(MeterRegistry meterRegistry) {
+        this.delegate = new MicrometerMetricsTrackerFactory(meterRegistry);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        Meter.MeterProvider<Timer> holdTimers = Timer.builder(CONNECTION_HOLD_METRIC)
+            .description("Time a connection was held, by the endpoint that borrowed it")
+            .tag("pool", poolName)
+            .publishPercentileHistogram()
+            .withRegistry(meterRegistry);
+        return new EndpointMetricsTracker(delegate.create(poolName, poolStats), holdTimers);
+    }
+
+    private static final class EndpointMetricsTracker implements IMetricsTracker {
+
+        private final IMetricsTracker delegate;
+        private final Meter.MeterProvider<Timer> holdTimers;
+
+        private EndpointMetricsTracker(IMetricsTracker delegate, Meter.MeterProvider<Timer> holdTimers) {
+            this.delegate = delegate;
+            this.holdTimers = holdTimers;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+
+            HttpServletRequest request = currentRequest();
+            Object pattern = request == null
+                             ? null
+                             : request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            holdTimers.withTags("method", request == null ? NO_ENDPOINT : request.getMethod(),
+                                "uri", pattern == null ? NO_ENDPOINT : pattern.toString())
+                .record(elapsedBorrowedMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            delegate.recordConnectionTimeout();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        private static HttpServletRequest currentRequest() {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            return attributes instanceof ServletRequestAttributes servletRequestAttributes
+                   ? servletRequestAttributes.getRequest()
+                   : null;
+        }
+    }
+}
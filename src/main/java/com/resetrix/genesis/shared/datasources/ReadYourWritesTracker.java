@@ -0,0 +1,60 @@
+package com.resetrix.genesis.shared.datasources;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resetrix.genesis.shared.properties.DatabaseProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.Optional;
+
+/**
+ * Remembers which principals committed a read-write transaction within the configured window, so that
+ * {@link ReplicaRoutingDataSource} keeps their reads on the primary until the replica has caught up.
+ * Spring Boot registers it with the transaction manager as an execution listener. Writes without an
+ * authenticated principal, such as background jobs, are not tracked.
+ */
+@Component
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private static final long MAX_TRACKED_PRINCIPALS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(DatabaseProperty databaseProperty) {
+        this.recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(databaseProperty.getReplica().getReadYourWritesWindow())
+            .maximumSize(MAX_TRACKED_PRINCIPALS)
+            .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly()) {
+            currentPrincipal().ifPresent(principal -> recentWriters.put(principal, Boolean.TRUE));
+        }
+    }
+
+    public boolean hasRecentlyWritten() {
+        return currentPrincipal()
+            .map(principal -> recentWriters.getIfPresent(principal) != null)
+            .orElse(false);
+    }
+
+    private static Optional<String> currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+            || !authentication.isAuthenticated()
+            || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(authentication.getName());
+    }
+}
@@ -0,0 +1,60 @@
+package com.resetrix.genesis.shared.datasources;
+
+import com.resetrix.genesis.shared.constants.DataSourceRole;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.util.Map;
+
+/**
+ * Sends the statements of {@code @Transactional(readOnly = true)} work to the replica pool and everything
+ * else to the primary. The transaction manager borrows a connection before it publishes the read-only flag,
+ * so the physical connection is only fetched, and the route only decided, when the first statement runs.
+ * A principal who has just written keeps reading from the primary, see {@link ReadYourWritesTracker}.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica,
+                                    ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replica = replica;
+
+        AbstractRoutingDataSource router = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return resolveRole(readYourWritesTracker);
+            }
+        };
+        router.setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        router.setDefaultTargetDataSource(primary);
+        router.setLenientFallback(false);
+        router.afterPropertiesSet();
+
+        // Both pools hand out connections with auto-commit off; declaring it saves a probe at startup
+        setDefaultAutoCommit(primary.isAutoCommit());
+        setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        setTargetDataSource(router);
+        afterPropertiesSet();
+    }
+
+    private static DataSourceRole resolveRole(ReadYourWritesTracker readYourWritesTracker) {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            && !readYourWritesTracker.hasRecentlyWritten()) {
+            return DataSourceRole.REPLICA;
+        }
+        return DataSourceRole.PRIMARY;
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+}
@@ -0,0 +1,72 @@
+package com.resetrix.genesis.shared.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Locale;
+
+/**
+ * Rejects multipart requests whose declared {@code Content-Length} exceeds the configured maximum before
+ * anything else runs, so an oversized upload is neither authenticated nor spooled to disk. Requests without
+ * a declared length are left to the multipart parser, which enforces the same limit while reading.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MultipartContentLengthFilter extends OncePerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultipartContentLengthFilter.class);
+
+    private final MultipartProperties multipartProperties;
+    private final ObjectMapper objectMapper;
+
+    public MultipartContentLengthFilter(MultipartProperties multipartProperties, ObjectMapper objectMapper) {
+        this.multipartProperties = multipartProperties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType == null
+               || !contentType.toLowerCase(Locale.ROOT).startsWith(MediaType.MULTIPART_FORM_DATA_VALUE);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        DataSize maxRequestSize = multipartProperties.getMaxRequestSize();
+        long contentLength = request.getContentLengthLong();
+        if (maxRequestSize == null || maxRequestSize.isNegative() || contentLength <= maxRequestSize.toBytes()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        LOGGER.debug("Rejected multipart request of {} bytes to {}", contentLength, request.getRequestURI());
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.PAYLOAD_TOO_LARGE,
+                String.format("Request must not exceed %d bytes", maxRequestSize.toBytes()));
+        problemDetail.setInstance(URI.create(request.getRequestURI()));
+
+        response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        // Closing the connection spares the container from draining a body nobody will read
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        objectMapper.writeValue(response.getWriter(), problemDetail);
+    }
+}
@@ -0,0 +1,107 @@
+package com.resetrix.genesis.shared.helpers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Encodes keyset pagination positions as opaque, URL-safe tokens.
+ * <p>
+ * Values are written with a type tag so that they can be bound back to query parameters
+ * of the same type; only {@link Long}, {@link String} and {@link Timestamp} are supported.
+ */
+public final class CursorHelper {
+
+    private static final byte VERSION = 1;
+    private static final byte TYPE_LONG = 'L';
+    private static final byte TYPE_STRING = 'S';
+    private static final byte TYPE_TIMESTAMP = 'T';
+    private static final int MAX_VALUES = 16;
+
+    private CursorHelper() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String encode(Object... values) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(buffer)) {
+            output.writeByte(VERSION);
+            output.writeByte(values.length);
+            for (Object value : values) {
+                writeValue(output, value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode cursor", e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.toByteArray());
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode(Object...)}
+     */
+    public static List<Object> decode(String cursor) {
+        try (DataInputStream input = new DataInputStream(
+            new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (input.readByte() != VERSION) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+
+            int count = input.readUnsignedByte();
+            if (count > MAX_VALUES) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+
+            List<Object> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(readValue(input));
+            }
+            if (input.available() > 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return values;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private static void writeValue(DataOutputStream output, Object value) throws IOException {
+        switch (value) {
+            case Long number -> {
+                output.writeByte(TYPE_LONG);
+                output.writeLong(number);
+            }
+            case String text -> {
+                output.writeByte(TYPE_STRING);
+                output.writeUTF(text);
+            }
+            case Timestamp timestamp -> {
+                output.writeByte(TYPE_TIMESTAMP);
+                output.writeLong(timestamp.getTime());
+                output.writeInt(timestamp.getNanos());
+            }
+            case null, default -> throw new IllegalArgumentException(
+                "Unsupported cursor value: " + value);
+        }
+    }
+
+    private static Object readValue(DataInputStream input) throws IOException {
+        byte type = input.readByte();
+        return switch (type) {
+            case TYPE_LONG -> input.readLong();
+            case TYPE_STRING -> input.readUTF();
+            case TYPE_TIMESTAMP -> {
+                Timestamp timestamp = new Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                yield timestamp;
+            }
+            default -> throw new IllegalArgumentException("Invalid cursor");
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.resetrix.genesis.shared.helpers;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class DigestHelper {
+
+    private static final String SHA_256 = "SHA-256";
+
+    private DigestHelper() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance(SHA_256);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public static String sha256Hex(byte[] content) {
+        return HexFormat.of().formatHex(newSha256().digest(content));
+    }
+
+    /**
+     * Completes a digest fed incrementally, e.g. through a {@link java.security.DigestOutputStream}.
+     */
+    public static String toHex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,52 @@
+package com.resetrix.genesis.shared.helpers;
+
+public final class ETagHelper {
+
+    private static final String WILDCARD = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETagHelper() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String strong(String value) {
+        return "\"" + value + "\"";
+    }
+
+    /**
+     * Weak comparison as used by {@code If-None-Match}: the {@code W/} prefix is ignored.
+     */
+    public static boolean matchesAny(String headerValue, String etag) {
+        return matches(headerValue, etag, true);
+    }
+
+    /**
+     * Strong comparison as used by {@code If-Match}: weak validators never match.
+     */
+    public static boolean matchesAnyStrongly(String headerValue, String etag) {
+        return matches(headerValue, etag, false);
+    }
+
+    private static boolean matches(String headerValue, String etag, boolean weak) {
+        if (headerValue == null || headerValue.isBlank() || etag == null) {
+            return false;
+        }
+
+        for (String candidate : headerValue.split(",")) {
+            String trimmed = candidate.trim();
+            if (WILDCARD.equals(trimmed)) {
+                return true;
+            }
+            if (trimmed.startsWith(WEAK_PREFIX)) {
+                if (!weak) {
+                    continue;
+                }
+                trimmed = trimmed.substring(WEAK_PREFIX.length());
+            }
+            if (trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,201 @@
+package com.resetrix.genesis.shared.helpers;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+
+public final class ImageHelper {
+
+    public static final String PNG = "png";
+
+    private static final float JPEG_QUALITY = 0.9f;
+
+    private ImageHelper() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Format and dimensions of an image, read from its header without decoding the pixels.
+     */
+    public record ImageInfo(String formatName, String contentType, int width, int height) {
+
+        public long pixels() {
+            return (long) width * height;
+        }
+    }
+
+    public record EncodedImage(byte[] content, String contentType) {
+    }
+
+    /**
+     * @return the header of the image, or {@code null} if no installed reader recognizes the content
+     */
+    public static ImageInfo probe(InputStream content) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            ImageReader reader = findReader(input);
+            if (reader == null) {
+                return null;
+            }
+
+            try {
+                reader.setInput(input, true, true);
+                return toInfo(reader);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Decodes the first frame of the image. Only the raster is read, so EXIF, ICC, comments and
+     * any other metadata are left behind. The header is checked against {@code maxPixels} before
+     * the pixels are allocated.
+     *
+     * @throws IOException if the content is not a readable image or is larger than allowed
+     */
+    public static BufferedImage read(Path file, long maxPixels) throws IOException {
+        try (InputStream content = Files.newInputStream(file);
+             ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            ImageReader reader = findReader(input);
+            if (reader == null) {
+                throw new IOException("Unsupported image format");
+            }
+
+            try {
+                reader.setInput(input, true, true);
+                ImageInfo info = toInfo(reader);
+                if (info.pixels() > maxPixels) {
+                    throw new IOException(String.format(
+                            "Image of %dx%d exceeds %d pixels", info.width(), info.height(), maxPixels));
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scales the image down so that its longer edge is at most {@code size}, keeping the aspect ratio.
+     * Smaller images are returned unchanged.
+     */
+    public static BufferedImage fit(BufferedImage image, int size) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (width <= size && height <= size) {
+            return image;
+        }
+
+        double scale = (double) size / Math.max(width, height);
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        // Halving step by step keeps bilinear filtering from skipping source pixels on large reductions
+        BufferedImage scaled = image;
+        while (width > targetWidth || height > targetHeight) {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            scaled = draw(scaled, width, height);
+        }
+        return scaled;
+    }
+
+    /**
+     * Encodes the image in the given format, falling back to PNG when no writer can handle it.
+     *
+     * @return the encoded image and the content type it was written with
+     */
+    public static EncodedImage write(BufferedImage image, String formatName) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        String contentType = write(image, formatName, content);
+        return new EncodedImage(content.toByteArray(), contentType);
+    }
+
+    /**
+     * Same as {@link #write(BufferedImage, String)}, streaming the encoded bytes to {@code output}
+     * instead of collecting them in memory. The stream is left open.
+     *
+     * @return the content type the image was written with
+     */
+    public static String write(BufferedImage image, String formatName, OutputStream output) throws IOException {
+        ImageWriter writer = findWriter(image, formatName);
+        if (writer == null) {
+            writer = findWriter(image, PNG);
+        }
+        if (writer == null) {
+            throw new IOException("No image writer available");
+        }
+
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), writeParam(writer));
+        } finally {
+            writer.dispose();
+        }
+        return writer.getOriginatingProvider().getMIMETypes()[0];
+    }
+
+    private static ImageReader findReader(ImageInputStream input) {
+        if (input == null) {
+            return null;
+        }
+
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+        return readers.hasNext() ? readers.next() : null;
+    }
+
+    private static ImageInfo toInfo(ImageReader reader) throws IOException {
+        String[] contentTypes = reader.getOriginatingProvider().getMIMETypes();
+        return new ImageInfo(
+                reader.getFormatName().toLowerCase(Locale.ROOT),
+                contentTypes != null && contentTypes.length > 0 ? contentTypes[0] : null,
+                reader.getWidth(0),
+                reader.getHeight(0));
+    }
+
+    private static ImageWriter findWriter(BufferedImage image, String formatName) {
+        Iterator<ImageWriter> writers = ImageIO.getImageWriters(
+                ImageTypeSpecifier.createFromRenderedImage(image), formatName);
+        return writers.hasNext() ? writers.next() : null;
+    }
+
+    private static ImageWriteParam writeParam(ImageWriter writer) {
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if ("jpeg".equalsIgnoreCase(writer.getOriginatingProvider().getFormatNames()[0])
+            && param.canWriteCompressed()) {
+            // The default of 0.75 visibly degrades logos with text and sharp edges
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+        }
+        return param;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
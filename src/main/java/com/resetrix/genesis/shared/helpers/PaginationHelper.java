@@ -0,0 +1,26 @@
+package com.resetrix.genesis.shared.helpers;
+
+/**
+ * Bounds shared by every paginated read, so that one request cannot pull an unbounded page.
+ */
+public final class PaginationHelper {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private PaginationHelper() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @throws IllegalArgumentException if the page is negative or the size is not between 1 and
+     *                                  {@link #MAX_PAGE_SIZE}
+     */
+    public static void validate(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must be >= 0");
+        }
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(String.format("Size must be > 0 and <= %d", MAX_PAGE_SIZE));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.resetrix.genesis.shared.helpers;
 
 import com.resetrix.genesis.modules.company.exceptions.CustomDatabaseException;
+import com.resetrix.genesis.modules.company.exceptions.DuplicateRegistrationNumberException;
 import com.resetrix.genesis.modules.company.exceptions.InvalidFileException;
 import com.resetrix.genesis.shared.exceptions.FeignServiceException;
 import feign.FeignException;
@@ -50,6 +51,12 @@ public final class ServiceOperationExecutor {
         } catch (IllegalArgumentException ex) {
             // Re-throw validation exceptions as-is
             throw ex;
+        } catch (DuplicateRegistrationNumberException ex) {
+            // Detected before the insert, so there is no database exception to translate
+            throw ex;
+        } catch (OptimisticLockingFailureException ex) {
+            // Left as it is so that the web layer can answer 409 and the client can retry
+            throw ex;
         } catch (EntityNotFoundException ex) {
             throw handleEntityNotFoundException(ex, context);
         } catch (EntityExistsException ex) {
@@ -58,8 +65,6 @@ public final class ServiceOperationExecutor {
             throw handleDataIntegrityViolationException(ex, context);
         } catch (ConstraintViolationException ex) {
             throw handleConstraintViolationException(ex, context);
-        } catch (OptimisticLockingFailureException ex) {
-            throw new CustomDatabaseException("Concurrent modification detected", ex);
         } catch (JpaSystemException ex) {
             throw handleJpaSystemException(ex, context);
         }  catch (PersistenceException ex) {
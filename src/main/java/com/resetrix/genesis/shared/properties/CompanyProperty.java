@@ -0,0 +1,146 @@
+package com.resetrix.genesis.shared.properties;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "app.company")
+public class CompanyProperty {
+
+    private BulkProperties bulk = new BulkProperties();
+    private BatchGetProperties batchGet = new BatchGetProperties();
+    private CacheProperties cache = new CacheProperties();
+    private UuidIndexProperties uuidIndex = new UuidIndexProperties();
+    private NameIndexProperties nameIndex = new NameIndexProperties();
+    private RegistrationNumberFilterProperties registrationNumberFilter = new RegistrationNumberFilterProperties();
+    private LogoProperties logo = new LogoProperties();
+    private ArchiveProperties archive = new ArchiveProperties();
+
+    @Getter
+    @Setter
+    public static class BulkProperties {
+        // Rows inserted and committed together; a constraint violation only retries its own chunk
+        @Min(1)
+        @Max(5000)
+        private int chunkSize = 500;
+
+        @Min(1)
+        private int maxItems = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class BatchGetProperties {
+        // Keys per IN (...) query, keeping the statement and its plan a manageable size
+        @Min(1)
+        @Max(5000)
+        private int chunkSize = 500;
+
+        @Min(1)
+        private int maxItems = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class CacheProperties {
+        private boolean enabled = true;
+
+        // Upper bound on staleness for writes made outside this instance
+        @NotNull
+        private Duration ttl = Duration.ofMinutes(10);
+
+        @Min(1)
+        private long maxSize = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class UuidIndexProperties {
+        // Treat UUIDs missing from the index as not found; only safe while every insert
+        // goes through this instance, so it stays off unless the deployment guarantees that
+        private boolean authoritative;
+    }
+
+    @Getter
+    @Setter
+    public static class NameIndexProperties {
+        // Holds every live company name in memory; when off, autocomplete runs a prefix query instead
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class RegistrationNumberFilterProperties {
+        // Answers "certainly new" from memory; when off, every number is looked up before it is written
+        private boolean enabled = true;
+
+        // Lower bound on capacity; the filter is sized for twice the stored rows when that is more
+        @Min(1)
+        private long expectedInsertions = 1_000_000;
+
+        @DecimalMin(value = "0", inclusive = false)
+        @DecimalMax(value = "0.5")
+        private double falsePositiveRate = 0.01;
+    }
+
+    @Getter
+    @Setter
+    public static class LogoProperties {
+        // Threads decoding and scaling uploaded logos after their company commits
+        @Min(1)
+        private int threads = 2;
+
+        // Logos arriving beyond this are processed by the uploading request rather than queued without bound
+        @Min(1)
+        private int queueCapacity = 100;
+
+        // Checked against the image header before decoding, so a tiny file cannot claim gigabytes of pixels
+        @Min(1)
+        private long maxPixels = 40_000_000;
+    }
+
+    @Getter
+    @Setter
+    public static class ArchiveProperties {
+        // Runs the job on the cron below; the trigger endpoint works either way
+        private boolean enabled = true;
+
+        @NotBlank
+        private String cron = "0 30 3 * * *";
+
+        // How long a company stays soft-deleted, and restorable, before it is moved to the archive
+        @NotNull
+        private Duration retention = Duration.ofDays(30);
+
+        // Rows moved per transaction; their locks are released when the batch commits
+        @Min(1)
+        @Max(5000)
+        private int batchSize = 500;
+
+        // Sleep between batches, leaving the database and its replicas room for other work
+        @NotNull
+        private Duration pause = Duration.ofMillis(200);
+
+        // Caps a single run; whatever is left waits for the next one
+        @Min(1)
+        private int maxBatchesPerRun = 200;
+
+        // A batch waiting longer than this for a lock gives up and ends the run
+        @NotNull
+        private Duration lockTimeout = Duration.ofSeconds(2);
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Component
@@ -16,6 +18,7 @@ public class DatabaseProperty {
     private String password;
     private String driverClassName;
     private HikariProperties hikari = new HikariProperties();
+    private ReplicaProperties replica = new ReplicaProperties();
 
     @Getter
     @Setter
@@ -27,4 +30,16 @@ public class DatabaseProperty {
         private Long connectionTimeout;
         private Long leakDetectionThreshold;
     }
+
+    @Getter
+    @Setter
+    public static class ReplicaProperties {
+        private boolean enabled;
+        private String url;
+        private String username;
+        private String password;
+        private HikariProperties hikari = new HikariProperties();
+        // Reads by a principal who has just written stay on the primary for this long to ride out replication lag
+        private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    }
 }
\ No newline at end of file
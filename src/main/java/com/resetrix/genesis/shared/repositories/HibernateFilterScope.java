@@ -0,0 +1,38 @@
+package com.resetrix.genesis.shared.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs queries with an auto-enabled Hibernate filter switched off. Filters belong to the session,
+ * so the work runs in a read-only transaction that keeps one session bound for its duration.
+ */
+@Component
+public class HibernateFilterScope {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public HibernateFilterScope(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public <T> T withoutFilter(String filterName, Supplier<T> work) {
+        return transactionTemplate.execute(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.disableFilter(filterName);
+            try {
+                return work.get();
+            } finally {
+                session.enableFilter(filterName);
+            }
+        });
+    }
+}
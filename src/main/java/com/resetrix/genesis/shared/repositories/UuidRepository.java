@@ -1,5 +1,7 @@
 package com.resetrix.genesis.shared.repositories;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
@@ -9,4 +11,14 @@ import java.util.UUID;
 @NoRepositoryBean
 public interface UuidRepository<T> extends JpaRepository<T, Long> {
     Optional<T> findByUuid(UUID uuid);
-}
\ No newline at end of file
+
+    // Projection lookups select only the columns of the requested type instead of a managed entity
+    <P> Optional<P> findById(Long id, Class<P> type);
+
+    <P> Optional<P> findByUuid(UUID uuid, Class<P> type);
+
+    // Reads one row past the page to tell whether another follows, instead of running a count query
+    <P> Slice<P> findSliceBy(Pageable pageable, Class<P> type);
+
+    boolean existsByUuid(UUID uuid);
+}
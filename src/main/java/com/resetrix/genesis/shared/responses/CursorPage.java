@@ -0,0 +1,11 @@
+package com.resetrix.genesis.shared.responses;
+
+import java.util.List;
+
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,5 @@
+-- Listing with state=deleted sorts soft-deleted rows only; these mirror the live-row indexes from V6.
+-- id and registration_number sorts are served by the primary key and the unique constraint.
+CREATE INDEX idx_companies_deleted_name_id ON companies (name, id) WHERE soft_delete = true;
+CREATE INDEX idx_companies_deleted_created_at_id ON companies (created_at, id) WHERE soft_delete = true;
+CREATE INDEX idx_companies_deleted_updated_at_id ON companies (updated_at, id) WHERE soft_delete = true;
@@ -0,0 +1,12 @@
+-- Thumbnails derived from the stored logo, so that showing an icon never means downloading the original
+CREATE TABLE company_logo_variants
+(
+    company_id     BIGINT       NOT NULL REFERENCES companies (id) ON DELETE CASCADE,
+    size           VARCHAR(16)  NOT NULL,
+    content        BYTEA        NOT NULL,
+    content_type   VARCHAR(100) NOT NULL,
+    content_length BIGINT       NOT NULL,
+    checksum       VARCHAR(64)  NOT NULL,
+    created_at     TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (company_id, size)
+);
@@ -0,0 +1,90 @@
+-- Each distinct logo is stored once, addressed by the SHA-256 of its content; companies only hold the hash
+CREATE TABLE logo_blobs
+(
+    checksum       VARCHAR(64) PRIMARY KEY,
+    content        BYTEA        NOT NULL,
+    content_type   VARCHAR(100),
+    content_length BIGINT       NOT NULL,
+    ref_count      BIGINT       NOT NULL DEFAULT 0,
+    created_at     TIMESTAMP             DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Thumbnails belong to the blob they were derived from, so identical logos share them as well
+CREATE TABLE logo_blob_variants
+(
+    logo_checksum  VARCHAR(64)  NOT NULL REFERENCES logo_blobs (checksum) ON DELETE CASCADE,
+    size           VARCHAR(16)  NOT NULL,
+    content        BYTEA        NOT NULL,
+    content_type   VARCHAR(100) NOT NULL,
+    content_length BIGINT       NOT NULL,
+    checksum       VARCHAR(64)  NOT NULL,
+    created_at     TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (logo_checksum, size)
+);
+
+-- Thumbnails are streamed by their own checksum, which is also their ETag
+CREATE INDEX idx_logo_blob_variants_checksum ON logo_blob_variants (checksum);
+
+INSERT INTO logo_blobs (checksum, content, content_type, content_length, created_at)
+SELECT DISTINCT ON (checksum) checksum, content, content_type, content_length, created_at
+FROM company_logos
+ORDER BY checksum, created_at;
+
+INSERT INTO logo_blob_variants (logo_checksum, size, content, content_type, content_length, checksum, created_at)
+SELECT DISTINCT ON (l.checksum, v.size) l.checksum, v.size, v.content, v.content_type, v.content_length,
+                                        v.checksum, v.created_at
+FROM company_logo_variants v
+JOIN company_logos l ON l.company_id = v.company_id
+ORDER BY l.checksum, v.size, v.created_at;
+
+-- logo_uploaded_at keeps a late write of an older upload from replacing a newer logo
+ALTER TABLE companies ADD COLUMN logo_checksum VARCHAR(64) REFERENCES logo_blobs (checksum);
+ALTER TABLE companies ADD COLUMN logo_uploaded_at TIMESTAMP;
+
+UPDATE companies c
+SET logo_checksum    = l.checksum,
+    logo_uploaded_at = l.updated_at
+FROM company_logos l
+WHERE l.company_id = c.id;
+
+UPDATE logo_blobs b
+SET ref_count = (SELECT count(*) FROM companies c WHERE c.logo_checksum = b.checksum);
+
+CREATE INDEX idx_companies_logo_checksum ON companies (logo_checksum) WHERE logo_checksum IS NOT NULL;
+
+DROP TABLE company_logo_variants;
+DROP TABLE company_logos;
+
+-- Soft-deleted companies keep their reference so that a restore brings the logo back;
+-- a blob is dropped together with its thumbnails once no company points at it any more
+CREATE FUNCTION count_logo_references() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.logo_checksum IS NOT NULL THEN
+        UPDATE logo_blobs SET ref_count = ref_count - 1 WHERE checksum = OLD.logo_checksum;
+        DELETE FROM logo_blobs WHERE checksum = OLD.logo_checksum AND ref_count <= 0;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.logo_checksum IS NOT NULL THEN
+        UPDATE logo_blobs SET ref_count = ref_count + 1 WHERE checksum = NEW.logo_checksum;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER companies_logo_reference_insert
+    AFTER INSERT ON companies
+    FOR EACH ROW
+    WHEN (NEW.logo_checksum IS NOT NULL)
+    EXECUTE FUNCTION count_logo_references();
+
+CREATE TRIGGER companies_logo_reference_update
+    AFTER UPDATE OF logo_checksum ON companies
+    FOR EACH ROW
+    WHEN (OLD.logo_checksum IS DISTINCT FROM NEW.logo_checksum)
+    EXECUTE FUNCTION count_logo_references();
+
+CREATE TRIGGER companies_logo_reference_delete
+    AFTER DELETE ON companies
+    FOR EACH ROW
+    WHEN (OLD.logo_checksum IS NOT NULL)
+    EXECUTE FUNCTION count_logo_references();
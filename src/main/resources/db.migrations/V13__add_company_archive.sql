@@ -0,0 +1,45 @@
+-- When a company was soft-deleted, kept by a trigger so that every path that flips soft_delete records it
+ALTER TABLE companies ADD COLUMN deleted_at TIMESTAMP;
+
+UPDATE companies SET deleted_at = updated_at WHERE soft_delete = true;
+
+CREATE FUNCTION stamp_company_deletion() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.deleted_at := CASE WHEN NEW.soft_delete THEN CURRENT_TIMESTAMP END;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER companies_deletion_stamp_insert
+    BEFORE INSERT ON companies
+    FOR EACH ROW
+    WHEN (NEW.soft_delete)
+    EXECUTE FUNCTION stamp_company_deletion();
+
+CREATE TRIGGER companies_deletion_stamp_update
+    BEFORE UPDATE OF soft_delete ON companies
+    FOR EACH ROW
+    WHEN (OLD.soft_delete IS DISTINCT FROM NEW.soft_delete)
+    EXECUTE FUNCTION stamp_company_deletion();
+
+-- The archiver walks the oldest deletions first and never touches live rows
+CREATE INDEX idx_companies_deleted_at ON companies (deleted_at) WHERE soft_delete = true;
+
+-- Companies soft-deleted long enough ago are moved here. The logo reference is kept as a plain value:
+-- deleting the live row releases it, so the blob may be gone once no other company uses it.
+CREATE TABLE companies_archive
+(
+    id                  BIGINT PRIMARY KEY,
+    uuid                UUID         NOT NULL,
+    name                VARCHAR(255) NOT NULL,
+    registration_number VARCHAR(20)  NOT NULL,
+    logo_checksum       VARCHAR(64),
+    created_at          TIMESTAMP,
+    updated_at          TIMESTAMP,
+    deleted_at          TIMESTAMP,
+    version             BIGINT       NOT NULL,
+    archived_at         TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_companies_archive_uuid ON companies_archive (uuid);
+CREATE INDEX idx_companies_archive_registration_number ON companies_archive (registration_number);
@@ -0,0 +1,85 @@
+-- Spreads the counts from V8 over several rows, since a single row serialized every insert, delete and
+-- soft-delete flip behind whichever transaction touched it first. A backend always updates the row picked
+-- by its process id, so writers on different connections rarely share a row and a transaction never locks
+-- more than one. Readers sum the rows; a single row can go negative and means nothing on its own.
+CREATE TABLE company_count_shards (
+    shard   SMALLINT PRIMARY KEY CHECK (shard >= 0 AND shard < 16),
+    live    BIGINT   NOT NULL DEFAULT 0,
+    deleted BIGINT   NOT NULL DEFAULT 0
+);
+
+INSERT INTO company_count_shards (shard)
+SELECT generate_series(0, 15);
+
+UPDATE company_count_shards
+SET live    = counts.live,
+    deleted = counts.deleted
+FROM (
+    SELECT count(*) FILTER (WHERE NOT soft_delete) AS live,
+           count(*) FILTER (WHERE soft_delete)     AS deleted
+    FROM companies
+) counts
+WHERE shard = 0;
+
+CREATE FUNCTION company_count_shard() RETURNS SMALLINT AS $$
+    SELECT (pg_backend_pid() % 16)::SMALLINT
+$$ LANGUAGE sql STABLE;
+
+-- Statement-level triggers also fire for statements that touch no row; those leave the counts alone
+CREATE OR REPLACE FUNCTION count_inserted_companies() RETURNS TRIGGER AS $$
+DECLARE
+    live_delta    BIGINT;
+    deleted_delta BIGINT;
+BEGIN
+    SELECT count(*) FILTER (WHERE NOT soft_delete), count(*) FILTER (WHERE soft_delete)
+    INTO live_delta, deleted_delta
+    FROM inserted;
+
+    IF live_delta <> 0 OR deleted_delta <> 0 THEN
+        UPDATE company_count_shards
+        SET live    = live + live_delta,
+            deleted = deleted + deleted_delta
+        WHERE shard = company_count_shard();
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION count_deleted_companies() RETURNS TRIGGER AS $$
+DECLARE
+    live_delta    BIGINT;
+    deleted_delta BIGINT;
+BEGIN
+    SELECT count(*) FILTER (WHERE NOT soft_delete), count(*) FILTER (WHERE soft_delete)
+    INTO live_delta, deleted_delta
+    FROM removed;
+
+    IF live_delta <> 0 OR deleted_delta <> 0 THEN
+        UPDATE company_count_shards
+        SET live    = live - live_delta,
+            deleted = deleted - deleted_delta
+        WHERE shard = company_count_shard();
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Only soft_delete flips move a row between the two counts
+CREATE OR REPLACE FUNCTION count_updated_companies() RETURNS TRIGGER AS $$
+DECLARE
+    delta BIGINT;
+BEGIN
+    SELECT (SELECT count(*) FROM updated WHERE soft_delete) - (SELECT count(*) FROM previous WHERE soft_delete)
+    INTO delta;
+
+    IF delta <> 0 THEN
+        UPDATE company_count_shards
+        SET live    = live - delta,
+            deleted = deleted + delta
+        WHERE shard = company_count_shard();
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TABLE company_counts;
@@ -0,0 +1,18 @@
+CREATE TABLE company_logos
+(
+    company_id     BIGINT PRIMARY KEY REFERENCES companies (id) ON DELETE CASCADE,
+    content        BYTEA        NOT NULL,
+    content_type   VARCHAR(100),
+    content_length BIGINT       NOT NULL,
+    created_at     TIMESTAMP             DEFAULT CURRENT_TIMESTAMP,
+    updated_at     TIMESTAMP             DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Move existing logos out of the companies row so that list queries no longer drag the blobs along
+INSERT INTO company_logos (company_id, content, content_type, content_length, created_at, updated_at)
+SELECT id, logo, NULL, octet_length(logo), created_at, updated_at
+FROM companies
+WHERE logo IS NOT NULL
+  AND octet_length(logo) > 0;
+
+ALTER TABLE companies DROP COLUMN logo;
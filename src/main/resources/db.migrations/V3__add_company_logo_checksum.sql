@@ -0,0 +1,8 @@
+-- SHA-256 of the logo bytes, served as a strong ETag so clients can revalidate without downloading the blob
+ALTER TABLE company_logos ADD COLUMN checksum VARCHAR(64);
+
+UPDATE company_logos
+SET checksum = encode(sha256(content), 'hex')
+WHERE checksum IS NULL;
+
+ALTER TABLE company_logos ALTER COLUMN checksum SET NOT NULL;
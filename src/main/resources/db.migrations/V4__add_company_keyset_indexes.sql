@@ -0,0 +1,12 @@
+-- Keyset pagination compares (sort column, id) tuples, so the timestamps must not be NULL
+UPDATE companies SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+UPDATE companies SET updated_at = created_at WHERE updated_at IS NULL;
+
+ALTER TABLE companies ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE companies ALTER COLUMN updated_at SET NOT NULL;
+
+-- One (column, id) index per sortable column; descending pages scan the same index backwards.
+-- registration_number is unique, so its existing unique index already serves the range scan.
+CREATE INDEX idx_companies_name_id ON companies (name, id);
+CREATE INDEX idx_companies_created_at_id ON companies (created_at, id);
+CREATE INDEX idx_companies_updated_at_id ON companies (updated_at, id);
@@ -0,0 +1,3 @@
+-- Company ids are now assigned by Hibernate's pooled optimizer, which reserves a block of
+-- ids per nextval() call; the increment must equal allocationSize on Company.id
+ALTER SEQUENCE companies_id_seq INCREMENT BY 50;
@@ -0,0 +1,21 @@
+-- Reads only see rows with soft_delete = false by default, so index just the live rows.
+-- A boolean index is too unselective to be chosen for the common case and is dropped.
+DROP INDEX IF EXISTS idx_companies_soft_delete;
+
+-- Redundant with the unique constraint on registration_number
+DROP INDEX IF EXISTS idx_companies_registration;
+
+CREATE INDEX idx_companies_active_registration_number ON companies (registration_number) WHERE soft_delete = false;
+
+-- Filtered UUID queries such as the logo lookup use the partial index; idx_companies_uuid stays
+-- for the id fallback of the UUID index, which must also find deleted rows
+CREATE INDEX idx_companies_active_uuid ON companies (uuid) WHERE soft_delete = false;
+
+-- Keyset sort columns, replacing the full indexes from V4
+DROP INDEX IF EXISTS idx_companies_name_id;
+DROP INDEX IF EXISTS idx_companies_created_at_id;
+DROP INDEX IF EXISTS idx_companies_updated_at_id;
+
+CREATE INDEX idx_companies_active_name_id ON companies (name, id) WHERE soft_delete = false;
+CREATE INDEX idx_companies_active_created_at_id ON companies (created_at, id) WHERE soft_delete = false;
+CREATE INDEX idx_companies_active_updated_at_id ON companies (updated_at, id) WHERE soft_delete = false;
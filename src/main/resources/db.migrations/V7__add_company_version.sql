@@ -0,0 +1,3 @@
+-- Optimistic locking counter, served with updated_at as the company's strong ETag.
+-- Existing rows start at 0, the same value Hibernate assigns to new ones.
+ALTER TABLE companies ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
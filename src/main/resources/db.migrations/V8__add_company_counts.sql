@@ -0,0 +1,63 @@
+-- Row counts for paged lists, kept up to date by statement-level triggers so that a page with a
+-- total never needs SELECT COUNT(*) over companies. Inserts, deletes and soft-delete flips lock the
+-- single row until their transaction ends, so such writes are serialized against each other.
+CREATE TABLE company_counts (
+    id      BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+    live    BIGINT  NOT NULL,
+    deleted BIGINT  NOT NULL
+);
+
+INSERT INTO company_counts (live, deleted)
+SELECT count(*) FILTER (WHERE NOT soft_delete),
+       count(*) FILTER (WHERE soft_delete)
+FROM companies;
+
+CREATE FUNCTION count_inserted_companies() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE company_counts
+    SET live    = live + (SELECT count(*) FROM inserted WHERE NOT soft_delete),
+        deleted = deleted + (SELECT count(*) FROM inserted WHERE soft_delete);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION count_deleted_companies() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE company_counts
+    SET live    = live - (SELECT count(*) FROM removed WHERE NOT soft_delete),
+        deleted = deleted - (SELECT count(*) FROM removed WHERE soft_delete);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Only soft_delete flips move a row between the two counts
+CREATE FUNCTION count_updated_companies() RETURNS TRIGGER AS $$
+DECLARE
+    delta BIGINT;
+BEGIN
+    SELECT (SELECT count(*) FROM updated WHERE soft_delete) - (SELECT count(*) FROM previous WHERE soft_delete)
+    INTO delta;
+
+    IF delta <> 0 THEN
+        UPDATE company_counts
+        SET live    = live - delta,
+            deleted = deleted + delta;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER companies_count_insert
+    AFTER INSERT ON companies
+    REFERENCING NEW TABLE AS inserted
+    FOR EACH STATEMENT EXECUTE FUNCTION count_inserted_companies();
+
+CREATE TRIGGER companies_count_delete
+    AFTER DELETE ON companies
+    REFERENCING OLD TABLE AS removed
+    FOR EACH STATEMENT EXECUTE FUNCTION count_deleted_companies();
+
+CREATE TRIGGER companies_count_update
+    AFTER UPDATE ON companies
+    REFERENCING OLD TABLE AS previous NEW TABLE AS updated
+    FOR EACH STATEMENT EXECUTE FUNCTION count_updated_companies();
@@ -0,0 +1,9 @@
+-- Name search matches lower(name) with LIKE, over live rows only.
+-- Requires a role allowed to create extensions; pg_trgm ships with PostgreSQL contrib.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Substring search: lower(name) LIKE '%term%'
+CREATE INDEX idx_companies_active_name_trgm ON companies USING gin (lower(name) gin_trgm_ops) WHERE soft_delete = false;
+
+-- Prefix search: lower(name) LIKE 'term%', usable whatever the database collation
+CREATE INDEX idx_companies_active_name_prefix ON companies (lower(name) text_pattern_ops) WHERE soft_delete = false;
@@ -0,0 +1,75 @@
+package com.resetrix.genesis.modules.company.controllers;
+
+import com.resetrix.genesis.modules.company.responses.CompanyArchiveResponse;
+import com.resetrix.genesis.modules.company.services.CompanyArchiveService;
+import com.resetrix.genesis.testsupports.securities.SecurityConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(SecurityConfiguration.class)
+@WebMvcTest(value = CompanyArchiveController.class)
+class CompanyArchiveControllerTest {
+
+    private static final String ARCHIVE_URL = "/api/v1/companies/archive";
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private CompanyArchiveService companyArchiveService;
+
+    @Autowired
+    CompanyArchiveControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @WithMockUser
+    void archiveDeleted_shouldReturnAccepted_onceTheRunHasStarted() throws Exception {
+        // Arrange
+        when(companyArchiveService.archiveDeleted()).thenReturn(CompanyArchiveResponse.started());
+
+        // Act & Assert
+        mockMvc.perform(post(ARCHIVE_URL).with(csrf()))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.status").value("STARTED"))
+            .andExpect(jsonPath("$.data.batches").value(0))
+            .andExpect(jsonPath("$.data.archived").value(0));
+    }
+
+    @Test
+    @WithMockUser
+    void archiveDeleted_shouldReturnConflict_whenARunIsAlreadyInProgress() throws Exception {
+        // Arrange
+        when(companyArchiveService.archiveDeleted()).thenReturn(CompanyArchiveResponse.alreadyRunning());
+
+        // Act & Assert
+        mockMvc.perform(post(ARCHIVE_URL).with(csrf()))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.data.status").value("ALREADY_RUNNING"));
+    }
+
+    @Test
+    @WithMockUser
+    void archiveDeleted_shouldReturnInternalServerError_whenTheDatabaseFails() throws Exception {
+        // Arrange
+        when(companyArchiveService.archiveDeleted())
+            .thenThrow(new DataAccessResourceFailureException("Database connection failed"));
+
+        // Act & Assert
+        mockMvc.perform(post(ARCHIVE_URL).with(csrf()))
+            .andExpect(status().isInternalServerError());
+    }
+}
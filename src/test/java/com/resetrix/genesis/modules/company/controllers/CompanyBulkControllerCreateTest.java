@@ -0,0 +1,123 @@
+package com.resetrix.genesis.modules.company.controllers;
+
+import com.resetrix.genesis.modules.company.requests.CompanyBulkRequest;
+import com.resetrix.genesis.modules.company.responses.CompanyBulkResponse;
+import com.resetrix.genesis.modules.company.responses.CompanyBulkResult;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.modules.company.services.CompanyBulkService;
+import com.resetrix.genesis.testsupports.securities.SecurityConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(SecurityConfiguration.class)
+@WebMvcTest(value = CompanyBulkController.class)
+public class CompanyBulkControllerCreateTest {
+
+    private static final String BULK_URL = "/api/v1/companies/bulk";
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private CompanyBulkService companyBulkService;
+
+    @Autowired
+    public CompanyBulkControllerCreateTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @WithMockUser
+    void createAll_shouldReturnPerItemResults_whenJsonArrayPosted() throws Exception {
+        List<CompanyBulkRequest> requests = List.of(
+            new CompanyBulkRequest("Alpha", "REG1"),
+            new CompanyBulkRequest("Beta", "REG1"));
+        CompanyResponse created =
+            new CompanyResponse(1L, UUID.randomUUID(), "Alpha", "REG1", null, false, null, null, 0L);
+
+        when(companyBulkService.saveAll(requests))
+            .thenReturn(CompanyBulkResponse.of(List.of(
+                CompanyBulkResult.created(0, created),
+                CompanyBulkResult.duplicate(1, "REG1"))));
+
+        mockMvc.perform(post(BULK_URL)
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    [{"name": "Alpha", "registrationNumber": "REG1"},
+                     {"name": "Beta", "registrationNumber": "REG1"}]
+                    """))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.total").value(2))
+            .andExpect(jsonPath("$.data.created").value(1))
+            .andExpect(jsonPath("$.data.failed").value(1))
+            .andExpect(jsonPath("$.data.results[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.data.results[0].company.id").value(1))
+            .andExpect(jsonPath("$.data.results[1].status").value("DUPLICATE"))
+            .andExpect(jsonPath("$.data.results[1].error").value("Registration number REG1 already exists"));
+    }
+
+    @Test
+    @WithMockUser
+    void createAllFromNdjson_shouldParseOneCompanyPerLine_whenNdjsonPosted() throws Exception {
+        List<CompanyBulkRequest> requests = List.of(
+            new CompanyBulkRequest("Alpha", "REG1"),
+            new CompanyBulkRequest("Beta", "REG2"));
+
+        when(companyBulkService.saveAll(requests))
+            .thenReturn(CompanyBulkResponse.of(List.of(
+                CompanyBulkResult.invalid(0, "Company name is required"),
+                CompanyBulkResult.invalid(1, "Company name is required"))));
+
+        mockMvc.perform(post(BULK_URL)
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("""
+                    {"name": "Alpha", "registrationNumber": "REG1"}
+                    {"name": "Beta", "registrationNumber": "REG2"}
+                    """))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.total").value(2))
+            .andExpect(jsonPath("$.data.failed").value(2));
+
+        verify(companyBulkService).saveAll(requests);
+    }
+
+    @Test
+    @WithMockUser
+    void createAllFromNdjson_shouldReturnBadRequest_whenLineIsMalformed() throws Exception {
+        mockMvc.perform(post(BULK_URL)
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("""
+                    {"name": "Alpha", "registrationNumber": "REG1"}
+                    {"name": "Beta",
+                    """))
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.title").value("Bad Request"));
+
+        verify(companyBulkService, never()).saveAll(anyList());
+    }
+}
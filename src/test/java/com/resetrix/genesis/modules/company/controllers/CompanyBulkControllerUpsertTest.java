@@ -0,0 +1,153 @@
+package com.resetrix.genesis.modules.company.controllers;
+
+import com.resetrix.genesis.modules.company.constants.CompanyUpsertStatus;
+import com.resetrix.genesis.modules.company.requests.CompanyUpsertRequest;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.modules.company.responses.CompanyUpsertResponse;
+import com.resetrix.genesis.modules.company.responses.CompanyUpsertResult;
+import com.resetrix.genesis.modules.company.services.CompanyBulkService;
+import com.resetrix.genesis.testsupports.securities.SecurityConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(SecurityConfiguration.class)
+@WebMvcTest(value = CompanyBulkController.class)
+class CompanyBulkControllerUpsertTest {
+
+    private static final String UPSERT_URL = "/api/v1/companies/by-registration";
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private CompanyBulkService companyBulkService;
+
+    @Autowired
+    CompanyBulkControllerUpsertTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @WithMockUser
+    void upsertByRegistrationNumber_shouldReturnCreated_whenCompanyIsNew() throws Exception {
+        // Arrange
+        when(companyBulkService.upsert("REG1", new CompanyUpsertRequest("Alpha", null)))
+            .thenReturn(CompanyUpsertResult.of(CompanyUpsertStatus.CREATED, company("Alpha", 0L)));
+
+        // Act & Assert
+        mockMvc.perform(put(UPSERT_URL + "/REG1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Alpha\"}")
+                .with(csrf()))
+            .andExpect(status().isCreated())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.status").value("CREATED"))
+            .andExpect(jsonPath("$.data.index").doesNotExist())
+            .andExpect(jsonPath("$.data.company.registrationNumber").value("REG1"));
+    }
+
+    @Test
+    @WithMockUser
+    void upsertByRegistrationNumber_shouldReturnOk_whenCompanyIsUnchanged() throws Exception {
+        // Arrange
+        when(companyBulkService.upsert("REG1", new CompanyUpsertRequest("Alpha", "REG1")))
+            .thenReturn(CompanyUpsertResult.of(CompanyUpsertStatus.UNCHANGED, company("Alpha", 3L)));
+
+        // Act & Assert
+        mockMvc.perform(put(UPSERT_URL + "/REG1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Alpha\", \"registrationNumber\": \"REG1\"}")
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+            .andExpect(jsonPath("$.data.status").value("UNCHANGED"));
+    }
+
+    @Test
+    @WithMockUser
+    void upsertByRegistrationNumber_shouldReturnOk_whenSoftDeletedCompanyIsRestored() throws Exception {
+        // Arrange
+        when(companyBulkService.upsert("REG1", new CompanyUpsertRequest("Alpha", null)))
+            .thenReturn(CompanyUpsertResult.of(CompanyUpsertStatus.RESTORED, company("Alpha", 5L)));
+
+        // Act & Assert
+        mockMvc.perform(put(UPSERT_URL + "/REG1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Alpha\"}")
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"5\""))
+            .andExpect(jsonPath("$.data.status").value("RESTORED"))
+            .andExpect(jsonPath("$.data.company.softDelete").value(false));
+    }
+
+    @Test
+    @WithMockUser
+    void upsertByRegistrationNumber_shouldReturnBadRequest_whenRequestIsRejected() throws Exception {
+        // Arrange
+        when(companyBulkService.upsert("REG1", new CompanyUpsertRequest("Alpha", "REG2")))
+            .thenThrow(new IllegalArgumentException("Registration number in the body does not match the path"));
+
+        // Act & Assert
+        mockMvc.perform(put(UPSERT_URL + "/REG1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Alpha\", \"registrationNumber\": \"REG2\"}")
+                .with(csrf()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail").value("Registration number in the body does not match the path"));
+    }
+
+    @Test
+    @WithMockUser
+    void upsertAllByRegistrationNumber_shouldReturnPerItemOutcomes() throws Exception {
+        // Arrange
+        List<CompanyUpsertRequest> requests = List.of(
+            new CompanyUpsertRequest("Alpha", "REG1"),
+            new CompanyUpsertRequest("Beta", "REG2"),
+            new CompanyUpsertRequest("Gamma", "REG3"));
+        when(companyBulkService.upsertAll(requests))
+            .thenReturn(CompanyUpsertResponse.of(List.of(
+                CompanyUpsertResult.of(0, CompanyUpsertStatus.UPDATED, company("Alpha", 4L)),
+                CompanyUpsertResult.of(1, CompanyUpsertStatus.UNCHANGED, company("Beta", 1L)),
+                CompanyUpsertResult.of(2, CompanyUpsertStatus.RESTORED, company("Gamma", 2L)))));
+
+        // Act & Assert
+        mockMvc.perform(put(UPSERT_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    [{"name": "Alpha", "registrationNumber": "REG1"},
+                     {"name": "Beta", "registrationNumber": "REG2"},
+                     {"name": "Gamma", "registrationNumber": "REG3"}]
+                    """)
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.total").value(3))
+            .andExpect(jsonPath("$.data.updated").value(1))
+            .andExpect(jsonPath("$.data.restored").value(1))
+            .andExpect(jsonPath("$.data.unchanged").value(1))
+            .andExpect(jsonPath("$.data.failed").value(0))
+            .andExpect(jsonPath("$.data.results[0].index").value(0))
+            .andExpect(jsonPath("$.data.results[1].status").value("UNCHANGED"));
+    }
+
+    private static CompanyResponse company(String name, Long version) {
+        return new CompanyResponse(1L, UUID.randomUUID(), name, "REG1", null, false, null, null, version);
+    }
+}
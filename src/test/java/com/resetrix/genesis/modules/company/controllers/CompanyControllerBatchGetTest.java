@@ -0,0 +1,92 @@
+package com.resetrix.genesis.modules.company.controllers;
+
+import com.resetrix.genesis.modules.company.requests.CompanyBatchGetRequest;
+import com.resetrix.genesis.modules.company.responses.CompanyBatchGetResponse;
+import com.resetrix.genesis.modules.company.responses.CompanyBatchGetResult;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.modules.company.services.CompanyService;
+import com.resetrix.genesis.testsupports.securities.SecurityConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(SecurityConfiguration.class)
+@WebMvcTest(value = CompanyController.class)
+public class CompanyControllerBatchGetTest {
+
+    private static final String BATCH_GET_URL = "/api/v1/companies/batch-get";
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private CompanyService companyService;
+
+    @Autowired
+    public CompanyControllerBatchGetTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @WithMockUser
+    void findAllByKeys_shouldReturnResultsInRequestOrder() throws Exception {
+        UUID known = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        CompanyResponse company =
+            new CompanyResponse(1L, known, "Alpha", "REG1", null, false, null, null, 0L);
+
+        when(companyService.getBatch(new CompanyBatchGetRequest(null, List.of(known, unknown)), true, false))
+            .thenReturn(CompanyBatchGetResponse.of(List.of(
+                CompanyBatchGetResult.found(0, company),
+                CompanyBatchGetResult.notFound(1, unknown))));
+
+        mockMvc.perform(post(BATCH_GET_URL)
+                .with(csrf())
+                .param("include", "logo")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(String.format("{\"uuids\": [\"%s\", \"%s\"]}", known, unknown)))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.total").value(2))
+            .andExpect(jsonPath("$.data.found").value(1))
+            .andExpect(jsonPath("$.data.notFound").value(1))
+            .andExpect(jsonPath("$.data.results[0].status").value("FOUND"))
+            .andExpect(jsonPath("$.data.results[0].company.uuid").value(known.toString()))
+            .andExpect(jsonPath("$.data.results[1].status").value("NOT_FOUND"))
+            .andExpect(jsonPath("$.data.results[1].uuid").value(unknown.toString()))
+            .andExpect(jsonPath("$.data.results[1].company").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser
+    void findAllByKeys_shouldReturnBadRequest_whenIncludeIsUnsupported() throws Exception {
+        mockMvc.perform(post(BATCH_GET_URL)
+                .with(csrf())
+                .param("include", "owner")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [1]}"))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+
+        verify(companyService, never()).getBatch(any(), anyBoolean(), anyBoolean());
+    }
+}
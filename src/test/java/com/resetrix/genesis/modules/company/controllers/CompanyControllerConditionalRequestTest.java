@@ -0,0 +1,242 @@
+package com.resetrix.genesis.modules.company.controllers;
+
+import com.resetrix.genesis.modules.company.exceptions.CompanyVersionMismatchException;
+import com.resetrix.genesis.modules.company.projections.CompanyVersion;
+import com.resetrix.genesis.modules.company.requests.CompanyRequest;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.modules.company.services.CompanyService;
+import com.resetrix.genesis.testsupports.securities.SecurityConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(SecurityConfiguration.class)
+@WebMvcTest(value = CompanyController.class)
+public class CompanyControllerConditionalRequestTest {
+
+    private static final String BASE_URL = "/api/v1/companies";
+    private static final UUID COMPANY_UUID = UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6");
+    private static final Timestamp UPDATED_AT = Timestamp.from(Instant.parse("2025-10-08T10:30:00Z"));
+    private static final CompanyVersion VERSION_3 = new CompanyVersion(3L, UPDATED_AT, false);
+    private static final CompanyVersion DELETED_VERSION_4 = new CompanyVersion(4L, UPDATED_AT, true);
+    private static final CompanyResponse COMPANY =
+        new CompanyResponse(1L, COMPANY_UUID, "Acme", "REG1", null, false, UPDATED_AT, UPDATED_AT, 3L);
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private CompanyService companyService;
+
+    @Autowired
+    public CompanyControllerConditionalRequestTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @WithMockUser
+    void findById_shouldReturnVersionAsETag() throws Exception {
+        when(companyService.getById(1L, false, false)).thenReturn(COMPANY);
+
+        mockMvc.perform(get(BASE_URL + "/1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andExpect(jsonPath("$.data.version").value(3));
+    }
+
+    @Test
+    @WithMockUser
+    void findById_shouldReturnNotModified_withoutLoadingTheCompany_whenETagMatches() throws Exception {
+        when(companyService.getVersion(1L, false)).thenReturn(VERSION_3);
+
+        mockMvc.perform(get(BASE_URL + "/1").header(HttpHeaders.IF_NONE_MATCH, "\"2\", \"3\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+            .andExpect(content().string(""));
+
+        verify(companyService, never()).getById(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    @WithMockUser
+    void findById_shouldReturnCompany_whenETagIsStale() throws Exception {
+        when(companyService.getVersion(1L, false)).thenReturn(VERSION_3);
+        when(companyService.getById(1L, false, false)).thenReturn(COMPANY);
+
+        mockMvc.perform(get(BASE_URL + "/1").header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+            .andExpect(jsonPath("$.data.name").value("Acme"));
+    }
+
+    @Test
+    @WithMockUser
+    void findByUuid_shouldReturnNotModified_whenWeakETagMatches() throws Exception {
+        when(companyService.getVersionByUuid(COMPANY_UUID, true)).thenReturn(VERSION_3);
+
+        mockMvc.perform(get(BASE_URL + "/" + COMPANY_UUID + "?includeDeleted=true")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"3\""))
+            .andExpect(status().isNotModified());
+
+        verify(companyService, never()).getByUuid(any(UUID.class), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    @WithMockUser
+    void updateById_shouldUpdateAtTheMatchedVersion_whenIfMatchMatches() throws Exception {
+        CompanyResponse updated =
+            new CompanyResponse(1L, COMPANY_UUID, "Acme", "REG1", null, false, UPDATED_AT, UPDATED_AT, 4L);
+        when(companyService.getVersion(1L, false)).thenReturn(VERSION_3);
+        when(companyService.update(eq(1L), any(CompanyRequest.class), eq(3L))).thenReturn(updated);
+
+        mockMvc.perform(put(BASE_URL + "/1")
+                .param("name", "Acme")
+                .param("registrationNumber", "REG1")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .with(csrf())
+                .contentType(MediaType.MULTIPART_FORM_DATA))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    @WithMockUser
+    void updateByUuid_shouldReturnPreconditionFailed_whenIfMatchIsStale() throws Exception {
+        when(companyService.getVersionByUuid(COMPANY_UUID, false)).thenReturn(VERSION_3);
+
+        mockMvc.perform(put(BASE_URL + "/" + COMPANY_UUID)
+                .param("name", "Acme")
+                .param("registrationNumber", "REG1")
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .with(csrf())
+                .contentType(MediaType.MULTIPART_FORM_DATA))
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.title").value("Precondition Failed"))
+            .andExpect(jsonPath("$.status").value(412));
+
+        verify(companyService, never()).updateByUuid(any(UUID.class), any(CompanyRequest.class), any());
+    }
+
+    @Test
+    @WithMockUser
+    void updateById_shouldReturnPreconditionFailed_whenIfMatchIsWeak() throws Exception {
+        when(companyService.getVersion(1L, false)).thenReturn(VERSION_3);
+
+        mockMvc.perform(put(BASE_URL + "/1")
+                .param("name", "Acme")
+                .param("registrationNumber", "REG1")
+                .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                .with(csrf())
+                .contentType(MediaType.MULTIPART_FORM_DATA))
+            .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @WithMockUser
+    void deleteById_shouldSoftDeleteAtTheMatchedVersion_whenIfMatchMatches() throws Exception {
+        when(companyService.getVersion(1L, true)).thenReturn(VERSION_3);
+
+        mockMvc.perform(delete(BASE_URL + "/1?soft=true")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .with(csrf()))
+            .andExpect(status().isNoContent());
+
+        verify(companyService).softDelete(1L, 3L);
+    }
+
+    @Test
+    @WithMockUser
+    void deleteById_shouldLeaveARetriedSoftDeleteToTheService_whenTheCompanyIsAlreadySoftDeleted()
+        throws Exception {
+        // The first delete bumped the version, so the If-Match of the retry no longer matches
+        when(companyService.getVersion(1L, true)).thenReturn(DELETED_VERSION_4);
+
+        mockMvc.perform(delete(BASE_URL + "/1?soft=true")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .with(csrf()))
+            .andExpect(status().isNoContent());
+
+        verify(companyService).softDelete(1L, 4L);
+    }
+
+    @Test
+    @WithMockUser
+    void deleteByUuid_shouldLeaveARetriedSoftDeleteToTheService_whenTheCompanyIsAlreadySoftDeleted()
+        throws Exception {
+        when(companyService.getVersionByUuid(COMPANY_UUID, true)).thenReturn(DELETED_VERSION_4);
+
+        mockMvc.perform(delete(BASE_URL + "/" + COMPANY_UUID + "?soft=true")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .with(csrf()))
+            .andExpect(status().isNoContent());
+
+        verify(companyService).softDeleteByUuid(COMPANY_UUID, 4L);
+    }
+
+    @Test
+    @WithMockUser
+    void deleteById_shouldReturnPreconditionFailed_whenSoftDeletingALiveCompanyAtAStaleVersion() throws Exception {
+        when(companyService.getVersion(1L, true)).thenReturn(VERSION_3);
+
+        mockMvc.perform(delete(BASE_URL + "/1?soft=true")
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .with(csrf()))
+            .andExpect(status().isPreconditionFailed());
+
+        verify(companyService, never()).softDelete(anyLong(), anyLong());
+    }
+
+    @Test
+    @WithMockUser
+    void deleteByUuid_shouldMatchDeletedCompanies_whenHardDeleting() throws Exception {
+        when(companyService.getVersionByUuid(COMPANY_UUID, true)).thenReturn(VERSION_3);
+
+        mockMvc.perform(delete(BASE_URL + "/" + COMPANY_UUID)
+                .header(HttpHeaders.IF_MATCH, "*")
+                .with(csrf()))
+            .andExpect(status().isNoContent());
+
+        verify(companyService).deleteByUuid(COMPANY_UUID, 3L);
+    }
+
+    @Test
+    @WithMockUser
+    void deleteById_shouldReturnPreconditionFailed_whenVersionChangesBeforeTheDelete() throws Exception {
+        when(companyService.getVersion(1L, true)).thenReturn(VERSION_3);
+        doThrow(new CompanyVersionMismatchException("Company with id 1 is no longer at version 3"))
+            .when(companyService).delete(1L, 3L);
+
+        mockMvc.perform(delete(BASE_URL + "/1")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .with(csrf()))
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.detail").value("Company with id 1 is no longer at version 3"));
+    }
+}
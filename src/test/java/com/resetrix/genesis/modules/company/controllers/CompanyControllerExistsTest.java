@@ -0,0 +1,83 @@
+package com.resetrix.genesis.modules.company.controllers;
+
+import com.resetrix.genesis.modules.company.services.CompanyService;
+import com.resetrix.genesis.testsupports.securities.SecurityConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(SecurityConfiguration.class)
+@WebMvcTest(value = CompanyController.class)
+public class CompanyControllerExistsTest {
+
+    private static final String BASE_URL = "/api/v1/companies";
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private CompanyService companyService;
+
+    @Autowired
+    public CompanyControllerExistsTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @WithMockUser
+    void existsById_shouldReturnOk_whenCompanyExists() throws Exception {
+        when(companyService.existsById(1L)).thenReturn(true);
+
+        mockMvc.perform(head(BASE_URL + "/1"))
+            .andDo(print())
+            .andExpect(status().isOk());
+
+        verify(companyService, never()).getById(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    @WithMockUser
+    void existsById_shouldReturnNotFound_whenCompanyDoesNotExist() throws Exception {
+        when(companyService.existsById(1L)).thenReturn(false);
+
+        mockMvc.perform(head(BASE_URL + "/1"))
+            .andDo(print())
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void existsByUuid_shouldReturnOk_whenCompanyExists() throws Exception {
+        UUID uuid = UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6");
+        when(companyService.existsByUuid(uuid)).thenReturn(true);
+
+        mockMvc.perform(head(BASE_URL + "/" + uuid))
+            .andDo(print())
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser
+    void existsByUuid_shouldReturnNotFound_whenCompanyDoesNotExist() throws Exception {
+        UUID uuid = UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6");
+        when(companyService.existsByUuid(uuid)).thenReturn(false);
+
+        mockMvc.perform(head(BASE_URL + "/" + uuid))
+            .andDo(print())
+            .andExpect(status().isNotFound());
+    }
+}
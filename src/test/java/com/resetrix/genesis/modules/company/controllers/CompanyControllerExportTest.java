@@ -0,0 +1,84 @@
+package com.resetrix.genesis.modules.company.controllers;
+
+import com.resetrix.genesis.modules.company.constants.CompanyExportFormat;
+import com.resetrix.genesis.modules.company.services.CompanyService;
+import com.resetrix.genesis.testsupports.securities.SecurityConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(SecurityConfiguration.class)
+@WebMvcTest(value = CompanyController.class)
+public class CompanyControllerExportTest {
+
+    private static final String EXPORT_URL = "/api/v1/companies/export";
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private CompanyService companyService;
+
+    @Autowired
+    public CompanyControllerExportTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @WithMockUser
+    void export_shouldStreamCsvAttachment_whenFormatIsCsv() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("id\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(companyService).exportAll(eq(CompanyExportFormat.CSV), any(OutputStream.class));
+
+        mockMvc.perform(get(EXPORT_URL + "?format=csv"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"companies.csv\""))
+            .andExpect(content().string("id\r\n1\r\n"));
+    }
+
+    @Test
+    @WithMockUser
+    void export_shouldDefaultToNdjson_whenFormatIsOmitted() throws Exception {
+        mockMvc.perform(get(EXPORT_URL))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson;charset=UTF-8"));
+
+        verify(companyService).exportAll(eq(CompanyExportFormat.NDJSON), any(OutputStream.class));
+    }
+
+    @Test
+    @WithMockUser
+    void export_shouldReturnBadRequest_whenFormatIsUnsupported() throws Exception {
+        mockMvc.perform(get(EXPORT_URL + "?format=xml"))
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail").value("Invalid format: must be 'ndjson' or 'csv'"));
+
+        verify(companyService, never()).exportAll(any(), any());
+    }
+}
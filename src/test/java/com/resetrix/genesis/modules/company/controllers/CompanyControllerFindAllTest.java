@@ -1,8 +1,10 @@
 package com.resetrix.genesis.modules.company.controllers;
 
+import com.resetrix.genesis.modules.company.requests.CompanyFilter;
 import com.resetrix.genesis.modules.company.responses.CompanyResponse;
 import com.resetrix.genesis.modules.company.services.CompanyService;
 import com.resetrix.genesis.shared.helpers.JsonFileReader;
+import com.resetrix.genesis.shared.responses.CursorPage;
 import com.resetrix.genesis.testsupports.securities.SecurityConfiguration;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,18 +14,24 @@ import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -65,7 +73,7 @@ public class CompanyControllerFindAllTest {
         List<CompanyResponse> companies = Arrays.asList(response1, response2);
         Page<CompanyResponse> page = new PageImpl<>(companies, PageRequest.of(0, 10, Sort.Direction.ASC, "id"), 2);
 
-        when(companyService.getAll(0, 10, "id", "ASC"))
+        when(companyService.getAll(0, 10, "id", "ASC", false, false, CompanyFilter.none()))
             .thenReturn(page);
 
         mockMvc.perform(get(BASE_URL)
@@ -96,7 +104,7 @@ public class CompanyControllerFindAllTest {
         List<CompanyResponse> companies = Collections.singletonList(response);
         Page<CompanyResponse> page = new PageImpl<>(companies, PageRequest.of(1, 5, Sort.Direction.DESC, "name"), 6);
 
-        when(companyService.getAll(1, 5, "name", "DESC"))
+        when(companyService.getAll(1, 5, "name", "DESC", false, false, CompanyFilter.none()))
             .thenReturn(page);
 
         mockMvc.perform(get(BASE_URL + "?page=1&size=5&sortBy=name&sortDirection=DESC")
@@ -120,7 +128,7 @@ public class CompanyControllerFindAllTest {
     void findAll_shouldReturnEmptyPage_whenNoCompaniesFound() throws Exception {
         Page<CompanyResponse> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10, Sort.Direction.ASC, "id"), 0);
 
-        when(companyService.getAll(0, 10, "id", "ASC"))
+        when(companyService.getAll(0, 10, "id", "ASC", false, false, CompanyFilter.none()))
             .thenReturn(emptyPage);
 
         mockMvc.perform(get(BASE_URL)
@@ -142,7 +150,7 @@ public class CompanyControllerFindAllTest {
     @Test
     @WithMockUser
     void findAll_shouldReturnBadRequest_whenPageIsNegative() throws Exception {
-        when(companyService.getAll(-1, 10, "id", "ASC"))
+        when(companyService.getAll(-1, 10, "id", "ASC", false, false, CompanyFilter.none()))
             .thenThrow(new IllegalArgumentException("Page must be >= 0"));
 
         mockMvc.perform(get(BASE_URL + "?page=-1")
@@ -159,7 +167,7 @@ public class CompanyControllerFindAllTest {
     @Test
     @WithMockUser
     void findAll_shouldReturnBadRequest_whenSizeIsZero() throws Exception {
-        when(companyService.getAll(0, 0, "id", "ASC"))
+        when(companyService.getAll(0, 0, "id", "ASC", false, false, CompanyFilter.none()))
             .thenThrow(new IllegalArgumentException("Size must be > 0 and <= 1000"));
 
         mockMvc.perform(get(BASE_URL + "?size=0")
@@ -176,7 +184,7 @@ public class CompanyControllerFindAllTest {
     @Test
     @WithMockUser
     void findAll_shouldReturnBadRequest_whenSizeExceedsMaximum() throws Exception {
-        when(companyService.getAll(0, 1001, "id", "ASC"))
+        when(companyService.getAll(0, 1001, "id", "ASC", false, false, CompanyFilter.none()))
             .thenThrow(new IllegalArgumentException("Size must be > 0 and <= 1000"));
 
         mockMvc.perform(get(BASE_URL + "?size=1001")
@@ -193,7 +201,7 @@ public class CompanyControllerFindAllTest {
     @Test
     @WithMockUser
     void findAll_shouldReturnBadRequest_whenSortDirectionIsInvalid() throws Exception {
-        when(companyService.getAll(0, 10, "id", "INVALID"))
+        when(companyService.getAll(0, 10, "id", "INVALID", false, false, CompanyFilter.none()))
             .thenThrow(new IllegalArgumentException("Invalid sortDirection: must be 'ASC' or 'DESC'"));
 
         mockMvc.perform(get(BASE_URL + "?sortDirection=INVALID")
@@ -210,7 +218,8 @@ public class CompanyControllerFindAllTest {
     @Test
     @WithMockUser
     void findAll_shouldReturnInternalServerError_whenDatabaseError() throws Exception {
-        when(companyService.getAll(anyInt(), anyInt(), anyString(), anyString()))
+        when(companyService.getAll(anyInt(), anyInt(), anyString(), anyString(), anyBoolean(), anyBoolean(),
+                                   any(CompanyFilter.class)))
             .thenThrow(new DataAccessResourceFailureException("Database connection failed"));
 
         mockMvc.perform(get(BASE_URL)
@@ -223,4 +232,95 @@ public class CompanyControllerFindAllTest {
             .andExpect(jsonPath("$.detail").value("A database error occurred while processing your request"))
             .andExpect(jsonPath("$.instance").value(BASE_URL));
     }
+
+    @Test
+    @WithMockUser
+    void findAll_shouldUseKeysetPagination_whenAfterParameterPresent() throws Exception {
+        CompanyResponse response = JsonFileReader.builder()
+            .module(MODULE)
+            .endpoint("create")
+            .scenario("success")
+            .readResponse(CompanyResponse.class);
+
+        CursorPage<CompanyResponse> page = new CursorPage<>(List.of(response), 1, "next-token", true);
+
+        when(companyService.getAllAfter("", 1, "name", "ASC", false, CompanyFilter.none()))
+            .thenReturn(page);
+
+        mockMvc.perform(get(BASE_URL + "?after=&size=1&sortBy=name")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.content.length()").value(1))
+            .andExpect(jsonPath("$.data.size").value(1))
+            .andExpect(jsonPath("$.data.nextCursor").value("next-token"))
+            .andExpect(jsonPath("$.data.hasNext").value(true))
+            .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+
+        verify(companyService, never())
+            .getAll(anyInt(), anyInt(), anyString(), anyString(), anyBoolean(), anyBoolean(), any(CompanyFilter.class));
+    }
+
+    @Test
+    @WithMockUser
+    void findAll_shouldReturnSliceWithoutTotal_whenWithTotalIsFalse() throws Exception {
+        CompanyResponse response = JsonFileReader.builder()
+            .module(MODULE)
+            .endpoint("create")
+            .scenario("success")
+            .readResponse(CompanyResponse.class);
+
+        when(companyService.getSlice(0, 1, "id", "ASC", false, false, CompanyFilter.none()))
+            .thenReturn(new SliceImpl<>(List.of(response), PageRequest.of(0, 1), true));
+
+        mockMvc.perform(get(BASE_URL + "?withTotal=false&size=1")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content.length()").value(1))
+            .andExpect(jsonPath("$.data.last").value(false))
+            .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+
+        verify(companyService, never())
+            .getAll(anyInt(), anyInt(), anyString(), anyString(), anyBoolean(), anyBoolean(), any(CompanyFilter.class));
+    }
+
+    @Test
+    @WithMockUser
+    void findAll_shouldReturnBadRequest_whenCursorIsInvalid() throws Exception {
+        when(companyService.getAllAfter("garbage", 10, "id", "ASC", false, CompanyFilter.none()))
+            .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        mockMvc.perform(get(BASE_URL + "?after=garbage")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.title").value("Bad Request"))
+            .andExpect(jsonPath("$.status").value(400))
+            .andExpect(jsonPath("$.detail").value("Invalid cursor"))
+            .andExpect(jsonPath("$.instance").value(BASE_URL));
+    }
+
+    @Test
+    @WithMockUser
+    void findAll_shouldBindFilterParameters() throws Exception {
+        CompanyFilter filter = new CompanyFilter("acme", "REG1", Instant.parse("2025-01-01T00:00:00Z"),
+                                                 Instant.parse("2025-02-01T00:00:00Z"), null, null, "all");
+        when(companyService.getAll(0, 10, "createdAt", "DESC", false, false, filter))
+            .thenReturn(new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10), 0));
+
+        mockMvc.perform(get(BASE_URL)
+                .param("sortBy", "createdAt")
+                .param("sortDirection", "DESC")
+                .param("name", "acme")
+                .param("registrationNumber", "REG1")
+                .param("createdFrom", "2025-01-01T00:00:00Z")
+                .param("createdTo", "2025-02-01T00:00:00Z")
+                .param("state", "all"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content").isEmpty());
+
+        verify(companyService).getAll(0, 10, "createdAt", "DESC", false, false, filter);
+    }
 }
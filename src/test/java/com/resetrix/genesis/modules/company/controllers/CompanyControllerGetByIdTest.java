@@ -15,7 +15,10 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -48,7 +51,7 @@ public class CompanyControllerGetByIdTest {
             .scenario("success")
             .readResponse(CompanyResponse.class);
 
-        when(companyService.getById(anyLong()))
+        when(companyService.getById(anyLong(), anyBoolean(), anyBoolean()))
             .thenReturn(response);
 
         mockMvc.perform(get(BASE_URL + "/1")
@@ -69,7 +72,7 @@ public class CompanyControllerGetByIdTest {
     void findById_shouldReturnNotFound_whenIdNotFound() throws Exception {
         Long id = 999L;
 
-        when(companyService.getById(anyLong()))
+        when(companyService.getById(anyLong(), anyBoolean(), anyBoolean()))
             .thenThrow(new EntityNotFoundException(
                 String.format("Company with id %d does not exist", id)
             ));
@@ -88,7 +91,7 @@ public class CompanyControllerGetByIdTest {
     @Test
     @WithMockUser
     void findById_shouldReturnBadRequest_whenIdIsZero() throws Exception {
-        when(companyService.getById(0L))
+        when(companyService.getById(0L, false, false))
             .thenThrow(new IllegalArgumentException("Company ID must be a positive number"));
 
         mockMvc.perform(get(BASE_URL + "/0")
@@ -105,7 +108,7 @@ public class CompanyControllerGetByIdTest {
     @Test
     @WithMockUser
     void findById_shouldReturnInternalServerError_whenDatabaseError() throws Exception {
-        when(companyService.getById(1L))
+        when(companyService.getById(1L, false, false))
             .thenThrow(new DataAccessResourceFailureException("Database connection failed"));
 
         mockMvc.perform(get(BASE_URL + "/1")
@@ -118,4 +121,55 @@ public class CompanyControllerGetByIdTest {
             .andExpect(jsonPath("$.detail").value("A database error occurred while processing your request"))
             .andExpect(jsonPath("$.instance").value(BASE_URL + "/1"));
     }
+
+    @Test
+    @WithMockUser
+    void findById_shouldRequestLogo_whenIncludeLogoGiven() throws Exception {
+        CompanyResponse response = JsonFileReader.builder()
+            .module(MODULE)
+            .endpoint("/find-by-id")
+            .scenario("success")
+            .readResponse(CompanyResponse.class);
+
+        when(companyService.getById(1L, true, false))
+            .thenReturn(response);
+
+        mockMvc.perform(get(BASE_URL + "/1?include=logo")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.id").value(response.id()));
+    }
+
+    @Test
+    @WithMockUser
+    void findById_shouldRequestDeletedRows_whenIncludeDeletedGiven() throws Exception {
+        CompanyResponse response = JsonFileReader.builder()
+            .module(MODULE)
+            .endpoint("/find-by-id")
+            .scenario("success")
+            .readResponse(CompanyResponse.class);
+
+        when(companyService.getById(1L, false, true))
+            .thenReturn(response);
+
+        mockMvc.perform(get(BASE_URL + "/1?includeDeleted=true")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.id").value(response.id()));
+    }
+
+    @Test
+    @WithMockUser
+    void findById_shouldReturnBadRequest_whenIncludeIsUnsupported() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/1?include=owner")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.title").value("Bad Request"))
+            .andExpect(jsonPath("$.detail").value("Invalid include: only 'logo' is supported"));
+
+        verify(companyService, never()).getById(anyLong(), anyBoolean(), anyBoolean());
+    }
 }
@@ -18,6 +18,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -51,7 +52,7 @@ public class CompanyControllerGetByUuidTest {
             .scenario("success")
             .readResponse(CompanyResponse.class);
 
-        when(companyService.getByUuid(any(UUID.class)))
+        when(companyService.getByUuid(any(UUID.class), anyBoolean(), anyBoolean()))
             .thenReturn(response);
 
         mockMvc.perform(get(BASE_URL + "/" + uuid)
@@ -72,7 +73,7 @@ public class CompanyControllerGetByUuidTest {
     void findByUuid_shouldReturnNotFound_whenUuidNotFound() throws Exception {
         UUID uuid = UUID.randomUUID();
 
-        when(companyService.getByUuid(uuid))
+        when(companyService.getByUuid(uuid, false, false))
             .thenThrow(new EntityNotFoundException(
                 String.format("Company with uuid %s does not exist", uuid)
             ));
@@ -93,7 +94,7 @@ public class CompanyControllerGetByUuidTest {
     void findByUuid_shouldReturnInternalServerError_whenDatabaseError() throws Exception {
         UUID uuid = UUID.randomUUID();
 
-        when(companyService.getByUuid(uuid))
+        when(companyService.getByUuid(uuid, false, false))
             .thenThrow(new DataAccessResourceFailureException("Database connection failed"));
 
         mockMvc.perform(get(BASE_URL + "/" + uuid)
@@ -0,0 +1,193 @@
+package com.resetrix.genesis.modules.company.controllers;
+
+import com.resetrix.genesis.modules.company.constants.CompanyLogoSize;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoMetadata;
+import com.resetrix.genesis.modules.company.services.CompanyService;
+import com.resetrix.genesis.testsupports.securities.SecurityConfiguration;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(SecurityConfiguration.class)
+@WebMvcTest(value = CompanyController.class)
+public class CompanyControllerGetLogoTest {
+
+    private static final String BASE_URL = "/api/v1/companies";
+    private static final byte[] LOGO = "0123456789".getBytes();
+    private static final String CHECKSUM = "84d89877f0d4041efb6bf91a16f0248f2fd573e6af05c19f96bedb9f882f7882";
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private CompanyService companyService;
+
+    @Autowired
+    public CompanyControllerGetLogoTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @WithMockUser
+    void findLogoByUuid_shouldStreamFullLogo_whenNoConditionalHeaders() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        CompanyLogoMetadata metadata = givenLogo(uuid);
+
+        mockMvc.perform(get(BASE_URL + "/" + uuid + "/logo"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + CHECKSUM + "\""))
+            .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+            .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, LOGO.length))
+            .andExpect(content().bytes(LOGO));
+
+        verify(companyService).writeLogo(eq(metadata), eq(0L), eq((long) LOGO.length), any(OutputStream.class));
+    }
+
+    @Test
+    @WithMockUser
+    void findLogoByUuid_shouldReturnNotModified_whenETagMatches() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        givenLogo(uuid);
+
+        mockMvc.perform(get(BASE_URL + "/" + uuid + "/logo")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"other\", \"" + CHECKSUM + "\""))
+            .andDo(print())
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + CHECKSUM + "\""))
+            .andExpect(content().bytes(new byte[0]));
+
+        verify(companyService, never()).writeLogo(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void findLogoByUuid_shouldReturnPartialContent_whenSingleRangeRequested() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        CompanyLogoMetadata metadata = givenLogo(uuid);
+
+        mockMvc.perform(get(BASE_URL + "/" + uuid + "/logo")
+                .header(HttpHeaders.RANGE, "bytes=2-5"))
+            .andDo(print())
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/" + LOGO.length))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+            .andExpect(content().bytes(Arrays.copyOfRange(LOGO, 2, 6)));
+
+        verify(companyService).writeLogo(eq(metadata), eq(2L), eq(4L), any(OutputStream.class));
+    }
+
+    @Test
+    @WithMockUser
+    void findLogoByUuid_shouldReturnRangeNotSatisfiable_whenRangeStartsAfterEnd() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        givenLogo(uuid);
+
+        mockMvc.perform(get(BASE_URL + "/" + uuid + "/logo")
+                .header(HttpHeaders.RANGE, "bytes=50-60"))
+            .andDo(print())
+            .andExpect(status().isRequestedRangeNotSatisfiable())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + LOGO.length));
+
+        verify(companyService, never()).writeLogo(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void findLogoByUuid_shouldIgnoreMalformedRange_whenRangeHeaderIsInvalid() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        givenLogo(uuid);
+
+        mockMvc.perform(get(BASE_URL + "/" + uuid + "/logo")
+                .header(HttpHeaders.RANGE, "pages=1-2"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(content().bytes(LOGO));
+    }
+
+    @Test
+    @WithMockUser
+    void findLogoByUuid_shouldReturnNotFound_whenCompanyHasNoLogo() throws Exception {
+        UUID uuid = UUID.randomUUID();
+
+        when(companyService.getLogoMetadata(uuid, CompanyLogoSize.MEDIUM))
+            .thenThrow(new EntityNotFoundException(String.format("Company with uuid %s has no logo", uuid)));
+
+        mockMvc.perform(get(BASE_URL + "/" + uuid + "/logo"))
+            .andDo(print())
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.title").value("Entity Not Found"))
+            .andExpect(jsonPath("$.detail").value(String.format("Company with uuid %s has no logo", uuid)));
+    }
+
+    @Test
+    @WithMockUser
+    void findLogoByUuid_shouldServeOriginal_whenRequestedExplicitly() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        CompanyLogoMetadata metadata = new CompanyLogoMetadata(1L, "image/png", (long) LOGO.length, CHECKSUM);
+
+        when(companyService.getLogoMetadata(uuid, CompanyLogoSize.ORIGINAL))
+            .thenReturn(metadata);
+
+        mockMvc.perform(get(BASE_URL + "/" + uuid + "/logo")
+                .param("size", "original"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + CHECKSUM + "\""));
+
+        verify(companyService).writeLogo(eq(metadata), eq(0L), eq((long) LOGO.length), any(OutputStream.class));
+    }
+
+    @Test
+    @WithMockUser
+    void findLogoByUuid_shouldReturnBadRequest_whenSizeIsUnknown() throws Exception {
+        UUID uuid = UUID.randomUUID();
+
+        mockMvc.perform(get(BASE_URL + "/" + uuid + "/logo")
+                .param("size", "huge"))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+
+        verify(companyService, never()).getLogoMetadata(any(), any());
+    }
+
+    private CompanyLogoMetadata givenLogo(UUID uuid) throws Exception {
+        CompanyLogoMetadata metadata = new CompanyLogoMetadata(1L, "image/png", (long) LOGO.length, CHECKSUM);
+
+        when(companyService.getLogoMetadata(uuid, CompanyLogoSize.MEDIUM))
+            .thenReturn(metadata);
+        doAnswer(invocation -> {
+            long offset = invocation.getArgument(1);
+            long length = invocation.getArgument(2);
+            OutputStream outputStream = invocation.getArgument(3);
+            outputStream.write(LOGO, (int) offset, (int) length);
+            return null;
+        }).when(companyService).writeLogo(eq(metadata), anyLong(), anyLong(), any(OutputStream.class));
+
+        return metadata;
+    }
+}
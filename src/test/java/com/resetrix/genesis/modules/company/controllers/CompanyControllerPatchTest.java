@@ -0,0 +1,135 @@
+package com.resetrix.genesis.modules.company.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.resetrix.genesis.modules.company.projections.CompanyVersion;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.modules.company.services.CompanyService;
+import com.resetrix.genesis.testsupports.securities.SecurityConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(SecurityConfiguration.class)
+@WebMvcTest(value = CompanyController.class)
+class CompanyControllerPatchTest {
+
+    private static final String BASE_URL = "/api/v1/companies";
+    private static final MediaType MERGE_PATCH_JSON = MediaType.parseMediaType("application/merge-patch+json");
+    private static final UUID COMPANY_UUID = UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6");
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private CompanyService companyService;
+
+    @Autowired
+    CompanyControllerPatchTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @WithMockUser
+    void patchById_shouldReturnPatchedCompany_withItsVersionAsETag() throws Exception {
+        // Arrange
+        when(companyService.patch(eq(1L), any(JsonNode.class), isNull())).thenReturn(response(4L));
+
+        // Act & Assert
+        mockMvc.perform(patch(BASE_URL + "/1")
+                .contentType(MERGE_PATCH_JSON)
+                .content("{\"name\": \"Renamed Company\"}")
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.name").value("Renamed Company"));
+
+        verify(companyService).patch(eq(1L), argThat(patch -> patch.has("name") && patch.size() == 1), isNull());
+    }
+
+    @Test
+    @WithMockUser
+    void patchByUuid_shouldPassExpectedVersion_whenIfMatchMatches() throws Exception {
+        // Arrange
+        when(companyService.getVersionByUuid(COMPANY_UUID, false)).thenReturn(new CompanyVersion(3L, null, false));
+        when(companyService.patchByUuid(eq(COMPANY_UUID), any(JsonNode.class), eq(3L))).thenReturn(response(4L));
+
+        // Act & Assert
+        mockMvc.perform(patch(BASE_URL + "/" + COMPANY_UUID)
+                .contentType(MERGE_PATCH_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .content("{\"registrationNumber\": \"REG999\"}")
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    @WithMockUser
+    void patchById_shouldReturnPreconditionFailed_whenIfMatchIsStale() throws Exception {
+        // Arrange
+        when(companyService.getVersion(1L, false)).thenReturn(new CompanyVersion(5L, null, false));
+
+        // Act & Assert
+        mockMvc.perform(patch(BASE_URL + "/1")
+                .contentType(MERGE_PATCH_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .content("{\"name\": \"Renamed Company\"}")
+                .with(csrf()))
+            .andExpect(status().isPreconditionFailed());
+
+        verify(companyService, never()).patch(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void patchById_shouldReturnBadRequest_whenPatchIsRejected() throws Exception {
+        // Arrange
+        when(companyService.patch(eq(1L), any(JsonNode.class), isNull()))
+            .thenThrow(new IllegalArgumentException("Company name is required"));
+
+        // Act & Assert
+        mockMvc.perform(patch(BASE_URL + "/1")
+                .contentType(MERGE_PATCH_JSON)
+                .content("{\"name\": null}")
+                .with(csrf()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail").value("Company name is required"));
+    }
+
+    @Test
+    @WithMockUser
+    void patchById_shouldReturnUnsupportedMediaType_whenBodyIsPlainJson() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch(BASE_URL + "/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Renamed Company\"}")
+                .with(csrf()))
+            .andExpect(status().isUnsupportedMediaType());
+    }
+
+    private static CompanyResponse response(Long version) {
+        return new CompanyResponse(1L, COMPANY_UUID, "Renamed Company", "REG123456", null, false,
+                                   null, null, version);
+    }
+}
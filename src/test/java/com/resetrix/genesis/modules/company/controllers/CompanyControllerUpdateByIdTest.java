@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -18,6 +19,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -52,7 +54,7 @@ public class CompanyControllerUpdateByIdTest {
             .scenario("success")
             .readResponse(CompanyResponse.class);
 
-        when(companyService.update(eq(companyId), any(CompanyRequest.class)))
+        when(companyService.update(eq(companyId), any(CompanyRequest.class), isNull()))
             .thenReturn(response);
 
         mockMvc.perform(put(BASE_URL + "/" + companyId)
@@ -189,7 +191,7 @@ public class CompanyControllerUpdateByIdTest {
     void updateById_shouldReturnNotFound_whenCompanyNotFound() throws Exception {
         Long companyId = 999L;
 
-        when(companyService.update(eq(companyId), any(CompanyRequest.class)))
+        when(companyService.update(eq(companyId), any(CompanyRequest.class), isNull()))
             .thenThrow(new EntityNotFoundException(
                 String.format("Company with id %d does not exist", companyId)
             ));
@@ -208,12 +210,32 @@ public class CompanyControllerUpdateByIdTest {
             .andExpect(jsonPath("$.instance").value(BASE_URL + "/" + companyId));
     }
 
+    @Test
+    @WithMockUser
+    void updateById_shouldReturnConflict_whenCompanyWasModifiedConcurrently() throws Exception {
+        Long companyId = 1L;
+
+        when(companyService.update(eq(companyId), any(CompanyRequest.class), isNull()))
+            .thenThrow(new OptimisticLockingFailureException("Row was updated by another transaction"));
+
+        mockMvc.perform(put(BASE_URL + "/" + companyId)
+                .param("name", "Test Company")
+                .param("registrationNumber", "REG123456")
+                .with(csrf())
+                .contentType(MediaType.MULTIPART_FORM_DATA))
+            .andDo(print())
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.title").value("Concurrent Modification"))
+            .andExpect(jsonPath("$.status").value(409))
+            .andExpect(jsonPath("$.instance").value(BASE_URL + "/" + companyId));
+    }
+
     @Test
     @WithMockUser
     void updateById_shouldReturnBadRequest_whenIdIsZero() throws Exception {
         Long companyId = 0L;
 
-        when(companyService.update(eq(companyId), any(CompanyRequest.class)))
+        when(companyService.update(eq(companyId), any(CompanyRequest.class), isNull()))
             .thenThrow(new IllegalArgumentException("Company ID must be a positive number"));
 
         // ID 0 matches the path pattern [0-9]+ but service validates it
@@ -236,7 +258,7 @@ public class CompanyControllerUpdateByIdTest {
     void updateById_shouldReturnInternalServerError_whenDatabaseError() throws Exception {
         Long companyId = 1L;
 
-        when(companyService.update(eq(companyId), any(CompanyRequest.class)))
+        when(companyService.update(eq(companyId), any(CompanyRequest.class), isNull()))
             .thenThrow(new DataAccessResourceFailureException("Database connection failed"));
 
         mockMvc.perform(put(BASE_URL + "/" + companyId)
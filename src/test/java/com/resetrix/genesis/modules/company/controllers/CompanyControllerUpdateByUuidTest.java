@@ -20,6 +20,7 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -54,7 +55,7 @@ public class CompanyControllerUpdateByUuidTest {
             .scenario("success")
             .readResponse(CompanyResponse.class);
 
-        when(companyService.updateByUuid(eq(companyUuid), any(CompanyRequest.class)))
+        when(companyService.updateByUuid(eq(companyUuid), any(CompanyRequest.class), isNull()))
             .thenReturn(response);
 
         mockMvc.perform(put(BASE_URL + "/" + companyUuid)
@@ -191,7 +192,7 @@ public class CompanyControllerUpdateByUuidTest {
     void updateByUuid_shouldReturnNotFound_whenCompanyNotFound() throws Exception {
         UUID companyUuid = UUID.randomUUID();
 
-        when(companyService.updateByUuid(eq(companyUuid), any(CompanyRequest.class)))
+        when(companyService.updateByUuid(eq(companyUuid), any(CompanyRequest.class), isNull()))
             .thenThrow(new EntityNotFoundException(
                 String.format("Company with uuid %s does not exist", companyUuid)
             ));
@@ -245,7 +246,7 @@ public class CompanyControllerUpdateByUuidTest {
     void updateByUuid_shouldReturnInternalServerError_whenDatabaseError() throws Exception {
         UUID companyUuid = UUID.randomUUID();
 
-        when(companyService.updateByUuid(eq(companyUuid), any(CompanyRequest.class)))
+        when(companyService.updateByUuid(eq(companyUuid), any(CompanyRequest.class), isNull()))
             .thenThrow(new DataAccessResourceFailureException("Database connection failed"));
 
         mockMvc.perform(put(BASE_URL + "/" + companyUuid)
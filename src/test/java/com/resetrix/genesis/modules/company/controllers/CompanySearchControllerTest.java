@@ -0,0 +1,100 @@
+package com.resetrix.genesis.modules.company.controllers;
+
+import com.resetrix.genesis.modules.company.constants.CompanySearchMatch;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.modules.company.responses.CompanySuggestion;
+import com.resetrix.genesis.modules.company.services.CompanySearchService;
+import com.resetrix.genesis.testsupports.securities.SecurityConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(SecurityConfiguration.class)
+@WebMvcTest(value = CompanySearchController.class)
+public class CompanySearchControllerTest {
+
+    private static final String BASE_URL = "/api/v1/companies";
+    private static final UUID COMPANY_UUID = UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6");
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private CompanySearchService companySearchService;
+
+    @Autowired
+    public CompanySearchControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @WithMockUser
+    void search_shouldReturnMatchingCompanies_withSubstringMatchByDefault() throws Exception {
+        CompanyResponse company =
+            new CompanyResponse(1L, COMPANY_UUID, "Acme", "REG1", null, false, null, null, 0L);
+        when(companySearchService.search("cme", CompanySearchMatch.CONTAINS, 0, 10))
+            .thenReturn(new SliceImpl<>(List.of(company), PageRequest.of(0, 10), true));
+
+        mockMvc.perform(get(BASE_URL + "/search").param("q", "cme"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content[0].name").value("Acme"))
+            .andExpect(jsonPath("$.data.last").value(false));
+    }
+
+    @Test
+    @WithMockUser
+    void search_shouldUsePrefixMatch_whenRequested() throws Exception {
+        when(companySearchService.search("ac", CompanySearchMatch.PREFIX, 2, 5))
+            .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(2, 5), false));
+
+        mockMvc.perform(get(BASE_URL + "/search")
+                .param("q", "ac")
+                .param("match", "prefix")
+                .param("page", "2")
+                .param("size", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content").isEmpty());
+    }
+
+    @Test
+    @WithMockUser
+    void search_shouldReturnBadRequest_whenMatchIsUnknown() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/search")
+                .param("q", "acme")
+                .param("match", "fuzzy"))
+            .andExpect(status().isBadRequest());
+
+        verify(companySearchService, never()).search(anyString(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @WithMockUser
+    void autocomplete_shouldReturnSuggestions() throws Exception {
+        when(companySearchService.autocomplete("ac", 10))
+            .thenReturn(List.of(new CompanySuggestion(1L, COMPANY_UUID, "Acme")));
+
+        mockMvc.perform(get(BASE_URL + "/autocomplete").param("q", "ac"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].id").value(1))
+            .andExpect(jsonPath("$.data[0].uuid").value(COMPANY_UUID.toString()))
+            .andExpect(jsonPath("$.data[0].name").value("Acme"));
+    }
+}
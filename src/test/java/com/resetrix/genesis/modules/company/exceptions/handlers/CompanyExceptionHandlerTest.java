@@ -1,5 +1,7 @@
 package com.resetrix.genesis.modules.company.exceptions.handlers;
 
+import com.resetrix.genesis.modules.company.exceptions.CompanyVersionMismatchException;
+import com.resetrix.genesis.modules.company.exceptions.DuplicateRegistrationNumberException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +12,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 
@@ -43,6 +46,42 @@ class CompanyExceptionHandlerTest {
         assertThat(response.getInstance().toString()).isEqualTo("/api/companies/test");
     }
 
+    @Test
+    void shouldHandleCompanyVersionMismatchException() {
+        CompanyVersionMismatchException exception =
+            new CompanyVersionMismatchException("Company with id 1 is no longer at version 3");
+
+        ProblemDetail response = handler.handleCompanyVersionMismatchException(exception, request);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.PRECONDITION_FAILED.value());
+        assertThat(response.getDetail()).isEqualTo("Company with id 1 is no longer at version 3");
+        assertThat(response.getTitle()).isEqualTo("Precondition Failed");
+        assertThat(response.getInstance().toString()).isEqualTo("/api/companies/test");
+    }
+
+    @Test
+    void shouldHandleDuplicateRegistrationNumberException() {
+        DuplicateRegistrationNumberException exception =
+            new DuplicateRegistrationNumberException("Registration number REG1 already exists");
+
+        ProblemDetail response = handler.handleDuplicateRegistrationNumberException(exception, request);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(response.getDetail()).isEqualTo("Registration number REG1 already exists");
+        assertThat(response.getTitle()).isEqualTo("Duplicate Registration Number");
+        assertThat(response.getInstance().toString()).isEqualTo("/api/companies/test");
+    }
+
+    @Test
+    void shouldHandleOptimisticLockingFailureException() {
+        OptimisticLockingFailureException exception = new OptimisticLockingFailureException("Row was updated");
+
+        ProblemDetail response = handler.handleOptimisticLockingFailureException(exception, request);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(response.getTitle()).isEqualTo("Concurrent Modification");
+    }
+
     @Test
     void shouldHandleDataIntegrityViolationException() {
         DataIntegrityViolationException exception = new DataIntegrityViolationException(
@@ -0,0 +1,59 @@
+package com.resetrix.genesis.modules.company.exporters;
+
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvCompanyExporterTest {
+
+    private final CsvCompanyExporter exporter = new CsvCompanyExporter();
+
+    @Test
+    void writeRow_shouldQuoteAndDoubleQuotes_whenValueContainsSpecialCharacters() throws IOException {
+        UUID uuid = UUID.randomUUID();
+        StringWriter writer = new StringWriter();
+
+        exporter.writeRow(writer, new CompanyResponse(
+            7L, uuid, "The \"Best\"\nCompany", "REG7", null, null, null, null, null));
+
+        assertEquals("7," + uuid + ",\"The \"\"Best\"\"\nCompany\",REG7,false,,,\r\n", writer.toString());
+    }
+
+    @Test
+    void writeRow_shouldWriteVersion_andNeutralizeFormulas() throws IOException {
+        UUID uuid = UUID.randomUUID();
+        StringWriter writer = new StringWriter();
+
+        exporter.writeRow(writer, new CompanyResponse(
+            8L, uuid, "=HYPERLINK(\"http://x\",\"y\")", "@REG8", null, true, null, null, 3L));
+
+        assertEquals("8," + uuid + ",\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\",'@REG8,true,,,3\r\n",
+                     writer.toString());
+    }
+
+    @Test
+    void writeRow_shouldPrefixEveryFormulaCharacter() throws IOException {
+        UUID uuid = UUID.randomUUID();
+        for (String name : new String[]{"=1+1", "+1", "-1", "@SUM(A1)"}) {
+            StringWriter writer = new StringWriter();
+
+            exporter.writeRow(writer, new CompanyResponse(1L, uuid, name, "REG1", null, false, null, null, 0L));
+
+            assertEquals("1," + uuid + ",'" + name + ",REG1,false,,,0\r\n", writer.toString());
+        }
+    }
+
+    @Test
+    void writeHeader_shouldListColumnsInRowOrder() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        exporter.writeHeader(writer);
+
+        assertEquals("id,uuid,name,registrationNumber,softDelete,createdAt,updatedAt,version\r\n", writer.toString());
+    }
+}
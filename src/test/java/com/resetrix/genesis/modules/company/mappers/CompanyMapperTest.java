@@ -1,8 +1,15 @@
 package com.resetrix.genesis.modules.company.mappers;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resetrix.genesis.modules.company.entities.Company;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoContentRepository;
+import com.resetrix.genesis.modules.company.requests.CompanyBulkRequest;
 import com.resetrix.genesis.modules.company.requests.CompanyRequest;
 import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.shared.helpers.DigestHelper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.multipart.MultipartFile;
@@ -18,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -38,13 +46,12 @@ class CompanyMapperTest {
         company.setUuid(UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6"));
         company.setName("Test Company");
         company.setRegistrationNumber("REG123456");
-        company.setLogo("logo".getBytes());
         company.setSoftDelete(false);
         company.setCreatedAt(Timestamp.from(Instant.parse("2025-10-08T10:30:00Z")));
         company.setUpdatedAt(Timestamp.from(Instant.parse("2025-10-08T10:30:00Z")));
 
         // Act
-        CompanyResponse response = companyMapper.toResponse(company);
+        CompanyResponse response = companyMapper.toResponse(company, "logo".getBytes());
 
         // Assert
         assertNotNull(response);
@@ -66,13 +73,12 @@ class CompanyMapperTest {
         company.setUuid(UUID.randomUUID());
         company.setName("Company Without Logo");
         company.setRegistrationNumber("REG789012");
-        company.setLogo(null);
         company.setSoftDelete(false);
         company.setCreatedAt(Timestamp.from(Instant.now()));
         company.setUpdatedAt(Timestamp.from(Instant.now()));
 
         // Act
-        CompanyResponse response = companyMapper.toResponse(company);
+        CompanyResponse response = companyMapper.toResponse(company, null);
 
         // Assert
         assertNotNull(response);
@@ -90,13 +96,12 @@ class CompanyMapperTest {
         company.setUuid(UUID.randomUUID());
         company.setName("Company With Logo");
         company.setRegistrationNumber("REG345678");
-        company.setLogo(logoBytes);
         company.setSoftDelete(false);
         company.setCreatedAt(Timestamp.from(Instant.now()));
         company.setUpdatedAt(Timestamp.from(Instant.now()));
 
         // Act
-        CompanyResponse response = companyMapper.toResponse(company);
+        CompanyResponse response = companyMapper.toResponse(company, logoBytes);
 
         // Assert
         assertNotNull(response);
@@ -117,13 +122,12 @@ class CompanyMapperTest {
         company.setUuid(UUID.randomUUID());
         company.setName("Deleted Company");
         company.setRegistrationNumber("REG999999");
-        company.setLogo(null);
         company.setSoftDelete(true);
         company.setCreatedAt(Timestamp.from(Instant.now()));
         company.setUpdatedAt(Timestamp.from(Instant.now()));
 
         // Act
-        CompanyResponse response = companyMapper.toResponse(company);
+        CompanyResponse response = companyMapper.toResponse(company, null);
 
         // Assert
         assertNotNull(response);
@@ -138,13 +142,12 @@ class CompanyMapperTest {
         company.setUuid(UUID.randomUUID());
         company.setName("Company With Empty Logo");
         company.setRegistrationNumber("REG111111");
-        company.setLogo(new byte[0]);
         company.setSoftDelete(false);
         company.setCreatedAt(Timestamp.from(Instant.now()));
         company.setUpdatedAt(Timestamp.from(Instant.now()));
 
         // Act
-        CompanyResponse response = companyMapper.toResponse(company);
+        CompanyResponse response = companyMapper.toResponse(company, new byte[0]);
 
         // Assert
         assertNotNull(response);
@@ -165,13 +168,12 @@ class CompanyMapperTest {
         company.setUuid(UUID.randomUUID());
         company.setName("Company With Large Logo");
         company.setRegistrationNumber("REG222222");
-        company.setLogo(largeLogo);
         company.setSoftDelete(false);
         company.setCreatedAt(Timestamp.from(Instant.now()));
         company.setUpdatedAt(Timestamp.from(Instant.now()));
 
         // Act
-        CompanyResponse response = companyMapper.toResponse(company);
+        CompanyResponse response = companyMapper.toResponse(company, largeLogo);
 
         // Assert
         assertNotNull(response);
@@ -193,13 +195,12 @@ class CompanyMapperTest {
         company.setUuid(UUID.randomUUID());
         company.setName("Timestamp Test Company");
         company.setRegistrationNumber("REG333333");
-        company.setLogo(null);
         company.setSoftDelete(false);
         company.setCreatedAt(createdAt);
         company.setUpdatedAt(updatedAt);
 
         // Act
-        CompanyResponse response = companyMapper.toResponse(company);
+        CompanyResponse response = companyMapper.toResponse(company, null);
 
         // Assert
         assertNotNull(response);
@@ -207,72 +208,92 @@ class CompanyMapperTest {
         assertEquals(updatedAt, response.updatedAt());
     }
 
+    @Test
+    void toResponseDTO_shouldLeaveLogoEmpty_whenLogoIsNotRequested() {
+        // Arrange
+        Company company = new Company();
+        company.setId(8L);
+        company.setUuid(UUID.randomUUID());
+        company.setName("Company Listed Without Logo");
+        company.setRegistrationNumber("REG444444");
+        company.setSoftDelete(false);
+
+        // Act
+        CompanyResponse response = companyMapper.toResponse(company);
+
+        // Assert
+        assertNotNull(response);
+        assertEquals("Company Listed Without Logo", response.name());
+        assertNull(response.logo());
+    }
+
     // Tests for toEntity method
     @Test
-    void toEntity_shouldCreateNewCompany_whenRequestHasValidData() {
+    void toResponseDTO_shouldMapAllFields_whenViewHasAllData() {
         // Arrange
-        MultipartFile mockLogo = mock(MultipartFile.class);
-        CompanyRequest request = new CompanyRequest("Test Company", "REG123456", mockLogo);
-        byte[] logoBytes = "test-logo".getBytes();
+        Timestamp timestamp = Timestamp.from(Instant.parse("2025-10-08T10:30:00Z"));
+        UUID uuid = UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6");
+        CompanyView view = new CompanyView(1L, uuid, "Test Company", "REG123456", true, timestamp, timestamp, 3L);
 
         // Act
-        Company company = companyMapper.toEntity(request, logoBytes);
+        CompanyResponse response = companyMapper.toResponse(view);
 
         // Assert
-        assertNotNull(company);
-        assertEquals("Test Company", company.getName());
-        assertEquals("REG123456", company.getRegistrationNumber());
-        assertArrayEquals(logoBytes, company.getLogo());
+        assertEquals(new CompanyResponse(1L, uuid, "Test Company", "REG123456", null, true, timestamp, timestamp, 3L),
+                     response);
     }
 
     @Test
-    void toEntity_shouldCreateCompanyWithoutLogo_whenLogoIsNull() {
+    void toResponseDTO_shouldEncodeLogo_whenViewHasLogo() {
         // Arrange
-        CompanyRequest request = new CompanyRequest("Test Company", "REG123456", null);
-        byte[] logoBytes = null;
+        CompanyView view = new CompanyView(1L, UUID.randomUUID(), "Test Company", "REG123456", false, null, null, 0L);
 
         // Act
-        Company company = companyMapper.toEntity(request, logoBytes);
+        CompanyResponse response = companyMapper.toResponse(view, "logo".getBytes());
 
         // Assert
-        assertNotNull(company);
-        assertEquals("Test Company", company.getName());
-        assertEquals("REG123456", company.getRegistrationNumber());
-        assertNull(company.getLogo());
+        assertEquals(Base64.getEncoder().encodeToString("logo".getBytes()), response.logo());
     }
 
     @Test
-    void toEntity_shouldCreateCompanyWithoutLogo_whenLogoIsEmpty() {
+    void toEntity_shouldCreateNewCompany_whenRequestHasValidData() {
         // Arrange
         MultipartFile mockLogo = mock(MultipartFile.class);
         CompanyRequest request = new CompanyRequest("Test Company", "REG123456", mockLogo);
-        byte[] logoBytes = new byte[0]; // Empty array
 
         // Act
-        Company company = companyMapper.toEntity(request, logoBytes);
+        Company company = companyMapper.toEntity(request);
 
         // Assert
         assertNotNull(company);
         assertEquals("Test Company", company.getName());
         assertEquals("REG123456", company.getRegistrationNumber());
-        assertNull(company.getLogo()); // Should not set empty logo
+        assertNull(company.getId());
     }
 
     @Test
-    void toEntity_shouldCreateCompanyWithLogo_whenLogoIsValid() {
+    void toEntity_shouldCreateNewCompany_whenBulkRequestHasValidData() {
+        // Act
+        Company company = companyMapper.toEntity(new CompanyBulkRequest("Bulk Company", "REG000001"));
+
+        // Assert
+        assertNull(company.getId());
+        assertEquals("Bulk Company", company.getName());
+        assertEquals("REG000001", company.getRegistrationNumber());
+    }
+
+    @Test
+    void toEntity_shouldCreateCompany_whenLogoIsNull() {
         // Arrange
-        MultipartFile mockLogo = mock(MultipartFile.class);
-        CompanyRequest request = new CompanyRequest("Test Company", "REG123456", mockLogo);
-        byte[] logoBytes = new byte[]{1, 2, 3, 4, 5};
+        CompanyRequest request = new CompanyRequest("Test Company", "REG123456", null);
 
         // Act
-        Company company = companyMapper.toEntity(request, logoBytes);
+        Company company = companyMapper.toEntity(request);
 
         // Assert
         assertNotNull(company);
         assertEquals("Test Company", company.getName());
         assertEquals("REG123456", company.getRegistrationNumber());
-        assertArrayEquals(logoBytes, company.getLogo());
     }
 
     // Tests for updateEntity method
@@ -284,95 +305,130 @@ class CompanyMapperTest {
         existingCompany.setUuid(UUID.randomUUID());
         existingCompany.setName("Old Company Name");
         existingCompany.setRegistrationNumber("OLD123");
-        existingCompany.setLogo("old-logo".getBytes());
 
         MultipartFile mockLogo = mock(MultipartFile.class);
         CompanyRequest request = new CompanyRequest("Updated Company", "NEW456", mockLogo);
-        byte[] newLogoBytes = "new-logo".getBytes();
 
         // Act
-        Company updatedCompany = companyMapper.updateEntity(existingCompany, request, newLogoBytes);
+        Company updatedCompany = companyMapper.updateEntity(existingCompany, request);
 
         // Assert
         assertSame(existingCompany, updatedCompany); // Should return the same instance
         assertEquals("Updated Company", updatedCompany.getName());
         assertEquals("NEW456", updatedCompany.getRegistrationNumber());
-        assertArrayEquals(newLogoBytes, updatedCompany.getLogo());
         // ID and UUID should remain unchanged
         assertEquals(1L, updatedCompany.getId());
         assertNotNull(updatedCompany.getUuid());
     }
 
     @Test
-    void updateEntity_shouldUpdateCompanyWithoutChangingLogo_whenLogoIsNull() {
+    void updateEntity_shouldUpdateCompany_whenLogoIsNull() {
         // Arrange
         Company existingCompany = new Company();
         existingCompany.setId(1L);
         existingCompany.setUuid(UUID.randomUUID());
         existingCompany.setName("Old Company Name");
         existingCompany.setRegistrationNumber("OLD123");
-        byte[] originalLogo = "original-logo".getBytes();
-        existingCompany.setLogo(originalLogo);
 
         CompanyRequest request = new CompanyRequest("Updated Company", "NEW456", null);
-        byte[] newLogoBytes = null;
 
         // Act
-        Company updatedCompany = companyMapper.updateEntity(existingCompany, request, newLogoBytes);
+        Company updatedCompany = companyMapper.updateEntity(existingCompany, request);
 
         // Assert
         assertSame(existingCompany, updatedCompany);
         assertEquals("Updated Company", updatedCompany.getName());
         assertEquals("NEW456", updatedCompany.getRegistrationNumber());
-        assertArrayEquals(originalLogo, updatedCompany.getLogo()); // Logo should remain unchanged
     }
 
+    // Tests for toLogoVariant method
     @Test
-    void updateEntity_shouldUpdateCompanyWithoutChangingLogo_whenLogoIsEmpty() {
+    void toLogoVariant_shouldKeyVariantByChecksum_whenContentIsProvided() {
         // Arrange
-        Company existingCompany = new Company();
-        existingCompany.setId(1L);
-        existingCompany.setUuid(UUID.randomUUID());
-        existingCompany.setName("Old Company Name");
-        existingCompany.setRegistrationNumber("OLD123");
-        byte[] originalLogo = "original-logo".getBytes();
-        existingCompany.setLogo(originalLogo);
+        byte[] logoBytes = new byte[]{10, 20, 30, 40, 50};
 
-        MultipartFile mockLogo = mock(MultipartFile.class);
-        CompanyRequest request = new CompanyRequest("Updated Company", "NEW456", mockLogo);
-        byte[] newLogoBytes = new byte[0]; // Empty array
+        // Act
+        CompanyLogoContentRepository.LogoVariant logo = companyMapper.toLogoVariant(logoBytes, "image/png", 32, 16);
+
+        // Assert
+        assertNotNull(logo);
+        assertEquals(DigestHelper.sha256Hex(logoBytes), logo.checksum());
+        assertArrayEquals(logoBytes, logo.content());
+        assertEquals("image/png", logo.contentType());
+        assertEquals(32, logo.width());
+        assertEquals(16, logo.height());
+    }
+
+    // Tests for mergePatch method
+    @Test
+    void mergePatch_shouldReplaceOnlyMembersPresentInPatch() throws JsonProcessingException {
+        // Arrange
+        Company company = company("Old Name", "REG123456");
 
         // Act
-        Company updatedCompany = companyMapper.updateEntity(existingCompany, request, newLogoBytes);
+        CompanyRequest patched = companyMapper.mergePatch(company, json("{\"name\": \"New Name\"}"));
 
         // Assert
-        assertSame(existingCompany, updatedCompany);
-        assertEquals("Updated Company", updatedCompany.getName());
-        assertEquals("NEW456", updatedCompany.getRegistrationNumber());
-        assertArrayEquals(originalLogo, updatedCompany.getLogo()); // Logo should remain unchanged
+        assertEquals("New Name", patched.name());
+        assertEquals("REG123456", patched.registrationNumber());
+        assertNull(patched.logo());
+    }
+
+    @Test
+    void mergePatch_shouldRemoveMember_whenPatchSetsItToNull() throws JsonProcessingException {
+        // Act
+        CompanyRequest patched = companyMapper.mergePatch(company("Old Name", "REG123456"),
+                                                          json("{\"registrationNumber\": null}"));
+
+        // Assert
+        assertEquals("Old Name", patched.name());
+        assertNull(patched.registrationNumber());
+    }
+
+    @Test
+    void mergePatch_shouldRejectPatch_whenItIsNotAnObject() throws JsonProcessingException {
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> companyMapper.mergePatch(company("Old Name", "REG123456"), json("[\"name\"]")));
+
+        // Assert
+        assertEquals("Merge patch must be a JSON object", exception.getMessage());
     }
 
     @Test
-    void updateEntity_shouldUpdateCompanyAndLogo_whenLogoIsValid() {
+    void mergePatch_shouldRejectLogoAndUnknownMembers() throws JsonProcessingException {
         // Arrange
-        Company existingCompany = new Company();
-        existingCompany.setId(1L);
-        existingCompany.setUuid(UUID.randomUUID());
-        existingCompany.setName("Old Company Name");
-        existingCompany.setRegistrationNumber("OLD123");
-        existingCompany.setLogo("old-logo".getBytes());
+        Company company = company("Old Name", "REG123456");
 
-        MultipartFile mockLogo = mock(MultipartFile.class);
-        CompanyRequest request = new CompanyRequest("Updated Company", "NEW456", mockLogo);
-        byte[] newLogoBytes = new byte[]{10, 20, 30, 40, 50};
+        // Act
+        IllegalArgumentException logo = assertThrows(IllegalArgumentException.class,
+            () -> companyMapper.mergePatch(company, json("{\"logo\": null}")));
+        IllegalArgumentException unknown = assertThrows(IllegalArgumentException.class,
+            () -> companyMapper.mergePatch(company, json("{\"version\": 3}")));
 
+        // Assert
+        assertEquals("Company logo cannot be patched; replace it with PUT", logo.getMessage());
+        assertEquals("Unknown company field 'version'", unknown.getMessage());
+    }
+
+    @Test
+    void mergePatch_shouldRejectMember_whenValueIsNotAString() throws JsonProcessingException {
         // Act
-        Company updatedCompany = companyMapper.updateEntity(existingCompany, request, newLogoBytes);
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> companyMapper.mergePatch(company("Old Name", "REG123456"), json("{\"name\": 42}")));
 
         // Assert
-        assertSame(existingCompany, updatedCompany);
-        assertEquals("Updated Company", updatedCompany.getName());
-        assertEquals("NEW456", updatedCompany.getRegistrationNumber());
-        assertArrayEquals(newLogoBytes, updatedCompany.getLogo());
+        assertEquals("Field 'name' must be a string or null", exception.getMessage());
+    }
+
+    private static Company company(String name, String registrationNumber) {
+        Company company = new Company();
+        company.setName(name);
+        company.setRegistrationNumber(registrationNumber);
+        return company;
+    }
+
+    private static JsonNode json(String content) throws JsonProcessingException {
+        return new ObjectMapper().readTree(content);
     }
 }
@@ -0,0 +1,82 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.constants.CompanyLogoSize;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyLogoContentRepositoryImplTest {
+
+    // Two reads: one full chunk of 256 KiB and the remainder
+    private static final int LOGO_LENGTH = 256 * 1024 + 10;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    private CompanyLogoContentRepositoryImpl contentRepository;
+
+    @BeforeEach
+    void setUp() {
+        contentRepository = new CompanyLogoContentRepositoryImpl(jdbcTemplate, cacheManager);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void copyContent_shouldCopyTheWholeRange_chunkByChunk() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+            .thenReturn(List.of(new byte[256 * 1024]), List.of(new byte[10]));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        assertTrue(contentRepository.copyContent("abc", CompanyLogoSize.ORIGINAL, 0, LOGO_LENGTH, outputStream));
+        assertEquals(LOGO_LENGTH, outputStream.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void copyContent_shouldReportFailure_whenLogoDisappearsMidCopy() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+            .thenReturn(List.of(new byte[256 * 1024]), List.of());
+
+        assertFalse(contentRepository.copyContent("abc", CompanyLogoSize.ORIGINAL, 0, LOGO_LENGTH,
+                                                  new ByteArrayOutputStream()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void copyContent_shouldReportFailure_whenLogoComesBackShorterThanTheRange() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+            .thenReturn(List.of(new byte[256 * 1024]), List.of(new byte[4]));
+
+        assertFalse(contentRepository.copyContent("abc", CompanyLogoSize.LARGE, 0, LOGO_LENGTH,
+                                                  new ByteArrayOutputStream()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void copyContent_shouldReportFailure_whenNoLogoHasTheChecksum() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        assertFalse(contentRepository.copyContent("abc", CompanyLogoSize.ORIGINAL, 0, 4, outputStream));
+        assertEquals(0, outputStream.size());
+    }
+}
@@ -0,0 +1,95 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.responses.CompanySuggestion;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyNameIndexTest {
+
+    private static final UUID ACME_UUID = UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6");
+    private static final UUID ACORN_UUID = UUID.fromString("9c1b6a2e-4f1d-4e57-8a53-2f0cbb1f4a10");
+    private static final UUID BETA_UUID = UUID.fromString("5d2e8f0a-7b3c-4c8e-9f1a-6b4d2c0e8a77");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CompanyProperty companyProperty;
+    private CompanyNameIndex nameIndex;
+
+    @BeforeEach
+    void setUp() {
+        companyProperty = new CompanyProperty();
+        nameIndex = new CompanyNameIndex(jdbcTemplate, companyProperty);
+        nameIndex.put(1L, ACME_UUID, "Acme");
+        nameIndex.put(2L, ACORN_UUID, "acorn Ltd");
+        nameIndex.put(3L, BETA_UUID, "Beta");
+    }
+
+    @Test
+    void suggest_shouldReturnNamesStartingWithPrefix_ignoringCase() {
+        List<CompanySuggestion> suggestions = nameIndex.suggest("AC", 10);
+
+        assertEquals(List.of(
+            new CompanySuggestion(1L, ACME_UUID, "Acme"),
+            new CompanySuggestion(2L, ACORN_UUID, "acorn Ltd")), suggestions);
+    }
+
+    @Test
+    void suggest_shouldStopAtLimit() {
+        assertEquals(List.of(new CompanySuggestion(1L, ACME_UUID, "Acme")), nameIndex.suggest("a", 1));
+    }
+
+    @Test
+    void suggest_shouldOrderEqualNamesById() {
+        UUID otherUuid = UUID.randomUUID();
+        nameIndex.put(0L, otherUuid, "ACME");
+
+        List<CompanySuggestion> suggestions = nameIndex.suggest("acme", 10);
+
+        assertEquals(List.of(0L, 1L), suggestions.stream().map(CompanySuggestion::id).toList());
+    }
+
+    @Test
+    void put_shouldReplaceThePreviousName_whenCompanyIsRenamed() {
+        nameIndex.put(1L, ACME_UUID, "Zenith");
+
+        assertEquals(List.of(2L), nameIndex.suggest("ac", 10).stream().map(CompanySuggestion::id).toList());
+        assertEquals(List.of(1L), nameIndex.suggest("zen", 10).stream().map(CompanySuggestion::id).toList());
+        assertEquals(3, nameIndex.size());
+    }
+
+    @Test
+    void removeAfterCommit_shouldRemoveRightAway_outsideATransaction() {
+        nameIndex.removeAfterCommit(3L);
+
+        assertTrue(nameIndex.suggest("b", 10).isEmpty());
+        assertEquals(2, nameIndex.size());
+    }
+
+    @Test
+    void putAfterCommit_shouldDoNothing_whenIndexIsDisabled() {
+        companyProperty.getNameIndex().setEnabled(false);
+
+        nameIndex.putAfterCommit(4L, UUID.randomUUID(), "Gamma");
+
+        assertTrue(nameIndex.suggest("gamma", 10).isEmpty());
+    }
+
+    @Test
+    void isReady_shouldBeFalse_untilLoaded() {
+        assertFalse(nameIndex.isReady());
+    }
+}
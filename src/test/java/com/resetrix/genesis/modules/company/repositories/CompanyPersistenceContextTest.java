@@ -0,0 +1,168 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.entities.Company;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.FlushMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Loads a 1000-row page of companies into the persistence context of a read-write and of a read-only
+ * transaction and compares what Hibernate retains for it. Dirty checking keeps a snapshot of every
+ * property of every managed entity; a read-only transaction should keep none and never flush.
+ */
+@SpringJUnitConfig(CompanyPersistenceContextTest.Config.class)
+class CompanyPersistenceContextTest {
+
+    private static final int PAGE_SIZE = 1000;
+
+    @jakarta.persistence.PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM companies");
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO companies (id, uuid, name, registration_number, soft_delete, version) "
+                + "VALUES (?, ?, ?, ?, FALSE, 0)",
+            IntStream.rangeClosed(1, PAGE_SIZE)
+                .mapToObj(id -> new Object[]{id, UUID.randomUUID(), "Company " + id, "REG" + id})
+                .toList());
+    }
+
+    @Test
+    void readOnlyTransaction_shouldRetainNoSnapshots_forAPageOfCompanies() {
+        // Act
+        Usage readWrite = loadPage(false);
+        Usage readOnly = loadPage(true);
+
+        // Assert
+        assertEquals(PAGE_SIZE, readWrite.entities());
+        assertEquals(PAGE_SIZE, readOnly.entities());
+        assertTrue(readWrite.snapshotValues() >= PAGE_SIZE * 8,
+                   "Expected a snapshot per property, found " + readWrite.snapshotValues());
+        assertEquals(0, readOnly.snapshotValues());
+        assertEquals(PAGE_SIZE, readOnly.readOnlyEntities());
+        assertEquals(FlushMode.AUTO, readWrite.flushMode());
+        assertEquals(FlushMode.MANUAL, readOnly.flushMode());
+        assertFalse(readWrite.defaultReadOnly());
+        assertTrue(readOnly.defaultReadOnly());
+    }
+
+    private Usage loadPage(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> {
+            List<Company> companies = entityManager
+                .createQuery("SELECT c FROM Company c ORDER BY c.id", Company.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+            assertEquals(PAGE_SIZE, companies.size());
+
+            SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+            PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+            int snapshotValues = 0;
+            int readOnlyEntities = 0;
+            for (Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries()) {
+                Object[] loadedState = entry.getValue().getLoadedState();
+                snapshotValues += loadedState == null ? 0 : loadedState.length;
+                readOnlyEntities += entry.getValue().isReadOnly() ? 1 : 0;
+            }
+            return new Usage(persistenceContext.getNumberOfManagedEntities(), snapshotValues, readOnlyEntities,
+                             session.getHibernateFlushMode(), session.isDefaultReadOnly());
+        });
+    }
+
+    private record Usage(int entities, int snapshotValues, int readOnlyEntities, FlushMode flushMode,
+                         boolean defaultReadOnly) {
+    }
+
+    @Configuration
+    static class Config {
+
+        @Bean
+        DataSource dataSource() {
+            return new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+                                                                    ConfigurableListableBeanFactory beanFactory) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setManagedTypes(PersistenceManagedTypes.of(Company.class.getName()));
+            factory.setJpaPropertyMap(Map.of(
+                AvailableSettings.HBM2DDL_AUTO, "create-drop",
+                AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory),
+                // Spring Boot's default, under which the transaction manager also flags the connection read-only
+                AvailableSettings.CONNECTION_HANDLING, "DELAYED_ACQUISITION_AND_HOLD"));
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        CompanyUuidIndexListener companyUuidIndexListener() {
+            return mock(CompanyUuidIndexListener.class);
+        }
+
+        @Bean
+        CompanyNameIndexListener companyNameIndexListener() {
+            return mock(CompanyNameIndexListener.class);
+        }
+
+        @Bean
+        CompanyRegistrationNumberFilterListener companyRegistrationNumberFilterListener() {
+            return mock(CompanyRegistrationNumberFilterListener.class);
+        }
+    }
+}
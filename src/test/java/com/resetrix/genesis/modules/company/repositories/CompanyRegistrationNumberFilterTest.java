@@ -0,0 +1,97 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyRegistrationNumberFilterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CompanyProperty companyProperty;
+    private CompanyRegistrationNumberFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        companyProperty = new CompanyProperty();
+        companyProperty.getRegistrationNumberFilter().setExpectedInsertions(1000);
+        filter = new CompanyRegistrationNumberFilter(jdbcTemplate, companyProperty);
+    }
+
+    @Test
+    void mightContain_shouldReturnTrue_untilTheFilterHasLoaded() {
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContain("REG1"));
+    }
+
+    @Test
+    void mightContain_shouldOnlyReportStoredAndAddedNumbers_onceLoaded() throws SQLException {
+        givenStoredNumbers("REG1", "REG2");
+
+        filter.load();
+        filter.put("REG3");
+
+        assertTrue(filter.isReady());
+        assertTrue(filter.mightContain("REG1"));
+        assertTrue(filter.mightContain("REG2"));
+        assertTrue(filter.mightContain("REG3"));
+        assertFalse(filter.mightContain("REG4"));
+    }
+
+    @Test
+    void mightContain_shouldReturnTrue_whenFilterIsDisabled() {
+        companyProperty.getRegistrationNumberFilter().setEnabled(false);
+
+        filter.load();
+
+        assertTrue(filter.mightContain("REG4"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void load_shouldLeaveFilterNotReady_whenDatabaseIsUnavailable() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+            .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        filter.load();
+
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContain("REG4"));
+    }
+
+    private void givenStoredNumbers(String... registrationNumbers) throws SQLException {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn((long) registrationNumbers.length);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (String registrationNumber : List.of(registrationNumbers)) {
+                ResultSet resultSet = mock(ResultSet.class);
+                when(resultSet.getString(1)).thenReturn(registrationNumber);
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+}
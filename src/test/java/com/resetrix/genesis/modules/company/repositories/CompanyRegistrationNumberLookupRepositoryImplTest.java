@@ -0,0 +1,75 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyRegistrationNumberLookupRepositoryImplTest {
+
+    @Mock
+    private CompanyRegistrationNumberFilter companyRegistrationNumberFilter;
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private ObjectProvider<CompanyRepository> companyRepositoryProvider;
+
+    private CompanyRegistrationNumberLookupRepositoryImpl lookupRepository;
+
+    @BeforeEach
+    void setUp() {
+        lookupRepository = new CompanyRegistrationNumberLookupRepositoryImpl(
+            companyRegistrationNumberFilter, companyRepositoryProvider);
+    }
+
+    @Test
+    void existsByRegistrationNumber_shouldNotQueryTheDatabase_whenFilterHasNeverSeenTheNumber() {
+        when(companyRegistrationNumberFilter.mightContain("REG1")).thenReturn(false);
+
+        assertFalse(lookupRepository.existsByRegistrationNumber("REG1"));
+        verifyNoInteractions(companyRepositoryProvider);
+    }
+
+    @Test
+    void existsByRegistrationNumber_shouldConfirmAPossibleDuplicate_againstTheDatabase() {
+        when(companyRegistrationNumberFilter.mightContain("REG1")).thenReturn(true);
+        when(companyRepositoryProvider.getObject()).thenReturn(companyRepository);
+        when(companyRepository.findStoredRegistrationNumbers(List.of("REG1"))).thenReturn(List.of("REG1"));
+
+        assertTrue(lookupRepository.existsByRegistrationNumber("REG1"));
+    }
+
+    @Test
+    void existsByRegistrationNumber_shouldReturnFalse_whenPossibleDuplicateIsAFalsePositive() {
+        when(companyRegistrationNumberFilter.mightContain("REG1")).thenReturn(true);
+        when(companyRepositoryProvider.getObject()).thenReturn(companyRepository);
+        when(companyRepository.findStoredRegistrationNumbers(List.of("REG1"))).thenReturn(List.of());
+
+        assertFalse(lookupRepository.existsByRegistrationNumber("REG1"));
+    }
+
+    @Test
+    void findExistingRegistrationNumbers_shouldOnlyLookUpThePossibleDuplicates() {
+        when(companyRegistrationNumberFilter.mightContain("REG1")).thenReturn(false);
+        when(companyRegistrationNumberFilter.mightContain("REG2")).thenReturn(true);
+        when(companyRegistrationNumberFilter.mightContain("REG3")).thenReturn(false);
+        when(companyRepositoryProvider.getObject()).thenReturn(companyRepository);
+        when(companyRepository.findStoredRegistrationNumbers(List.of("REG2"))).thenReturn(List.of("REG2"));
+
+        assertEquals(List.of("REG2"),
+                     lookupRepository.findExistingRegistrationNumbers(List.of("REG1", "REG2", "REG3")));
+    }
+}
@@ -0,0 +1,185 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.entities.Company;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.shared.configurations.CacheConfiguration;
+import com.resetrix.genesis.shared.datasources.DataSourceRouting;
+import com.resetrix.genesis.shared.datasources.ReadYourWritesTracker;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import com.resetrix.genesis.shared.properties.DatabaseProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.AopTestUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig(CompanyRepositoryCacheTest.Config.class)
+class CompanyRepositoryCacheTest {
+
+    private static final UUID COMPANY_UUID = UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6");
+    private static final CompanyView VIEW =
+        new CompanyView(1L, COMPANY_UUID, "Acme", "REG1", false, null, null, 0L);
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DatabaseProperty databaseProperty;
+
+    private CompanyRepository target;
+
+    @BeforeEach
+    void setUp() {
+        databaseProperty.getReplica().setEnabled(false);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        target = AopTestUtils.getUltimateTargetObject(companyRepository);
+        reset(target);
+    }
+
+    @Test
+    void findById_shouldHitTheDatabaseOnce_whenViewIsRequestedRepeatedly() {
+        when(target.findById(1L, CompanyView.class)).thenReturn(Optional.of(VIEW));
+
+        assertEquals(Optional.of(VIEW), companyRepository.findById(1L, CompanyView.class));
+        assertEquals(Optional.of(VIEW), companyRepository.findById(1L, CompanyView.class));
+
+        verify(target, times(1)).findById(1L, CompanyView.class);
+    }
+
+    @Test
+    void findById_shouldNotCacheMisses() {
+        when(target.findById(1L, CompanyView.class)).thenReturn(Optional.empty());
+
+        companyRepository.findById(1L, CompanyView.class);
+        companyRepository.findById(1L, CompanyView.class);
+
+        verify(target, times(2)).findById(1L, CompanyView.class);
+    }
+
+    @Test
+    void findById_shouldNotCacheRows_whenReadFromTheReplica() {
+        databaseProperty.getReplica().setEnabled(true);
+        when(target.findById(1L, CompanyView.class)).thenReturn(Optional.of(VIEW));
+
+        assertEquals(Optional.of(VIEW), companyRepository.findById(1L, CompanyView.class));
+        assertEquals(Optional.of(VIEW), companyRepository.findById(1L, CompanyView.class));
+
+        verify(target, times(2)).findById(1L, CompanyView.class);
+    }
+
+    @Test
+    void findById_shouldServeCachedRows_whenReadFromTheReplica() {
+        when(target.findById(1L, CompanyView.class)).thenReturn(Optional.of(VIEW));
+        companyRepository.findById(1L, CompanyView.class);
+        databaseProperty.getReplica().setEnabled(true);
+
+        assertEquals(Optional.of(VIEW), companyRepository.findById(1L, CompanyView.class));
+
+        verify(target, times(1)).findById(1L, CompanyView.class);
+    }
+
+    @Test
+    void findById_shouldBypassCache_whenEntityIsRequested() {
+        when(target.findById(1L, Company.class)).thenReturn(Optional.of(new Company()));
+
+        companyRepository.findById(1L, Company.class);
+        companyRepository.findById(1L, Company.class);
+
+        verify(target, times(2)).findById(1L, Company.class);
+    }
+
+    @Test
+    void save_shouldEvictTheCompanyEntry() {
+        when(target.findById(1L, CompanyView.class)).thenReturn(Optional.of(VIEW));
+        companyRepository.findById(1L, CompanyView.class);
+
+        companyRepository.save(company(1L, COMPANY_UUID));
+        companyRepository.findById(1L, CompanyView.class);
+
+        verify(target, times(2)).findById(1L, CompanyView.class);
+    }
+
+    @Test
+    void softDeleteById_shouldEvictTheCompanyEntry() {
+        when(target.findById(1L, CompanyView.class)).thenReturn(Optional.of(VIEW));
+        companyRepository.findById(1L, CompanyView.class);
+
+        companyRepository.softDeleteById(1L);
+        companyRepository.findById(1L, CompanyView.class);
+
+        verify(target, times(2)).findById(1L, CompanyView.class);
+    }
+
+    @Test
+    void findById_shouldNotCacheSoftDeletedRows() {
+        CompanyView deleted = new CompanyView(1L, COMPANY_UUID, "Acme", "REG1", true, null, null, 1L);
+        when(target.findById(1L, CompanyView.class)).thenReturn(Optional.of(deleted));
+
+        companyRepository.findById(1L, CompanyView.class);
+        companyRepository.findById(1L, CompanyView.class);
+
+        verify(target, times(2)).findById(1L, CompanyView.class);
+    }
+
+    @Test
+    void delete_shouldLeaveOtherCompaniesCached() {
+        when(target.findById(1L, CompanyView.class)).thenReturn(Optional.of(VIEW));
+        companyRepository.findById(1L, CompanyView.class);
+
+        companyRepository.delete(company(2L, UUID.randomUUID()));
+        companyRepository.findById(1L, CompanyView.class);
+
+        verify(target, times(1)).findById(1L, CompanyView.class);
+    }
+
+    private static Company company(Long id, UUID uuid) {
+        Company company = new Company();
+        company.setId(id);
+        company.setUuid(uuid);
+        return company;
+    }
+
+    @Configuration
+    @Import(CacheConfiguration.class)
+    static class Config {
+
+        @Bean
+        CompanyProperty companyProperty() {
+            return new CompanyProperty();
+        }
+
+        @Bean
+        DatabaseProperty databaseProperty() {
+            return new DatabaseProperty();
+        }
+
+        @Bean
+        DataSourceRouting dataSourceRouting(DatabaseProperty databaseProperty,
+                                            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+            return new DataSourceRouting(databaseProperty, readYourWritesTracker);
+        }
+
+        @Bean
+        CompanyRepository companyRepository() {
+            return mock(CompanyRepository.class);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.constants.CompanyCacheNames;
+import com.resetrix.genesis.modules.company.constants.CompanyUpsertStatus;
+import com.resetrix.genesis.modules.company.projections.CompanyUpsert;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.modules.company.requests.CompanyUpsertRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyUpsertRepositoryImplTest {
+
+    private static final UUID COMPANY_UUID = UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CompanyUuidIndex companyUuidIndex;
+
+    @Mock
+    private CompanyNameIndex companyNameIndex;
+
+    @Mock
+    private CompanyRegistrationNumberFilter companyRegistrationNumberFilter;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    private CompanyUpsertRepositoryImpl upsertRepository;
+
+    @BeforeEach
+    void setUp() {
+        upsertRepository = new CompanyUpsertRepositoryImpl(
+            jdbcTemplate, companyUuidIndex, companyNameIndex, companyRegistrationNumberFilter, cacheManager);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsertAll_shouldRestoreSoftDeletedRows_andOnlyInsertRegistrationNumbersNotYetStored() {
+        CompanyView restored = new CompanyView(7L, COMPANY_UUID, "Acme", "REG1", false, null, null, 3L);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(jdbcTemplate.query(sql.capture(), any(RowMapper.class), any(), any()))
+            .thenReturn(List.of(new CompanyUpsert(restored, CompanyUpsertStatus.RESTORED)));
+        when(cacheManager.getCache(CompanyCacheNames.BY_ID)).thenReturn(cache);
+
+        List<CompanyUpsert> upserts = upsertRepository.upsertAll(List.of(new CompanyUpsertRequest("Acme", "REG1")));
+
+        assertEquals(CompanyUpsertStatus.RESTORED, upserts.getFirst().status());
+        assertTrue(sql.getValue().contains("soft_delete = FALSE"));
+        assertTrue(sql.getValue().contains(
+            "WHERE NOT EXISTS (SELECT 1 FROM companies c WHERE c.registration_number = i.registration_number)"));
+        verify(cache).evict(7L);
+        verify(companyNameIndex).putAfterCommit(7L, COMPANY_UUID, "Acme");
+        verifyNoInteractions(companyUuidIndex, companyRegistrationNumberFilter);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsertAll_shouldIndexCreatedRows_withoutTouchingTheCache() {
+        CompanyView created = new CompanyView(8L, COMPANY_UUID, "Beta", "REG2", false, null, null, 0L);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any()))
+            .thenReturn(List.of(new CompanyUpsert(created, CompanyUpsertStatus.CREATED)));
+
+        upsertRepository.upsertAll(List.of(new CompanyUpsertRequest("Beta", "REG2")));
+
+        verify(companyUuidIndex).putAfterCommit(COMPANY_UUID, 8L);
+        verify(companyRegistrationNumberFilter).put("REG2");
+        verify(companyNameIndex).putAfterCommit(8L, COMPANY_UUID, "Beta");
+        verifyNoInteractions(cacheManager);
+    }
+}
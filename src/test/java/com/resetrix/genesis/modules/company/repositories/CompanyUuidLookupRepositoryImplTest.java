@@ -0,0 +1,150 @@
+package com.resetrix.genesis.modules.company.repositories;
+
+import com.resetrix.genesis.modules.company.entities.Company;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyUuidLookupRepositoryImplTest {
+
+    private static final UUID COMPANY_UUID = UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6");
+
+    @Mock
+    private CompanyUuidIndex companyUuidIndex;
+
+    @Mock
+    private CompanyNameIndex companyNameIndex;
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private ObjectProvider<CompanyRepository> companyRepositoryProvider;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CompanyUuidLookupRepositoryImpl lookupRepository;
+
+    @BeforeEach
+    void setUp() {
+        lookupRepository = new CompanyUuidLookupRepositoryImpl(
+            companyUuidIndex, companyNameIndex, companyRepositoryProvider, jdbcTemplate);
+    }
+
+    @Test
+    void findByUuid_shouldLoadByPrimaryKey_whenUuidIsIndexed() {
+        Company company = new Company();
+        when(companyUuidIndex.find(COMPANY_UUID)).thenReturn(Optional.of(42L));
+        when(companyRepositoryProvider.getObject()).thenReturn(companyRepository);
+        when(companyRepository.findById(42L)).thenReturn(Optional.of(company));
+
+        assertEquals(Optional.of(company), lookupRepository.findByUuid(COMPANY_UUID));
+        verify(companyRepository, never()).findIdByUuid(any());
+    }
+
+    @Test
+    void findByUuid_shouldNotQueryTheDatabase_whenUuidIsUnknownToAnAuthoritativeIndex() {
+        when(companyUuidIndex.find(COMPANY_UUID)).thenReturn(Optional.empty());
+        when(companyUuidIndex.isAuthoritative()).thenReturn(true);
+
+        assertTrue(lookupRepository.findByUuid(COMPANY_UUID, CompanyView.class).isEmpty());
+        verifyNoInteractions(companyRepositoryProvider);
+    }
+
+    @Test
+    void findByUuid_shouldResolveAndRememberId_whenIndexIsNotAuthoritative() {
+        CompanyView view = new CompanyView(42L, COMPANY_UUID, "Acme", "REG1", false, null, null, 0L);
+        when(companyUuidIndex.find(COMPANY_UUID)).thenReturn(Optional.empty());
+        when(companyUuidIndex.isAuthoritative()).thenReturn(false);
+        when(companyRepositoryProvider.getObject()).thenReturn(companyRepository);
+        when(companyRepository.findIdByUuid(COMPANY_UUID)).thenReturn(Optional.of(42L));
+        when(companyRepository.findById(42L, CompanyView.class)).thenReturn(Optional.of(view));
+
+        assertEquals(Optional.of(view), lookupRepository.findByUuid(COMPANY_UUID, CompanyView.class));
+        verify(companyUuidIndex).put(COMPANY_UUID, 42L);
+    }
+
+    @Test
+    void hardDeleteByUuid_shouldDeleteByPrimaryKey() {
+        when(companyUuidIndex.find(COMPANY_UUID)).thenReturn(Optional.of(42L));
+        when(companyRepositoryProvider.getObject()).thenReturn(companyRepository);
+        when(companyRepository.hardDeleteById(42L)).thenReturn(1);
+
+        assertEquals(1, lookupRepository.hardDeleteByUuid(COMPANY_UUID));
+    }
+
+    @Test
+    void hardDeleteById_shouldDropTheIndexEntryOfTheDeletedRow() {
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(42L))).thenReturn(List.of(COMPANY_UUID));
+
+        assertEquals(1, lookupRepository.hardDeleteById(42L));
+        verify(companyUuidIndex).removeAfterCommit(COMPANY_UUID);
+        verify(companyNameIndex).removeAfterCommit(42L);
+    }
+
+    @Test
+    void hardDeleteById_shouldLeaveTheIndexAlone_whenTheVersionDoesNotMatch() {
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(42L), eq(3L))).thenReturn(List.of());
+
+        assertEquals(0, lookupRepository.hardDeleteById(42L, 3L));
+        verify(companyUuidIndex, never()).removeAfterCommit(any());
+        verify(companyNameIndex, never()).removeAfterCommit(anyLong());
+    }
+
+    @Test
+    void softDeleteById_shouldDropTheNameOfTheDeletedRow() {
+        when(jdbcTemplate.update(anyString(), eq(42L))).thenReturn(1);
+
+        assertEquals(1, lookupRepository.softDeleteById(42L));
+        verify(companyNameIndex).removeAfterCommit(42L);
+        verify(companyUuidIndex, never()).removeAfterCommit(any());
+    }
+
+    @Test
+    void softDeleteById_shouldLeaveTheNameIndexAlone_whenNoRowIsAffected() {
+        when(jdbcTemplate.update(anyString(), eq(42L), eq(3L))).thenReturn(0);
+
+        assertEquals(0, lookupRepository.softDeleteById(42L, 3L));
+        verify(companyNameIndex, never()).removeAfterCommit(anyLong());
+    }
+
+    @Test
+    void softDeleteByUuid_shouldSoftDeleteByPrimaryKey() {
+        when(companyUuidIndex.find(COMPANY_UUID)).thenReturn(Optional.of(42L));
+        when(companyRepositoryProvider.getObject()).thenReturn(companyRepository);
+        when(companyRepository.softDeleteById(42L)).thenReturn(1);
+
+        assertEquals(1, lookupRepository.softDeleteByUuid(COMPANY_UUID));
+    }
+
+    @Test
+    void softDeleteByUuid_shouldAffectNoRows_whenUuidIsUnknownToAnAuthoritativeIndex() {
+        when(companyUuidIndex.find(COMPANY_UUID)).thenReturn(Optional.empty());
+        when(companyUuidIndex.isAuthoritative()).thenReturn(true);
+
+        assertEquals(0, lookupRepository.softDeleteByUuid(COMPANY_UUID));
+        verifyNoInteractions(companyRepositoryProvider);
+    }
+}
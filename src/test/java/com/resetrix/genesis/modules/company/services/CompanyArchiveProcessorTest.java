@@ -0,0 +1,238 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.constants.CompanyArchiveStatus;
+import com.resetrix.genesis.modules.company.projections.CompanyArchiveEntry;
+import com.resetrix.genesis.modules.company.responses.CompanyArchiveResponse;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyArchiveProcessorTest {
+
+    @Mock
+    private CompanyArchiver companyArchiver;
+
+    @Mock
+    private Executor executor;
+
+    private CompanyProperty companyProperty;
+    private SimpleMeterRegistry meterRegistry;
+    private CompanyArchiveProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        companyProperty = new CompanyProperty();
+        companyProperty.getArchive().setBatchSize(2);
+        companyProperty.getArchive().setPause(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+        processor = new CompanyArchiveProcessor(companyArchiver, companyProperty, meterRegistry, executor);
+    }
+
+    @Test
+    void archive_shouldRunBatchesUntilOneComesBackShort_andRecordProgress() {
+        // Arrange
+        when(companyArchiver.archiveBatch(any(), eq(2), eq(Duration.ofSeconds(2))))
+            .thenReturn(entries(2))
+            .thenReturn(entries(1));
+
+        // Act
+        CompanyArchiveResponse response = processor.archive();
+
+        // Assert
+        assertEquals(new CompanyArchiveResponse(CompanyArchiveStatus.DRAINED, 2, 3), response);
+        assertEquals(3.0, meterRegistry.get(CompanyArchiveProcessor.ARCHIVED_METRIC).counter().count());
+        assertEquals(2, meterRegistry.get(CompanyArchiveProcessor.BATCH_METRIC).timer().count());
+        assertEquals(1.0, meterRegistry.get(CompanyArchiveProcessor.RUN_METRIC)
+            .tag("status", "DRAINED").counter().count());
+        assertEquals(0.0, meterRegistry.get(CompanyArchiveProcessor.RUNNING_METRIC).gauge().value());
+    }
+
+    @Test
+    void archive_shouldUseTheSameCutoff_forEveryBatchOfARun() {
+        // Arrange
+        Instant before = Instant.now().minus(Duration.ofDays(30));
+        when(companyArchiver.archiveBatch(any(), eq(2), any()))
+            .thenReturn(entries(2))
+            .thenReturn(entries(0));
+        ArgumentCaptor<Instant> cutoffs = ArgumentCaptor.forClass(Instant.class);
+
+        // Act
+        processor.archive();
+
+        // Assert
+        verify(companyArchiver, times(2)).archiveBatch(cutoffs.capture(), eq(2), any());
+        assertEquals(cutoffs.getAllValues().get(0), cutoffs.getAllValues().get(1));
+        assertFalse(cutoffs.getValue().isBefore(before));
+    }
+
+    @Test
+    void archive_shouldStopAtTheBatchLimit_whenRowsAreStillDue() {
+        // Arrange
+        companyProperty.getArchive().setMaxBatchesPerRun(3);
+        when(companyArchiver.archiveBatch(any(), eq(2), any())).thenReturn(entries(2));
+
+        // Act
+        CompanyArchiveResponse response = processor.archive();
+
+        // Assert
+        assertEquals(new CompanyArchiveResponse(CompanyArchiveStatus.LIMITED, 3, 6), response);
+        verify(companyArchiver, times(3)).archiveBatch(any(), eq(2), any());
+    }
+
+    @Test
+    void archive_shouldStopTheRun_whenABatchCannotGetItsLocks() {
+        // Arrange
+        when(companyArchiver.archiveBatch(any(), eq(2), any()))
+            .thenReturn(entries(2))
+            .thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        // Act
+        CompanyArchiveResponse response = processor.archive();
+
+        // Assert
+        assertEquals(new CompanyArchiveResponse(CompanyArchiveStatus.STOPPED, 1, 2), response);
+        assertEquals(1.0, meterRegistry.get(CompanyArchiveProcessor.RUN_METRIC)
+            .tag("status", "STOPPED").counter().count());
+    }
+
+    @Test
+    void archive_shouldNotStartASecondRun_whileOneIsInProgress() {
+        // Arrange
+        AtomicReference<CompanyArchiveResponse> nested = new AtomicReference<>();
+        AtomicReference<Double> running = new AtomicReference<>();
+        when(companyArchiver.archiveBatch(any(), eq(2), any())).thenAnswer(invocation -> {
+            running.set(meterRegistry.get(CompanyArchiveProcessor.RUNNING_METRIC).gauge().value());
+            nested.set(processor.archive());
+            return entries(0);
+        });
+
+        // Act
+        CompanyArchiveResponse response = processor.archive();
+
+        // Assert
+        assertEquals(CompanyArchiveStatus.DRAINED, response.status());
+        assertEquals(CompanyArchiveResponse.alreadyRunning(), nested.get());
+        assertEquals(1.0, running.get());
+        verify(companyArchiver, times(1)).archiveBatch(any(), eq(2), any());
+    }
+
+    @Test
+    void start_shouldHandTheRunToTheExecutor_andReturnAtOnce() {
+        // Act
+        CompanyArchiveResponse response = processor.start();
+
+        // Assert
+        assertEquals(CompanyArchiveResponse.started(), response);
+        verify(executor).execute(any());
+        verifyNoInteractions(companyArchiver);
+        assertEquals(1.0, meterRegistry.get(CompanyArchiveProcessor.RUNNING_METRIC).gauge().value());
+    }
+
+    @Test
+    void start_shouldRecordTheRun_whenTheExecutorRunsIt() {
+        // Arrange
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        when(companyArchiver.archiveBatch(any(), eq(2), any())).thenReturn(entries(1));
+        processor.start();
+        verify(executor).execute(task.capture());
+
+        // Act
+        task.getValue().run();
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get(CompanyArchiveProcessor.ARCHIVED_METRIC).counter().count());
+        assertEquals(1.0, meterRegistry.get(CompanyArchiveProcessor.RUN_METRIC)
+            .tag("status", "DRAINED").counter().count());
+        assertEquals(0.0, meterRegistry.get(CompanyArchiveProcessor.RUNNING_METRIC).gauge().value());
+    }
+
+    @Test
+    void start_shouldNotStartASecondRun_whileOneIsInProgress() {
+        // Arrange
+        processor.start();
+
+        // Act
+        CompanyArchiveResponse started = processor.start();
+        CompanyArchiveResponse triggered = processor.archive();
+
+        // Assert
+        assertEquals(CompanyArchiveResponse.alreadyRunning(), started);
+        assertEquals(CompanyArchiveResponse.alreadyRunning(), triggered);
+        verify(executor, times(1)).execute(any());
+    }
+
+    @Test
+    void start_shouldReleaseTheRun_whenTheExecutorRejectsIt() {
+        // Arrange
+        doThrow(new RejectedExecutionException("busy")).doNothing().when(executor).execute(any());
+
+        // Act
+        CompanyArchiveResponse rejected = processor.start();
+        CompanyArchiveResponse retried = processor.start();
+
+        // Assert
+        assertEquals(CompanyArchiveResponse.alreadyRunning(), rejected);
+        assertEquals(CompanyArchiveResponse.started(), retried);
+    }
+
+    @Test
+    void start_shouldReleaseTheRun_whenItFails() {
+        // Arrange
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        when(companyArchiver.archiveBatch(any(), eq(2), any()))
+            .thenThrow(new DataAccessResourceFailureException("connection lost"));
+        processor.start();
+        verify(executor).execute(task.capture());
+
+        // Act
+        task.getValue().run();
+
+        // Assert
+        assertEquals(0.0, meterRegistry.get(CompanyArchiveProcessor.RUNNING_METRIC).gauge().value());
+    }
+
+    @Test
+    void archiveOnSchedule_shouldDoNothing_whenDisabled() {
+        // Arrange
+        companyProperty.getArchive().setEnabled(false);
+
+        // Act
+        processor.archiveOnSchedule();
+
+        // Assert
+        verifyNoInteractions(companyArchiver);
+    }
+
+    private static List<CompanyArchiveEntry> entries(int count) {
+        return LongStream.rangeClosed(1, count)
+            .mapToObj(id -> new CompanyArchiveEntry(id, UUID.randomUUID()))
+            .toList();
+    }
+}
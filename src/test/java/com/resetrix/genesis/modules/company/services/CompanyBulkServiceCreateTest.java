@@ -0,0 +1,209 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.constants.CompanyBulkStatus;
+import com.resetrix.genesis.modules.company.entities.Company;
+import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
+import com.resetrix.genesis.modules.company.requests.CompanyBulkRequest;
+import com.resetrix.genesis.modules.company.responses.CompanyBulkResponse;
+import com.resetrix.genesis.modules.company.responses.CompanyBulkResult;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyBulkServiceCreateTest {
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private CompanyMapper companyMapper;
+
+    @Mock
+    private CompanyBatchWriter companyBatchWriter;
+
+    @Mock
+    private Validator validator;
+
+    @Spy
+    private CompanyProperty companyProperty = new CompanyProperty();
+
+    @InjectMocks
+    private CompanyBulkService companyBulkService;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        companyProperty.getBulk().setChunkSize(2);
+        companyProperty.getBulk().setMaxItems(10);
+    }
+
+    @Test
+    void saveAll_shouldInsertEveryChunkAsOneBatch_whenAllItemsAreValid() {
+        // Arrange
+        List<CompanyBulkRequest> requests = List.of(
+            new CompanyBulkRequest("Alpha", "REG1"),
+            new CompanyBulkRequest("Beta", "REG2"),
+            new CompanyBulkRequest("Gamma", "REG3"));
+        givenMapping();
+        when(companyRepository.findExistingRegistrationNumbers(anyList())).thenReturn(List.of());
+        when(companyBatchWriter.insertAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        // Act
+        CompanyBulkResponse response = companyBulkService.saveAll(requests);
+
+        // Assert
+        assertEquals(3, response.total());
+        assertEquals(3, response.created());
+        assertEquals(0, response.failed());
+        assertEquals(List.of("REG1", "REG2", "REG3"),
+                     response.results().stream().map(result -> result.company().registrationNumber()).toList());
+        assertEquals(List.of(0, 1, 2), response.results().stream().map(CompanyBulkResult::index).toList());
+        verify(companyBatchWriter, times(2)).insertAll(anyList());
+        verify(companyBatchWriter, never()).insert(any());
+    }
+
+    @Test
+    void saveAll_shouldReportDuplicates_whenRegistrationNumberRepeatsOrExists() {
+        // Arrange
+        List<CompanyBulkRequest> requests = List.of(
+            new CompanyBulkRequest("Alpha", "REG1"),
+            new CompanyBulkRequest("Alpha Again", "REG1"),
+            new CompanyBulkRequest("Existing", "REG9"));
+        givenMapping();
+        when(companyRepository.findExistingRegistrationNumbers(List.of("REG1"))).thenReturn(List.of());
+        when(companyRepository.findExistingRegistrationNumbers(List.of("REG9"))).thenReturn(List.of("REG9"));
+        when(companyBatchWriter.insertAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+        // Act
+        CompanyBulkResponse response = companyBulkService.saveAll(requests);
+
+        // Assert
+        assertEquals(1, response.created());
+        assertEquals(2, response.failed());
+        assertEquals(CompanyBulkStatus.CREATED, response.results().get(0).status());
+        assertEquals(CompanyBulkStatus.DUPLICATE, response.results().get(1).status());
+        assertEquals("Registration number REG1 already exists", response.results().get(1).error());
+        assertNull(response.results().get(1).company());
+        assertEquals(CompanyBulkStatus.DUPLICATE, response.results().get(2).status());
+        verify(companyBatchWriter, times(1)).insertAll(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveAll_shouldReportInvalidItems_whenValidationFails() {
+        // Arrange
+        CompanyBulkRequest invalid = new CompanyBulkRequest("", "REG1");
+        ConstraintViolation<CompanyBulkRequest> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("Company name is required");
+        when(validator.validate(invalid)).thenReturn(Set.of(violation));
+
+        // Act
+        CompanyBulkResponse response = companyBulkService.saveAll(Collections.singletonList(invalid));
+
+        // Assert
+        assertEquals(0, response.created());
+        assertEquals(CompanyBulkStatus.INVALID, response.results().get(0).status());
+        assertEquals("Company name is required", response.results().get(0).error());
+        verify(companyRepository, never()).findExistingRegistrationNumbers(anyList());
+        verify(companyBatchWriter, never()).insertAll(anyList());
+    }
+
+    @Test
+    void saveAll_shouldRetryRowByRow_whenConcurrentInsertViolatesUniqueConstraint() {
+        // Arrange
+        List<CompanyBulkRequest> requests = List.of(
+            new CompanyBulkRequest("Alpha", "REG1"),
+            new CompanyBulkRequest("Beta", "REG2"));
+        givenMapping();
+        when(companyRepository.findExistingRegistrationNumbers(anyList())).thenReturn(List.of());
+        when(companyBatchWriter.insertAll(anyList()))
+            .thenThrow(new DataIntegrityViolationException("duplicate key value"));
+        when(companyBatchWriter.insert(any(Company.class))).thenAnswer(invocation -> {
+            Company company = invocation.getArgument(0);
+            if ("REG2".equals(company.getRegistrationNumber())) {
+                throw new DataIntegrityViolationException("duplicate key value");
+            }
+            company.setId(sequence.incrementAndGet());
+            return company;
+        });
+
+        // Act
+        CompanyBulkResponse response = companyBulkService.saveAll(requests);
+
+        // Assert
+        assertEquals(CompanyBulkStatus.CREATED, response.results().get(0).status());
+        assertEquals(CompanyBulkStatus.DUPLICATE, response.results().get(1).status());
+        verify(companyBatchWriter, times(2)).insert(any(Company.class));
+    }
+
+    @Test
+    void saveAll_shouldThrowIllegalArgumentException_whenRequestIsEmpty() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> companyBulkService.saveAll(List.of())
+        );
+
+        assertEquals("Bulk request must contain between 1 and 10 companies", exception.getMessage());
+    }
+
+    @Test
+    void saveAll_shouldThrowIllegalArgumentException_whenRequestExceedsMaxItems() {
+        List<CompanyBulkRequest> requests = Collections.nCopies(11, new CompanyBulkRequest("Alpha", "REG1"));
+
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> companyBulkService.saveAll(requests)
+        );
+
+        assertEquals("Bulk request must contain between 1 and 10 companies", exception.getMessage());
+        verify(companyBatchWriter, never()).insertAll(anyList());
+    }
+
+    private void givenMapping() {
+        when(companyMapper.toEntity(any(CompanyBulkRequest.class))).thenAnswer(invocation -> {
+            CompanyBulkRequest request = invocation.getArgument(0);
+            Company company = new Company();
+            company.setName(request.name());
+            company.setRegistrationNumber(request.registrationNumber());
+            return company;
+        });
+        when(companyMapper.toResponse(any(Company.class))).thenAnswer(invocation -> {
+            Company company = invocation.getArgument(0);
+            return new CompanyResponse(company.getId(), company.getUuid(), company.getName(),
+                                       company.getRegistrationNumber(), null, false, null, null, 0L);
+        });
+    }
+
+    private List<Company> assignIds(List<Company> companies) {
+        companies.forEach(company -> company.setId(sequence.incrementAndGet()));
+        return companies;
+    }
+}
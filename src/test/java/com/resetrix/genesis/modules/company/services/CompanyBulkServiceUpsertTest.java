@@ -0,0 +1,175 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.constants.CompanyUpsertStatus;
+import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.projections.CompanyUpsert;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
+import com.resetrix.genesis.modules.company.requests.CompanyUpsertRequest;
+import com.resetrix.genesis.modules.company.responses.CompanyUpsertResponse;
+import com.resetrix.genesis.modules.company.responses.CompanyUpsertResult;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyBulkServiceUpsertTest {
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Spy
+    private CompanyMapper companyMapper = new CompanyMapper();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private CompanyProperty companyProperty = new CompanyProperty();
+
+    @InjectMocks
+    private CompanyBulkService companyBulkService;
+
+    @BeforeEach
+    void setUp() {
+        companyProperty.getBulk().setChunkSize(2);
+        companyProperty.getBulk().setMaxItems(10);
+    }
+
+    @Test
+    void upsert_shouldTakeRegistrationNumberFromPath_andReportOutcome() {
+        // Arrange
+        CompanyUpsertRequest company = new CompanyUpsertRequest("Alpha", "REG1");
+        when(companyRepository.upsertAll(List.of(company)))
+            .thenReturn(List.of(upsert(company, CompanyUpsertStatus.UPDATED)));
+
+        // Act
+        CompanyUpsertResult result = companyBulkService.upsert("REG1", new CompanyUpsertRequest("Alpha", null));
+
+        // Assert
+        assertEquals(CompanyUpsertStatus.UPDATED, result.status());
+        assertEquals("REG1", result.company().registrationNumber());
+        assertNull(result.index());
+    }
+
+    @Test
+    void upsert_shouldRejectRequest_whenBodyNamesAnotherRegistrationNumber() {
+        // Arrange
+        CompanyUpsertRequest request = new CompanyUpsertRequest("Alpha", "REG2");
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> companyBulkService.upsert("REG1", request));
+
+        // Assert
+        assertEquals("Registration number in the body does not match the path", exception.getMessage());
+        verify(companyRepository, never()).upsertAll(anyList());
+    }
+
+    @Test
+    void upsert_shouldRejectRequest_whenNameIsMissing() {
+        // Arrange
+        CompanyUpsertRequest request = new CompanyUpsertRequest(" ", null);
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> companyBulkService.upsert("REG1", request));
+
+        // Assert
+        assertEquals("Company name is required", exception.getMessage());
+        verify(companyRepository, never()).upsertAll(anyList());
+    }
+
+    @Test
+    void upsertAll_shouldUpsertEachChunkInOneCall_andCountOutcomes() {
+        // Arrange
+        List<CompanyUpsertRequest> requests = List.of(
+            new CompanyUpsertRequest("Alpha", "REG1"),
+            new CompanyUpsertRequest("Beta", "REG2"),
+            new CompanyUpsertRequest("Gamma", "REG3"));
+        when(companyRepository.upsertAll(requests.subList(0, 2))).thenReturn(List.of(
+            upsert(requests.get(0), CompanyUpsertStatus.CREATED),
+            upsert(requests.get(1), CompanyUpsertStatus.UNCHANGED)));
+        when(companyRepository.upsertAll(requests.subList(2, 3))).thenReturn(List.of(
+            upsert(requests.get(2), CompanyUpsertStatus.UPDATED)));
+
+        // Act
+        CompanyUpsertResponse response = companyBulkService.upsertAll(requests);
+
+        // Assert
+        assertEquals(3, response.total());
+        assertEquals(1, response.created());
+        assertEquals(1, response.updated());
+        assertEquals(1, response.unchanged());
+        assertEquals(0, response.failed());
+        assertEquals(List.of(0, 1, 2), response.results().stream().map(CompanyUpsertResult::index).toList());
+        verify(companyRepository, times(2)).upsertAll(anyList());
+    }
+
+    @Test
+    void upsertAll_shouldReportInvalidAndRepeatedItems_withoutSendingThem() {
+        // Arrange
+        List<CompanyUpsertRequest> requests = new ArrayList<>();
+        requests.add(new CompanyUpsertRequest("Alpha", "REG1"));
+        requests.add(new CompanyUpsertRequest("Alpha Again", "REG1"));
+        requests.add(null);
+        when(companyRepository.upsertAll(List.of(requests.get(0))))
+            .thenReturn(List.of(upsert(requests.get(0), CompanyUpsertStatus.CREATED)));
+
+        // Act
+        CompanyUpsertResponse response = companyBulkService.upsertAll(requests);
+
+        // Assert
+        assertEquals(1, response.created());
+        assertEquals(2, response.failed());
+        assertEquals(CompanyUpsertStatus.DUPLICATE, response.results().get(1).status());
+        assertEquals("Registration number REG1 appears more than once in the request",
+                     response.results().get(1).error());
+        assertEquals(CompanyUpsertStatus.INVALID, response.results().get(2).status());
+        assertEquals("Company must not be null", response.results().get(2).error());
+        verify(companyRepository, times(1)).upsertAll(anyList());
+    }
+
+    @Test
+    void upsertAll_shouldRejectRequest_whenItExceedsMaxItems() {
+        // Arrange
+        List<CompanyUpsertRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            requests.add(new CompanyUpsertRequest("Company " + i, "REG" + i));
+        }
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> companyBulkService.upsertAll(requests));
+
+        // Assert
+        assertEquals("Bulk request must contain between 1 and 10 companies", exception.getMessage());
+        verify(companyRepository, never()).upsertAll(anyList());
+    }
+
+    private static CompanyUpsert upsert(CompanyUpsertRequest request, CompanyUpsertStatus status) {
+        CompanyView company = new CompanyView(1L, UUID.randomUUID(), request.name(), request.registrationNumber(),
+                                              false, null, null, 0L);
+        return new CompanyUpsert(company, status);
+    }
+}
@@ -0,0 +1,170 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.constants.CompanyLogoSize;
+import com.resetrix.genesis.modules.company.exceptions.InvalidFileException;
+import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoContentRepository;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoRepository;
+import com.resetrix.genesis.shared.helpers.DigestHelper;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyLogoProcessorTest {
+
+    @Mock
+    private CompanyLogoRepository companyLogoRepository;
+
+    private CompanyProperty companyProperty;
+    private Executor executor;
+    private CompanyLogoProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        companyProperty = new CompanyProperty();
+        // Runs tasks on the calling thread so that the pipeline completes before the assertions
+        executor = Runnable::run;
+        processor = new CompanyLogoProcessor(
+            companyLogoRepository, new CompanyMapper(), companyProperty, task -> executor.execute(task));
+    }
+
+    @Test
+    void stage_shouldReturnNull_whenNoLogoIsUploaded() {
+        assertNull(processor.stage(null));
+        assertNull(processor.stage(new MockMultipartFile("logo", new byte[0])));
+    }
+
+    @Test
+    void stage_shouldRejectUpload_whenItIsNotAnImage() {
+        MockMultipartFile logo = new MockMultipartFile("logo", "logo.png", "image/png", "not an image".getBytes());
+
+        InvalidFileException exception = assertThrows(InvalidFileException.class, () -> processor.stage(logo));
+
+        assertEquals("Company logo must be an image", exception.getMessage());
+    }
+
+    @Test
+    void stage_shouldRejectImage_whenItExceedsMaxPixels() throws IOException {
+        companyProperty.getLogo().setMaxPixels(100);
+        MockMultipartFile logo = png(20, 20);
+
+        InvalidFileException exception = assertThrows(InvalidFileException.class, () -> processor.stage(logo));
+
+        assertEquals("Company logo must not exceed 100 pixels", exception.getMessage());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void processAfterCommit_shouldStoreOriginalAndThumbnails_andDeleteStagedFiles() throws IOException {
+        // Arrange
+        CompanyLogoProcessor.StagedLogo staged = processor.stage(png(600, 300));
+        ArgumentCaptor<CompanyLogoContentRepository.LogoFile> original =
+            ArgumentCaptor.forClass(CompanyLogoContentRepository.LogoFile.class);
+        ArgumentCaptor<Map<CompanyLogoSize, CompanyLogoContentRepository.LogoVariant>> thumbnails =
+            ArgumentCaptor.forClass(Map.class);
+        byte[][] stored = new byte[1][];
+        when(companyLogoRepository.writeImages(eq(7L), original.capture(), thumbnails.capture(),
+                                               eq(staged.uploadedAt())))
+            .thenAnswer(invocation -> {
+                // The encoded original only lives until the write returns
+                stored[0] = Files.readAllBytes(invocation.<CompanyLogoContentRepository.LogoFile>getArgument(1).file());
+                return true;
+            });
+
+        // Act
+        processor.processAfterCommit(7L, staged);
+
+        // Assert
+        assertEquals("png", staged.formatName());
+        assertEquals(600, ImageIO.read(new ByteArrayInputStream(stored[0])).getWidth());
+        assertEquals(DigestHelper.sha256Hex(stored[0]), original.getValue().checksum());
+        assertEquals(stored[0].length, original.getValue().contentLength());
+        assertEquals("image/png", original.getValue().contentType());
+        assertFalse(thumbnails.getValue().containsKey(CompanyLogoSize.ORIGINAL));
+        assertDimensions(256, 128, thumbnails.getValue().get(CompanyLogoSize.LARGE));
+        assertDimensions(64, 32, thumbnails.getValue().get(CompanyLogoSize.MEDIUM));
+        assertDimensions(32, 16, thumbnails.getValue().get(CompanyLogoSize.SMALL));
+        assertEquals("image/png", thumbnails.getValue().get(CompanyLogoSize.SMALL).contentType());
+        assertFalse(Files.exists(staged.file()));
+        assertFalse(Files.exists(original.getValue().file()));
+    }
+
+    @Test
+    void processAfterCommit_shouldProcessOnTheCallingThread_whenQueueIsFull() throws IOException {
+        // Arrange
+        CompanyLogoProcessor.StagedLogo staged = processor.stage(png(10, 10));
+        executor = task -> {
+            throw new RejectedExecutionException("Queue full");
+        };
+        when(companyLogoRepository.writeImages(eq(7L), any(), any(), eq(staged.uploadedAt()))).thenReturn(true);
+
+        // Act
+        processor.processAfterCommit(7L, staged);
+
+        // Assert
+        verify(companyLogoRepository).writeImages(eq(7L), any(), any(), eq(staged.uploadedAt()));
+        assertFalse(Files.exists(staged.file()));
+    }
+
+    @Test
+    void processAfterCommit_shouldSkipLogo_whenStagedFileCannotBeDecoded() throws IOException {
+        // Arrange
+        CompanyLogoProcessor.StagedLogo staged = processor.stage(png(10, 10));
+        Files.write(staged.file(), "truncated".getBytes());
+
+        // Act
+        processor.processAfterCommit(7L, staged);
+
+        // Assert
+        verifyNoInteractions(companyLogoRepository);
+        assertFalse(Files.exists(staged.file()));
+    }
+
+    private static MockMultipartFile png(int width, int height) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", content);
+        return new MockMultipartFile("logo", "logo.png", "image/png", content.toByteArray());
+    }
+
+    private static BufferedImage decode(CompanyLogoContentRepository.LogoVariant logo) throws IOException {
+        assertNotNull(logo);
+        return ImageIO.read(new ByteArrayInputStream(logo.content()));
+    }
+
+    private static void assertDimensions(int width, int height, CompanyLogoContentRepository.LogoVariant logo)
+            throws IOException {
+        BufferedImage image = decode(logo);
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+        assertEquals(width, logo.width());
+        assertEquals(height, logo.height());
+        assertEquals(DigestHelper.sha256Hex(logo.content()), logo.checksum());
+    }
+}
@@ -0,0 +1,143 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.constants.CompanySearchMatch;
+import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.modules.company.repositories.CompanyNameIndex;
+import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.modules.company.responses.CompanySuggestion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanySearchServiceTest {
+
+    private static final UUID COMPANY_UUID = UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6");
+    private static final CompanyView VIEW =
+        new CompanyView(1L, COMPANY_UUID, "Acme 50% Off", "REG1", false, null, null, 0L);
+    private static final CompanyResponse RESPONSE =
+        new CompanyResponse(1L, COMPANY_UUID, "Acme 50% Off", "REG1", null, false, null, null, 0L);
+    private static final CompanySuggestion SUGGESTION = new CompanySuggestion(1L, COMPANY_UUID, "Acme 50% Off");
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private CompanyMapper companyMapper;
+
+    @Mock
+    private CompanyNameIndex companyNameIndex;
+
+    @InjectMocks
+    private CompanySearchService companySearchService;
+
+    @Test
+    void search_shouldMatchSubstringLiterally_whenQueryContainsWildcards() {
+        // Arrange
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        when(companyRepository.searchByName("%50\\%\\_%", pageRequest))
+            .thenReturn(new SliceImpl<>(List.of(VIEW), pageRequest, false));
+        when(companyMapper.toResponse(VIEW)).thenReturn(RESPONSE);
+
+        // Act
+        Slice<CompanyResponse> result = companySearchService.search(" 50%_ ", CompanySearchMatch.CONTAINS, 0, 10);
+
+        // Assert
+        assertEquals(List.of(RESPONSE), result.getContent());
+        assertTrue(result.isLast());
+    }
+
+    @Test
+    void search_shouldMatchLowerCasePrefix_whenPrefixMatchIsRequested() {
+        // Arrange
+        PageRequest pageRequest = PageRequest.of(1, 5);
+        when(companyRepository.searchByName("ac%", pageRequest))
+            .thenReturn(new SliceImpl<>(List.of(), pageRequest, false));
+
+        // Act
+        Slice<CompanyResponse> result = companySearchService.search("AC", CompanySearchMatch.PREFIX, 1, 5);
+
+        // Assert
+        assertTrue(result.getContent().isEmpty());
+    }
+
+    @Test
+    void search_shouldThrowIllegalArgumentException_whenSubstringIsShorterThanATrigram() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> companySearchService.search("ac", CompanySearchMatch.CONTAINS, 0, 10)
+        );
+
+        assertEquals("Query must be at least 3 characters for contains matching", exception.getMessage());
+        verify(companyRepository, never()).searchByName(anyString(), any());
+    }
+
+    @Test
+    void autocomplete_shouldServeFromTheNameIndex_whenItIsReady() {
+        // Arrange
+        when(companyNameIndex.isReady()).thenReturn(true);
+        when(companyNameIndex.suggest("Ac", 5)).thenReturn(List.of(SUGGESTION));
+
+        // Act
+        List<CompanySuggestion> result = companySearchService.autocomplete(" Ac ", 5);
+
+        // Assert
+        assertEquals(List.of(SUGGESTION), result);
+        verify(companyRepository, never()).searchByName(anyString(), any());
+    }
+
+    @Test
+    void autocomplete_shouldFallBackToPrefixQuery_whenNameIndexIsNotReady() {
+        // Arrange
+        PageRequest pageRequest = PageRequest.of(0, 5);
+        when(companyNameIndex.isReady()).thenReturn(false);
+        when(companyRepository.searchByName("ac%", pageRequest))
+            .thenReturn(new SliceImpl<>(List.of(VIEW), pageRequest, false));
+        when(companyMapper.toSuggestion(VIEW)).thenReturn(SUGGESTION);
+
+        // Act
+        List<CompanySuggestion> result = companySearchService.autocomplete("Ac", 5);
+
+        // Assert
+        assertEquals(List.of(SUGGESTION), result);
+    }
+
+    @Test
+    void autocomplete_shouldThrowIllegalArgumentException_whenLimitIsTooLarge() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> companySearchService.autocomplete("Ac", 51)
+        );
+
+        assertEquals("Limit must be > 0 and <= 50", exception.getMessage());
+    }
+
+    @Test
+    void autocomplete_shouldThrowIllegalArgumentException_whenPrefixIsBlank() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> companySearchService.autocomplete("  ", 10));
+        verify(companyNameIndex, never()).suggest(anyString(), anyInt());
+    }
+}
@@ -0,0 +1,210 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.constants.CompanyBatchGetStatus;
+import com.resetrix.genesis.modules.company.entities.Company;
+import com.resetrix.genesis.modules.company.exceptions.CompanyException;
+import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoContent;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoReference;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoRepository;
+import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
+import com.resetrix.genesis.modules.company.requests.CompanyBatchGetRequest;
+import com.resetrix.genesis.modules.company.responses.CompanyBatchGetResponse;
+import com.resetrix.genesis.modules.company.responses.CompanyBatchGetResult;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import com.resetrix.genesis.shared.repositories.HibernateFilterScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyServiceBatchGetTest {
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private CompanyLogoRepository companyLogoRepository;
+
+    @Mock
+    private CompanyMapper companyMapper;
+
+    @Mock
+    private HibernateFilterScope hibernateFilterScope;
+
+    @Spy
+    private CompanyProperty companyProperty = new CompanyProperty();
+
+    @InjectMocks
+    private CompanyService companyService;
+
+    @BeforeEach
+    void setUp() {
+        companyProperty.getBatchGet().setChunkSize(2);
+        companyProperty.getBatchGet().setMaxItems(5);
+    }
+
+    @Test
+    void getBatch_shouldReturnResultsInRequestOrder_withNotFoundMarkers() {
+        // Arrange
+        CompanyView alpha = view(1L);
+        CompanyView gamma = view(3L);
+        when(companyRepository.findViewsByIdIn(List.of(3L, 2L))).thenReturn(List.of(gamma));
+        when(companyRepository.findViewsByIdIn(List.of(1L))).thenReturn(List.of(alpha));
+        CompanyResponse alphaResponse = response(alpha);
+        CompanyResponse gammaResponse = response(gamma);
+        when(companyMapper.toResponse(alpha, null)).thenReturn(alphaResponse);
+        when(companyMapper.toResponse(gamma, null)).thenReturn(gammaResponse);
+
+        // Act
+        CompanyBatchGetResponse response = companyService.getBatch(
+            new CompanyBatchGetRequest(List.of(3L, 2L, 1L, 3L), null), false, false);
+
+        // Assert
+        assertEquals(4, response.total());
+        assertEquals(3, response.found());
+        assertEquals(1, response.notFound());
+        assertSame(gammaResponse, response.results().get(0).company());
+        assertEquals(CompanyBatchGetStatus.NOT_FOUND, response.results().get(1).status());
+        assertEquals(2L, response.results().get(1).id());
+        assertNull(response.results().get(1).company());
+        assertSame(alphaResponse, response.results().get(2).company());
+        assertSame(gammaResponse, response.results().get(3).company());
+        assertEquals(List.of(0, 1, 2, 3), response.results().stream().map(CompanyBatchGetResult::index).toList());
+        verify(companyRepository, times(2)).findViewsByIdIn(anyList());
+        verifyNoInteractions(companyLogoRepository);
+    }
+
+    @Test
+    void getBatch_shouldResolveUuids_andReportUnknownOnes() {
+        // Arrange
+        CompanyView alpha = view(1L);
+        UUID unknown = UUID.randomUUID();
+        when(companyRepository.findViewsByUuidIn(List.of(alpha.uuid(), unknown))).thenReturn(List.of(alpha));
+        when(companyMapper.toResponse(alpha, null)).thenReturn(response(alpha));
+
+        // Act
+        CompanyBatchGetResponse response = companyService.getBatch(
+            new CompanyBatchGetRequest(null, List.of(alpha.uuid(), unknown)), false, false);
+
+        // Assert
+        assertEquals(CompanyBatchGetStatus.FOUND, response.results().get(0).status());
+        assertEquals(CompanyBatchGetStatus.NOT_FOUND, response.results().get(1).status());
+        assertEquals(unknown, response.results().get(1).uuid());
+        verify(companyRepository, never()).findViewsByIdIn(any());
+    }
+
+    @Test
+    void getBatch_shouldEmbedLogosPerChunk_whenLogoIncluded() {
+        // Arrange
+        CompanyView alpha = view(1L);
+        byte[] logo = "logo".getBytes();
+        when(companyRepository.findViewsByIdIn(List.of(1L))).thenReturn(List.of(alpha));
+        when(companyLogoRepository.findReferencesByCompanyIdIn(List.of(1L)))
+            .thenReturn(List.of(new CompanyLogoReference(1L, "checksum")));
+        when(companyLogoRepository.findContentsByChecksumIn(Set.of("checksum")))
+            .thenReturn(List.of(new CompanyLogoContent("checksum", logo)));
+        when(companyMapper.toResponse(alpha, logo)).thenReturn(response(alpha));
+
+        // Act
+        CompanyBatchGetResponse response = companyService.getBatch(
+            new CompanyBatchGetRequest(List.of(1L), null), true, false);
+
+        // Assert
+        assertEquals(1, response.found());
+        verify(companyMapper).toResponse(alpha, logo);
+    }
+
+    @Test
+    void getBatch_shouldLiftActiveFilter_whenDeletedIncluded() {
+        // Arrange
+        when(hibernateFilterScope.withoutFilter(eq(Company.ACTIVE_FILTER), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(companyRepository.findViewsByIdIn(List.of(1L))).thenReturn(List.of());
+
+        // Act
+        CompanyBatchGetResponse response = companyService.getBatch(
+            new CompanyBatchGetRequest(List.of(1L), null), false, true);
+
+        // Assert
+        assertEquals(1, response.notFound());
+        verify(hibernateFilterScope).withoutFilter(eq(Company.ACTIVE_FILTER), any());
+    }
+
+    @Test
+    void getBatch_shouldRejectRequest_whenBothOrNoKeysAreGiven() {
+        IllegalArgumentException both = assertThrows(IllegalArgumentException.class,
+            () -> companyService.getBatch(new CompanyBatchGetRequest(List.of(1L), List.of(UUID.randomUUID())),
+                                          false, false));
+        IllegalArgumentException none = assertThrows(IllegalArgumentException.class,
+            () -> companyService.getBatch(new CompanyBatchGetRequest(List.of(), null), false, false));
+
+        assertEquals("Batch get must contain either ids or uuids", both.getMessage());
+        assertEquals("Batch get must contain either ids or uuids", none.getMessage());
+        verifyNoInteractions(companyRepository);
+    }
+
+    @Test
+    void getBatch_shouldRejectRequest_whenTooManyKeysAreGiven() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> companyService.getBatch(
+                new CompanyBatchGetRequest(List.of(1L, 2L, 3L, 4L, 5L, 6L), null), false, false));
+
+        assertEquals("Batch get must contain between 1 and 5 companies", exception.getMessage());
+    }
+
+    @Test
+    void getBatch_shouldRejectRequest_whenKeyIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> companyService.getBatch(new CompanyBatchGetRequest(Arrays.asList(1L, null), null), false, false));
+
+        assertEquals("Batch get must not contain null ids or uuids", exception.getMessage());
+    }
+
+    @Test
+    void getBatch_shouldWrapRepositoryFailure() {
+        when(companyRepository.findViewsByIdIn(anyList())).thenThrow(new RuntimeException("Connection lost"));
+
+        CompanyException exception = assertThrows(CompanyException.class,
+            () -> companyService.getBatch(new CompanyBatchGetRequest(List.of(1L), null), false, false));
+
+        assertEquals("Unexpected error occurred while retrieving companies in batch", exception.getMessage());
+    }
+
+    private static CompanyView view(Long id) {
+        Timestamp now = Timestamp.from(Instant.now());
+        return new CompanyView(id, UUID.randomUUID(), "Company " + id, "REG" + id, false, now, now, 0L);
+    }
+
+    private static CompanyResponse response(CompanyView view) {
+        return new CompanyResponse(view.id(), view.uuid(), view.name(), view.registrationNumber(), null,
+                                   view.softDelete(), view.createdAt(), view.updatedAt(), view.version());
+    }
+}
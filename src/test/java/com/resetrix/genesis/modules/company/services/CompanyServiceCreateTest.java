@@ -3,7 +3,10 @@ package com.resetrix.genesis.modules.company.services;
 import com.resetrix.genesis.modules.company.entities.Company;
 import com.resetrix.genesis.modules.company.exceptions.CompanyException;
 import com.resetrix.genesis.modules.company.exceptions.CustomDatabaseException;
+import com.resetrix.genesis.modules.company.exceptions.DuplicateRegistrationNumberException;
+import com.resetrix.genesis.modules.company.exceptions.InvalidFileException;
 import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoRepository;
 import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
 import com.resetrix.genesis.modules.company.requests.CompanyRequest;
 import com.resetrix.genesis.modules.company.responses.CompanyResponse;
@@ -23,12 +26,18 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.orm.jpa.JpaSystemException;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,9 +49,15 @@ class CompanyServiceCreateTest {
     @Mock
     private CompanyRepository companyRepository;
 
+    @Mock
+    private CompanyLogoRepository companyLogoRepository;
+
     @Mock
     private CompanyMapper companyMapper;
 
+    @Mock
+    private CompanyLogoProcessor companyLogoProcessor;
+
     @InjectMocks
     private CompanyService companyService;
 
@@ -77,7 +92,7 @@ class CompanyServiceCreateTest {
 
     @Test
     void save_shouldReturnCompanyResponse_whenValidRequestWithoutLogo() {
-        when(companyMapper.toEntity(any(CompanyRequest.class), any()))
+        when(companyMapper.toEntity(any(CompanyRequest.class)))
             .thenReturn(company);
         when(companyRepository.save(any(Company.class)))
             .thenReturn(company);
@@ -91,8 +106,9 @@ class CompanyServiceCreateTest {
         assertEquals(response.name(), result.name());
         assertEquals(response.registrationNumber(), result.registrationNumber());
 
-        verify(companyMapper).toEntity(any(CompanyRequest.class), any());
+        verify(companyMapper).toEntity(any(CompanyRequest.class));
         verify(companyRepository).save(any(Company.class));
+        verify(companyLogoProcessor, never()).processAfterCommit(anyLong(), any());
         verify(companyMapper).toResponse(any(Company.class));
     }
 
@@ -111,10 +127,12 @@ class CompanyServiceCreateTest {
             logoFile
         );
 
-        byte[] logoBytes = logoFile.getBytes();
-        company.setLogo(logoBytes);
+        CompanyLogoProcessor.StagedLogo stagedLogo = new CompanyLogoProcessor.StagedLogo(
+            Path.of("company-logo.upload"), "png", Instant.now());
 
-        when(companyMapper.toEntity(any(CompanyRequest.class), any(byte[].class)))
+        when(companyLogoProcessor.stage(logoFile))
+            .thenReturn(stagedLogo);
+        when(companyMapper.toEntity(any(CompanyRequest.class)))
             .thenReturn(company);
         when(companyRepository.save(any(Company.class)))
             .thenReturn(company);
@@ -126,8 +144,10 @@ class CompanyServiceCreateTest {
         assertNotNull(result);
         assertEquals(response.id(), result.id());
 
-        verify(companyMapper).toEntity(any(CompanyRequest.class), any(byte[].class));
+        verify(companyMapper).toEntity(any(CompanyRequest.class));
         verify(companyRepository).save(any(Company.class));
+        verify(companyLogoProcessor).processAfterCommit(company.getId(), stagedLogo);
+        verifyNoInteractions(companyLogoRepository);
         verify(companyMapper).toResponse(any(Company.class));
     }
 
@@ -140,7 +160,7 @@ class CompanyServiceCreateTest {
             "test".getBytes()
         ) {
             @Override
-            public byte[] getBytes() throws IOException {
+            public InputStream getInputStream() throws IOException {
                 throw new IOException("Cannot read file");
             }
         };
@@ -151,6 +171,9 @@ class CompanyServiceCreateTest {
             corruptedFile
         );
 
+        when(companyLogoProcessor.stage(corruptedFile))
+            .thenThrow(new InvalidFileException("Failed to process company logo", new IOException("Cannot read file")));
+
         CompanyException exception = assertThrows(
             CompanyException.class,
             () -> companyService.save(requestWithCorruptedLogo)
@@ -161,7 +184,7 @@ class CompanyServiceCreateTest {
 
     @Test
     void save_shouldThrowCustomDatabaseException_whenEntityAlreadyExists() {
-        when(companyMapper.toEntity(any(CompanyRequest.class), any()))
+        when(companyMapper.toEntity(any(CompanyRequest.class)))
             .thenReturn(company);
         when(companyRepository.save(any(Company.class)))
             .thenThrow(new EntityExistsException("Entity already exists"));
@@ -176,7 +199,7 @@ class CompanyServiceCreateTest {
 
     @Test
     void save_shouldThrowCustomDatabaseException_whenDataIntegrityViolation() {
-        when(companyMapper.toEntity(any(CompanyRequest.class), any()))
+        when(companyMapper.toEntity(any(CompanyRequest.class)))
             .thenReturn(company);
         when(companyRepository.save(any(Company.class)))
             .thenThrow(new DataIntegrityViolationException("Data integrity violation"));
@@ -191,7 +214,7 @@ class CompanyServiceCreateTest {
 
     @Test
     void save_shouldThrowCustomDatabaseException_whenConstraintViolation() {
-        when(companyMapper.toEntity(any(CompanyRequest.class), any()))
+        when(companyMapper.toEntity(any(CompanyRequest.class)))
             .thenReturn(company);
         when(companyRepository.save(any(Company.class)))
             .thenThrow(new ConstraintViolationException("Constraint violation", null));
@@ -206,7 +229,7 @@ class CompanyServiceCreateTest {
 
     @Test
     void save_shouldThrowCustomDatabaseException_whenJpaSystemException() {
-        when(companyMapper.toEntity(any(CompanyRequest.class), any()))
+        when(companyMapper.toEntity(any(CompanyRequest.class)))
             .thenReturn(company);
         when(companyRepository.save(any(Company.class)))
             .thenThrow(new JpaSystemException(new RuntimeException("JPA error")));
@@ -221,7 +244,7 @@ class CompanyServiceCreateTest {
 
     @Test
     void save_shouldThrowCustomDatabaseException_whenPersistenceException() {
-        when(companyMapper.toEntity(any(CompanyRequest.class), any()))
+        when(companyMapper.toEntity(any(CompanyRequest.class)))
             .thenReturn(company);
         when(companyRepository.save(any(Company.class)))
             .thenThrow(new PersistenceException("Persistence error"));
@@ -236,7 +259,7 @@ class CompanyServiceCreateTest {
 
     @Test
     void save_shouldThrowCustomDatabaseException_whenInvalidDataAccessApiUsage() {
-        when(companyMapper.toEntity(any(CompanyRequest.class), any()))
+        when(companyMapper.toEntity(any(CompanyRequest.class)))
             .thenReturn(company);
         when(companyRepository.save(any(Company.class)))
             .thenThrow(new InvalidDataAccessApiUsageException("Invalid API usage"));
@@ -251,7 +274,7 @@ class CompanyServiceCreateTest {
 
     @Test
     void save_shouldThrowCompanyException_whenUnexpectedErrorOccurs() {
-        when(companyMapper.toEntity(any(CompanyRequest.class), any()))
+        when(companyMapper.toEntity(any(CompanyRequest.class)))
             .thenReturn(company);
         when(companyRepository.save(any(Company.class)))
             .thenThrow(new RuntimeException("Unexpected error"));
@@ -263,4 +286,20 @@ class CompanyServiceCreateTest {
 
         assertEquals("Unexpected error occurred while saving the company", exception.getMessage());
     }
+
+    @Test
+    void save_shouldThrowDuplicateRegistrationNumber_withoutInserting_whenNumberIsTaken() {
+        when(companyRepository.existsByRegistrationNumber(request.registrationNumber()))
+            .thenReturn(true);
+
+        DuplicateRegistrationNumberException exception = assertThrows(
+            DuplicateRegistrationNumberException.class,
+            () -> companyService.save(request)
+        );
+
+        assertEquals("Registration number " + request.registrationNumber() + " already exists",
+                     exception.getMessage());
+        verify(companyRepository, never()).save(any(Company.class));
+        verifyNoInteractions(companyLogoProcessor);
+    }
 }
@@ -1,6 +1,5 @@
 package com.resetrix.genesis.modules.company.services;
 
-import com.resetrix.genesis.modules.company.entities.Company;
 import com.resetrix.genesis.modules.company.exceptions.CompanyException;
 import com.resetrix.genesis.modules.company.exceptions.CustomDatabaseException;
 import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
@@ -18,15 +17,12 @@ import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.orm.jpa.JpaSystemException;
 
-import java.sql.Timestamp;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,60 +35,55 @@ class CompanyServiceDeleteByUuidTest {
     @InjectMocks
     private CompanyService companyService;
 
-    private Company company;
-    private UUID    companyUuid;
+    private UUID companyUuid;
 
     @BeforeEach
     void setUp() {
         companyUuid = UUID.randomUUID();
-
-        Timestamp now = new Timestamp(System.currentTimeMillis());
-
-        company = new Company();
-        company.setId(1L);
-        company.setUuid(companyUuid);
-        company.setName("Test Company");
-        company.setRegistrationNumber("REG123456");
-        company.setSoftDelete(false);
-        company.setCreatedAt(now);
-        company.setUpdatedAt(now);
     }
 
     // ========== softDeleteByUuid Tests ==========
 
     @Test
     void softDeleteByUuid_shouldMarkCompanyAsDeleted_whenValidUuid() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
-            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(companyRepository.softDeleteByUuid(companyUuid))
+            .thenReturn(1);
 
         companyService.softDeleteByUuid(companyUuid);
 
-        assertTrue(company.getSoftDelete());
-        verify(companyRepository).findByUuid(companyUuid);
-        verify(companyRepository).save(company);
+        verify(companyRepository).softDeleteByUuid(companyUuid);
+        verify(companyRepository, never()).findByUuid(any());
     }
 
     @Test
-    void softDeleteByUuid_shouldThrowCompanyException_whenCompanyNotFound() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.empty());
+    void softDeleteByUuid_shouldThrowEntityNotFoundException_whenNoRowIsAffected() {
+        when(companyRepository.softDeleteByUuid(companyUuid))
+            .thenReturn(0);
 
-        CompanyException exception = assertThrows(
-            CompanyException.class,
+        EntityNotFoundException exception = assertThrows(
+            EntityNotFoundException.class,
             () -> companyService.softDeleteByUuid(companyUuid)
         );
 
-        assertEquals("Unexpected error occurred while soft-deleting the company", exception.getMessage());
-        verify(companyRepository).findByUuid(companyUuid);
+        assertEquals("Company with uuid " + companyUuid + " does not exist", exception.getMessage());
+        verify(companyRepository).softDeleteByUuid(companyUuid);
+    }
+
+    @Test
+    void softDeleteByUuid_shouldSucceed_whenCompanyIsAlreadySoftDeleted() {
+        when(companyRepository.softDeleteByUuid(companyUuid))
+            .thenReturn(0);
+        when(companyRepository.isSoftDeletedByUuid(companyUuid))
+            .thenReturn(true);
+
+        companyService.softDeleteByUuid(companyUuid);
+
+        verify(companyRepository).isSoftDeletedByUuid(companyUuid);
     }
 
     @Test
     void softDeleteByUuid_shouldThrowCustomDatabaseException_whenEntityNotFoundExceptionThrown() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+        when(companyRepository.softDeleteByUuid(companyUuid))
             .thenThrow(new EntityNotFoundException("Entity not found"));
 
         CustomDatabaseException exception = assertThrows(
@@ -105,9 +96,7 @@ class CompanyServiceDeleteByUuidTest {
 
     @Test
     void softDeleteByUuid_shouldThrowCustomDatabaseException_whenDataIntegrityViolation() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+        when(companyRepository.softDeleteByUuid(companyUuid))
             .thenThrow(new DataIntegrityViolationException("Data integrity violation"));
 
         CustomDatabaseException exception = assertThrows(
@@ -120,9 +109,7 @@ class CompanyServiceDeleteByUuidTest {
 
     @Test
     void softDeleteByUuid_shouldThrowCustomDatabaseException_whenConstraintViolation() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+        when(companyRepository.softDeleteByUuid(companyUuid))
             .thenThrow(new ConstraintViolationException("Constraint violation", null));
 
         CustomDatabaseException exception = assertThrows(
@@ -134,25 +121,21 @@ class CompanyServiceDeleteByUuidTest {
     }
 
     @Test
-    void softDeleteByUuid_shouldThrowCustomDatabaseException_whenOptimisticLockingFailure() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+    void softDeleteByUuid_shouldPropagateOptimisticLockingFailure() {
+        when(companyRepository.softDeleteByUuid(companyUuid))
             .thenThrow(new OptimisticLockingFailureException("Optimistic locking failure"));
 
-        CustomDatabaseException exception = assertThrows(
-            CustomDatabaseException.class,
+        OptimisticLockingFailureException exception = assertThrows(
+            OptimisticLockingFailureException.class,
             () -> companyService.softDeleteByUuid(companyUuid)
         );
 
-        assertEquals("Concurrent modification detected", exception.getMessage());
+        assertEquals("Optimistic locking failure", exception.getMessage());
     }
 
     @Test
     void softDeleteByUuid_shouldThrowCustomDatabaseException_whenInvalidDataAccessApiUsage() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+        when(companyRepository.softDeleteByUuid(companyUuid))
             .thenThrow(new InvalidDataAccessApiUsageException("Invalid API usage"));
 
         CustomDatabaseException exception = assertThrows(
@@ -165,9 +148,7 @@ class CompanyServiceDeleteByUuidTest {
 
     @Test
     void softDeleteByUuid_shouldThrowCustomDatabaseException_whenJpaSystemException() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+        when(companyRepository.softDeleteByUuid(companyUuid))
             .thenThrow(new JpaSystemException(new RuntimeException("JPA error")));
 
         CustomDatabaseException exception = assertThrows(
@@ -180,9 +161,7 @@ class CompanyServiceDeleteByUuidTest {
 
     @Test
     void softDeleteByUuid_shouldThrowCustomDatabaseException_whenPersistenceException() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+        when(companyRepository.softDeleteByUuid(companyUuid))
             .thenThrow(new PersistenceException("Persistence error"));
 
         CustomDatabaseException exception = assertThrows(
@@ -195,9 +174,7 @@ class CompanyServiceDeleteByUuidTest {
 
     @Test
     void softDeleteByUuid_shouldThrowCompanyException_whenUnexpectedErrorOccurs() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+        when(companyRepository.softDeleteByUuid(companyUuid))
             .thenThrow(new RuntimeException("Unexpected error"));
 
         CompanyException exception = assertThrows(
@@ -212,35 +189,33 @@ class CompanyServiceDeleteByUuidTest {
 
     @Test
     void deleteByUuid_shouldDeleteCompany_whenValidUuid() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
+        when(companyRepository.hardDeleteByUuid(companyUuid))
+            .thenReturn(1);
 
         companyService.deleteByUuid(companyUuid);
 
-        verify(companyRepository).findByUuid(companyUuid);
-        verify(companyRepository).delete(company);
+        verify(companyRepository).hardDeleteByUuid(companyUuid);
+        verify(companyRepository, never()).findByUuid(any());
     }
 
     @Test
-    void deleteByUuid_shouldThrowCompanyException_whenCompanyNotFound() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.empty());
+    void deleteByUuid_shouldThrowEntityNotFoundException_whenNoRowIsAffected() {
+        when(companyRepository.hardDeleteByUuid(companyUuid))
+            .thenReturn(0);
 
-        CompanyException exception = assertThrows(
-            CompanyException.class,
+        EntityNotFoundException exception = assertThrows(
+            EntityNotFoundException.class,
             () -> companyService.deleteByUuid(companyUuid)
         );
 
-        assertEquals("Unexpected error occurred while deleting the company", exception.getMessage());
-        verify(companyRepository).findByUuid(companyUuid);
+        assertEquals("Company with uuid " + companyUuid + " does not exist", exception.getMessage());
+        verify(companyRepository).hardDeleteByUuid(companyUuid);
     }
 
     @Test
     void deleteByUuid_shouldThrowCustomDatabaseException_whenEntityNotFoundExceptionThrown() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        doThrow(new EntityNotFoundException("Entity not found"))
-            .when(companyRepository).delete(any(Company.class));
+        when(companyRepository.hardDeleteByUuid(companyUuid))
+            .thenThrow(new EntityNotFoundException("Entity not found"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
@@ -252,10 +227,8 @@ class CompanyServiceDeleteByUuidTest {
 
     @Test
     void deleteByUuid_shouldThrowCustomDatabaseException_whenDataIntegrityViolation() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        doThrow(new DataIntegrityViolationException("Data integrity violation"))
-            .when(companyRepository).delete(any(Company.class));
+        when(companyRepository.hardDeleteByUuid(companyUuid))
+            .thenThrow(new DataIntegrityViolationException("Data integrity violation"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
@@ -267,10 +240,8 @@ class CompanyServiceDeleteByUuidTest {
 
     @Test
     void deleteByUuid_shouldThrowCustomDatabaseException_whenConstraintViolation() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        doThrow(new ConstraintViolationException("Constraint violation", null))
-            .when(companyRepository).delete(any(Company.class));
+        when(companyRepository.hardDeleteByUuid(companyUuid))
+            .thenThrow(new ConstraintViolationException("Constraint violation", null));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
@@ -281,26 +252,22 @@ class CompanyServiceDeleteByUuidTest {
     }
 
     @Test
-    void deleteByUuid_shouldThrowCustomDatabaseException_whenOptimisticLockingFailure() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        doThrow(new OptimisticLockingFailureException("Optimistic locking failure"))
-            .when(companyRepository).delete(any(Company.class));
+    void deleteByUuid_shouldPropagateOptimisticLockingFailure() {
+        when(companyRepository.hardDeleteByUuid(companyUuid))
+            .thenThrow(new OptimisticLockingFailureException("Optimistic locking failure"));
 
-        CustomDatabaseException exception = assertThrows(
-            CustomDatabaseException.class,
+        OptimisticLockingFailureException exception = assertThrows(
+            OptimisticLockingFailureException.class,
             () -> companyService.deleteByUuid(companyUuid)
         );
 
-        assertEquals("Concurrent modification detected", exception.getMessage());
+        assertEquals("Optimistic locking failure", exception.getMessage());
     }
 
     @Test
     void deleteByUuid_shouldThrowCustomDatabaseException_whenInvalidDataAccessApiUsage() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        doThrow(new InvalidDataAccessApiUsageException("Invalid API usage"))
-            .when(companyRepository).delete(any(Company.class));
+        when(companyRepository.hardDeleteByUuid(companyUuid))
+            .thenThrow(new InvalidDataAccessApiUsageException("Invalid API usage"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
@@ -312,10 +279,8 @@ class CompanyServiceDeleteByUuidTest {
 
     @Test
     void deleteByUuid_shouldThrowCustomDatabaseException_whenJpaSystemException() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        doThrow(new JpaSystemException(new RuntimeException("JPA error")))
-            .when(companyRepository).delete(any(Company.class));
+        when(companyRepository.hardDeleteByUuid(companyUuid))
+            .thenThrow(new JpaSystemException(new RuntimeException("JPA error")));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
@@ -327,10 +292,8 @@ class CompanyServiceDeleteByUuidTest {
 
     @Test
     void deleteByUuid_shouldThrowCustomDatabaseException_whenPersistenceException() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        doThrow(new PersistenceException("Persistence error"))
-            .when(companyRepository).delete(any(Company.class));
+        when(companyRepository.hardDeleteByUuid(companyUuid))
+            .thenThrow(new PersistenceException("Persistence error"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
@@ -342,10 +305,8 @@ class CompanyServiceDeleteByUuidTest {
 
     @Test
     void deleteByUuid_shouldThrowCompanyException_whenUnexpectedErrorOccurs() {
-        when(companyRepository.findByUuid(companyUuid))
-            .thenReturn(Optional.of(company));
-        doThrow(new RuntimeException("Unexpected error"))
-            .when(companyRepository).delete(any(Company.class));
+        when(companyRepository.hardDeleteByUuid(companyUuid))
+            .thenThrow(new RuntimeException("Unexpected error"));
 
         CompanyException exception = assertThrows(
             CompanyException.class,
@@ -1,7 +1,7 @@
 package com.resetrix.genesis.modules.company.services;
 
-import com.resetrix.genesis.modules.company.entities.Company;
 import com.resetrix.genesis.modules.company.exceptions.CompanyException;
+import com.resetrix.genesis.modules.company.exceptions.CompanyVersionMismatchException;
 import com.resetrix.genesis.modules.company.exceptions.CustomDatabaseException;
 import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -18,15 +18,12 @@ import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.orm.jpa.JpaSystemException;
 
-import java.sql.Timestamp;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,60 +36,102 @@ class CompanyServiceDeleteTest {
     @InjectMocks
     private CompanyService companyService;
 
-    private Company company;
-    private Long    companyId;
+    private Long companyId;
 
     @BeforeEach
     void setUp() {
         companyId = 1L;
-
-        Timestamp now = new Timestamp(System.currentTimeMillis());
-
-        company = new Company();
-        company.setId(companyId);
-        company.setUuid(UUID.randomUUID());
-        company.setName("Test Company");
-        company.setRegistrationNumber("REG123456");
-        company.setSoftDelete(false);
-        company.setCreatedAt(now);
-        company.setUpdatedAt(now);
     }
 
     // ========== softDelete Tests ==========
 
     @Test
     void softDelete_shouldMarkCompanyAsDeleted_whenValidId() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
-            .thenAnswer(invocation -> invocation.getArgument(0));
+        when(companyRepository.softDeleteById(companyId))
+            .thenReturn(1);
 
         companyService.softDelete(companyId);
 
-        assertTrue(company.getSoftDelete());
-        verify(companyRepository).findById(companyId);
-        verify(companyRepository).save(company);
+        verify(companyRepository).softDeleteById(companyId);
+        verify(companyRepository, never()).findById(any());
     }
 
     @Test
-    void softDelete_shouldThrowCompanyException_whenCompanyNotFound() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.empty());
+    void softDelete_shouldThrowEntityNotFoundException_whenNoRowIsAffected() {
+        when(companyRepository.softDeleteById(companyId))
+            .thenReturn(0);
 
-        CompanyException exception = assertThrows(
-            CompanyException.class,
+        EntityNotFoundException exception = assertThrows(
+            EntityNotFoundException.class,
             () -> companyService.softDelete(companyId)
         );
 
-        assertEquals("Unexpected error occurred while soft-deleting the company", exception.getMessage());
-        verify(companyRepository).findById(companyId);
+        assertEquals("Company with id " + companyId + " does not exist", exception.getMessage());
+        verify(companyRepository).softDeleteById(companyId);
+    }
+
+    @Test
+    void softDelete_shouldSucceed_whenCompanyIsAlreadySoftDeleted() {
+        when(companyRepository.softDeleteById(companyId))
+            .thenReturn(0);
+        when(companyRepository.isSoftDeletedById(companyId))
+            .thenReturn(true);
+
+        companyService.softDelete(companyId);
+
+        verify(companyRepository).isSoftDeletedById(companyId);
+    }
+
+    @Test
+    void softDelete_shouldSucceed_whenCompanyIsAlreadySoftDeleted_atAnyVersion() {
+        when(companyRepository.softDeleteById(companyId, 3L))
+            .thenReturn(0);
+        when(companyRepository.isSoftDeletedById(companyId))
+            .thenReturn(true);
+
+        companyService.softDelete(companyId, 3L);
+
+        verify(companyRepository).isSoftDeletedById(companyId);
+    }
+
+    @Test
+    void softDelete_shouldDeleteAtTheExpectedVersion_whenVersionGiven() {
+        when(companyRepository.softDeleteById(companyId, 3L))
+            .thenReturn(1);
+
+        companyService.softDelete(companyId, 3L);
+
+        verify(companyRepository).softDeleteById(companyId, 3L);
+        verify(companyRepository, never()).softDeleteById(companyId);
+    }
+
+    @Test
+    void softDelete_shouldThrowCompanyVersionMismatchException_whenVersionedDeleteAffectsNoRow() {
+        when(companyRepository.softDeleteById(companyId, 3L))
+            .thenReturn(0);
+
+        CompanyVersionMismatchException exception = assertThrows(
+            CompanyVersionMismatchException.class,
+            () -> companyService.softDelete(companyId, 3L)
+        );
+
+        assertEquals("Company with id 1 is no longer at version 3", exception.getMessage());
+    }
+
+    @Test
+    void delete_shouldThrowCompanyVersionMismatchException_whenVersionedDeleteAffectsNoRow() {
+        when(companyRepository.hardDeleteById(companyId, 3L))
+            .thenReturn(0);
+
+        assertThrows(
+            CompanyVersionMismatchException.class,
+            () -> companyService.delete(companyId, 3L)
+        );
     }
 
     @Test
     void softDelete_shouldThrowCustomDatabaseException_whenEntityNotFoundExceptionThrown() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+        when(companyRepository.softDeleteById(companyId))
             .thenThrow(new EntityNotFoundException("Entity not found"));
 
         CustomDatabaseException exception = assertThrows(
@@ -105,9 +144,7 @@ class CompanyServiceDeleteTest {
 
     @Test
     void softDelete_shouldThrowCustomDatabaseException_whenDataIntegrityViolation() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+        when(companyRepository.softDeleteById(companyId))
             .thenThrow(new DataIntegrityViolationException("Data integrity violation"));
 
         CustomDatabaseException exception = assertThrows(
@@ -120,9 +157,7 @@ class CompanyServiceDeleteTest {
 
     @Test
     void softDelete_shouldThrowCustomDatabaseException_whenConstraintViolation() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+        when(companyRepository.softDeleteById(companyId))
             .thenThrow(new ConstraintViolationException("Constraint violation", null));
 
         CustomDatabaseException exception = assertThrows(
@@ -134,25 +169,21 @@ class CompanyServiceDeleteTest {
     }
 
     @Test
-    void softDelete_shouldThrowCustomDatabaseException_whenOptimisticLockingFailure() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+    void softDelete_shouldPropagateOptimisticLockingFailure() {
+        when(companyRepository.softDeleteById(companyId))
             .thenThrow(new OptimisticLockingFailureException("Optimistic locking failure"));
 
-        CustomDatabaseException exception = assertThrows(
-            CustomDatabaseException.class,
+        OptimisticLockingFailureException exception = assertThrows(
+            OptimisticLockingFailureException.class,
             () -> companyService.softDelete(companyId)
         );
 
-        assertEquals("Concurrent modification detected", exception.getMessage());
+        assertEquals("Optimistic locking failure", exception.getMessage());
     }
 
     @Test
     void softDelete_shouldThrowCustomDatabaseException_whenInvalidDataAccessApiUsage() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+        when(companyRepository.softDeleteById(companyId))
             .thenThrow(new InvalidDataAccessApiUsageException("Invalid API usage"));
 
         CustomDatabaseException exception = assertThrows(
@@ -165,9 +196,7 @@ class CompanyServiceDeleteTest {
 
     @Test
     void softDelete_shouldThrowCustomDatabaseException_whenJpaSystemException() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+        when(companyRepository.softDeleteById(companyId))
             .thenThrow(new JpaSystemException(new RuntimeException("JPA error")));
 
         CustomDatabaseException exception = assertThrows(
@@ -180,9 +209,7 @@ class CompanyServiceDeleteTest {
 
     @Test
     void softDelete_shouldThrowCustomDatabaseException_whenPersistenceException() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+        when(companyRepository.softDeleteById(companyId))
             .thenThrow(new PersistenceException("Persistence error"));
 
         CustomDatabaseException exception = assertThrows(
@@ -195,9 +222,7 @@ class CompanyServiceDeleteTest {
 
     @Test
     void softDelete_shouldThrowCompanyException_whenUnexpectedErrorOccurs() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        when(companyRepository.save(any(Company.class)))
+        when(companyRepository.softDeleteById(companyId))
             .thenThrow(new RuntimeException("Unexpected error"));
 
         CompanyException exception = assertThrows(
@@ -212,35 +237,33 @@ class CompanyServiceDeleteTest {
 
     @Test
     void delete_shouldDeleteCompany_whenValidId() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
+        when(companyRepository.hardDeleteById(companyId))
+            .thenReturn(1);
 
         companyService.delete(companyId);
 
-        verify(companyRepository).findById(companyId);
-        verify(companyRepository).delete(company);
+        verify(companyRepository).hardDeleteById(companyId);
+        verify(companyRepository, never()).findById(any());
     }
 
     @Test
-    void delete_shouldThrowCompanyException_whenCompanyNotFound() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.empty());
+    void delete_shouldThrowEntityNotFoundException_whenNoRowIsAffected() {
+        when(companyRepository.hardDeleteById(companyId))
+            .thenReturn(0);
 
-        CompanyException exception = assertThrows(
-            CompanyException.class,
+        EntityNotFoundException exception = assertThrows(
+            EntityNotFoundException.class,
             () -> companyService.delete(companyId)
         );
 
-        assertEquals("Unexpected error occurred while deleting the company", exception.getMessage());
-        verify(companyRepository).findById(companyId);
+        assertEquals("Company with id " + companyId + " does not exist", exception.getMessage());
+        verify(companyRepository).hardDeleteById(companyId);
     }
 
     @Test
     void delete_shouldThrowCustomDatabaseException_whenEntityNotFoundExceptionThrown() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        doThrow(new EntityNotFoundException("Entity not found"))
-            .when(companyRepository).delete(any(Company.class));
+        when(companyRepository.hardDeleteById(companyId))
+            .thenThrow(new EntityNotFoundException("Entity not found"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
@@ -252,10 +275,8 @@ class CompanyServiceDeleteTest {
 
     @Test
     void delete_shouldThrowCustomDatabaseException_whenDataIntegrityViolation() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        doThrow(new DataIntegrityViolationException("Data integrity violation"))
-            .when(companyRepository).delete(any(Company.class));
+        when(companyRepository.hardDeleteById(companyId))
+            .thenThrow(new DataIntegrityViolationException("Data integrity violation"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
@@ -267,10 +288,8 @@ class CompanyServiceDeleteTest {
 
     @Test
     void delete_shouldThrowCustomDatabaseException_whenConstraintViolation() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        doThrow(new ConstraintViolationException("Constraint violation", null))
-            .when(companyRepository).delete(any(Company.class));
+        when(companyRepository.hardDeleteById(companyId))
+            .thenThrow(new ConstraintViolationException("Constraint violation", null));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
@@ -281,26 +300,22 @@ class CompanyServiceDeleteTest {
     }
 
     @Test
-    void delete_shouldThrowCustomDatabaseException_whenOptimisticLockingFailure() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        doThrow(new OptimisticLockingFailureException("Optimistic locking failure"))
-            .when(companyRepository).delete(any(Company.class));
+    void delete_shouldPropagateOptimisticLockingFailure() {
+        when(companyRepository.hardDeleteById(companyId))
+            .thenThrow(new OptimisticLockingFailureException("Optimistic locking failure"));
 
-        CustomDatabaseException exception = assertThrows(
-            CustomDatabaseException.class,
+        OptimisticLockingFailureException exception = assertThrows(
+            OptimisticLockingFailureException.class,
             () -> companyService.delete(companyId)
         );
 
-        assertEquals("Concurrent modification detected", exception.getMessage());
+        assertEquals("Optimistic locking failure", exception.getMessage());
     }
 
     @Test
     void delete_shouldThrowCustomDatabaseException_whenInvalidDataAccessApiUsage() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        doThrow(new InvalidDataAccessApiUsageException("Invalid API usage"))
-            .when(companyRepository).delete(any(Company.class));
+        when(companyRepository.hardDeleteById(companyId))
+            .thenThrow(new InvalidDataAccessApiUsageException("Invalid API usage"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
@@ -312,10 +327,8 @@ class CompanyServiceDeleteTest {
 
     @Test
     void delete_shouldThrowCustomDatabaseException_whenJpaSystemException() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        doThrow(new JpaSystemException(new RuntimeException("JPA error")))
-            .when(companyRepository).delete(any(Company.class));
+        when(companyRepository.hardDeleteById(companyId))
+            .thenThrow(new JpaSystemException(new RuntimeException("JPA error")));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
@@ -327,10 +340,8 @@ class CompanyServiceDeleteTest {
 
     @Test
     void delete_shouldThrowCustomDatabaseException_whenPersistenceException() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        doThrow(new PersistenceException("Persistence error"))
-            .when(companyRepository).delete(any(Company.class));
+        when(companyRepository.hardDeleteById(companyId))
+            .thenThrow(new PersistenceException("Persistence error"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
@@ -342,10 +353,8 @@ class CompanyServiceDeleteTest {
 
     @Test
     void delete_shouldThrowCompanyException_whenUnexpectedErrorOccurs() {
-        when(companyRepository.findById(companyId))
-            .thenReturn(Optional.of(company));
-        doThrow(new RuntimeException("Unexpected error"))
-            .when(companyRepository).delete(any(Company.class));
+        when(companyRepository.hardDeleteById(companyId))
+            .thenThrow(new RuntimeException("Unexpected error"));
 
         CompanyException exception = assertThrows(
             CompanyException.class,
@@ -0,0 +1,115 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resetrix.genesis.modules.company.constants.CompanyExportFormat;
+import com.resetrix.genesis.modules.company.exceptions.CompanyException;
+import com.resetrix.genesis.modules.company.exporters.CsvCompanyExporter;
+import com.resetrix.genesis.modules.company.exporters.NdjsonCompanyExporter;
+import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyServiceExportTest {
+
+    private static final UUID UUID_1 = UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6");
+    private static final Timestamp CREATED_AT = Timestamp.from(Instant.parse("2025-10-08T10:30:00Z"));
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    private CompanyService companyService;
+
+    @BeforeEach
+    void setUp() {
+        companyService = new CompanyService(
+            companyRepository,
+            null,
+            new CompanyMapper(),
+            null,
+            null,
+            List.of(new NdjsonCompanyExporter(new ObjectMapper()), new CsvCompanyExporter()),
+            null,
+            null);
+    }
+
+    @Test
+    void exportAll_shouldWriteOneCsvLinePerCompany_andCloseTheStream() {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        when(companyRepository.streamAllViews()).thenReturn(Stream.of(
+                new CompanyView(1L, UUID_1, "Acme, Inc.", "REG1", false, CREATED_AT, CREATED_AT, 0L))
+            .onClose(() -> closed.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        companyService.exportAll(CompanyExportFormat.CSV, output);
+
+        // Assert
+        assertEquals(
+            "id,uuid,name,registrationNumber,softDelete,createdAt,updatedAt,version\r\n"
+                + "1," + UUID_1 + ",\"Acme, Inc.\",REG1,false,2025-10-08T10:30:00Z,2025-10-08T10:30:00Z,0\r\n",
+            output.toString(StandardCharsets.UTF_8));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void exportAll_shouldWriteOneJsonObjectPerLine_whenFormatIsNdjson() {
+        // Arrange
+        when(companyRepository.streamAllViews()).thenReturn(Stream.of(
+            new CompanyView(1L, UUID_1, "Alpha", "REG1", false, null, null, 0L),
+            new CompanyView(2L, UUID_1, "Beta", "REG2", true, null, null, 1L)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        companyService.exportAll(CompanyExportFormat.NDJSON, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"name\":\"Alpha\""));
+        assertTrue(lines[1].contains("\"registrationNumber\":\"REG2\""));
+    }
+
+    @Test
+    void exportAll_shouldThrowCompanyException_whenClientDisconnects() {
+        // Arrange
+        when(companyRepository.streamAllViews()).thenReturn(Stream.of(
+            new CompanyView(1L, UUID_1, "Alpha", "REG1", false, null, null, 0L)));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Act & Assert
+        CompanyException exception = assertThrows(
+            CompanyException.class,
+            () -> companyService.exportAll(CompanyExportFormat.CSV, broken)
+        );
+
+        assertEquals("Unexpected error occurred while exporting companies", exception.getMessage());
+    }
+}
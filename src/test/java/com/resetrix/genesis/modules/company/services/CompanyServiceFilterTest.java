@@ -0,0 +1,174 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.entities.Company;
+import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
+import com.resetrix.genesis.modules.company.requests.CompanyFilter;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.shared.repositories.HibernateFilterScope;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor.SpecificationFluentQuery;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyServiceFilterTest {
+
+    private static final Instant JANUARY = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant FEBRUARY = Instant.parse("2025-02-01T00:00:00Z");
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private CompanyMapper companyMapper;
+
+    @Mock
+    private HibernateFilterScope hibernateFilterScope;
+
+    @InjectMocks
+    private CompanyService companyService;
+
+    @Test
+    void getAll_shouldRejectUnsupportedSort_beforeAnyQueryRuns() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> companyService.getAll(0, 10, "logo", "ASC", false, false, CompanyFilter.none())
+        );
+
+        assertEquals("Invalid sortBy: must be one of id, name, registrationNumber, createdAt, updatedAt",
+                     exception.getMessage());
+        verifyNoInteractions(companyRepository);
+    }
+
+    @Test
+    void getAll_shouldQueryBySpecification_andCountMatches_whenFilterIsSet() {
+        // Arrange
+        CompanyView company = company(1L, false);
+        CompanyResponse response = response(company);
+        CompanyFilter filter = new CompanyFilter("acme", null, JANUARY, FEBRUARY, null, null, null);
+        Page<CompanyView> page = new PageImpl<>(List.of(company), PageRequest.of(0, 10), 1);
+
+        when(companyRepository.findBy(any(Specification.class), any())).thenReturn(page);
+        when(companyMapper.toResponse(company, null)).thenReturn(response);
+
+        // Act
+        Page<CompanyResponse> result = companyService.getAll(0, 10, "name", "ASC", false, false, filter);
+
+        // Assert
+        assertEquals(List.of(response), result.getContent());
+        assertEquals(1, result.getTotalElements());
+        verify(companyRepository, never()).findSliceBy(any(), any());
+        verify(companyRepository, never()).countLiveCompanies();
+        verifyNoInteractions(hibernateFilterScope);
+    }
+
+    @Test
+    void getSlice_shouldLiftTheActiveFilter_whenOnlyDeletedCompaniesAreRequested() {
+        // Arrange
+        CompanyView company = company(2L, true);
+        CompanyResponse response = response(company);
+        CompanyFilter filter = new CompanyFilter(null, null, null, null, null, null, "deleted");
+        Slice<CompanyView> slice = new SliceImpl<>(List.of(company), PageRequest.of(0, 10), false);
+
+        when(hibernateFilterScope.withoutFilter(eq(Company.ACTIVE_FILTER), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(companyRepository.findBy(any(Specification.class), any())).thenReturn(slice);
+        when(companyMapper.toResponse(company, null)).thenReturn(response);
+
+        // Act
+        Slice<CompanyResponse> result = companyService.getSlice(0, 10, "updatedAt", "DESC", false, false, filter);
+
+        // Assert
+        assertEquals(List.of(response), result.getContent());
+        assertTrue(result.isLast());
+        verify(companyRepository, never()).findSliceBy(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAll_shouldReadFilteredRowsAsViews_insteadOfManagedEntities() {
+        // Arrange
+        CompanyFilter filter = new CompanyFilter("acme", null, null, null, null, null, null);
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("id"));
+        SpecificationFluentQuery<Company> entities = mock(SpecificationFluentQuery.class);
+        SpecificationFluentQuery<CompanyView> views = mock(SpecificationFluentQuery.class);
+        when(entities.as(CompanyView.class)).thenReturn(views);
+        when(views.page(pageRequest)).thenReturn(Page.empty(pageRequest));
+        when(companyRepository.findBy(any(Specification.class), any()))
+            .thenAnswer(invocation -> invocation.<Function<Object, Object>>getArgument(1).apply(entities));
+
+        // Act
+        companyService.getAll(0, 10, "id", "ASC", false, false, filter);
+
+        // Assert
+        verify(views).page(pageRequest);
+        verify(entities, never()).page(any());
+    }
+
+    @Test
+    void getAll_shouldThrowIllegalArgumentException_whenRangeIsInverted() {
+        // Arrange
+        CompanyFilter filter = new CompanyFilter(null, null, null, null, FEBRUARY, JANUARY, null);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> companyService.getAll(0, 10, "id", "ASC", false, false, filter)
+        );
+
+        assertEquals("Invalid updated range: updatedFrom must be before updatedTo", exception.getMessage());
+        verifyNoInteractions(companyRepository);
+    }
+
+    @Test
+    void getAll_shouldThrowIllegalArgumentException_whenStateIsUnknown() {
+        // Arrange
+        CompanyFilter filter = new CompanyFilter(null, null, null, null, null, null, "archived");
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> companyService.getAll(0, 10, "id", "ASC", false, false, filter)
+        );
+
+        assertEquals("Invalid state: must be 'active', 'deleted' or 'all'", exception.getMessage());
+    }
+
+    private CompanyView company(Long id, boolean softDelete) {
+        return new CompanyView(id, UUID.randomUUID(), "Acme", "REG" + id, softDelete, null, null, 0L);
+    }
+
+    private CompanyResponse response(CompanyView company) {
+        return new CompanyResponse(company.id(), company.uuid(), company.name(),
+                                   company.registrationNumber(), null, company.softDelete(), null, null, 0L);
+    }
+}
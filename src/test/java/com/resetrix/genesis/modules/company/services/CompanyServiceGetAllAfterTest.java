@@ -0,0 +1,156 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.constants.CompanySortField;
+import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
+import com.resetrix.genesis.modules.company.requests.CompanyCursor;
+import com.resetrix.genesis.modules.company.requests.CompanyFilter;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import com.resetrix.genesis.shared.helpers.CursorHelper;
+import com.resetrix.genesis.shared.responses.CursorPage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyServiceGetAllAfterTest {
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private CompanyMapper companyMapper;
+
+    @InjectMocks
+    private CompanyService companyService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllAfter_shouldReturnNextCursor_whenMoreRowsExist() {
+        CompanyView first = company(1L, "Alpha");
+        CompanyView second = company(2L, "Beta");
+        CompanyView third = company(3L, "Gamma");
+        CompanyResponse firstResponse = response(first);
+        CompanyResponse secondResponse = response(second);
+
+        when(companyRepository.findBy(any(Specification.class), any()))
+            .thenReturn(List.of(first, second, third));
+        when(companyMapper.toResponse(first)).thenReturn(firstResponse);
+        when(companyMapper.toResponse(second)).thenReturn(secondResponse);
+
+        CursorPage<CompanyResponse> result =
+            companyService.getAllAfter("", 2, "name", "ASC", false, CompanyFilter.none());
+
+        assertEquals(List.of(firstResponse, secondResponse), result.content());
+        assertEquals(2, result.size());
+        assertTrue(result.hasNext());
+
+        CompanyCursor next = CompanyCursor.decode(result.nextCursor());
+        assertEquals(CompanySortField.NAME, next.sortField());
+        assertEquals(Sort.Direction.ASC, next.direction());
+        assertEquals("Beta", next.lastValue());
+        assertEquals(2L, next.lastId());
+        verify(companyMapper, never()).toResponse(third);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllAfter_shouldReturnLastPage_whenNoMoreRowsExist() {
+        CompanyView company = company(5L, "Omega");
+        CompanyResponse response = response(company);
+        String cursor = CompanyCursor.after(CompanySortField.ID, Sort.Direction.DESC, company(6L, "Psi")).encode();
+
+        when(companyRepository.findBy(any(Specification.class), any()))
+            .thenReturn(List.of(company));
+        when(companyMapper.toResponse(company)).thenReturn(response);
+
+        CursorPage<CompanyResponse> result =
+            companyService.getAllAfter(cursor, 10, "name", "ASC", false, CompanyFilter.none());
+
+        assertEquals(List.of(response), result.content());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void getAllAfter_shouldThrowIllegalArgumentException_whenCursorIsTampered() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> companyService.getAllAfter("not-a-cursor", 10, "id", "ASC", false, CompanyFilter.none())
+        );
+
+        assertEquals("Invalid cursor", exception.getMessage());
+        verify(companyRepository, never()).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    void getAllAfter_shouldThrowIllegalArgumentException_whenCursorValueHasWrongType() {
+        String cursor = CursorHelper.encode("createdAt", "ASC", "yesterday", 1L);
+
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> companyService.getAllAfter(cursor, 10, "id", "ASC", false, CompanyFilter.none())
+        );
+
+        assertEquals("Invalid cursor", exception.getMessage());
+    }
+
+    @Test
+    void getAllAfter_shouldThrowIllegalArgumentException_whenSortFieldIsNotIndexed() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> companyService.getAllAfter(null, 10, "logo", "ASC", false, CompanyFilter.none())
+        );
+
+        assertEquals(
+            "Invalid sortBy: must be one of id, name, registrationNumber, createdAt, updatedAt",
+            exception.getMessage());
+    }
+
+    @Test
+    void getAllAfter_shouldThrowIllegalArgumentException_whenSizeIsTooLarge() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> companyService.getAllAfter(null, 1001, "id", "ASC", false, CompanyFilter.none())
+        );
+
+        assertEquals("Size must be > 0 and <= 1000", exception.getMessage());
+    }
+
+    private CompanyView company(Long id, String name) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        return new CompanyView(id, UUID.randomUUID(), name, "REG" + id, false, now, now, 0L);
+    }
+
+    private CompanyResponse response(CompanyView company) {
+        return new CompanyResponse(
+            company.id(),
+            company.uuid(),
+            company.name(),
+            company.registrationNumber(),
+            null,
+            false,
+            company.createdAt(),
+            company.updatedAt(),
+            company.version());
+    }
+}
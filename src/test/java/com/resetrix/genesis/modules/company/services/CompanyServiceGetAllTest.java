@@ -1,8 +1,12 @@
 package com.resetrix.genesis.modules.company.services;
 
-import com.resetrix.genesis.modules.company.entities.Company;
 import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoContent;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoReference;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoRepository;
 import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
+import com.resetrix.genesis.modules.company.requests.CompanyFilter;
 import com.resetrix.genesis.modules.company.responses.CompanyResponse;
 import com.resetrix.genesis.shared.helpers.JsonFileReader;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,22 +16,25 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 import java.io.IOException;
-import java.sql.Timestamp;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -41,13 +48,16 @@ class CompanyServiceGetAllTest {
     @Mock
     private CompanyRepository companyRepository;
 
+    @Mock
+    private CompanyLogoRepository companyLogoRepository;
+
     @Mock
     private CompanyMapper companyMapper;
 
     @InjectMocks
     private CompanyService companyService;
 
-    private Company company;
+    private CompanyView company;
     private CompanyResponse response;
 
     @BeforeEach
@@ -59,17 +69,16 @@ class CompanyServiceGetAllTest {
             .scenario("success")
             .readResponse(CompanyResponse.class);
 
-        Timestamp now = new Timestamp(System.currentTimeMillis());
-
         // Setup company
-        company = new Company();
-        company.setId(response.id());
-        company.setUuid(response.uuid());
-        company.setName(response.name());
-        company.setRegistrationNumber(response.registrationNumber());
-        company.setSoftDelete(response.softDelete());
-        company.setCreatedAt(response.createdAt());
-        company.setUpdatedAt(response.updatedAt());
+        company = new CompanyView(
+            response.id(),
+            response.uuid(),
+            response.name(),
+            response.registrationNumber(),
+            response.softDelete(),
+            response.createdAt(),
+            response.updatedAt(),
+            response.version());
     }
 
     @Test
@@ -80,14 +89,15 @@ class CompanyServiceGetAllTest {
         String sortBy = "name";
         String sortDirection = "ASC";
 
-        List<Company> companies = Arrays.asList(company);
-        Page<Company> companyPage = new PageImpl<>(companies, PageRequest.of(page, size, Sort.Direction.ASC, sortBy), 1);
+        List<CompanyView> companies = Arrays.asList(company);
+        Slice<CompanyView> companyPage = new SliceImpl<>(companies, PageRequest.of(page, size, Sort.Direction.ASC, sortBy), false);
 
-        when(companyRepository.findAll(any(PageRequest.class))).thenReturn(companyPage);
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(companyPage);
         when(companyMapper.toResponse(company)).thenReturn(response);
 
         // Act
-        Page<CompanyResponse> result = companyService.getAll(page, size, sortBy, sortDirection);
+        Page<CompanyResponse> result =
+            companyService.getAll(page, size, sortBy, sortDirection, false, false, CompanyFilter.none());
 
         // Assert
         assertNotNull(result);
@@ -95,7 +105,7 @@ class CompanyServiceGetAllTest {
         assertEquals(1, result.getContent().size());
         assertEquals(response, result.getContent().get(0));
 
-        verify(companyRepository, times(1)).findAll(eq(PageRequest.of(page, size, Sort.Direction.ASC, sortBy)));
+        verify(companyRepository, times(1)).findSliceBy(eq(PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, sortBy, "id"))), eq(CompanyView.class));
         verify(companyMapper, times(1)).toResponse(company);
     }
 
@@ -107,19 +117,20 @@ class CompanyServiceGetAllTest {
         String sortBy = "name";
         String sortDirection = "ASC";
 
-        Page<Company> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(page, size, Sort.Direction.ASC, sortBy), 0);
+        Slice<CompanyView> emptyPage = new SliceImpl<>(Collections.emptyList(), PageRequest.of(page, size, Sort.Direction.ASC, sortBy), false);
 
-        when(companyRepository.findAll(any(PageRequest.class))).thenReturn(emptyPage);
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(emptyPage);
 
         // Act
-        Page<CompanyResponse> result = companyService.getAll(page, size, sortBy, sortDirection);
+        Page<CompanyResponse> result =
+            companyService.getAll(page, size, sortBy, sortDirection, false, false, CompanyFilter.none());
 
         // Assert
         assertNotNull(result);
         assertEquals(0, result.getTotalElements());
         assertEquals(0, result.getContent().size());
 
-        verify(companyRepository, times(1)).findAll(any(PageRequest.class));
+        verify(companyRepository, times(1)).findSliceBy(any(PageRequest.class), eq(CompanyView.class));
     }
 
     @Test
@@ -130,20 +141,21 @@ class CompanyServiceGetAllTest {
         String sortBy = "createdAt";
         String sortDirection = "DESC";
 
-        List<Company> companies = Arrays.asList(company);
-        Page<Company> companyPage = new PageImpl<>(companies, PageRequest.of(page, size, Sort.Direction.DESC, sortBy), 1);
+        List<CompanyView> companies = Arrays.asList(company);
+        Slice<CompanyView> companyPage = new SliceImpl<>(companies, PageRequest.of(page, size, Sort.Direction.DESC, sortBy), false);
 
-        when(companyRepository.findAll(any(PageRequest.class))).thenReturn(companyPage);
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(companyPage);
         when(companyMapper.toResponse(company)).thenReturn(response);
 
         // Act
-        Page<CompanyResponse> result = companyService.getAll(page, size, sortBy, sortDirection);
+        Page<CompanyResponse> result =
+            companyService.getAll(page, size, sortBy, sortDirection, false, false, CompanyFilter.none());
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
 
-        verify(companyRepository, times(1)).findAll(eq(PageRequest.of(page, size, Sort.Direction.DESC, sortBy)));
+        verify(companyRepository, times(1)).findSliceBy(eq(PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortBy, "id"))), eq(CompanyView.class));
     }
 
     @Test
@@ -154,18 +166,19 @@ class CompanyServiceGetAllTest {
         String sortBy = "name";
         String sortDirection = null;
 
-        List<Company> companies = Arrays.asList(company);
-        Page<Company> companyPage = new PageImpl<>(companies, PageRequest.of(page, size, Sort.Direction.ASC, sortBy), 1);
+        List<CompanyView> companies = Arrays.asList(company);
+        Slice<CompanyView> companyPage = new SliceImpl<>(companies, PageRequest.of(page, size, Sort.Direction.ASC, sortBy), false);
 
-        when(companyRepository.findAll(any(PageRequest.class))).thenReturn(companyPage);
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(companyPage);
         when(companyMapper.toResponse(company)).thenReturn(response);
 
         // Act
-        Page<CompanyResponse> result = companyService.getAll(page, size, sortBy, sortDirection);
+        Page<CompanyResponse> result =
+            companyService.getAll(page, size, sortBy, sortDirection, false, false, CompanyFilter.none());
 
         // Assert
         assertNotNull(result);
-        verify(companyRepository, times(1)).findAll(eq(PageRequest.of(page, size, Sort.Direction.ASC, sortBy)));
+        verify(companyRepository, times(1)).findSliceBy(eq(PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, sortBy, "id"))), eq(CompanyView.class));
     }
 
     @Test
@@ -176,18 +189,19 @@ class CompanyServiceGetAllTest {
         String sortBy = "name";
         String sortDirection = "   ";
 
-        List<Company> companies = Arrays.asList(company);
-        Page<Company> companyPage = new PageImpl<>(companies, PageRequest.of(page, size, Sort.Direction.ASC, sortBy), 1);
+        List<CompanyView> companies = Arrays.asList(company);
+        Slice<CompanyView> companyPage = new SliceImpl<>(companies, PageRequest.of(page, size, Sort.Direction.ASC, sortBy), false);
 
-        when(companyRepository.findAll(any(PageRequest.class))).thenReturn(companyPage);
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(companyPage);
         when(companyMapper.toResponse(company)).thenReturn(response);
 
         // Act
-        Page<CompanyResponse> result = companyService.getAll(page, size, sortBy, sortDirection);
+        Page<CompanyResponse> result =
+            companyService.getAll(page, size, sortBy, sortDirection, false, false, CompanyFilter.none());
 
         // Assert
         assertNotNull(result);
-        verify(companyRepository, times(1)).findAll(eq(PageRequest.of(page, size, Sort.Direction.ASC, sortBy)));
+        verify(companyRepository, times(1)).findSliceBy(eq(PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, sortBy, "id"))), eq(CompanyView.class));
     }
 
     @Test
@@ -198,18 +212,19 @@ class CompanyServiceGetAllTest {
         String sortBy = "name";
         String sortDirection = "desc";
 
-        List<Company> companies = Arrays.asList(company);
-        Page<Company> companyPage = new PageImpl<>(companies, PageRequest.of(page, size, Sort.Direction.DESC, sortBy), 1);
+        List<CompanyView> companies = Arrays.asList(company);
+        Slice<CompanyView> companyPage = new SliceImpl<>(companies, PageRequest.of(page, size, Sort.Direction.DESC, sortBy), false);
 
-        when(companyRepository.findAll(any(PageRequest.class))).thenReturn(companyPage);
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(companyPage);
         when(companyMapper.toResponse(company)).thenReturn(response);
 
         // Act
-        Page<CompanyResponse> result = companyService.getAll(page, size, sortBy, sortDirection);
+        Page<CompanyResponse> result =
+            companyService.getAll(page, size, sortBy, sortDirection, false, false, CompanyFilter.none());
 
         // Assert
         assertNotNull(result);
-        verify(companyRepository, times(1)).findAll(eq(PageRequest.of(page, size, Sort.Direction.DESC, sortBy)));
+        verify(companyRepository, times(1)).findSliceBy(eq(PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortBy, "id"))), eq(CompanyView.class));
     }
 
     @Test
@@ -223,7 +238,7 @@ class CompanyServiceGetAllTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> companyService.getAll(page, size, sortBy, sortDirection)
+            () -> companyService.getAll(page, size, sortBy, sortDirection, false, false, CompanyFilter.none())
         );
 
         assertEquals("Page must be >= 0", exception.getMessage());
@@ -240,7 +255,7 @@ class CompanyServiceGetAllTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> companyService.getAll(page, size, sortBy, sortDirection)
+            () -> companyService.getAll(page, size, sortBy, sortDirection, false, false, CompanyFilter.none())
         );
 
         assertEquals("Size must be > 0 and <= 1000", exception.getMessage());
@@ -257,7 +272,7 @@ class CompanyServiceGetAllTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> companyService.getAll(page, size, sortBy, sortDirection)
+            () -> companyService.getAll(page, size, sortBy, sortDirection, false, false, CompanyFilter.none())
         );
 
         assertEquals("Size must be > 0 and <= 1000", exception.getMessage());
@@ -274,7 +289,7 @@ class CompanyServiceGetAllTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> companyService.getAll(page, size, sortBy, sortDirection)
+            () -> companyService.getAll(page, size, sortBy, sortDirection, false, false, CompanyFilter.none())
         );
 
         assertEquals("Size must be > 0 and <= 1000", exception.getMessage());
@@ -288,19 +303,20 @@ class CompanyServiceGetAllTest {
         String sortBy = "name";
         String sortDirection = "ASC";
 
-        List<Company> companies = Arrays.asList(company);
-        Page<Company> companyPage = new PageImpl<>(companies, PageRequest.of(page, size, Sort.Direction.ASC, sortBy), 1);
+        List<CompanyView> companies = Arrays.asList(company);
+        Slice<CompanyView> companyPage = new SliceImpl<>(companies, PageRequest.of(page, size, Sort.Direction.ASC, sortBy), false);
 
-        when(companyRepository.findAll(any(PageRequest.class))).thenReturn(companyPage);
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(companyPage);
         when(companyMapper.toResponse(company)).thenReturn(response);
 
         // Act
-        Page<CompanyResponse> result = companyService.getAll(page, size, sortBy, sortDirection);
+        Page<CompanyResponse> result =
+            companyService.getAll(page, size, sortBy, sortDirection, false, false, CompanyFilter.none());
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
-        verify(companyRepository, times(1)).findAll(eq(PageRequest.of(page, size, Sort.Direction.ASC, sortBy)));
+        verify(companyRepository, times(1)).findSliceBy(eq(PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, sortBy, "id"))), eq(CompanyView.class));
     }
 
     @Test
@@ -314,7 +330,7 @@ class CompanyServiceGetAllTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> companyService.getAll(page, size, sortBy, sortDirection)
+            () -> companyService.getAll(page, size, sortBy, sortDirection, false, false, CompanyFilter.none())
         );
 
         assertEquals("Invalid sortDirection: must be 'ASC' or 'DESC'", exception.getMessage());
@@ -328,18 +344,19 @@ class CompanyServiceGetAllTest {
         String sortBy = "name";
         String sortDirection = "  ASC  ";
 
-        List<Company> companies = Arrays.asList(company);
-        Page<Company> companyPage = new PageImpl<>(companies, PageRequest.of(page, size, Sort.Direction.ASC, sortBy), 1);
+        List<CompanyView> companies = Arrays.asList(company);
+        Slice<CompanyView> companyPage = new SliceImpl<>(companies, PageRequest.of(page, size, Sort.Direction.ASC, sortBy), false);
 
-        when(companyRepository.findAll(any(PageRequest.class))).thenReturn(companyPage);
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(companyPage);
         when(companyMapper.toResponse(company)).thenReturn(response);
 
         // Act
-        Page<CompanyResponse> result = companyService.getAll(page, size, sortBy, sortDirection);
+        Page<CompanyResponse> result =
+            companyService.getAll(page, size, sortBy, sortDirection, false, false, CompanyFilter.none());
 
         // Assert
         assertNotNull(result);
-        verify(companyRepository, times(1)).findAll(eq(PageRequest.of(page, size, Sort.Direction.ASC, sortBy)));
+        verify(companyRepository, times(1)).findSliceBy(eq(PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, sortBy, "id"))), eq(CompanyView.class));
     }
 
     @Test
@@ -350,20 +367,21 @@ class CompanyServiceGetAllTest {
         String sortBy = "id";
         String sortDirection = "DESC";
 
-        List<Company> companies = Arrays.asList(company);
-        Page<Company> companyPage = new PageImpl<>(companies, PageRequest.of(page, size, Sort.Direction.DESC, sortBy), 6);
+        List<CompanyView> companies = Arrays.asList(company);
+        Slice<CompanyView> companyPage = new SliceImpl<>(companies, PageRequest.of(page, size, Sort.Direction.DESC, sortBy), false);
 
-        when(companyRepository.findAll(any(PageRequest.class))).thenReturn(companyPage);
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(companyPage);
         when(companyMapper.toResponse(company)).thenReturn(response);
 
         // Act
-        Page<CompanyResponse> result = companyService.getAll(page, size, sortBy, sortDirection);
+        Page<CompanyResponse> result =
+            companyService.getAll(page, size, sortBy, sortDirection, false, false, CompanyFilter.none());
 
         // Assert
         assertNotNull(result);
         assertEquals(6, result.getTotalElements());
         assertEquals(1, result.getContent().size());
-        verify(companyRepository, times(1)).findAll(eq(PageRequest.of(page, size, Sort.Direction.DESC, sortBy)));
+        verify(companyRepository, times(1)).findSliceBy(eq(PageRequest.of(page, size, Sort.Direction.DESC, sortBy)), eq(CompanyView.class));
     }
 
     @Test
@@ -374,17 +392,135 @@ class CompanyServiceGetAllTest {
         String sortBy = "name";
         String sortDirection = "ASC";
 
-        Page<Company> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(page, size, Sort.Direction.ASC, sortBy), 0);
+        Slice<CompanyView> emptyPage = new SliceImpl<>(Collections.emptyList(), PageRequest.of(page, size, Sort.Direction.ASC, sortBy), false);
 
-        when(companyRepository.findAll(any(PageRequest.class))).thenReturn(emptyPage);
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(emptyPage);
+        when(companyRepository.countLiveCompanies()).thenReturn(0L);
 
         // Act
-        Page<CompanyResponse> result = companyService.getAll(page, size, sortBy, sortDirection);
+        Page<CompanyResponse> result =
+            companyService.getAll(page, size, sortBy, sortDirection, false, false, CompanyFilter.none());
 
         // Assert
         assertNotNull(result);
         assertEquals(0, result.getTotalElements());
         assertEquals(0, result.getContent().size());
-        verify(companyRepository, times(1)).findAll(eq(PageRequest.of(page, size, Sort.Direction.ASC, sortBy)));
+        verify(companyRepository, times(1)).findSliceBy(eq(PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, sortBy, "id"))), eq(CompanyView.class));
+    }
+
+    @Test
+    void getAll_shouldTakeTotalFromCounter_whenMorePagesFollow() {
+        // Arrange
+        Slice<CompanyView> slice = new SliceImpl<>(List.of(company), PageRequest.of(0, 1), true);
+
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(slice);
+        when(companyRepository.countLiveCompanies()).thenReturn(42L);
+        when(companyMapper.toResponse(company)).thenReturn(response);
+
+        // Act
+        Page<CompanyResponse> result = companyService.getAll(0, 1, "id", "ASC", false, false, CompanyFilter.none());
+
+        // Assert
+        assertEquals(42, result.getTotalElements());
+        assertEquals(42, result.getTotalPages());
+        verify(companyRepository, never()).countAllCompanies();
+    }
+
+    @Test
+    void getSlice_shouldReportNextPage_withoutCounting() {
+        // Arrange
+        Slice<CompanyView> slice = new SliceImpl<>(List.of(company), PageRequest.of(0, 1), true);
+
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(slice);
+        when(companyMapper.toResponse(company)).thenReturn(response);
+
+        // Act
+        Slice<CompanyResponse> result = companyService.getSlice(0, 1, "id", "ASC", false, false, CompanyFilter.none());
+
+        // Assert
+        assertEquals(List.of(response), result.getContent());
+        assertTrue(result.hasNext());
+        verify(companyRepository, never()).countLiveCompanies();
+        verify(companyRepository, never()).countAllCompanies();
+    }
+
+    @Test
+    void getAll_shouldSkipLogoQuery_whenLogoNotIncluded() {
+        // Arrange
+        Slice<CompanyView> companyPage = new SliceImpl<>(List.of(company), PageRequest.of(0, 10), false);
+
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(companyPage);
+        when(companyMapper.toResponse(company)).thenReturn(response);
+
+        // Act
+        companyService.getAll(0, 10, "id", "ASC", false, false, CompanyFilter.none());
+
+        // Assert
+        verify(companyLogoRepository, never()).findReferencesByCompanyIdIn(any());
+    }
+
+    @Test
+    void getAll_shouldEmbedLogosWithSingleQuery_whenLogoIncluded() {
+        // Arrange
+        byte[] logo = "logo".getBytes();
+        Slice<CompanyView> companyPage = new SliceImpl<>(List.of(company), PageRequest.of(0, 10), false);
+
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(companyPage);
+        when(companyLogoRepository.findReferencesByCompanyIdIn(List.of(company.id())))
+            .thenReturn(List.of(new CompanyLogoReference(company.id(), "checksum")));
+        when(companyLogoRepository.findContentsByChecksumIn(Set.of("checksum")))
+            .thenReturn(List.of(new CompanyLogoContent("checksum", logo)));
+        when(companyMapper.toResponse(company, logo)).thenReturn(response);
+
+        // Act
+        Page<CompanyResponse> result = companyService.getAll(0, 10, "id", "ASC", true, false, CompanyFilter.none());
+
+        // Assert
+        assertEquals(List.of(response), result.getContent());
+        verify(companyLogoRepository, times(1)).findContentsByChecksumIn(Set.of("checksum"));
+        verify(companyLogoRepository, never()).findContentByCompanyId(any());
+    }
+
+    @Test
+    void getAll_shouldReadSharedLogoOnce_whenCompaniesReferenceSameChecksum() {
+        // Arrange
+        byte[] logo = "logo".getBytes();
+        CompanyView other = new CompanyView(
+            company.id() + 1, UUID.randomUUID(), "Other", "OTHER1", false,
+            company.createdAt(), company.updatedAt(), 0L);
+        Slice<CompanyView> companyPage = new SliceImpl<>(List.of(company, other), PageRequest.of(0, 10), false);
+
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(companyPage);
+        when(companyLogoRepository.findReferencesByCompanyIdIn(List.of(company.id(), other.id())))
+            .thenReturn(List.of(
+                new CompanyLogoReference(company.id(), "checksum"),
+                new CompanyLogoReference(other.id(), "checksum")));
+        when(companyLogoRepository.findContentsByChecksumIn(Set.of("checksum")))
+            .thenReturn(List.of(new CompanyLogoContent("checksum", logo)));
+        when(companyMapper.toResponse(company, logo)).thenReturn(response);
+        when(companyMapper.toResponse(other, logo)).thenReturn(response);
+
+        // Act
+        Page<CompanyResponse> result = companyService.getAll(0, 10, "id", "ASC", true, false, CompanyFilter.none());
+
+        // Assert
+        assertEquals(2, result.getContent().size());
+        verify(companyLogoRepository, times(1)).findContentsByChecksumIn(Set.of("checksum"));
+    }
+
+    @Test
+    void getAll_shouldSkipContentQuery_whenNoCompanyHasLogo() {
+        // Arrange
+        Slice<CompanyView> companyPage = new SliceImpl<>(List.of(company), PageRequest.of(0, 10), false);
+
+        when(companyRepository.findSliceBy(any(PageRequest.class), eq(CompanyView.class))).thenReturn(companyPage);
+        when(companyLogoRepository.findReferencesByCompanyIdIn(List.of(company.id()))).thenReturn(List.of());
+        when(companyMapper.toResponse(company, null)).thenReturn(response);
+
+        // Act
+        companyService.getAll(0, 10, "id", "ASC", true, false, CompanyFilter.none());
+
+        // Assert
+        verify(companyLogoRepository, never()).findContentsByChecksumIn(any());
     }
 }
@@ -2,9 +2,12 @@ package com.resetrix.genesis.modules.company.services;
 
 import com.resetrix.genesis.modules.company.entities.Company;
 import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoRepository;
 import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
 import com.resetrix.genesis.modules.company.responses.CompanyResponse;
 import com.resetrix.genesis.shared.helpers.JsonFileReader;
+import com.resetrix.genesis.shared.repositories.HibernateFilterScope;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,11 +18,13 @@ import org.springframework.dao.DataAccessResourceFailureException;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -33,9 +38,15 @@ class CompanyServiceGetByIdTest {
     @Mock
     private CompanyRepository companyRepository;
 
+    @Mock
+    private CompanyLogoRepository companyLogoRepository;
+
     @Mock
     private CompanyMapper companyMapper;
 
+    @Mock
+    private HibernateFilterScope hibernateFilterScope;
+
     @InjectMocks
     private CompanyService companyService;
 
@@ -48,49 +59,70 @@ class CompanyServiceGetByIdTest {
             .scenario("success")
             .readResponse(CompanyResponse.class);
 
-        // Create company entity based on the response data
-        Company company = new Company();
-        company.setId(expectedResponse.id());
-        company.setUuid(expectedResponse.uuid());
-        company.setName(expectedResponse.name());
-        company.setRegistrationNumber(expectedResponse.registrationNumber());
-        company.setLogo(null); // Logo is null in the JSON response
-        company.setSoftDelete(expectedResponse.softDelete());
-        company.setCreatedAt(expectedResponse.createdAt());
-        company.setUpdatedAt(expectedResponse.updatedAt());
-
-        when(companyRepository.findById(1L))
+        CompanyView company = toView(expectedResponse);
+
+        when(companyRepository.findById(1L, CompanyView.class))
             .thenReturn(Optional.of(company));
         when(companyMapper.toResponse(company))
             .thenReturn(expectedResponse);
 
         // Act
-        CompanyResponse result = companyService.getById(1L);
+        CompanyResponse result = companyService.getById(1L, false, false);
 
         // Assert
         assertNotNull(result);
         assertEquals(expectedResponse.id(), result.id());
         assertEquals(expectedResponse.name(), result.name());
         assertEquals(expectedResponse.registrationNumber(), result.registrationNumber());
-        verify(companyRepository, times(1)).findById(1L);
+        verify(companyRepository, times(1)).findById(1L, CompanyView.class);
         verify(companyMapper, times(1)).toResponse(company);
+        verify(companyLogoRepository, never()).findContentByCompanyId(any());
+    }
+
+    @Test
+    void getById_shouldEmbedStoredLogo_whenCompanyHasLogo() throws IOException {
+        // Arrange
+        CompanyResponse expectedResponse = JsonFileReader.builder()
+            .module(MODULE)
+            .endpoint("find-by-id")
+            .scenario("success")
+            .readResponse(CompanyResponse.class);
+
+        CompanyView company = toView(expectedResponse);
+
+        byte[] logo = "logo".getBytes();
+
+        when(companyRepository.findById(1L, CompanyView.class))
+            .thenReturn(Optional.of(company));
+        when(companyLogoRepository.findContentByCompanyId(company.id()))
+            .thenReturn(Optional.of(logo));
+        when(companyMapper.toResponse(company, logo))
+            .thenReturn(expectedResponse);
+
+        // Act
+        CompanyResponse result = companyService.getById(1L, true, false);
+
+        // Assert
+        assertEquals(expectedResponse.logo(), result.logo());
+        verify(companyLogoRepository, times(1)).findContentByCompanyId(company.id());
+        verify(companyMapper, never()).toResponse(company);
     }
 
     @Test
     void getById_shouldReturnEntityNotFound_whenIdNotFound() throws IOException {
         // Arrange
-        when(companyRepository.findById(999L))
+        when(companyRepository.findById(999L, CompanyView.class))
             .thenReturn(Optional.empty());
 
         // Act & Assert
         EntityNotFoundException exception = assertThrows(
             EntityNotFoundException.class,
-            () -> companyService.getById(999L)
+            () -> companyService.getById(999L, false, false)
                                                         );
 
         assertEquals("Company with id 999 does not exist", exception.getMessage());
-        verify(companyRepository, times(1)).findById(999L);
-        verify(companyMapper, never()).toResponse(any(Company.class));
+        verify(companyRepository, times(1)).findById(999L, CompanyView.class);
+        verify(companyMapper, never()).toResponse(any(CompanyView.class));
     }
 
     @Test
@@ -98,12 +130,12 @@ class CompanyServiceGetByIdTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> companyService.getById(null)
+            () -> companyService.getById(null, false, false)
                                                          );
 
         assertEquals("Company ID must be a positive number", exception.getMessage());
-        verify(companyRepository, never()).findById(any());
-        verify(companyMapper, never()).toResponse(any(Company.class));
+        verify(companyRepository, never()).findById(any(), any());
+        verify(companyMapper, never()).toResponse(any(CompanyView.class));
     }
 
     @Test
@@ -111,12 +143,12 @@ class CompanyServiceGetByIdTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> companyService.getById(0L)
+            () -> companyService.getById(0L, false, false)
                                                          );
 
         assertEquals("Company ID must be a positive number", exception.getMessage());
-        verify(companyRepository, never()).findById(any());
-        verify(companyMapper, never()).toResponse(any(Company.class));
+        verify(companyRepository, never()).findById(any(), any());
+        verify(companyMapper, never()).toResponse(any(CompanyView.class));
     }
 
     @Test
@@ -124,28 +156,76 @@ class CompanyServiceGetByIdTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> companyService.getById(-1L)
+            () -> companyService.getById(-1L, false, false)
                                                          );
 
         assertEquals("Company ID must be a positive number", exception.getMessage());
-        verify(companyRepository, never()).findById(any());
-        verify(companyMapper, never()).toResponse(any(Company.class));
+        verify(companyRepository, never()).findById(any(), any());
+        verify(companyMapper, never()).toResponse(any(CompanyView.class));
     }
 
     @Test
     void getById_shouldThrowDataAccessException_whenDatabaseError() {
         // Arrange
-        when(companyRepository.findById(1L))
+        when(companyRepository.findById(1L, CompanyView.class))
             .thenThrow(new DataAccessResourceFailureException("Database connection failed"));
 
         // Act & Assert
         DataAccessResourceFailureException exception = assertThrows(
             DataAccessResourceFailureException.class,
-            () -> companyService.getById(1L)
+            () -> companyService.getById(1L, false, false)
                                                                    );
 
         assertEquals("Database connection failed", exception.getMessage());
-        verify(companyRepository, times(1)).findById(1L);
-        verify(companyMapper, never()).toResponse(any(Company.class));
+        verify(companyRepository, times(1)).findById(1L, CompanyView.class);
+        verify(companyMapper, never()).toResponse(any(CompanyView.class));
+    }
+
+    @Test
+    void getById_shouldDisableActiveFilter_whenDeletedRowsAreIncluded() throws IOException {
+        // Arrange
+        CompanyResponse expectedResponse = JsonFileReader.builder()
+            .module(MODULE)
+            .endpoint("find-by-id")
+            .scenario("success")
+            .readResponse(CompanyResponse.class);
+        CompanyView company = toView(expectedResponse);
+
+        when(hibernateFilterScope.withoutFilter(eq(Company.ACTIVE_FILTER), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(companyRepository.findById(1L, CompanyView.class))
+            .thenReturn(Optional.of(company));
+        when(companyMapper.toResponse(company))
+            .thenReturn(expectedResponse);
+
+        // Act
+        CompanyResponse result = companyService.getById(1L, false, true);
+
+        // Assert
+        assertEquals(expectedResponse, result);
+        verify(hibernateFilterScope, times(1)).withoutFilter(eq(Company.ACTIVE_FILTER), any());
+    }
+
+    @Test
+    void getById_shouldKeepActiveFilter_byDefault() {
+        // Arrange
+        when(companyRepository.findById(1L, CompanyView.class))
+            .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> companyService.getById(1L, false, false));
+        verify(hibernateFilterScope, never()).withoutFilter(any(), any());
+    }
+
+    private CompanyView toView(CompanyResponse response) {
+        return new CompanyView(
+            response.id(),
+            response.uuid(),
+            response.name(),
+            response.registrationNumber(),
+            response.softDelete(),
+            response.createdAt(),
+            response.updatedAt(),
+            response.version());
     }
 }
@@ -1,7 +1,8 @@
 package com.resetrix.genesis.modules.company.services;
 
-import com.resetrix.genesis.modules.company.entities.Company;
 import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.projections.CompanyView;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoRepository;
 import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
 import com.resetrix.genesis.modules.company.responses.CompanyResponse;
 import com.resetrix.genesis.shared.helpers.JsonFileReader;
@@ -21,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -34,6 +36,9 @@ class CompanyServiceGetByUuidTest {
     @Mock
     private CompanyRepository companyRepository;
 
+    @Mock
+    private CompanyLogoRepository companyLogoRepository;
+
     @Mock
     private CompanyMapper companyMapper;
 
@@ -50,42 +55,65 @@ class CompanyServiceGetByUuidTest {
             .scenario("success")
             .readResponse(CompanyResponse.class);
 
-        Company company = JsonFileReader.builder()
-            .module(MODULE)
-            .endpoint("/find-by-uuid")
-            .scenario("success")
-            .readResponse(Company.class);
+        CompanyView company = toView(expectedResponse);
 
-        when(companyRepository.findByUuid(any(UUID.class)))
+        when(companyRepository.findByUuid(any(UUID.class), eq(CompanyView.class)))
             .thenReturn(Optional.of(company));
         when(companyMapper.toResponse(company))
             .thenReturn(expectedResponse);
 
-        CompanyResponse result = companyService.getByUuid(uuid);
+        CompanyResponse result = companyService.getByUuid(uuid, false, false);
 
         assertNotNull(result);
         assertEquals(expectedResponse.id(), result.id());
         assertEquals(expectedResponse.name(), result.name());
         assertEquals(expectedResponse.registrationNumber(), result.registrationNumber());
-        verify(companyRepository, times(1)).findByUuid(uuid);
+        verify(companyRepository, times(1)).findByUuid(uuid, CompanyView.class);
         verify(companyMapper, times(1)).toResponse(company);
+        verify(companyLogoRepository, never()).findContentByCompanyId(any());
+    }
+
+    @Test
+    void getByUuid_shouldEmbedStoredLogo_whenLogoIncluded() throws IOException {
+        UUID uuid = UUID.randomUUID();
+
+        CompanyResponse expectedResponse = JsonFileReader.builder()
+            .module(MODULE)
+            .endpoint("/find-by-uuid")
+            .scenario("success")
+            .readResponse(CompanyResponse.class);
+
+        CompanyView company = toView(expectedResponse);
+        byte[] logo = "logo".getBytes();
+
+        when(companyRepository.findByUuid(uuid, CompanyView.class))
+            .thenReturn(Optional.of(company));
+        when(companyLogoRepository.findContentByCompanyId(company.id()))
+            .thenReturn(Optional.of(logo));
+        when(companyMapper.toResponse(company, logo))
+            .thenReturn(expectedResponse);
+
+        CompanyResponse result = companyService.getByUuid(uuid, true, false);
+
+        assertEquals(expectedResponse, result);
+        verify(companyMapper, never()).toResponse(company);
     }
 
     @Test
     void getByUuid_shouldReturnEntityNotFound_whenUuidNotFound() throws IOException {
         UUID uuid = UUID.randomUUID();
 
-        when(companyRepository.findByUuid(any(UUID.class)))
+        when(companyRepository.findByUuid(any(UUID.class), eq(CompanyView.class)))
             .thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(
             EntityNotFoundException.class,
-            () -> companyService.getByUuid(uuid)
+            () -> companyService.getByUuid(uuid, false, false)
                                                         );
 
         assertEquals(String.format("Company with uuid %s does not exist", uuid), exception.getMessage());
-        verify(companyRepository, times(1)).findByUuid(uuid);
-        verify(companyMapper, never()).toResponse(any(Company.class));
+        verify(companyRepository, times(1)).findByUuid(uuid, CompanyView.class);
+        verify(companyMapper, never()).toResponse(any(CompanyView.class));
     }
 
     @Test
@@ -93,12 +121,12 @@ class CompanyServiceGetByUuidTest {
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
             IllegalArgumentException.class,
-            () -> companyService.getByUuid(null)
+            () -> companyService.getByUuid(null, false, false)
                                                          );
 
         assertEquals("Company UUID cannot be null", exception.getMessage());
-        verify(companyRepository, never()).findByUuid(any());
-        verify(companyMapper, never()).toResponse(any(Company.class));
+        verify(companyRepository, never()).findByUuid(any(), any());
+        verify(companyMapper, never()).toResponse(any(CompanyView.class));
     }
 
     @Test
@@ -106,17 +134,29 @@ class CompanyServiceGetByUuidTest {
         UUID uuid = UUID.randomUUID();
 
         // Arrange
-        when(companyRepository.findByUuid(uuid))
+        when(companyRepository.findByUuid(uuid, CompanyView.class))
             .thenThrow(new DataAccessResourceFailureException("Database connection failed"));
 
         // Act & Assert
         DataAccessResourceFailureException exception = assertThrows(
             DataAccessResourceFailureException.class,
-            () -> companyService.getByUuid(uuid)
+            () -> companyService.getByUuid(uuid, false, false)
                                                                    );
 
         assertEquals("Database connection failed", exception.getMessage());
-        verify(companyRepository, times(1)).findByUuid(uuid);
-        verify(companyMapper, never()).toResponse(any(Company.class));
+        verify(companyRepository, times(1)).findByUuid(uuid, CompanyView.class);
+        verify(companyMapper, never()).toResponse(any(CompanyView.class));
+    }
+
+    private CompanyView toView(CompanyResponse response) {
+        return new CompanyView(
+            response.id(),
+            response.uuid(),
+            response.name(),
+            response.registrationNumber(),
+            response.softDelete(),
+            response.createdAt(),
+            response.updatedAt(),
+            response.version());
     }
 }
@@ -0,0 +1,155 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.resetrix.genesis.modules.company.constants.CompanyLogoSize;
+import com.resetrix.genesis.modules.company.exceptions.CompanyException;
+import com.resetrix.genesis.modules.company.projections.CompanyLogoMetadata;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyServiceGetLogoTest {
+
+    @Mock
+    private CompanyLogoRepository companyLogoRepository;
+
+    @InjectMocks
+    private CompanyService companyService;
+
+    private final CompanyLogoMetadata metadata =
+        new CompanyLogoMetadata(1L, "image/png", 10L, "checksum");
+
+    @Test
+    void getLogoMetadata_shouldReturnMetadata_whenLogoExists() {
+        UUID uuid = UUID.randomUUID();
+        when(companyLogoRepository.findMetadataByCompanyUuid(uuid))
+            .thenReturn(Optional.of(metadata));
+
+        CompanyLogoMetadata result = companyService.getLogoMetadata(uuid);
+
+        assertSame(metadata, result);
+        verify(companyLogoRepository, never()).findContentByCompanyId(any());
+    }
+
+    @Test
+    void getLogoMetadata_shouldThrowEntityNotFound_whenLogoMissing() {
+        UUID uuid = UUID.randomUUID();
+        when(companyLogoRepository.findMetadataByCompanyUuid(uuid))
+            .thenReturn(Optional.empty());
+
+        EntityNotFoundException exception = assertThrows(
+            EntityNotFoundException.class,
+            () -> companyService.getLogoMetadata(uuid)
+        );
+
+        assertEquals(String.format("Company with uuid %s has no logo", uuid), exception.getMessage());
+    }
+
+    @Test
+    void getLogoMetadata_shouldReturnThumbnail_whenSizeIsRequested() {
+        UUID uuid = UUID.randomUUID();
+        CompanyLogoMetadata thumbnail =
+            new CompanyLogoMetadata(1L, "image/png", 4L, "thumbnail", CompanyLogoSize.MEDIUM);
+        when(companyLogoRepository.findVariantMetadataByCompanyUuid(uuid, CompanyLogoSize.MEDIUM))
+            .thenReturn(Optional.of(thumbnail));
+
+        CompanyLogoMetadata result = companyService.getLogoMetadata(uuid, CompanyLogoSize.MEDIUM);
+
+        assertSame(thumbnail, result);
+        verify(companyLogoRepository, never()).findMetadataByCompanyUuid(any());
+    }
+
+    @Test
+    void getLogoMetadata_shouldFallBackToOriginal_whenThumbnailIsNotProcessedYet() {
+        UUID uuid = UUID.randomUUID();
+        when(companyLogoRepository.findVariantMetadataByCompanyUuid(uuid, CompanyLogoSize.SMALL))
+            .thenReturn(Optional.empty());
+        when(companyLogoRepository.findMetadataByCompanyUuid(uuid))
+            .thenReturn(Optional.of(metadata));
+
+        CompanyLogoMetadata result = companyService.getLogoMetadata(uuid, CompanyLogoSize.SMALL);
+
+        assertSame(metadata, result);
+        assertEquals(CompanyLogoSize.ORIGINAL, result.size());
+    }
+
+    @Test
+    void writeLogo_shouldCopyThumbnail_whenMetadataDescribesOne() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        CompanyLogoMetadata thumbnail =
+            new CompanyLogoMetadata(1L, "image/png", 4L, "thumbnail", CompanyLogoSize.LARGE);
+        when(companyLogoRepository.copyContent("thumbnail", CompanyLogoSize.LARGE, 0L, 4L, outputStream))
+            .thenReturn(true);
+
+        companyService.writeLogo(thumbnail, 0L, 4L, outputStream);
+
+        verify(companyLogoRepository).copyContent("thumbnail", CompanyLogoSize.LARGE, 0L, 4L, outputStream);
+    }
+
+    @Test
+    void getLogoMetadata_shouldThrowIllegalArgumentException_whenUuidIsNull() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> companyService.getLogoMetadata(null)
+        );
+
+        assertEquals("Company UUID cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void writeLogo_shouldCopyRequestedRange_whenLogoExists() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        when(companyLogoRepository.copyContent("checksum", CompanyLogoSize.ORIGINAL, 2L, 4L, outputStream))
+            .thenReturn(true);
+
+        companyService.writeLogo(metadata, 2L, 4L, outputStream);
+
+        verify(companyLogoRepository).copyContent("checksum", CompanyLogoSize.ORIGINAL, 2L, 4L, outputStream);
+    }
+
+    @Test
+    void writeLogo_shouldThrowEntityNotFound_whenLogoDeletedConcurrently() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        when(companyLogoRepository.copyContent("checksum", CompanyLogoSize.ORIGINAL, 0L, 10L, outputStream))
+            .thenReturn(false);
+
+        EntityNotFoundException exception = assertThrows(
+            EntityNotFoundException.class,
+            () -> companyService.writeLogo(metadata, 0L, 10L, outputStream)
+        );
+
+        assertEquals("Company with id 1 has no logo", exception.getMessage());
+    }
+
+    @Test
+    void writeLogo_shouldThrowCompanyException_whenStreamingFails() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        when(companyLogoRepository.copyContent("checksum", CompanyLogoSize.ORIGINAL, 0L, 10L, outputStream))
+            .thenThrow(new UncheckedIOException(new IOException("Broken pipe")));
+
+        CompanyException exception = assertThrows(
+            CompanyException.class,
+            () -> companyService.writeLogo(metadata, 0L, 10L, outputStream)
+        );
+
+        assertEquals("Unexpected error occurred while retrieving company logo", exception.getMessage());
+    }
+}
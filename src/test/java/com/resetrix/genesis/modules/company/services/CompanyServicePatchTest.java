@@ -0,0 +1,179 @@
+package com.resetrix.genesis.modules.company.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resetrix.genesis.modules.company.entities.Company;
+import com.resetrix.genesis.modules.company.exceptions.CompanyVersionMismatchException;
+import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoRepository;
+import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
+import com.resetrix.genesis.modules.company.responses.CompanyResponse;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyServicePatchTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private CompanyLogoRepository companyLogoRepository;
+
+    @Mock
+    private CompanyLogoProcessor companyLogoProcessor;
+
+    @Spy
+    private CompanyMapper companyMapper = new CompanyMapper();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private CompanyService companyService;
+
+    private Company company;
+    private UUID companyUuid;
+
+    @BeforeEach
+    void setUp() {
+        companyUuid = UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6");
+        company = new Company();
+        company.setId(1L);
+        company.setUuid(companyUuid);
+        company.setName("Test Company");
+        company.setRegistrationNumber("REG123456");
+        company.setSoftDelete(false);
+        company.setVersion(3L);
+    }
+
+    @Test
+    void patch_shouldChangeOnlyPatchedMembers_andLeaveLogoAlone() throws JsonProcessingException {
+        // Arrange
+        when(companyRepository.findById(1L, Company.class)).thenReturn(Optional.of(company));
+        when(companyRepository.saveAndFlush(company)).thenReturn(company);
+
+        // Act
+        CompanyResponse response = companyService.patch(1L, json("{\"name\": \"Renamed Company\"}"), null);
+
+        // Assert
+        assertEquals("Renamed Company", response.name());
+        assertEquals("REG123456", response.registrationNumber());
+        verify(companyRepository).saveAndFlush(company);
+        verifyNoInteractions(companyLogoRepository, companyLogoProcessor);
+    }
+
+    @Test
+    void patchByUuid_shouldApplyPatch_whenVersionMatches() throws JsonProcessingException {
+        // Arrange
+        when(companyRepository.findByUuid(companyUuid, Company.class)).thenReturn(Optional.of(company));
+        when(companyRepository.saveAndFlush(company)).thenReturn(company);
+
+        // Act
+        CompanyResponse response = companyService.patchByUuid(
+            companyUuid, json("{\"registrationNumber\": \"REG999\"}"), 3L);
+
+        // Assert
+        assertEquals("Test Company", response.name());
+        assertEquals("REG999", response.registrationNumber());
+    }
+
+    @Test
+    void patch_shouldRejectPatch_whenItRemovesARequiredMember() throws JsonProcessingException {
+        // Arrange
+        when(companyRepository.findById(1L, Company.class)).thenReturn(Optional.of(company));
+        JsonNode patch = json("{\"name\": null}");
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> companyService.patch(1L, patch, null));
+
+        // Assert
+        assertEquals("Company name is required", exception.getMessage());
+        verify(companyRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void patch_shouldRejectPatch_whenValueIsTooLong() throws JsonProcessingException {
+        // Arrange
+        when(companyRepository.findById(1L, Company.class)).thenReturn(Optional.of(company));
+        JsonNode patch = json("{\"registrationNumber\": \"" + "R".repeat(21) + "\"}");
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> companyService.patch(1L, patch, null));
+
+        // Assert
+        assertEquals("Registration number must not exceed 20 characters", exception.getMessage());
+        verify(companyRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void patch_shouldThrowVersionMismatch_whenCompanyHasMovedOn() throws JsonProcessingException {
+        // Arrange
+        when(companyRepository.findById(1L, Company.class)).thenReturn(Optional.of(company));
+        JsonNode patch = json("{\"name\": \"Renamed Company\"}");
+
+        // Act & Assert
+        assertThrows(CompanyVersionMismatchException.class, () -> companyService.patch(1L, patch, 2L));
+        verify(companyRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void patch_shouldThrowEntityNotFoundException_whenCompanyIsMissingOrSoftDeleted() throws JsonProcessingException {
+        // Arrange
+        when(companyRepository.findById(1L, Company.class)).thenReturn(Optional.empty());
+        JsonNode patch = json("{\"name\": \"Renamed Company\"}");
+
+        // Act
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+            () -> companyService.patch(1L, patch, null));
+
+        // Assert
+        assertEquals("Company with id 1 does not exist", exception.getMessage());
+        verify(companyRepository, never()).findById(1L);
+        verify(companyRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void patchByUuid_shouldThrowEntityNotFoundException_whenCompanyIsMissingOrSoftDeleted()
+        throws JsonProcessingException {
+        // Arrange
+        when(companyRepository.findByUuid(companyUuid, Company.class)).thenReturn(Optional.empty());
+        JsonNode patch = json("{\"name\": \"Renamed Company\"}");
+
+        // Act
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+            () -> companyService.patchByUuid(companyUuid, patch, 3L));
+
+        // Assert
+        assertEquals("Company with uuid " + companyUuid + " does not exist", exception.getMessage());
+        verify(companyRepository, never()).saveAndFlush(any());
+    }
+
+    private static JsonNode json(String content) throws JsonProcessingException {
+        return OBJECT_MAPPER.readTree(content);
+    }
+}
@@ -3,7 +3,9 @@ package com.resetrix.genesis.modules.company.services;
 import com.resetrix.genesis.modules.company.entities.Company;
 import com.resetrix.genesis.modules.company.exceptions.CompanyException;
 import com.resetrix.genesis.modules.company.exceptions.CustomDatabaseException;
+import com.resetrix.genesis.modules.company.exceptions.InvalidFileException;
 import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoRepository;
 import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
 import com.resetrix.genesis.modules.company.requests.CompanyRequest;
 import com.resetrix.genesis.modules.company.responses.CompanyResponse;
@@ -24,7 +26,10 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.orm.jpa.JpaSystemException;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,7 +38,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,9 +51,15 @@ class CompanyServiceUpdateByUuidTest {
     @Mock
     private CompanyRepository companyRepository;
 
+    @Mock
+    private CompanyLogoRepository companyLogoRepository;
+
     @Mock
     private CompanyMapper companyMapper;
 
+    @Mock
+    private CompanyLogoProcessor companyLogoProcessor;
+
     @InjectMocks
     private CompanyService companyService;
 
@@ -99,16 +112,16 @@ class CompanyServiceUpdateByUuidTest {
 
     @Test
     void updateByUuid_shouldReturnUpdatedCompanyResponse_whenValidRequestWithoutLogo() {
-        when(companyRepository.findByUuid(companyUuid))
+        when(companyRepository.findByUuid(companyUuid, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenReturn(updatedCompany);
         when(companyMapper.toResponse(updatedCompany))
             .thenReturn(response);
 
-        CompanyResponse result = companyService.updateByUuid(companyUuid, request);
+        CompanyResponse result = companyService.updateByUuid(companyUuid, request, null);
 
         assertNotNull(result);
         assertEquals(response.id(), result.id());
@@ -117,8 +130,8 @@ class CompanyServiceUpdateByUuidTest {
         assertEquals(response.registrationNumber(), result.registrationNumber());
 
         verify(companyRepository).findByUuid(companyUuid);
-        verify(companyMapper).updateEntity(eq(existingCompany), eq(request), any());
-        verify(companyRepository).save(updatedCompany);
+        verify(companyMapper).updateEntity(eq(existingCompany), eq(request));
+        verify(companyRepository).saveAndFlush(updatedCompany);
         verify(companyMapper).toResponse(updatedCompany);
     }
 
@@ -137,27 +150,30 @@ class CompanyServiceUpdateByUuidTest {
             logoFile
         );
 
-        byte[] logoBytes = logoFile.getBytes();
-        updatedCompany.setLogo(logoBytes);
+        CompanyLogoProcessor.StagedLogo stagedLogo = new CompanyLogoProcessor.StagedLogo(
+            Path.of("company-logo.upload"), "png", Instant.now());
 
-        when(companyRepository.findByUuid(companyUuid))
+        when(companyRepository.findByUuid(companyUuid, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(requestWithLogo), any(byte[].class)))
+        when(companyLogoProcessor.stage(logoFile))
+            .thenReturn(stagedLogo);
+        when(companyMapper.updateEntity(eq(existingCompany), eq(requestWithLogo)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenReturn(updatedCompany);
         when(companyMapper.toResponse(updatedCompany))
             .thenReturn(response);
 
-        CompanyResponse result = companyService.updateByUuid(companyUuid, requestWithLogo);
+        CompanyResponse result = companyService.updateByUuid(companyUuid, requestWithLogo, null);
 
         assertNotNull(result);
         assertEquals(response.id(), result.id());
 
         verify(companyRepository).findByUuid(companyUuid);
-        verify(companyMapper).updateEntity(eq(existingCompany), eq(requestWithLogo), any(byte[].class));
-        verify(companyRepository).save(updatedCompany);
-        verify(companyMapper).toResponse(updatedCompany);
+        verify(companyMapper).updateEntity(eq(existingCompany), eq(requestWithLogo));
+        verify(companyRepository).saveAndFlush(updatedCompany);
+        verify(companyLogoProcessor).processAfterCommit(updatedCompany.getId(), stagedLogo);
+        verifyNoInteractions(companyLogoRepository);
     }
 
     @Test
@@ -175,38 +191,40 @@ class CompanyServiceUpdateByUuidTest {
             emptyLogoFile
         );
 
-        when(companyRepository.findByUuid(companyUuid))
+        when(companyRepository.findByUuid(companyUuid, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(requestWithEmptyLogo), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(requestWithEmptyLogo)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenReturn(updatedCompany);
         when(companyMapper.toResponse(updatedCompany))
             .thenReturn(response);
 
-        CompanyResponse result = companyService.updateByUuid(companyUuid, requestWithEmptyLogo);
+        CompanyResponse result = companyService.updateByUuid(companyUuid, requestWithEmptyLogo, null);
 
         assertNotNull(result);
         assertEquals(response.id(), result.id());
 
         verify(companyRepository).findByUuid(companyUuid);
-        verify(companyMapper).updateEntity(eq(existingCompany), eq(requestWithEmptyLogo), any());
-        verify(companyRepository).save(updatedCompany);
+        verify(companyMapper).updateEntity(eq(existingCompany), eq(requestWithEmptyLogo));
+        verify(companyRepository).saveAndFlush(updatedCompany);
         verify(companyMapper).toResponse(updatedCompany);
     }
 
     @Test
-    void updateByUuid_shouldThrowCompanyException_whenCompanyNotFound() {
-        when(companyRepository.findByUuid(companyUuid))
+    void updateByUuid_shouldThrowEntityNotFoundException_whenCompanyIsMissingOrSoftDeleted() {
+        // The filtered lookup finds no soft-deleted row, unlike a primary-key load
+        when(companyRepository.findByUuid(companyUuid, Company.class))
             .thenReturn(Optional.empty());
 
-        CompanyException exception = assertThrows(
-            CompanyException.class,
-            () -> companyService.updateByUuid(companyUuid, request)
+        EntityNotFoundException exception = assertThrows(
+            EntityNotFoundException.class,
+            () -> companyService.updateByUuid(companyUuid, request, null)
         );
 
-        assertEquals("Unexpected error occurred while updating the company", exception.getMessage());
-        verify(companyRepository).findByUuid(companyUuid);
+        assertEquals("Company with uuid " + companyUuid + " does not exist", exception.getMessage());
+        verify(companyRepository, never()).findByUuid(companyUuid);
+        verify(companyRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -218,7 +236,7 @@ class CompanyServiceUpdateByUuidTest {
             "test".getBytes()
         ) {
             @Override
-            public byte[] getBytes() throws IOException {
+            public InputStream getInputStream() throws IOException {
                 throw new IOException("Cannot read file");
             }
         };
@@ -229,12 +247,14 @@ class CompanyServiceUpdateByUuidTest {
             corruptedFile
         );
 
-        when(companyRepository.findByUuid(companyUuid))
+        when(companyRepository.findByUuid(companyUuid, Company.class))
             .thenReturn(Optional.of(existingCompany));
+        when(companyLogoProcessor.stage(corruptedFile))
+            .thenThrow(new InvalidFileException("Failed to process company logo", new IOException("Cannot read file")));
 
         CompanyException exception = assertThrows(
             CompanyException.class,
-            () -> companyService.updateByUuid(companyUuid, requestWithCorruptedLogo)
+            () -> companyService.updateByUuid(companyUuid, requestWithCorruptedLogo, null)
         );
 
         assertEquals("Failed to process company logo", exception.getMessage());
@@ -242,14 +262,14 @@ class CompanyServiceUpdateByUuidTest {
 
     @Test
     void updateByUuid_shouldThrowCustomDatabaseException_whenEntityNotFoundExceptionThrown() {
-        when(companyRepository.findByUuid(companyUuid))
+        when(companyRepository.findByUuid(companyUuid, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenThrow(new EntityNotFoundException("Entity not found"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
-            () -> companyService.updateByUuid(companyUuid, request)
+            () -> companyService.updateByUuid(companyUuid, request, null)
         );
 
         assertEquals("The entity does not exist or was deleted", exception.getMessage());
@@ -257,16 +277,16 @@ class CompanyServiceUpdateByUuidTest {
 
     @Test
     void updateByUuid_shouldThrowCustomDatabaseException_whenDataIntegrityViolation() {
-        when(companyRepository.findByUuid(companyUuid))
+        when(companyRepository.findByUuid(companyUuid, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenThrow(new DataIntegrityViolationException("Data integrity violation"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
-            () -> companyService.updateByUuid(companyUuid, request)
+            () -> companyService.updateByUuid(companyUuid, request, null)
         );
 
         assertEquals("Data integrity violation (e.g., unique constraint failure)", exception.getMessage());
@@ -274,50 +294,50 @@ class CompanyServiceUpdateByUuidTest {
 
     @Test
     void updateByUuid_shouldThrowCustomDatabaseException_whenConstraintViolation() {
-        when(companyRepository.findByUuid(companyUuid))
+        when(companyRepository.findByUuid(companyUuid, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenThrow(new ConstraintViolationException("Constraint violation", null));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
-            () -> companyService.updateByUuid(companyUuid, request)
+            () -> companyService.updateByUuid(companyUuid, request, null)
         );
 
         assertEquals("Database constraint violation (e.g., foreign key failure)", exception.getMessage());
     }
 
     @Test
-    void updateByUuid_shouldThrowCustomDatabaseException_whenOptimisticLockingFailure() {
-        when(companyRepository.findByUuid(companyUuid))
+    void updateByUuid_shouldPropagateOptimisticLockingFailure() {
+        when(companyRepository.findByUuid(companyUuid, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenThrow(new OptimisticLockingFailureException("Optimistic locking failure"));
 
-        CustomDatabaseException exception = assertThrows(
-            CustomDatabaseException.class,
-            () -> companyService.updateByUuid(companyUuid, request)
+        OptimisticLockingFailureException exception = assertThrows(
+            OptimisticLockingFailureException.class,
+            () -> companyService.updateByUuid(companyUuid, request, null)
         );
 
-        assertEquals("Concurrent modification detected", exception.getMessage());
+        assertEquals("Optimistic locking failure", exception.getMessage());
     }
 
     @Test
     void updateByUuid_shouldThrowCustomDatabaseException_whenInvalidDataAccessApiUsage() {
-        when(companyRepository.findByUuid(companyUuid))
+        when(companyRepository.findByUuid(companyUuid, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenThrow(new InvalidDataAccessApiUsageException("Invalid API usage"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
-            () -> companyService.updateByUuid(companyUuid, request)
+            () -> companyService.updateByUuid(companyUuid, request, null)
         );
 
         assertEquals("Invalid usage of the Data Access API", exception.getMessage());
@@ -325,16 +345,16 @@ class CompanyServiceUpdateByUuidTest {
 
     @Test
     void updateByUuid_shouldThrowCustomDatabaseException_whenJpaSystemException() {
-        when(companyRepository.findByUuid(companyUuid))
+        when(companyRepository.findByUuid(companyUuid, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenThrow(new JpaSystemException(new RuntimeException("JPA error")));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
-            () -> companyService.updateByUuid(companyUuid, request)
+            () -> companyService.updateByUuid(companyUuid, request, null)
         );
 
         assertEquals("System or persistence error occurred", exception.getMessage());
@@ -342,16 +362,16 @@ class CompanyServiceUpdateByUuidTest {
 
     @Test
     void updateByUuid_shouldThrowCustomDatabaseException_whenPersistenceException() {
-        when(companyRepository.findByUuid(companyUuid))
+        when(companyRepository.findByUuid(companyUuid, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenThrow(new PersistenceException("Persistence error"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
-            () -> companyService.updateByUuid(companyUuid, request)
+            () -> companyService.updateByUuid(companyUuid, request, null)
         );
 
         assertEquals("System or persistence error occurred", exception.getMessage());
@@ -359,16 +379,16 @@ class CompanyServiceUpdateByUuidTest {
 
     @Test
     void updateByUuid_shouldThrowCompanyException_whenUnexpectedErrorOccurs() {
-        when(companyRepository.findByUuid(companyUuid))
+        when(companyRepository.findByUuid(companyUuid, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenThrow(new RuntimeException("Unexpected error"));
 
         CompanyException exception = assertThrows(
             CompanyException.class,
-            () -> companyService.updateByUuid(companyUuid, request)
+            () -> companyService.updateByUuid(companyUuid, request, null)
         );
 
         assertEquals("Unexpected error occurred while updating the company", exception.getMessage());
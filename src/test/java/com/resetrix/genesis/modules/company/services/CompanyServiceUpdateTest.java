@@ -2,8 +2,11 @@ package com.resetrix.genesis.modules.company.services;
 
 import com.resetrix.genesis.modules.company.entities.Company;
 import com.resetrix.genesis.modules.company.exceptions.CompanyException;
+import com.resetrix.genesis.modules.company.exceptions.CompanyVersionMismatchException;
 import com.resetrix.genesis.modules.company.exceptions.CustomDatabaseException;
+import com.resetrix.genesis.modules.company.exceptions.InvalidFileException;
 import com.resetrix.genesis.modules.company.mappers.CompanyMapper;
+import com.resetrix.genesis.modules.company.repositories.CompanyLogoRepository;
 import com.resetrix.genesis.modules.company.repositories.CompanyRepository;
 import com.resetrix.genesis.modules.company.requests.CompanyRequest;
 import com.resetrix.genesis.modules.company.responses.CompanyResponse;
@@ -24,6 +27,9 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.orm.jpa.JpaSystemException;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,7 +38,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,9 +51,15 @@ class CompanyServiceUpdateTest {
     @Mock
     private CompanyRepository companyRepository;
 
+    @Mock
+    private CompanyLogoRepository companyLogoRepository;
+
     @Mock
     private CompanyMapper companyMapper;
 
+    @Mock
+    private CompanyLogoProcessor companyLogoProcessor;
+
     @InjectMocks
     private CompanyService companyService;
 
@@ -94,16 +108,16 @@ class CompanyServiceUpdateTest {
 
     @Test
     void update_shouldReturnUpdatedCompanyResponse_whenValidRequestWithoutLogo() {
-        when(companyRepository.findById(companyId))
+        when(companyRepository.findById(companyId, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenReturn(updatedCompany);
         when(companyMapper.toResponse(updatedCompany))
             .thenReturn(response);
 
-        CompanyResponse result = companyService.update(companyId, request);
+        CompanyResponse result = companyService.update(companyId, request, null);
 
         assertNotNull(result);
         assertEquals(response.id(), result.id());
@@ -112,8 +126,8 @@ class CompanyServiceUpdateTest {
         assertEquals(response.registrationNumber(), result.registrationNumber());
 
         verify(companyRepository).findById(companyId);
-        verify(companyMapper).updateEntity(eq(existingCompany), eq(request), any());
-        verify(companyRepository).save(updatedCompany);
+        verify(companyMapper).updateEntity(eq(existingCompany), eq(request));
+        verify(companyRepository).saveAndFlush(updatedCompany);
         verify(companyMapper).toResponse(updatedCompany);
     }
 
@@ -132,27 +146,30 @@ class CompanyServiceUpdateTest {
             logoFile
         );
 
-        byte[] logoBytes = logoFile.getBytes();
-        updatedCompany.setLogo(logoBytes);
+        CompanyLogoProcessor.StagedLogo stagedLogo = new CompanyLogoProcessor.StagedLogo(
+            Path.of("company-logo.upload"), "png", Instant.now());
 
-        when(companyRepository.findById(companyId))
+        when(companyRepository.findById(companyId, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(requestWithLogo), any(byte[].class)))
+        when(companyLogoProcessor.stage(logoFile))
+            .thenReturn(stagedLogo);
+        when(companyMapper.updateEntity(eq(existingCompany), eq(requestWithLogo)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenReturn(updatedCompany);
         when(companyMapper.toResponse(updatedCompany))
             .thenReturn(response);
 
-        CompanyResponse result = companyService.update(companyId, requestWithLogo);
+        CompanyResponse result = companyService.update(companyId, requestWithLogo, null);
 
         assertNotNull(result);
         assertEquals(response.id(), result.id());
 
         verify(companyRepository).findById(companyId);
-        verify(companyMapper).updateEntity(eq(existingCompany), eq(requestWithLogo), any(byte[].class));
-        verify(companyRepository).save(updatedCompany);
-        verify(companyMapper).toResponse(updatedCompany);
+        verify(companyMapper).updateEntity(eq(existingCompany), eq(requestWithLogo));
+        verify(companyRepository).saveAndFlush(updatedCompany);
+        verify(companyLogoProcessor).processAfterCommit(updatedCompany.getId(), stagedLogo);
+        verifyNoInteractions(companyLogoRepository);
     }
 
     @Test
@@ -170,23 +187,23 @@ class CompanyServiceUpdateTest {
             emptyLogoFile
         );
 
-        when(companyRepository.findById(companyId))
+        when(companyRepository.findById(companyId, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(requestWithEmptyLogo), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(requestWithEmptyLogo)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenReturn(updatedCompany);
         when(companyMapper.toResponse(updatedCompany))
             .thenReturn(response);
 
-        CompanyResponse result = companyService.update(companyId, requestWithEmptyLogo);
+        CompanyResponse result = companyService.update(companyId, requestWithEmptyLogo, null);
 
         assertNotNull(result);
         assertEquals(response.id(), result.id());
 
         verify(companyRepository).findById(companyId);
-        verify(companyMapper).updateEntity(eq(existingCompany), eq(requestWithEmptyLogo), any());
-        verify(companyRepository).save(updatedCompany);
+        verify(companyMapper).updateEntity(eq(existingCompany), eq(requestWithEmptyLogo));
+        verify(companyRepository).saveAndFlush(updatedCompany);
         verify(companyMapper).toResponse(updatedCompany);
     }
 
@@ -199,7 +216,7 @@ class CompanyServiceUpdateTest {
             "test".getBytes()
         ) {
             @Override
-            public byte[] getBytes() throws IOException {
+            public InputStream getInputStream() throws IOException {
                 throw new IOException("Cannot read file");
             }
         };
@@ -210,41 +227,45 @@ class CompanyServiceUpdateTest {
             corruptedFile
         );
 
-        when(companyRepository.findById(companyId))
+        when(companyRepository.findById(companyId, Company.class))
             .thenReturn(Optional.of(existingCompany));
+        when(companyLogoProcessor.stage(corruptedFile))
+            .thenThrow(new InvalidFileException("Failed to process company logo", new IOException("Cannot read file")));
 
         CompanyException exception = assertThrows(
             CompanyException.class,
-            () -> companyService.update(companyId, requestWithCorruptedLogo)
+            () -> companyService.update(companyId, requestWithCorruptedLogo, null)
         );
 
         assertEquals("Failed to process company logo", exception.getMessage());
     }
 
     @Test
-    void update_shouldThrowCompanyException_whenCompanyNotFound() {
-        when(companyRepository.findById(companyId))
+    void update_shouldThrowEntityNotFoundException_whenCompanyIsMissingOrSoftDeleted() {
+        // The filtered lookup finds no soft-deleted row, unlike a primary-key load
+        when(companyRepository.findById(companyId, Company.class))
             .thenReturn(Optional.empty());
 
-        CompanyException exception = assertThrows(
-            CompanyException.class,
-            () -> companyService.update(companyId, request)
+        EntityNotFoundException exception = assertThrows(
+            EntityNotFoundException.class,
+            () -> companyService.update(companyId, request, null)
         );
 
-        assertEquals("Unexpected error occurred while updating the company", exception.getMessage());
-        verify(companyRepository).findById(companyId);
+        assertEquals("Company with id " + companyId + " does not exist", exception.getMessage());
+        verify(companyRepository, never()).findById(companyId);
+        verify(companyRepository, never()).saveAndFlush(any());
     }
 
     @Test
     void update_shouldThrowCustomDatabaseException_whenEntityNotFoundExceptionThrown() {
-        when(companyRepository.findById(companyId))
+        when(companyRepository.findById(companyId, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenThrow(new EntityNotFoundException("Entity not found"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
-            () -> companyService.update(companyId, request)
+            () -> companyService.update(companyId, request, null)
         );
 
         assertEquals("The entity does not exist or was deleted", exception.getMessage());
@@ -252,16 +273,16 @@ class CompanyServiceUpdateTest {
 
     @Test
     void update_shouldThrowCustomDatabaseException_whenDataIntegrityViolation() {
-        when(companyRepository.findById(companyId))
+        when(companyRepository.findById(companyId, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenThrow(new DataIntegrityViolationException("Data integrity violation"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
-            () -> companyService.update(companyId, request)
+            () -> companyService.update(companyId, request, null)
         );
 
         assertEquals("Data integrity violation (e.g., unique constraint failure)", exception.getMessage());
@@ -269,50 +290,50 @@ class CompanyServiceUpdateTest {
 
     @Test
     void update_shouldThrowCustomDatabaseException_whenConstraintViolation() {
-        when(companyRepository.findById(companyId))
+        when(companyRepository.findById(companyId, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenThrow(new ConstraintViolationException("Constraint violation", null));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
-            () -> companyService.update(companyId, request)
+            () -> companyService.update(companyId, request, null)
         );
 
         assertEquals("Database constraint violation (e.g., foreign key failure)", exception.getMessage());
     }
 
     @Test
-    void update_shouldThrowCustomDatabaseException_whenOptimisticLockingFailure() {
-        when(companyRepository.findById(companyId))
+    void update_shouldPropagateOptimisticLockingFailure() {
+        when(companyRepository.findById(companyId, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenThrow(new OptimisticLockingFailureException("Optimistic locking failure"));
 
-        CustomDatabaseException exception = assertThrows(
-            CustomDatabaseException.class,
-            () -> companyService.update(companyId, request)
+        OptimisticLockingFailureException exception = assertThrows(
+            OptimisticLockingFailureException.class,
+            () -> companyService.update(companyId, request, null)
         );
 
-        assertEquals("Concurrent modification detected", exception.getMessage());
+        assertEquals("Optimistic locking failure", exception.getMessage());
     }
 
     @Test
     void update_shouldThrowCustomDatabaseException_whenInvalidDataAccessApiUsage() {
-        when(companyRepository.findById(companyId))
+        when(companyRepository.findById(companyId, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenThrow(new InvalidDataAccessApiUsageException("Invalid API usage"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
-            () -> companyService.update(companyId, request)
+            () -> companyService.update(companyId, request, null)
         );
 
         assertEquals("Invalid usage of the Data Access API", exception.getMessage());
@@ -320,16 +341,16 @@ class CompanyServiceUpdateTest {
 
     @Test
     void update_shouldThrowCustomDatabaseException_whenJpaSystemException() {
-        when(companyRepository.findById(companyId))
+        when(companyRepository.findById(companyId, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenThrow(new JpaSystemException(new RuntimeException("JPA error")));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
-            () -> companyService.update(companyId, request)
+            () -> companyService.update(companyId, request, null)
         );
 
         assertEquals("System or persistence error occurred", exception.getMessage());
@@ -337,33 +358,66 @@ class CompanyServiceUpdateTest {
 
     @Test
     void update_shouldThrowCustomDatabaseException_whenPersistenceException() {
-        when(companyRepository.findById(companyId))
+        when(companyRepository.findById(companyId, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenThrow(new PersistenceException("Persistence error"));
 
         CustomDatabaseException exception = assertThrows(
             CustomDatabaseException.class,
-            () -> companyService.update(companyId, request)
+            () -> companyService.update(companyId, request, null)
         );
 
         assertEquals("System or persistence error occurred", exception.getMessage());
     }
 
+    @Test
+    void update_shouldUpdate_whenExpectedVersionMatches() {
+        existingCompany.setVersion(3L);
+        when(companyRepository.findById(companyId, Company.class))
+            .thenReturn(Optional.of(existingCompany));
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
+            .thenReturn(updatedCompany);
+        when(companyRepository.saveAndFlush(updatedCompany))
+            .thenReturn(updatedCompany);
+        when(companyMapper.toResponse(updatedCompany))
+            .thenReturn(response);
+
+        CompanyResponse result = companyService.update(companyId, request, 3L);
+
+        assertEquals(response, result);
+    }
+
+    @Test
+    void update_shouldThrowCompanyVersionMismatchException_whenExpectedVersionIsStale() {
+        existingCompany.setVersion(4L);
+        when(companyRepository.findById(companyId, Company.class))
+            .thenReturn(Optional.of(existingCompany));
+
+        CompanyVersionMismatchException exception = assertThrows(
+            CompanyVersionMismatchException.class,
+            () -> companyService.update(companyId, request, 3L)
+        );
+
+        assertEquals("Company with id 1 is no longer at version 3", exception.getMessage());
+        verify(companyMapper, never()).updateEntity(any(), any());
+        verify(companyRepository, never()).saveAndFlush(any());
+    }
+
     @Test
     void update_shouldThrowCompanyException_whenUnexpectedErrorOccurs() {
-        when(companyRepository.findById(companyId))
+        when(companyRepository.findById(companyId, Company.class))
             .thenReturn(Optional.of(existingCompany));
-        when(companyMapper.updateEntity(eq(existingCompany), eq(request), any()))
+        when(companyMapper.updateEntity(eq(existingCompany), eq(request)))
             .thenReturn(updatedCompany);
-        when(companyRepository.save(updatedCompany))
+        when(companyRepository.saveAndFlush(updatedCompany))
             .thenThrow(new RuntimeException("Unexpected error"));
 
         CompanyException exception = assertThrows(
             CompanyException.class,
-            () -> companyService.update(companyId, request)
+            () -> companyService.update(companyId, request, null)
         );
 
         assertEquals("Unexpected error occurred while updating the company", exception.getMessage());
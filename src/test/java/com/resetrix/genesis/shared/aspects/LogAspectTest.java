@@ -1,6 +1,7 @@
 package com.resetrix.genesis.shared.aspects;
 
 import com.resetrix.genesis.shared.exceptions.MethodExecutionException;
+import com.resetrix.genesis.testsupports.services.DummyCollaborator;
 import com.resetrix.genesis.testsupports.services.DummyService;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -33,12 +34,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         }
 )
 @AutoConfigureMockMvc(addFilters = false)
-@Import({DummyService.class, com.resetrix.genesis.shared.securities.SecurityConfigurationTest.class})
+@Import({DummyService.class, DummyCollaborator.class, com.resetrix.genesis.shared.securities.SecurityConfigurationTest.class})
 class LogAspectTest {
 
     @Autowired
     private DummyService dummyService;
 
+    @Autowired
+    private DummyCollaborator dummyCollaborator;
+
     @Autowired
     private MeterRegistry meterRegistry;
 
@@ -278,4 +282,21 @@ class LogAspectTest {
         assertThat(timer).isNotNull();
         assertThat(timer.count()).isGreaterThanOrEqualTo(1);
     }
+
+    @Test
+    void testServiceMethodsPointcut_leavesComponentsInServicePackagesAlone() {
+        // DummyCollaborator sits in a services package but is a plain @Component, not a @Service
+        assertThatThrownBy(() -> dummyCollaborator.throwError())
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("Collaborator error");
+
+        Timer timer = meterRegistry.find("app.method.execution")
+                .timers()
+                .stream()
+                .filter(t -> t.getId().getTag("method") != null
+                        && t.getId().getTag("method").contains("DummyCollaborator"))
+                .findFirst()
+                .orElse(null);
+        assertThat(timer).isNull();
+    }
 }
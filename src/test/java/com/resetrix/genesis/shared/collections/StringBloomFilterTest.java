@@ -0,0 +1,61 @@
+package com.resetrix.genesis.shared.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringBloomFilterTest {
+
+    @Test
+    void mightContain_shouldReturnFalse_whenNothingWasAdded() {
+        StringBloomFilter filter = new StringBloomFilter(1000, 0.01);
+
+        assertFalse(filter.mightContain("REG1"));
+    }
+
+    @Test
+    void mightContain_shouldReturnTrue_forEveryAddedString() {
+        StringBloomFilter filter = new StringBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("REG" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("REG" + i), "REG" + i);
+        }
+    }
+
+    @Test
+    void mightContain_shouldStayNearTheConfiguredRate_forStringsThatWereNotAdded() {
+        StringBloomFilter filter = new StringBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("REG" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 10_000; i < 110_000; i++) {
+            falsePositives += filter.mightContain("REG" + i) ? 1 : 0;
+        }
+
+        assertTrue(falsePositives < 2_000, "Expected about 1% false positives, found " + falsePositives);
+    }
+
+    @Test
+    void constructor_shouldSizeTheBitSetFromTheExpectedInsertionsAndRate() {
+        StringBloomFilter filter = new StringBloomFilter(1_000_000, 0.01);
+
+        // 9.59 bits per element, rounded up to whole 64-bit words, and 7 hash functions
+        assertEquals(9_585_088, filter.bitSize());
+        assertEquals(7, filter.hashCount());
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new StringBloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new StringBloomFilter(1000, 0));
+        assertThrows(IllegalArgumentException.class, () -> new StringBloomFilter(1000, 1));
+    }
+}
@@ -0,0 +1,72 @@
+package com.resetrix.genesis.shared.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UuidLongMapTest {
+
+    @Test
+    void get_shouldReturnNoValue_whenKeyIsAbsent() {
+        UuidLongMap map = new UuidLongMap();
+
+        assertEquals(UuidLongMap.NO_VALUE, map.get(UUID.randomUUID()));
+    }
+
+    @Test
+    void put_shouldReplaceValue_whenKeyAlreadyExists() {
+        UuidLongMap map = new UuidLongMap();
+        UUID key = UUID.randomUUID();
+
+        map.put(key, 1L);
+        map.put(key, 2L);
+
+        assertEquals(2L, map.get(key));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void put_shouldRejectNonPositiveValues() {
+        UuidLongMap map = new UuidLongMap();
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(UUID.randomUUID(), 0L));
+    }
+
+    @Test
+    void map_shouldKeepEveryEntryReachable_acrossResizesAndRemovals() {
+        UuidLongMap map = new UuidLongMap();
+        List<UUID> keys = new ArrayList<>();
+        for (int i = 1; i <= 10_000; i++) {
+            UUID key = UUID.randomUUID();
+            keys.add(key);
+            map.put(key, i);
+        }
+
+        for (int i = 0; i < keys.size(); i += 2) {
+            map.remove(keys.get(i));
+        }
+
+        assertEquals(5_000, map.size());
+        for (int i = 0; i < keys.size(); i++) {
+            long expected = i % 2 == 0 ? UuidLongMap.NO_VALUE : i + 1;
+            assertEquals(expected, map.get(keys.get(i)));
+        }
+    }
+
+    @Test
+    void remove_shouldIgnoreUnknownKeys() {
+        UuidLongMap map = new UuidLongMap();
+        UUID key = UUID.randomUUID();
+        map.put(key, 7L);
+
+        map.remove(UUID.randomUUID());
+
+        assertEquals(7L, map.get(key));
+        assertEquals(1, map.size());
+    }
+}
@@ -0,0 +1,30 @@
+package com.resetrix.genesis.shared.configurations;
+
+import com.resetrix.genesis.modules.company.constants.CompanyCacheNames;
+import com.resetrix.genesis.shared.properties.CompanyProperty;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class CacheConfigurationTest {
+
+    private final CacheConfiguration cacheConfiguration = new CacheConfiguration();
+
+    @Test
+    void cacheManager_shouldDeferEvictionsUntilCommit_whenEnabled() {
+        CacheManager cacheManager = cacheConfiguration.cacheManager(new CompanyProperty());
+
+        assertInstanceOf(TransactionAwareCacheDecorator.class, cacheManager.getCache(CompanyCacheNames.BY_ID));
+    }
+
+    @Test
+    void cacheManager_shouldNotCache_whenDisabled() {
+        CompanyProperty companyProperty = new CompanyProperty();
+        companyProperty.getCache().setEnabled(false);
+
+        assertInstanceOf(NoOpCacheManager.class, cacheConfiguration.cacheManager(companyProperty));
+    }
+}
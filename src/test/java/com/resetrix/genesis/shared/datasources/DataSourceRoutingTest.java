@@ -0,0 +1,90 @@
+package com.resetrix.genesis.shared.datasources;
+
+import com.resetrix.genesis.shared.properties.DatabaseProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class DataSourceRoutingTest {
+
+    private DatabaseProperty databaseProperty;
+    private StaticListableBeanFactory beanFactory;
+    private DataSourceRouting routing;
+
+    @BeforeEach
+    void setUp() {
+        databaseProperty = new DatabaseProperty();
+        databaseProperty.getReplica().setEnabled(true);
+        databaseProperty.getReplica().setReadYourWritesWindow(Duration.ofSeconds(5));
+        beanFactory = new StaticListableBeanFactory();
+        routing = new DataSourceRouting(databaseProperty, beanFactory.getBeanProvider(ReadYourWritesTracker.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void routesToReplica_shouldBeFalse_whenReplicaIsDisabled() {
+        // Arrange
+        databaseProperty.getReplica().setEnabled(false);
+
+        // Act & Assert
+        assertFalse(routing.routesToReplica());
+    }
+
+    @Test
+    void routesToReplica_shouldBeTrue_outsideATransaction() {
+        // Act & Assert
+        assertTrue(routing.routesToReplica());
+    }
+
+    @Test
+    void routesToReplica_shouldBeTrue_inAReadOnlyTransaction() {
+        // Arrange
+        inTransaction(true);
+
+        // Act & Assert
+        assertTrue(routing.routesToReplica());
+    }
+
+    @Test
+    void routesToReplica_shouldBeFalse_inAReadWriteTransaction() {
+        // Arrange
+        inTransaction(false);
+
+        // Act & Assert
+        assertFalse(routing.routesToReplica());
+    }
+
+    @Test
+    void routesToReplica_shouldBeFalse_whenPrincipalHasJustWritten() {
+        // Arrange
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(databaseProperty);
+        beanFactory.addBean("readYourWritesTracker", tracker);
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "USER"));
+        tracker.afterCommit(mock(TransactionExecution.class), null);
+        inTransaction(true);
+
+        // Act & Assert
+        assertFalse(routing.routesToReplica());
+    }
+
+    private static void inTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
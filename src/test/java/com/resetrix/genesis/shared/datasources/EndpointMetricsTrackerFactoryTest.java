@@ -0,0 +1,79 @@
+package com.resetrix.genesis.shared.datasources;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EndpointMetricsTrackerFactoryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private IMetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new EndpointMetricsTrackerFactory(meterRegistry).create("Genesis-HikariCP", new PoolStats(0) {
+            @Override
+            protected void update() {
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        tracker.close();
+    }
+
+    @Test
+    void recordConnectionUsageMillis_shouldTagHoldTimeWithTheBorrowingEndpoint() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/companies/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/companies/{id}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // Act
+        tracker.recordConnectionUsageMillis(42);
+
+        // Assert
+        Timer timer = meterRegistry.get(EndpointMetricsTrackerFactory.CONNECTION_HOLD_METRIC)
+            .tags("pool", "Genesis-HikariCP", "method", "GET", "uri", "/api/v1/companies/{id}")
+            .timer();
+        assertEquals(1, timer.count());
+        assertEquals(42, timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void recordConnectionUsageMillis_shouldTagHoldTimeWithNone_outsideARequest() {
+        // Act
+        tracker.recordConnectionUsageMillis(7);
+
+        // Assert
+        Timer timer = meterRegistry.get(EndpointMetricsTrackerFactory.CONNECTION_HOLD_METRIC)
+            .tags("method", "none", "uri", "none")
+            .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void recordConnectionUsageMillis_shouldKeepHikariUsageMetric() {
+        // Act
+        tracker.recordConnectionUsageMillis(5);
+
+        // Assert
+        Timer timer = meterRegistry.get("hikaricp.connections.usage").tag("pool", "Genesis-HikariCP").timer();
+        assertEquals(1, timer.count());
+    }
+}
@@ -0,0 +1,144 @@
+package com.resetrix.genesis.shared.datasources;
+
+import com.resetrix.genesis.shared.properties.DatabaseProperty;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the routing against two in-memory H2 databases that each hold a single row naming themselves.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Test
+    void readOnlyTransaction_shouldReadFromReplica() {
+        // Arrange
+        createDataSource(Duration.ofSeconds(5));
+
+        // Act & Assert
+        assertEquals("replica", inTransaction(true));
+    }
+
+    @Test
+    void readWriteTransaction_shouldUsePrimary() {
+        // Arrange
+        createDataSource(Duration.ofSeconds(5));
+
+        // Act & Assert
+        assertEquals("primary", inTransaction(false));
+    }
+
+    @Test
+    void statementOutsideTransaction_shouldUsePrimary() {
+        // Arrange
+        createDataSource(Duration.ofSeconds(5));
+
+        // Act
+        String database = new JdbcTemplate(dataSource).queryForObject("SELECT name FROM marker", String.class);
+
+        // Assert
+        assertEquals("primary", database);
+    }
+
+    @Test
+    void readOnlyTransaction_shouldStayOnPrimary_whenPrincipalHasJustWritten() {
+        // Arrange
+        createDataSource(Duration.ofSeconds(5));
+        authenticate("alice");
+        inTransaction(false);
+
+        // Act
+        String writerRead = inTransaction(true);
+        authenticate("bob");
+        String otherRead = inTransaction(true);
+
+        // Assert
+        assertEquals("primary", writerRead);
+        assertEquals("replica", otherRead);
+    }
+
+    @Test
+    void readOnlyTransaction_shouldReadFromReplica_whenWindowIsDisabled() {
+        // Arrange
+        createDataSource(Duration.ZERO);
+        authenticate("alice");
+        inTransaction(false);
+
+        // Act & Assert
+        assertEquals("replica", inTransaction(true));
+    }
+
+    @Test
+    void close_shouldCloseBothPools() {
+        // Arrange
+        HikariDataSource primary = pool("primary");
+        HikariDataSource replica = pool("replica");
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, tracker(Duration.ZERO));
+
+        // Act
+        routing.close();
+
+        // Assert
+        assertTrue(primary.isClosed());
+        assertTrue(replica.isClosed());
+    }
+
+    private void createDataSource(Duration readYourWritesWindow) {
+        tracker = tracker(readYourWritesWindow);
+        dataSource = new ReplicaRoutingDataSource(pool("primary"), pool("replica"), tracker);
+    }
+
+    private static ReadYourWritesTracker tracker(Duration readYourWritesWindow) {
+        DatabaseProperty databaseProperty = new DatabaseProperty();
+        databaseProperty.getReplica().setReadYourWritesWindow(readYourWritesWindow);
+        return new ReadYourWritesTracker(databaseProperty);
+    }
+
+    private String inTransaction(boolean readOnly) {
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(tracker);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return transactionTemplate.execute(
+            status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    private static void authenticate(String name) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(name, null, "USER"));
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        config.setPoolName(name);
+        config.setMaximumPoolSize(2);
+        config.setAutoCommit(false);
+        HikariDataSource pool = new HikariDataSource(config);
+        // H2 commits DDL on its own, so the row survives the pool rolling back on return
+        new JdbcTemplate(pool).execute("CREATE TABLE marker AS SELECT '" + name + "' AS name");
+        return pool;
+    }
+}
@@ -0,0 +1,101 @@
+package com.resetrix.genesis.shared.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultipartContentLengthFilterTest {
+
+    private MultipartProperties multipartProperties;
+    private MultipartContentLengthFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        multipartProperties = new MultipartProperties();
+        multipartProperties.setMaxRequestSize(DataSize.ofBytes(100));
+        filter = new MultipartContentLengthFilter(multipartProperties, new ObjectMapper());
+    }
+
+    @Test
+    void doFilter_shouldRejectMultipartRequest_whenDeclaredLengthExceedsMaximum()
+            throws ServletException, IOException {
+        // Arrange
+        MockHttpServletRequest request = multipart(101);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(413, response.getStatus());
+        assertEquals("close", response.getHeader(HttpHeaders.CONNECTION));
+        assertTrue(response.getContentAsString().contains("Request must not exceed 100 bytes"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_shouldPassMultipartRequest_whenDeclaredLengthIsWithinMaximum()
+            throws ServletException, IOException {
+        // Arrange
+        MockHttpServletRequest request = multipart(100);
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_shouldLeaveCheckToParser_whenLengthIsNotDeclared() throws ServletException, IOException {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/companies");
+        request.setContentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=abc");
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_shouldIgnoreOtherContentTypes() throws ServletException, IOException {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/companies/bulk");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(new byte[1000]);
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+    }
+
+    private static MockHttpServletRequest multipart(int length) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/companies");
+        request.setContentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=abc");
+        request.setContent(new byte[length]);
+        return request;
+    }
+}
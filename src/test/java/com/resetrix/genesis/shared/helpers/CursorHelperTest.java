@@ -0,0 +1,46 @@
+package com.resetrix.genesis.shared.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorHelperTest {
+
+    @Test
+    void decode_shouldRestoreValuesAndTypes_whenCursorWasEncoded() {
+        Timestamp timestamp = Timestamp.valueOf("2025-01-02 03:04:05.123456789");
+
+        String cursor = CursorHelper.encode("name", 42L, timestamp);
+
+        assertEquals(List.of("name", 42L, timestamp), CursorHelper.decode(cursor));
+    }
+
+    @Test
+    void encode_shouldProduceUrlSafeToken() {
+        String cursor = CursorHelper.encode("??>>??", 1L);
+
+        assertEquals(-1, cursor.indexOf('+'));
+        assertEquals(-1, cursor.indexOf('/'));
+        assertEquals(-1, cursor.indexOf('='));
+    }
+
+    @Test
+    void encode_shouldRejectUnsupportedValues() {
+        assertThrows(IllegalArgumentException.class, () -> CursorHelper.encode(1.5d));
+        assertThrows(IllegalArgumentException.class, () -> CursorHelper.encode((Object) null));
+    }
+
+    @Test
+    void decode_shouldThrowIllegalArgumentException_whenCursorIsMalformed() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> CursorHelper.decode("AQF4")
+        );
+
+        assertEquals("Invalid cursor", exception.getMessage());
+    }
+}
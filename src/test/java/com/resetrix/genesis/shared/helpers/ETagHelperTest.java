@@ -0,0 +1,40 @@
+package com.resetrix.genesis.shared.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ETagHelperTest {
+
+    private static final String ETAG = "\"abc\"";
+
+    @Test
+    void strong_shouldQuoteValue() {
+        assertEquals(ETAG, ETagHelper.strong("abc"));
+    }
+
+    @Test
+    void matchesAny_shouldMatchExactAndWeakValidators() {
+        assertTrue(ETagHelper.matchesAny("\"abc\"", ETAG));
+        assertTrue(ETagHelper.matchesAny("W/\"abc\"", ETAG));
+        assertTrue(ETagHelper.matchesAny("\"other\", \"abc\"", ETAG));
+        assertTrue(ETagHelper.matchesAny("*", ETAG));
+    }
+
+    @Test
+    void matchesAny_shouldNotMatch_whenHeaderMissingOrDifferent() {
+        assertFalse(ETagHelper.matchesAny(null, ETAG));
+        assertFalse(ETagHelper.matchesAny("  ", ETAG));
+        assertFalse(ETagHelper.matchesAny("\"other\"", ETAG));
+        assertFalse(ETagHelper.matchesAny("\"abc\"", null));
+    }
+
+    @Test
+    void matchesAnyStrongly_shouldIgnoreWeakValidators() {
+        assertTrue(ETagHelper.matchesAnyStrongly("\"abc\"", ETAG));
+        assertTrue(ETagHelper.matchesAnyStrongly("*", ETAG));
+        assertFalse(ETagHelper.matchesAnyStrongly("W/\"abc\"", ETAG));
+    }
+}
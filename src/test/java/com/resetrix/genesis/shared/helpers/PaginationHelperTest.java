@@ -0,0 +1,41 @@
+package com.resetrix.genesis.shared.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PaginationHelperTest {
+
+    @Test
+    void validate_shouldAcceptPagesWithinBounds() {
+        assertDoesNotThrow(() -> PaginationHelper.validate(0, 1));
+        assertDoesNotThrow(() -> PaginationHelper.validate(5, PaginationHelper.MAX_PAGE_SIZE));
+    }
+
+    @Test
+    void validate_shouldThrowIllegalArgumentException_whenPageIsNegative() {
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> PaginationHelper.validate(-1, 10)
+        );
+
+        assertEquals("Page must be >= 0", exception.getMessage());
+    }
+
+    @Test
+    void validate_shouldThrowIllegalArgumentException_whenSizeIsOutOfBounds() {
+        IllegalArgumentException tooSmall = assertThrows(
+            IllegalArgumentException.class,
+            () -> PaginationHelper.validate(0, 0)
+        );
+        IllegalArgumentException tooLarge = assertThrows(
+            IllegalArgumentException.class,
+            () -> PaginationHelper.validate(0, PaginationHelper.MAX_PAGE_SIZE + 1)
+        );
+
+        assertEquals("Size must be > 0 and <= 1000", tooSmall.getMessage());
+        assertEquals("Size must be > 0 and <= 1000", tooLarge.getMessage());
+    }
+}
@@ -507,7 +507,7 @@ class ServiceOperationExecutorTest {
     }
 
     @Test
-    void execute_shouldThrowCustomDatabaseException_whenOptimisticLockingFailureExceptionOccurs() {
+    void execute_shouldRethrowOptimisticLockingFailureException() {
         // Given
         OptimisticLockingFailureException cause = new OptimisticLockingFailureException("Optimistic locking failure");
         Supplier<String> operation = () -> {
@@ -517,9 +517,7 @@ class ServiceOperationExecutorTest {
 
         // When & Then
         assertThatThrownBy(() -> ServiceOperationExecutor.execute(operation, context, RuntimeException.class))
-            .isInstanceOf(CustomDatabaseException.class)
-            .hasMessage("Concurrent modification detected")
-            .hasCause(cause);
+            .isSameAs(cause);
     }
 
     @Test
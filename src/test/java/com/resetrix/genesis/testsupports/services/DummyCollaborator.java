@@ -0,0 +1,11 @@
+package com.resetrix.genesis.testsupports.services;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class DummyCollaborator {
+
+    public void throwError() {
+        throw new IllegalStateException("Collaborator error");
+    }
+}